@@ -0,0 +1,117 @@
+package com.interzoid.sdk.batch;
+
+import com.interzoid.sdk.api.Enriched;
+import com.interzoid.sdk.api.FullNameMatchKeyApi;
+import com.interzoid.sdk.api.StreamEnricher;
+import com.interzoid.sdk.model.FullNameMatchKeyRequest;
+import com.interzoid.sdk.model.MatchKeyResponse;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * <p>Reads full names, one per line, and writes each name and its similarity key separated by a tab, in input order.</p>
+ *
+ * <p>Options:</p>
+ * <pre>
+ * --input=names.txt         (default: standard input)
+ * --api-key=KEY             (default: the INTERZOID_API_KEY environment variable)
+ * --api-base-url=URL        (default: the Interzoid API)
+ * --concurrency=16          maximum number of requests in flight
+ * --footprint               print the peak resident set size to standard error on exit (Linux)
+ * </pre>
+ *
+ * <p>Names that cannot be matched are reported on standard error, and the exit status is 1.</p>
+ */
+public final class BatchRunner {
+
+    private BatchRunner() {
+    }
+
+    /**
+     * Runs the batch.
+     *
+     * @param args the options, see the class documentation
+     * @throws IOException if the input cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = parseOptions(args);
+        String apiKey = options.getOrDefault("api-key", System.getenv("INTERZOID_API_KEY"));
+        if (apiKey == null) {
+            System.err.println("An API key is required: --api-key=KEY or INTERZOID_API_KEY");
+            System.exit(2);
+        }
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "16"));
+
+        FullNameMatchKeyApi.Builder builder = new FullNameMatchKeyApi.Builder().withMaxConcurrentRequests(concurrency);
+        if (options.containsKey("api-base-url")) {
+            builder.withApiBaseUrl(options.get("api-base-url"));
+        }
+        FullNameMatchKeyApi api = builder.build();
+
+        int failures = 0;
+        PrintWriter out = new PrintWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        try (BufferedReader in = open(options.get("input"));
+             Stream<Enriched<String, MatchKeyResponse>> enriched = StreamEnricher.enrich(in.lines(), concurrency,
+                     name -> api.doRequestAsync(new FullNameMatchKeyRequest(apiKey, name)))) {
+            for (Enriched<String, MatchKeyResponse> e : (Iterable<Enriched<String, MatchKeyResponse>>) enriched::iterator) {
+                if (e.isSuccess()) {
+                    out.print(e.getElement());
+                    out.print('\t');
+                    out.println(e.getResult().getSimKey());
+                } else {
+                    failures++;
+                    System.err.println(e.getElement() + ": " + e.getError());
+                }
+            }
+        }
+        out.flush();
+        if (options.containsKey("footprint")) {
+            printFootprint();
+        }
+        System.exit(failures == 0 ? 0 : 1);
+    }
+
+    static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Options must be given as --name=value: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            options.put(eq < 0 ? arg.substring(2) : arg.substring(2, eq), eq < 0 ? "" : arg.substring(eq + 1));
+        }
+        return options;
+    }
+
+    private static BufferedReader open(String input) throws IOException {
+        return input == null
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Paths.get(input), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Prints the peak resident set size from {@code /proc/self/status}, where available.
+     */
+    private static void printFootprint() throws IOException {
+        Path status = Paths.get("/proc/self/status");
+        if (!Files.isReadable(status)) {
+            return;
+        }
+        try (Stream<String> lines = Files.lines(status)) {
+            lines.filter(line -> line.startsWith("VmHWM:"))
+                    .map(line -> line.substring("VmHWM:".length()).trim().split("\\s+")[0])
+                    .forEach(kb -> System.err.println("footprint rss_peak_kb=" + kb));
+        }
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * A sample batch runner computing full name match keys with the Interzoid Data Matching SDK, packaged as a jlink image.
+ */
+module com.interzoid.sdk.batch {
+    requires com.interzoid.sdk;
+}
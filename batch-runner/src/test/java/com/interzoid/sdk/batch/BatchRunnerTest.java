@@ -0,0 +1,30 @@
+package com.interzoid.sdk.batch;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BatchRunnerTest {
+
+    @Test
+    public void parseOptions_readsValuesAndFlags() {
+        Map<String, String> options = BatchRunner.parseOptions(new String[]{"--input=names.txt", "--concurrency=4", "--footprint"});
+
+        assertEquals("names.txt", options.get("input"));
+        assertEquals("4", options.get("concurrency"));
+        assertEquals("", options.get("footprint"));
+    }
+
+    @Test
+    public void parseOptions_keepsEqualsSignsInValues() {
+        assertEquals("http://localhost/?a=b", BatchRunner.parseOptions(new String[]{"--api-base-url=http://localhost/?a=b"})
+                .get("api-base-url"));
+    }
+
+    @Test
+    public void parseOptions_rejectsPositionalArguments() {
+        assertThrows(IllegalArgumentException.class, () -> BatchRunner.parseOptions(new String[]{"names.txt"}));
+    }
+}
@@ -0,0 +1,146 @@
+package com.interzoid.sdk.batch;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * <p>Compares the batch runner launched from the jlink image with the same jars launched from the classpath of the full JDK
+ * running this class. Each launch runs a small batch against a local HTTP server returning canned match keys; the wall time
+ * from process start to exit and the peak resident set size reported by {@code --footprint} are averaged over the runs, and
+ * the size of each runtime on disk is printed.</p>
+ *
+ * <p>Options: {@code --image=batch-runner/target/image} (required), {@code --runs=10}, {@code --records=100}.</p>
+ */
+public final class StartupComparison {
+    private static final byte[] RESPONSE = "{\"Code\":\"Success\",\"Credits\":\"9999\",\"SimKey\":\"N1Ai4RfV0SThJTIMXmjSBsJVIsjm0kbmwqqaUlhxHTQ\"}"
+            .getBytes(StandardCharsets.UTF_8);
+    private static final String MAIN_CLASS = "com.interzoid.sdk.batch.BatchRunner";
+
+    private StartupComparison() {
+    }
+
+    /**
+     * Runs the comparison.
+     *
+     * @param args the options, see the class documentation
+     * @throws Exception if the server cannot start or a launch fails
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = BatchRunner.parseOptions(args);
+        if (!options.containsKey("image")) {
+            throw new IllegalArgumentException("--image is required");
+        }
+        Path image = Paths.get(options.get("image")).toAbsolutePath();
+        int runs = Integer.parseInt(options.getOrDefault("runs", "10"));
+        int records = Integer.parseInt(options.getOrDefault("records", "100"));
+
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/getfullnamematch", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, RESPONSE.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(RESPONSE);
+            }
+        });
+        server.start();
+        Path input = Files.createTempFile("names", ".txt");
+        try {
+            List<String> names = new ArrayList<>(records);
+            for (int i = 0; i < records; i++) {
+                names.add("First" + i + " Last" + i);
+            }
+            Files.write(input, names, StandardCharsets.UTF_8);
+            List<String> runnerArgs = List.of("--api-key=comparison", "--api-base-url=http://127.0.0.1:" + server.getAddress().getPort(),
+                    "--input=" + input, "--footprint");
+
+            List<String> classpathLaunch = new ArrayList<>(List.of(
+                    Paths.get(System.getProperty("java.home"), "bin", "java").toString(), "-cp", classpath(image.resolve("app")), MAIN_CLASS));
+            classpathLaunch.addAll(runnerArgs);
+            List<String> imageLaunch = new ArrayList<>(List.of(image.resolve("bin").resolve("batch-runner").toString()));
+            imageLaunch.addAll(runnerArgs);
+
+            System.out.println("launch,runs,mean_ms,min_ms,mean_rss_peak_mb,runtime_mb");
+            report("classpath", classpathLaunch, runs, Paths.get(System.getProperty("java.home")));
+            report("jlink", imageLaunch, runs, image);
+        } finally {
+            server.stop(0);
+            Files.deleteIfExists(input);
+        }
+    }
+
+    private static String classpath(Path app) throws IOException {
+        try (Stream<Path> entries = Files.list(app)) {
+            return entries.map(Path::toString).sorted().collect(Collectors.joining(File.pathSeparator));
+        }
+    }
+
+    private static void report(String name, List<String> command, int runs, Path runtime) throws Exception {
+        run(command);
+        long totalNanos = 0;
+        long minNanos = Long.MAX_VALUE;
+        long totalRssKb = 0;
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            long rssKb = run(command);
+            long nanos = System.nanoTime() - start;
+            totalNanos += nanos;
+            minNanos = Math.min(minNanos, nanos);
+            totalRssKb += rssKb;
+        }
+        System.out.println(String.format(Locale.ROOT, "%s,%d,%.1f,%.1f,%.1f,%.1f", name, runs,
+                totalNanos / 1e6 / runs, minNanos / 1e6, totalRssKb / 1024.0 / runs, size(runtime) / 1048576.0));
+    }
+
+    /**
+     * Runs a launch to completion, returning the peak resident set size it reported, or 0.
+     */
+    private static long run(List<String> command) throws Exception {
+        Process process = new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        long rssKb = 0;
+        try (BufferedReader err = new BufferedReader(new InputStreamReader(process.getErrorStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = err.readLine()) != null) {
+                if (line.startsWith("footprint rss_peak_kb=")) {
+                    rssKb = Long.parseLong(line.substring("footprint rss_peak_kb=".length()));
+                } else {
+                    System.err.println(line);
+                }
+            }
+        }
+        if (!process.waitFor(1, TimeUnit.MINUTES) || process.exitValue() != 0) {
+            process.destroyForcibly();
+            throw new IllegalStateException("Launch failed: " + String.join(" ", command));
+        }
+        return rssKb;
+    }
+
+    /**
+     * Gets the size of a runtime, excluding the application in {@code app/} of the image.
+     */
+    private static long size(Path runtime) throws IOException {
+        Path app = runtime.resolve("app");
+        try (Stream<Path> files = Files.walk(runtime)) {
+            return files.filter(file -> Files.isRegularFile(file) && !file.startsWith(app))
+                    .mapToLong(file -> file.toFile().length()).sum();
+        }
+    }
+}
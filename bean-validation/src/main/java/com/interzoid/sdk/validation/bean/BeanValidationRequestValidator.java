@@ -0,0 +1,26 @@
+package com.interzoid.sdk.validation.bean;
+
+import com.interzoid.sdk.validation.RequestValidator;
+import jakarta.validation.ConstraintViolation;
+
+import java.util.Set;
+
+/**
+ * <p>Validates requests by evaluating the constraint annotations of the request models with Hibernate Validator.</p>
+ *
+ * <p>This class is registered with {@link java.util.ServiceLoader}, so that having this module on the classpath makes it
+ * {@link RequestValidator#defaultValidator()}. All instances share one {@code Validator}, bootstrapped on the first validation.</p>
+ */
+public final class BeanValidationRequestValidator implements RequestValidator {
+
+    /**
+     * Constructs a new BeanValidationRequestValidator, as {@link java.util.ServiceLoader} does.
+     */
+    public BeanValidationRequestValidator() {
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validate(T request) {
+        return RequestValidator.beanValidation().validate(request);
+    }
+}
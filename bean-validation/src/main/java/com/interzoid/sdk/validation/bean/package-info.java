@@ -0,0 +1,5 @@
+/**
+ * This package contains the Bean Validation integration of the SDK, registering Hibernate Validator as the default
+ * {@link com.interzoid.sdk.validation.RequestValidator}.
+ */
+package com.interzoid.sdk.validation.bean;
@@ -0,0 +1,13 @@
+/**
+ * Bean Validation of requests with Hibernate Validator, registered as the default
+ * {@link com.interzoid.sdk.validation.RequestValidator} of the SDK.
+ */
+module com.interzoid.sdk.validation.bean {
+    requires com.interzoid.sdk;
+    requires org.hibernate.validator;
+
+    exports com.interzoid.sdk.validation.bean;
+
+    provides com.interzoid.sdk.validation.RequestValidator
+            with com.interzoid.sdk.validation.bean.BeanValidationRequestValidator;
+}
@@ -0,0 +1,41 @@
+package com.interzoid.sdk.validation.bean;
+
+import com.interzoid.sdk.api.FullNameMatchKeyApi;
+import com.interzoid.sdk.api.exceptions.ValidationException;
+import com.interzoid.sdk.model.FullNameMatchKeyRequest;
+import com.interzoid.sdk.validation.RequestValidator;
+import jakarta.validation.ConstraintViolation;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BeanValidationRequestValidatorTest {
+
+    @Test
+    public void defaultValidator_isBeanValidationWhenRegistered() {
+        assertTrue(RequestValidator.defaultValidator() instanceof BeanValidationRequestValidator);
+    }
+
+    @Test
+    public void validate_reportsViolationsWithConstraintDescriptors() {
+        Set<ConstraintViolation<FullNameMatchKeyRequest>> violations =
+                new BeanValidationRequestValidator().validate(new FullNameMatchKeyRequest("apikey", " "));
+
+        assertEquals(1, violations.size());
+        ConstraintViolation<FullNameMatchKeyRequest> violation = violations.iterator().next();
+        assertEquals("Full name is required", violation.getMessage());
+        assertNotNull(violation.getConstraintDescriptor());
+    }
+
+    @Test
+    public void doRequest_invalidRequest_throwsValidationExceptionFromDefaultValidator() {
+        FullNameMatchKeyApi api = new FullNameMatchKeyApi.Builder().build();
+
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> api.doRequest(new FullNameMatchKeyRequest("", "John Smith")));
+
+        assertNotNull(exception.getViolations().iterator().next().getConstraintDescriptor());
+    }
+}
@@ -0,0 +1,74 @@
+package com.interzoid.sdk.cli;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits lines of delimited text files into fields. A field starting with a double quote runs to the next lone double quote,
+ * may contain the delimiter, and escapes a double quote by doubling it, as in CSV files. Quoted fields spanning lines are not
+ * supported.
+ */
+final class DelimitedRecords {
+
+    private DelimitedRecords() {
+    }
+
+    /**
+     * Splits a line into fields.
+     *
+     * @param line      the line, without its line terminator
+     * @param delimiter the field delimiter
+     * @return the fields, at least one
+     */
+    static String[] parse(String line, char delimiter) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        while (true) {
+            field.setLength(0);
+            if (i < line.length() && line.charAt(i) == '"') {
+                i++;
+                while (i < line.length()) {
+                    char c = line.charAt(i++);
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i < line.length() && line.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        break;
+                    }
+                }
+            }
+            while (i < line.length() && line.charAt(i) != delimiter) {
+                field.append(line.charAt(i++));
+            }
+            fields.add(field.toString());
+            if (i >= line.length()) {
+                return fields.toArray(new String[0]);
+            }
+            i++;
+        }
+    }
+
+    /**
+     * Gets the delimiter named by the {@code --delimiter} option.
+     *
+     * @param name {@code tab}, {@code comma}, or a single character
+     * @return the delimiter
+     * @throws IllegalArgumentException if the name is not a delimiter
+     */
+    static char delimiter(String name) {
+        switch (name) {
+            case "tab":
+                return '\t';
+            case "comma":
+                return ',';
+            default:
+                if (name.length() != 1) {
+                    throw new IllegalArgumentException("--delimiter must be tab, comma or a single character: " + name);
+                }
+                return name.charAt(0);
+        }
+    }
+}
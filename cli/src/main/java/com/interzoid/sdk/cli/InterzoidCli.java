@@ -0,0 +1,216 @@
+package com.interzoid.sdk.cli;
+
+import com.interzoid.sdk.api.OkHttpTransport;
+import com.interzoid.sdk.metrics.InterzoidMetrics;
+import com.interzoid.sdk.metrics.PrometheusExporter;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.*;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * <p>Command-line tool keying and scoring the records of local delimited files with the Interzoid APIs.</p>
+ *
+ * <p>Each output row is the input record followed by its similarity key or score, in input order. See {@link #USAGE} for the
+ * commands and options. The exit status is 0 if every record succeeded, 1 if some failed, and 2 for invalid arguments.</p>
+ */
+public final class InterzoidCli {
+    static final String USAGE = String.join("\n",
+            "Usage: interzoid key --type=fullname|company|address [--algorithm=wide|medium|narrow] [options]",
+            "       interzoid score --type=fullname|organization [options]",
+            "",
+            "Options:",
+            "  --input=FILE            delimited input file (default: standard input)",
+            "  --output=FILE           output file (default: standard output)",
+            "  --delimiter=tab|comma|C input field delimiter (default: comma for .csv files, otherwise tab)",
+            "  --columns=1[,2]         1-based columns of the values to key or score (default: 1 for key, 1,2 for score)",
+            "  --header                the first input line is a header",
+            "  --format=tsv|csv|jsonl  output format (default: tsv)",
+            "  --concurrency=8         maximum number of requests in flight",
+            "  --rate=N                maximum number of requests per second (default: no limit)",
+            "  --cache-dir=DIR         keep results in DIR and reuse them across runs",
+            "  --api-key=KEY           API key (default: the INTERZOID_API_KEY environment variable)",
+            "  --api-base-url=URL      base URL of the API (default: the Interzoid API)",
+            "  --metrics-port=PORT     serve Prometheus metrics on PORT while running",
+            "");
+
+    private InterzoidCli() {
+    }
+
+    /**
+     * Runs the tool and exits with its status.
+     *
+     * @param args the command and its options
+     * @throws IOException if the input cannot be read or the output cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        System.exit(run(args, System.in, System.out, System.err, System.getenv("INTERZOID_API_KEY")));
+    }
+
+    /**
+     * Runs the tool.
+     *
+     * @param args          the command and its options
+     * @param in            the standard input
+     * @param out           the standard output
+     * @param err           the standard error
+     * @param defaultApiKey the API key used without {@code --api-key}, or null
+     * @return the exit status
+     * @throws IOException if the input cannot be read or the output cannot be written
+     */
+    static int run(String[] args, InputStream in, OutputStream out, PrintStream err, String defaultApiKey) throws IOException {
+        if (args.length == 0 || args[0].equals("help") || args[0].equals("--help")) {
+            err.print(USAGE);
+            return args.length == 0 ? 2 : 0;
+        }
+        try {
+            if (args[0].equals("train")) {
+                TrainingRun.run();
+                return 0;
+            }
+            if (!args[0].equals("key") && !args[0].equals("score")) {
+                throw new IllegalArgumentException("Unknown command: " + args[0]);
+            }
+            return match(args[0], parseOptions(Arrays.copyOfRange(args, 1, args.length)), in, out, err, defaultApiKey);
+        } catch (IllegalArgumentException e) {
+            err.println(e.getMessage());
+            err.print(USAGE);
+            return 2;
+        }
+    }
+
+    private static int match(String command, Map<String, String> options, InputStream stdin, OutputStream stdout,
+                             PrintStream err, String defaultApiKey) throws IOException {
+        String apiKey = options.getOrDefault("api-key", defaultApiKey);
+        if (apiKey == null || apiKey.isEmpty()) {
+            throw new IllegalArgumentException("An API key is required: --api-key=KEY or INTERZOID_API_KEY");
+        }
+        if (!options.containsKey("type")) {
+            throw new IllegalArgumentException("--type is required");
+        }
+        String input = options.get("input");
+        String output = options.get("output");
+        int concurrency = intOption(options, "concurrency", 8);
+        char delimiter = DelimitedRecords.delimiter(options.getOrDefault("delimiter",
+                input != null && input.toLowerCase(Locale.ROOT).endsWith(".csv") ? "comma" : "tab"));
+        OutputFormat format = OutputFormat.of(options.getOrDefault("format", "tsv"));
+        RateLimiter rateLimiter = options.containsKey("rate") ? new RateLimiter(doubleOption(options, "rate")) : null;
+        Path cacheDir = options.containsKey("cache-dir") ? Paths.get(options.get("cache-dir")) : null;
+
+        InterzoidMetrics metrics = new InterzoidMetrics();
+        OkHttpTransport transport = new OkHttpTransport.Builder()
+                .withMaxConcurrentRequests(concurrency)
+                .withMetricsRecorder(metrics)
+                .build();
+        MatchOperation operation = MatchOperation.create(command, options.get("type"), options.get("algorithm"), transport,
+                options.get("api-base-url"), metrics);
+        int[] columns = columns(options.getOrDefault("columns", operation.getArity() == 1 ? "1" : "1,2"));
+
+        HttpServer metricsServer = null;
+        try (ResponseCache cache = ResponseCache.open(cacheDir, operation.getName(), operation.getResource());
+             BufferedReader reader = new BufferedReader(input != null
+                     ? Files.newBufferedReader(Paths.get(input), StandardCharsets.UTF_8)
+                     : new InputStreamReader(stdin, StandardCharsets.UTF_8));
+             Writer writer = new BufferedWriter(output != null
+                     ? Files.newBufferedWriter(Paths.get(output), StandardCharsets.UTF_8)
+                     : new OutputStreamWriter(new NonClosingOutputStream(stdout), StandardCharsets.UTF_8))) {
+            MatchJob job = new MatchJob(operation, apiKey, columns, delimiter, options.containsKey("header"), format,
+                    concurrency, rateLimiter, cache, err);
+            if (options.containsKey("metrics-port")) {
+                PrometheusExporter exporter = new PrometheusExporter(metrics)
+                        .registerPoolStats("cli", transport::getPoolStats)
+                        .registerCounter("interzoid_cli_records_total", "Records processed", job::getRecords)
+                        .registerCounter("interzoid_cli_record_failures_total", "Records that failed", job::getFailures)
+                        .registerCounter("interzoid_cli_cache_hits_total", "Records answered from the cache", cache::getHits)
+                        .registerCounter("interzoid_cli_cache_misses_total", "Records not found in the cache", cache::getMisses)
+                        .registerGauge("interzoid_cli_cache_entries", "Results in the cache", cache::size);
+                if (rateLimiter != null) {
+                    exporter.registerCounter("interzoid_cli_rate_limiter_wait_seconds_total",
+                            "Time spent waiting for the rate limiter", rateLimiter::getWaitSeconds);
+                }
+                metricsServer = exporter.start(new InetSocketAddress(intOption(options, "metrics-port", 0)));
+            }
+
+            long failures = job.run(reader, writer);
+            err.println(job.getRecords() + " records, " + failures + " failed, " + cache.getHits() + " from cache");
+            return failures == 0 ? 0 : 1;
+        } finally {
+            if (metricsServer != null) {
+                metricsServer.stop(0);
+            }
+            transport.getClient().dispatcher().executorService().shutdown();
+            transport.getClient().connectionPool().evictAll();
+        }
+    }
+
+    static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Options must be given as --name=value: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            options.put(eq < 0 ? arg.substring(2) : arg.substring(2, eq), eq < 0 ? "" : arg.substring(eq + 1));
+        }
+        return options;
+    }
+
+    static int[] columns(String value) {
+        String[] names = value.split(",");
+        int[] columns = new int[names.length];
+        for (int i = 0; i < names.length; i++) {
+            try {
+                columns[i] = Integer.parseInt(names[i].trim()) - 1;
+            } catch (NumberFormatException e) {
+                columns[i] = -1;
+            }
+            if (columns[i] < 0) {
+                throw new IllegalArgumentException("--columns must be 1-based column numbers: " + value);
+            }
+        }
+        return columns;
+    }
+
+    private static int intOption(Map<String, String> options, String name, int defaultValue) {
+        try {
+            return options.containsKey(name) ? Integer.parseInt(options.get(name)) : defaultValue;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--" + name + " must be an integer: " + options.get(name));
+        }
+    }
+
+    private static double doubleOption(Map<String, String> options, String name) {
+        try {
+            return Double.parseDouble(options.get(name));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--" + name + " must be a number: " + options.get(name));
+        }
+    }
+
+    /**
+     * Leaves the standard output open when the output writer is closed.
+     */
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+        NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.interzoid.sdk.cli;
+
+import com.interzoid.sdk.api.Enriched;
+import com.interzoid.sdk.api.StreamEnricher;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * <p>Runs an operation over the records of a delimited file and writes each record with its result, in input order.</p>
+ *
+ * <p>Up to {@code concurrency} calls are in flight. Values already in the {@link ResponseCache}, or sent for an earlier
+ * record whose call is still in flight, are not sent again; the {@link RateLimiter}, if any, paces the calls that are.</p>
+ */
+final class MatchJob {
+    private final MatchOperation operation;
+    private final String apiKey;
+    private final int[] columns;
+    private final char delimiter;
+    private final boolean header;
+    private final OutputFormat format;
+    private final int concurrency;
+    private final RateLimiter rateLimiter;
+    private final ResponseCache cache;
+    private final PrintStream errors;
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder records = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    /**
+     * Constructs a new MatchJob.
+     *
+     * @param operation   the operation
+     * @param apiKey      the API key
+     * @param columns     the 0-based columns holding the values of the operation
+     * @param delimiter   the field delimiter of the input
+     * @param header      whether the first line of the input is a header
+     * @param format      the output format
+     * @param concurrency the maximum number of calls in flight
+     * @param rateLimiter the rate limiter, or null for no limit
+     * @param cache       the cache of results
+     * @param errors      where failed records are reported
+     */
+    MatchJob(MatchOperation operation, String apiKey, int[] columns, char delimiter, boolean header, OutputFormat format,
+             int concurrency, RateLimiter rateLimiter, ResponseCache cache, PrintStream errors) {
+        if (columns.length != operation.getArity()) {
+            throw new IllegalArgumentException("--columns must name " + operation.getArity() + " column(s)");
+        }
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("--concurrency must be greater than 0: " + concurrency);
+        }
+        this.operation = operation;
+        this.apiKey = apiKey;
+        this.columns = columns;
+        this.delimiter = delimiter;
+        this.header = header;
+        this.format = format;
+        this.concurrency = concurrency;
+        this.rateLimiter = rateLimiter;
+        this.cache = cache;
+        this.errors = errors;
+    }
+
+    /**
+     * Runs the job.
+     *
+     * @param in  the input
+     * @param out the output, flushed but not closed
+     * @return the number of records that failed
+     * @throws IOException if the input cannot be read or the output cannot be written
+     */
+    long run(BufferedReader in, Writer out) throws IOException {
+        String[] headerFields = null;
+        if (header) {
+            String line = in.readLine();
+            if (line != null) {
+                headerFields = DelimitedRecords.parse(line, delimiter);
+                format.writeHeader(out, headerFields, operation.getResultName());
+            }
+        }
+        Stream<String[]> input = in.lines()
+                .filter(line -> !line.isEmpty())
+                .map(line -> DelimitedRecords.parse(line, delimiter));
+        try (Stream<Enriched<String[], String>> enriched = StreamEnricher.enrich(input, concurrency, this::lookup)) {
+            Iterator<Enriched<String[], String>> iterator = enriched.iterator();
+            while (iterator.hasNext()) {
+                Enriched<String[], String> record = iterator.next();
+                records.increment();
+                if (record.isSuccess()) {
+                    format.writeRow(out, headerFields, record.getElement(), operation.getResultName(), record.getResult(), null);
+                } else {
+                    failures.increment();
+                    String message = message(record.getError());
+                    errors.println("line " + (records.sum() + (header ? 1 : 0)) + ": " + message);
+                    format.writeRow(out, headerFields, record.getElement(), operation.getResultName(), null, message);
+                }
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        out.flush();
+        return failures.sum();
+    }
+
+    /**
+     * Looks up or requests the result of a record, on the thread consuming the results.
+     */
+    private CompletableFuture<String> lookup(String[] record) {
+        String[] values = new String[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i] >= record.length) {
+                return CompletableFuture.failedFuture(new IllegalArgumentException(
+                        "the record has " + record.length + " field(s), column " + (columns[i] + 1) + " is missing"));
+            }
+            values[i] = record[columns[i]];
+        }
+        String key = ResponseCache.key(values);
+        String cached = cache.get(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        CompletableFuture<String> pending = inFlight.get(key);
+        if (pending != null) {
+            return pending;
+        }
+        CompletableFuture<String> call;
+        try {
+            if (rateLimiter != null) {
+                rateLimiter.acquire();
+            }
+            call = operation.call(apiKey, values).thenApply(result -> {
+                if (result != null && !result.isEmpty()) {
+                    try {
+                        cache.put(key, result);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                return result;
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (!call.isDone()) {
+            inFlight.put(key, call);
+            call.whenComplete((result, error) -> inFlight.remove(key, call));
+        }
+        return call;
+    }
+
+    private static String message(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+    }
+
+    long getRecords() {
+        return records.sum();
+    }
+
+    long getFailures() {
+        return failures.sum();
+    }
+}
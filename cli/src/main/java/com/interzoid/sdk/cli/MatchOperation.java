@@ -0,0 +1,155 @@
+package com.interzoid.sdk.cli;
+
+import com.interzoid.sdk.api.*;
+import com.interzoid.sdk.metrics.MetricsRecorder;
+import com.interzoid.sdk.model.*;
+
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+
+/**
+ * A keying or scoring operation applied to each record, backed by one of the API classes.
+ */
+final class MatchOperation {
+    private final String name;
+    private final String resource;
+    private final int arity;
+    private final String resultName;
+    private final BiFunction<String, String[], CompletableFuture<String>> call;
+
+    private MatchOperation(String name, String resource, int arity, String resultName,
+                           BiFunction<String, String[], CompletableFuture<String>> call) {
+        this.name = name;
+        this.resource = resource;
+        this.arity = arity;
+        this.resultName = resultName;
+        this.call = call;
+    }
+
+    /**
+     * Creates the operation of a command.
+     *
+     * @param command    {@code key} or {@code score}
+     * @param type       the type of values: {@code fullname}, {@code company} or {@code address} for keys,
+     *                   {@code fullname} or {@code organization} for scores
+     * @param algorithm  the match algorithm of company and address keys, or null for the default
+     * @param transport  the transport shared by the API classes
+     * @param apiBaseUrl the base URL of the API, or null for the default
+     * @param metrics    the recorder of API metrics
+     * @return the operation
+     * @throws IllegalArgumentException if the command, type or algorithm is unknown
+     */
+    static MatchOperation create(String command, String type, String algorithm, Transport transport, String apiBaseUrl,
+                                 MetricsRecorder metrics) {
+        switch (command + " " + type) {
+            case "key fullname": {
+                noAlgorithm(type, algorithm);
+                FullNameMatchKeyApi.Builder builder = new FullNameMatchKeyApi.Builder().withTransport(transport).withMetricsRecorder(metrics);
+                FullNameMatchKeyApi api = (apiBaseUrl != null ? builder.withApiBaseUrl(apiBaseUrl) : builder).build();
+                return new MatchOperation("getfullnamematch", "getfullnamematch", 1, "simkey", (apiKey, values) ->
+                        api.doRequestAsync(new FullNameMatchKeyRequest(apiKey, values[0])).thenApply(MatchKeyResponse::getSimKey));
+            }
+            case "key company": {
+                CompanyNameMatchKeyRequest.MatchAlgorithm matchAlgorithm = CompanyNameMatchKeyRequest.MatchAlgorithm.valueOf(
+                        algorithm(algorithm, "wide", "wide, narrow"));
+                CompanyNameMatchKeyApi.Builder builder = new CompanyNameMatchKeyApi.Builder().withTransport(transport).withMetricsRecorder(metrics);
+                CompanyNameMatchKeyApi api = (apiBaseUrl != null ? builder.withApiBaseUrl(apiBaseUrl) : builder).build();
+                return new MatchOperation("getcompanymatchadvanced-" + matchAlgorithm.getValue(), "getcompanymatchadvanced", 1,
+                        "simkey", (apiKey, values) -> api.doRequestAsync(new CompanyNameMatchKeyRequest(apiKey, values[0], matchAlgorithm))
+                        .thenApply(MatchKeyResponse::getSimKey));
+            }
+            case "key address": {
+                AddressMatchKeyRequest.MatchAlgorithm matchAlgorithm = AddressMatchKeyRequest.MatchAlgorithm.valueOf(
+                        algorithm(algorithm, "medium", "wide, medium, narrow"));
+                AddressMatchKeyApi.Builder builder = new AddressMatchKeyApi.Builder().withTransport(transport).withMetricsRecorder(metrics);
+                AddressMatchKeyApi api = (apiBaseUrl != null ? builder.withApiBaseUrl(apiBaseUrl) : builder).build();
+                return new MatchOperation("getaddressmatchadvanced-" + matchAlgorithm.getValue(), "getaddressmatchadvanced", 1,
+                        "simkey", (apiKey, values) -> api.doRequestAsync(new AddressMatchKeyRequest(apiKey, values[0], matchAlgorithm))
+                        .thenApply(MatchKeyResponse::getSimKey));
+            }
+            case "score fullname": {
+                noAlgorithm(type, algorithm);
+                FullNameMatchScoreApi.Builder builder = new FullNameMatchScoreApi.Builder().withTransport(transport).withMetricsRecorder(metrics);
+                FullNameMatchScoreApi api = (apiBaseUrl != null ? builder.withApiBaseUrl(apiBaseUrl) : builder).build();
+                return new MatchOperation("getfullnamematchscore", "getfullnamematchscore", 2, "score", (apiKey, values) ->
+                        api.doRequestAsync(new FullNameMatchScoreRequest(apiKey, values[0], values[1]))
+                                .thenApply(MatchScoreResponse::getScore));
+            }
+            case "score organization": {
+                noAlgorithm(type, algorithm);
+                OrganizationMatchScoreApi.Builder builder = new OrganizationMatchScoreApi.Builder().withTransport(transport).withMetricsRecorder(metrics);
+                OrganizationMatchScoreApi api = (apiBaseUrl != null ? builder.withApiBaseUrl(apiBaseUrl) : builder).build();
+                return new MatchOperation("getorgmatchscore", "getorgmatchscore", 2, "score", (apiKey, values) ->
+                        api.doRequestAsync(new OrganizationMatchScoreRequest(apiKey, values[0], values[1]))
+                                .thenApply(MatchScoreResponse::getScore));
+            }
+            default:
+                throw new IllegalArgumentException(command.equals("key")
+                        ? "--type must be fullname, company or address: " + type
+                        : "--type must be fullname or organization: " + type);
+        }
+    }
+
+    private static String algorithm(String algorithm, String defaultAlgorithm, String allowed) {
+        String value = algorithm != null ? algorithm : defaultAlgorithm;
+        if (!(", " + allowed + ",").contains(", " + value + ",")) {
+            throw new IllegalArgumentException("--algorithm must be " + allowed + ": " + value);
+        }
+        return value.toUpperCase(Locale.ROOT);
+    }
+
+    private static void noAlgorithm(String type, String algorithm) {
+        if (algorithm != null) {
+            throw new IllegalArgumentException("--algorithm does not apply to " + type);
+        }
+    }
+
+    /**
+     * Gets the name of the operation, which names its cache file.
+     *
+     * @return the name
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the API resource called by the operation.
+     *
+     * @return the resource
+     */
+    String getResource() {
+        return resource;
+    }
+
+    /**
+     * Gets the number of values the operation takes from each record.
+     *
+     * @return 1 for keys, 2 for scores
+     */
+    int getArity() {
+        return arity;
+    }
+
+    /**
+     * Gets the name of the result column.
+     *
+     * @return {@code simkey} or {@code score}
+     */
+    String getResultName() {
+        return resultName;
+    }
+
+    /**
+     * Calls the API.
+     *
+     * @param apiKey the API key
+     * @param values the values, {@link #getArity()} of them
+     * @return a future completed with the result
+     * @throws com.interzoid.sdk.api.exceptions.ValidationException if a value is blank
+     */
+    CompletableFuture<String> call(String apiKey, String[] values) {
+        return call.apply(apiKey, values);
+    }
+}
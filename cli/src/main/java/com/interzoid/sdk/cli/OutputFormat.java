@@ -0,0 +1,158 @@
+package com.interzoid.sdk.cli;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * The formats of the {@code --format} option. Each output row holds the input fields followed by the result, which is empty
+ * for a record that failed; JSON lines also carry the error of a failed record.
+ */
+enum OutputFormat {
+    TSV {
+        @Override
+        void writeRow(Writer out, String[] header, String[] fields, String resultName, String result, String error)
+                throws IOException {
+            for (String field : fields) {
+                out.write(field.replace('\t', ' ').replace('\n', ' ').replace('\r', ' '));
+                out.write('\t');
+            }
+            out.write(result != null ? result : "");
+            out.write('\n');
+        }
+    },
+    CSV {
+        @Override
+        void writeRow(Writer out, String[] header, String[] fields, String resultName, String result, String error)
+                throws IOException {
+            for (String field : fields) {
+                writeCsvField(out, field);
+                out.write(',');
+            }
+            writeCsvField(out, result != null ? result : "");
+            out.write('\n');
+        }
+    },
+    JSONL {
+        @Override
+        void writeHeader(Writer out, String[] header, String resultName) {
+        }
+
+        @Override
+        void writeRow(Writer out, String[] header, String[] fields, String resultName, String result, String error)
+                throws IOException {
+            out.write('{');
+            if (header != null) {
+                for (int i = 0; i < fields.length; i++) {
+                    writeJsonString(out, i < header.length ? header[i] : "field" + (i + 1));
+                    out.write(':');
+                    writeJsonString(out, fields[i]);
+                    out.write(',');
+                }
+            } else {
+                out.write("\"input\":[");
+                for (int i = 0; i < fields.length; i++) {
+                    if (i > 0) {
+                        out.write(',');
+                    }
+                    writeJsonString(out, fields[i]);
+                }
+                out.write("],");
+            }
+            writeJsonString(out, resultName);
+            out.write(':');
+            if (result != null) {
+                writeJsonString(out, result);
+            } else {
+                out.write("null");
+            }
+            if (error != null) {
+                out.write(",\"error\":");
+                writeJsonString(out, error);
+            }
+            out.write("}\n");
+        }
+    };
+
+    /**
+     * Writes the header row, the input header followed by the name of the result.
+     *
+     * @param out        the output
+     * @param header     the input header
+     * @param resultName the name of the result
+     * @throws IOException if the output cannot be written
+     */
+    void writeHeader(Writer out, String[] header, String resultName) throws IOException {
+        writeRow(out, null, header, resultName, resultName, null);
+    }
+
+    /**
+     * Writes the row of a record.
+     *
+     * @param out        the output
+     * @param header     the input header, or null if the input has none
+     * @param fields     the fields of the record
+     * @param resultName the name of the result
+     * @param result     the result, or null if the record failed
+     * @param error      the error message if the record failed, otherwise null
+     * @throws IOException if the output cannot be written
+     */
+    abstract void writeRow(Writer out, String[] header, String[] fields, String resultName, String result, String error)
+            throws IOException;
+
+    /**
+     * Gets the format named by the {@code --format} option.
+     *
+     * @param name {@code tsv}, {@code csv} or {@code jsonl}
+     * @return the format
+     * @throws IllegalArgumentException if the name is not a format
+     */
+    static OutputFormat of(String name) {
+        for (OutputFormat format : values()) {
+            if (format.name().equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("--format must be tsv, csv or jsonl: " + name);
+    }
+
+    private static void writeCsvField(Writer out, String field) throws IOException {
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0 && field.indexOf('\r') < 0) {
+            out.write(field);
+            return;
+        }
+        out.write('"');
+        out.write(field.replace("\"", "\"\""));
+        out.write('"');
+    }
+
+    private static void writeJsonString(Writer out, String value) throws IOException {
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    out.write("\\\"");
+                    break;
+                case '\\':
+                    out.write("\\\\");
+                    break;
+                case '\n':
+                    out.write("\\n");
+                    break;
+                case '\r':
+                    out.write("\\r");
+                    break;
+                case '\t':
+                    out.write("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        out.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.write(c);
+                    }
+            }
+        }
+        out.write('"');
+    }
+}
@@ -0,0 +1,67 @@
+package com.interzoid.sdk.cli;
+
+import com.interzoid.sdk.metrics.FlightRecording;
+import com.interzoid.sdk.metrics.RateLimiterWaitEvent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Spaces requests evenly at a fixed rate, without bursts. Each wait is reported as a {@link RateLimiterWaitEvent}.
+ */
+final class RateLimiter {
+    private final double permitsPerSecond;
+    private final long intervalNanos;
+    private final LongAdder waitNanos = new LongAdder();
+    private long nextPermitNanos = System.nanoTime();
+
+    /**
+     * Constructs a new RateLimiter.
+     *
+     * @param permitsPerSecond the number of permits per second
+     * @throws IllegalArgumentException if the rate is not positive
+     */
+    RateLimiter(double permitsPerSecond) {
+        if (!(permitsPerSecond > 0)) {
+            throw new IllegalArgumentException("--rate must be greater than 0: " + permitsPerSecond);
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+    }
+
+    /**
+     * Waits until the next permit is available.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    void acquire() throws InterruptedException {
+        RateLimiterWaitEvent event = FlightRecording.isInitialized() ? new RateLimiterWaitEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        long wait;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long permit = nextPermitNanos - now > 0 ? nextPermitNanos : now;
+            nextPermitNanos = permit + intervalNanos;
+            wait = permit - now;
+        }
+        if (wait > 0) {
+            long sleepStart = System.nanoTime();
+            TimeUnit.NANOSECONDS.sleep(wait);
+            waitNanos.add(System.nanoTime() - sleepStart);
+        }
+        if (event != null) {
+            event.complete(1, permitsPerSecond);
+        }
+    }
+
+    /**
+     * Gets the total time spent waiting for permits.
+     *
+     * @return the total wait in seconds
+     */
+    double getWaitSeconds() {
+        return waitNanos.sum() / 1e9;
+    }
+}
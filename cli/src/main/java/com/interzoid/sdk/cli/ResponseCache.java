@@ -0,0 +1,172 @@
+package com.interzoid.sdk.cli;
+
+import com.interzoid.sdk.metrics.CacheLookupEvent;
+import com.interzoid.sdk.metrics.FlightRecording;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Caches the results of one operation by the values they were computed from, so that repeated values are sent once.</p>
+ *
+ * <p>With a cache directory, results persist across runs in a file per operation, {@code <operation>.tsv}, one escaped key
+ * and result per line. The file is read when the cache is opened and new results are appended to it. Without one, results
+ * are cached for the run only. Each lookup is reported as a {@link CacheLookupEvent}.</p>
+ */
+final class ResponseCache implements Closeable {
+    private final String resource;
+    private final Map<String, String> results = new ConcurrentHashMap<>();
+    private final BufferedWriter writer;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private ResponseCache(String resource, BufferedWriter writer) {
+        this.resource = resource;
+        this.writer = writer;
+    }
+
+    /**
+     * Opens the cache of an operation.
+     *
+     * @param directory the cache directory, created if missing, or null to cache for the run only
+     * @param operation the name of the operation, naming the cache file
+     * @param resource  the API resource of the operation, reported in cache lookup events
+     * @return the cache
+     * @throws IOException if the cache file cannot be read or opened for writing
+     */
+    static ResponseCache open(Path directory, String operation, String resource) throws IOException {
+        if (directory == null) {
+            return new ResponseCache(resource, null);
+        }
+        Files.createDirectories(directory);
+        Path file = directory.resolve(operation + ".tsv");
+        ResponseCache cache = new ResponseCache(resource, Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int tab = line.indexOf('\t');
+                if (tab > 0) {
+                    cache.results.put(unescape(line.substring(0, tab)), unescape(line.substring(tab + 1)));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            cache.close();
+            throw e;
+        }
+        return cache;
+    }
+
+    /**
+     * Gets the key of a record's values.
+     *
+     * @param values the values sent to the API
+     * @return the key
+     */
+    static String key(String[] values) {
+        return values.length == 1 ? values[0] : String.join("\u001f", values);
+    }
+
+    /**
+     * Looks up a result.
+     *
+     * @param key the key from {@link #key(String[])}
+     * @return the cached result, or null
+     */
+    String get(String key) {
+        CacheLookupEvent event = FlightRecording.isInitialized() ? new CacheLookupEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        String result = results.get(key);
+        (result != null ? hits : misses).increment();
+        if (event != null) {
+            event.complete(resource, result != null);
+        }
+        return result;
+    }
+
+    /**
+     * Caches a result, appending it to the cache file.
+     *
+     * @param key    the key from {@link #key(String[])}
+     * @param result the result
+     * @throws IOException if the cache file cannot be written
+     */
+    void put(String key, String result) throws IOException {
+        if (results.putIfAbsent(key, result) == null && writer != null) {
+            synchronized (writer) {
+                writer.write(escape(key));
+                writer.write('\t');
+                writer.write(escape(result));
+                writer.write('\n');
+            }
+        }
+    }
+
+    long getHits() {
+        return hits.sum();
+    }
+
+    long getMisses() {
+        return misses.sum();
+    }
+
+    int size() {
+        return results.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (writer != null) {
+            synchronized (writer) {
+                writer.close();
+            }
+        }
+    }
+
+    static String escape(String value) {
+        StringBuilder escaped = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String replacement = c == '\\' ? "\\\\" : c == '\t' ? "\\t" : c == '\n' ? "\\n" : c == '\r' ? "\\r" : null;
+            if (replacement != null && escaped == null) {
+                escaped = new StringBuilder(value.length() + 8).append(value, 0, i);
+            }
+            if (escaped != null) {
+                if (replacement != null) {
+                    escaped.append(replacement);
+                } else {
+                    escaped.append(c);
+                }
+            }
+        }
+        return escaped != null ? escaped.toString() : value;
+    }
+
+    static String unescape(String value) {
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder unescaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                unescaped.append(next == 't' ? '\t' : next == 'n' ? '\n' : next == 'r' ? '\r' : next);
+            } else {
+                unescaped.append(c);
+            }
+        }
+        return unescaped.toString();
+    }
+}
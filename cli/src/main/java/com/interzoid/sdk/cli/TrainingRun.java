@@ -0,0 +1,92 @@
+package com.interzoid.sdk.cli;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * <p>Exercises every command, output format and option of the tool against a local server returning canned responses, so
+ * that a run with {@code -XX:ArchiveClassesAtExit} records the classes a real run loads in an AppCDS archive. The build runs
+ * it as {@code interzoid train}.</p>
+ *
+ * <p>TLS classes are not recorded, since the local server is plain HTTP; they are loaded from the JDK's default archive.</p>
+ */
+final class TrainingRun {
+    static final byte[] RESPONSE = ("{\"Code\":\"Success\",\"Credits\":\"9999\","
+            + "\"SimKey\":\"N1Ai4RfV0SThJTIMXmjSBsJVIsjm0kbmwqqaUlhxHTQ\",\"Score\":\"85\"}").getBytes(StandardCharsets.UTF_8);
+
+    private static final String[][] COMMANDS = {
+            {"key", "--type=fullname", "--format=tsv"},
+            {"key", "--type=company", "--algorithm=wide", "--format=csv", "--header", "--rate=100000"},
+            {"key", "--type=address", "--format=jsonl", "--header"},
+            {"score", "--type=fullname", "--format=jsonl"},
+            {"score", "--type=organization", "--format=csv", "--metrics-port=0"},
+    };
+
+    private TrainingRun() {
+    }
+
+    /**
+     * Starts a server answering every API request with a successful response carrying both a similarity key and a score.
+     *
+     * @return the started server, listening on a loopback port, to be stopped by the caller
+     * @throws IOException if the server cannot be started
+     */
+    static HttpServer startServer() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, RESPONSE.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(RESPONSE);
+            }
+        });
+        server.start();
+        return server;
+    }
+
+    /**
+     * Runs every command twice, the second time from the cache.
+     *
+     * @throws IOException if a command cannot run
+     */
+    static void run() throws IOException {
+        HttpServer server = startServer();
+        Path directory = Files.createTempDirectory("interzoid-train");
+        try {
+            Path input = directory.resolve("input.txt");
+            List<String> lines = new ArrayList<>();
+            lines.add("name\tother");
+            for (int i = 0; i < 50; i++) {
+                lines.add("First" + i + " \"Last\"\tFirst" + (i % 10) + " Last");
+            }
+            Files.write(input, lines, StandardCharsets.UTF_8);
+            String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+            PrintStream discard = new PrintStream(OutputStream.nullOutputStream(), true, StandardCharsets.UTF_8);
+            for (int pass = 0; pass < 2; pass++) {
+                for (String[] command : COMMANDS) {
+                    String[] args = Stream.concat(Stream.of(command), Stream.of("--api-key=train", "--api-base-url=" + baseUrl,
+                            "--input=" + input, "--cache-dir=" + directory.resolve("cache"))).toArray(String[]::new);
+                    if (InterzoidCli.run(args, System.in, OutputStream.nullOutputStream(), discard, null) != 0) {
+                        throw new IOException("Training command failed: " + String.join(" ", command));
+                    }
+                }
+            }
+        } finally {
+            server.stop(0);
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+            }
+        }
+    }
+}
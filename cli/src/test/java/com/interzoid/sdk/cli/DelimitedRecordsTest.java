@@ -0,0 +1,32 @@
+package com.interzoid.sdk.cli;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DelimitedRecordsTest {
+
+    @Test
+    public void parse_splitsOnTheDelimiter() {
+        assertArrayEquals(new String[]{"John Smith", "", "Boston"}, DelimitedRecords.parse("John Smith\t\tBoston", '\t'));
+    }
+
+    @Test
+    public void parse_keepsDelimitersAndDoubledQuotesInQuotedFields() {
+        assertArrayEquals(new String[]{"Smith, John", "The \"Boss\"", "x"},
+                DelimitedRecords.parse("\"Smith, John\",\"The \"\"Boss\"\"\",x", ','));
+    }
+
+    @Test
+    public void parse_returnsOneEmptyFieldForAnEmptyLine() {
+        assertArrayEquals(new String[]{""}, DelimitedRecords.parse("", ','));
+    }
+
+    @Test
+    public void delimiter_acceptsNamesAndSingleCharacters() {
+        assertEquals('\t', DelimitedRecords.delimiter("tab"));
+        assertEquals(',', DelimitedRecords.delimiter("comma"));
+        assertEquals('|', DelimitedRecords.delimiter("|"));
+        assertThrows(IllegalArgumentException.class, () -> DelimitedRecords.delimiter("pipe"));
+    }
+}
@@ -0,0 +1,137 @@
+package com.interzoid.sdk.cli;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InterzoidCliTest {
+    private static final String SIM_KEY = "N1Ai4RfV0SThJTIMXmjSBsJVIsjm0kbmwqqaUlhxHTQ";
+
+    private HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            requests.incrementAndGet();
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, TrainingRun.RESPONSE.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(TrainingRun.RESPONSE);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void key_writesEachRecordWithItsKeyInInputOrder() throws IOException {
+        int status = run("name\tcity\nJohn Smith\tBoston\n\nJane Doe\tParis\n", "key", "--type=fullname", "--header");
+
+        assertEquals(0, status);
+        assertEquals("name\tcity\tsimkey\nJohn Smith\tBoston\t" + SIM_KEY + "\nJane Doe\tParis\t" + SIM_KEY + "\n", output());
+        assertTrue(errors().contains("2 records, 0 failed, 0 from cache"));
+    }
+
+    @Test
+    public void score_readsTwoColumnsOfCsvInput() throws IOException {
+        int status = run("IBM,International Business Machines\n", "score", "--type=organization", "--delimiter=comma",
+                "--format=jsonl");
+
+        assertEquals(0, status);
+        assertEquals("{\"input\":[\"IBM\",\"International Business Machines\"],\"score\":\"85\"}\n", output());
+    }
+
+    @Test
+    public void key_sendsRepeatedValuesOnce() throws IOException {
+        int status = run("John Smith\nJohn Smith\nJohn Smith\n", "key", "--type=fullname", "--concurrency=1");
+
+        assertEquals(0, status);
+        assertEquals(1, requests.get());
+        assertTrue(errors().contains("3 records, 0 failed, 2 from cache"));
+    }
+
+    @Test
+    public void key_reusesTheCacheDirectoryAcrossRuns() throws IOException {
+        Path directory = Files.createTempDirectory("interzoid-cli");
+        try {
+            assertEquals(0, run("John Smith\n", "key", "--type=fullname", "--cache-dir=" + directory));
+            out.reset();
+            err.reset();
+            assertEquals(0, run("John Smith\n", "key", "--type=fullname", "--cache-dir=" + directory));
+
+            assertEquals(1, requests.get());
+            assertEquals("John Smith\t" + SIM_KEY + "\n", output());
+            assertTrue(errors().contains("1 records, 0 failed, 1 from cache"));
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+            }
+        }
+    }
+
+    @Test
+    public void key_reportsRecordsMissingTheColumn() throws IOException {
+        int status = run("John Smith\n", "score", "--type=fullname");
+
+        assertEquals(1, status);
+        assertEquals("John Smith\t\n", output());
+        assertTrue(errors().contains("line 1: the record has 1 field(s), column 2 is missing"));
+    }
+
+    @Test
+    public void run_rejectsInvalidArguments() throws IOException {
+        assertEquals(2, run("", "key"));
+        assertTrue(errors().contains("--type is required"));
+        assertEquals(2, run("", "key", "--type=fullname", "--format=xml"));
+        assertEquals(2, run("", "match", "--type=fullname"));
+        assertEquals(2, InterzoidCli.run(new String[]{"key", "--type=fullname"}, System.in, out,
+                new PrintStream(err, true, StandardCharsets.UTF_8), null));
+        assertTrue(errors().contains("An API key is required"));
+    }
+
+    @Test
+    public void help_printsUsage() throws IOException {
+        assertEquals(0, InterzoidCli.run(new String[]{"help"}, System.in, out, new PrintStream(err, true, StandardCharsets.UTF_8), null));
+        assertEquals(InterzoidCli.USAGE, errors());
+    }
+
+    private int run(String input, String... args) throws IOException {
+        String[] allArgs = Stream.concat(Stream.of(args),
+                Stream.of("--api-key=test", "--api-base-url=http://127.0.0.1:" + server.getAddress().getPort()))
+                .toArray(String[]::new);
+        return InterzoidCli.run(allArgs, new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), out,
+                new PrintStream(err, true, StandardCharsets.UTF_8), null);
+    }
+
+    private String output() {
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private String errors() {
+        return err.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,52 @@
+package com.interzoid.sdk.cli;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OutputFormatTest {
+    private static final String[] HEADER = {"name", "city"};
+    private static final String[] FIELDS = {"Smith, \"Jr\"", "Boston"};
+
+    @Test
+    public void tsv_writesFieldsAndResult() throws IOException {
+        assertEquals("name\tcity\tsimkey\nSmith, \"Jr\"\tBoston\tk1\nSmith, \"Jr\"\tBoston\t\n", write(OutputFormat.TSV));
+    }
+
+    @Test
+    public void csv_quotesFieldsWhenNeeded() throws IOException {
+        assertEquals("name,city,simkey\n\"Smith, \"\"Jr\"\"\",Boston,k1\n\"Smith, \"\"Jr\"\"\",Boston,\n", write(OutputFormat.CSV));
+    }
+
+    @Test
+    public void jsonl_namesFieldsByHeaderAndCarriesErrors() throws IOException {
+        assertEquals("{\"name\":\"Smith, \\\"Jr\\\"\",\"city\":\"Boston\",\"simkey\":\"k1\"}\n"
+                        + "{\"name\":\"Smith, \\\"Jr\\\"\",\"city\":\"Boston\",\"simkey\":null,\"error\":\"Bad\\trequest\"}\n",
+                write(OutputFormat.JSONL));
+    }
+
+    @Test
+    public void jsonl_listsFieldsWithoutHeader() throws IOException {
+        StringWriter out = new StringWriter();
+        OutputFormat.JSONL.writeRow(out, null, FIELDS, "score", "85", null);
+        assertEquals("{\"input\":[\"Smith, \\\"Jr\\\"\",\"Boston\"],\"score\":\"85\"}\n", out.toString());
+    }
+
+    @Test
+    public void of_acceptsNamesInAnyCase() {
+        assertSame(OutputFormat.CSV, OutputFormat.of("CSV"));
+        assertSame(OutputFormat.JSONL, OutputFormat.of("jsonl"));
+        assertThrows(IllegalArgumentException.class, () -> OutputFormat.of("xml"));
+    }
+
+    private static String write(OutputFormat format) throws IOException {
+        StringWriter out = new StringWriter();
+        format.writeHeader(out, HEADER, "simkey");
+        format.writeRow(out, HEADER, FIELDS, "simkey", "k1", null);
+        format.writeRow(out, HEADER, FIELDS, "simkey", null, "Bad\trequest");
+        return out.toString();
+    }
+}
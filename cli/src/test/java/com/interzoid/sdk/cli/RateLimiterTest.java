@@ -0,0 +1,33 @@
+package com.interzoid.sdk.cli;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RateLimiterTest {
+
+    @Test
+    public void acquire_spacesPermitsEvenly() throws InterruptedException {
+        RateLimiter rateLimiter = new RateLimiter(100);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 11; i++) {
+            rateLimiter.acquire();
+        }
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(millis >= 95, "11 permits at 100 per second took " + millis + " ms");
+        assertTrue(rateLimiter.getWaitSeconds() >= 0.095);
+    }
+
+    @Test
+    public void acquire_doesNotWaitForTheFirstPermit() throws InterruptedException {
+        RateLimiter rateLimiter = new RateLimiter(0.001);
+
+        rateLimiter.acquire();
+
+        assertEquals(0.0, rateLimiter.getWaitSeconds());
+    }
+}
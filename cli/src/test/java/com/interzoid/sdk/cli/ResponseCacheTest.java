@@ -0,0 +1,58 @@
+package com.interzoid.sdk.cli;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResponseCacheTest {
+
+    @Test
+    public void get_countsHitsAndMisses() throws IOException {
+        try (ResponseCache cache = ResponseCache.open(null, "getfullnamematch", "getfullnamematch")) {
+            String key = ResponseCache.key(new String[]{"John Smith"});
+            assertNull(cache.get(key));
+            cache.put(key, "k1");
+            assertEquals("k1", cache.get(key));
+
+            assertEquals(1, cache.getHits());
+            assertEquals(1, cache.getMisses());
+            assertEquals(1, cache.size());
+        }
+    }
+
+    @Test
+    public void open_readsResultsWrittenByAnEarlierRun() throws IOException {
+        Path directory = Files.createTempDirectory("interzoid-cache");
+        try {
+            String key = ResponseCache.key(new String[]{"IBM", "International\tBusiness\\Machines\n"});
+            try (ResponseCache cache = ResponseCache.open(directory, "getorgmatchscore", "getorgmatchscore")) {
+                cache.put(key, "85");
+            }
+            assertTrue(Files.exists(directory.resolve("getorgmatchscore.tsv")));
+
+            try (ResponseCache cache = ResponseCache.open(directory, "getorgmatchscore", "getorgmatchscore")) {
+                assertEquals("85", cache.get(key));
+                assertNull(cache.get(ResponseCache.key(new String[]{"IBM", "Apple"})));
+            }
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+            }
+        }
+    }
+
+    @Test
+    public void escape_roundTripsSeparators() {
+        String value = "a\tb\\c\nd\re";
+
+        assertFalse(ResponseCache.escape(value).contains("\t"));
+        assertEquals(value, ResponseCache.unescape(ResponseCache.escape(value)));
+        assertSame("plain", ResponseCache.escape("plain"));
+    }
+}
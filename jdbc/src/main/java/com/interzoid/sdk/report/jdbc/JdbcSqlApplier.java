@@ -0,0 +1,537 @@
+package com.interzoid.sdk.report.jdbc;
+
+import com.interzoid.sdk.api.ReportReader;
+import com.interzoid.sdk.report.GenSqlParser;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * <h2>Applying Generated SQL</h2>
+ *
+ * <p>Applies the statements of a {@link com.interzoid.sdk.model.Process#GEN_SQL} report to a database through JDBC, reading
+ * the report with a {@link GenSqlParser} as it arrives, so that a report of any size is applied in bounded memory.</p>
+ *
+ * <p>Statements are spread over {@link Builder#withParallelism(int) several connections} by the hash of their
+ * {@link Builder#withPartitionKey(Function) partition key}, by default the {@link GenSqlParser#targetKeys() table, column
+ * and value} identifying the row they write, so that statements writing the same row run on the same connection in the
+ * order of the report. The default key assumes that the column identifying a row comes first in the inserts of the
+ * report. Statements without a key, such as {@code CREATE TABLE}, {@code CREATE INDEX}, statements writing several rows,
+ * or statements identifying their row by another column than the statement before them on the same table, are barriers:
+ * every connection
+ * first commits the statements before them, then they are applied alone, and only then are the statements after them
+ * dispatched. Each connection sends its statements in JDBC batches and commits every
+ * {@link Builder#withCommitInterval(int) commit interval} statements. After each commit the {@link SqlCheckpoint} of the
+ * report is passed to the checkpoint listener; if a statement fails, the transactions in progress are rolled back and
+ * {@link #apply(Reader, SqlCheckpoint)} resumes from the last checkpoint without applying any statement twice.</p>
+ *
+ * <p>An applier is immutable and thread-safe; each call of {@code apply} uses connections of its own.</p>
+ *
+ * <h3>Example</h3>
+ * <pre>{@code
+ * JdbcSqlApplier applier = new JdbcSqlApplier.Builder(dataSource)
+ *   .withBatchSize(1000)
+ *   .withParallelism(8)
+ *   .withCheckpointListener(checkpoint -> Files.writeString(checkpointFile, checkpoint.toString()))
+ *   .build();
+ *
+ * CloudWorkload<SqlApplyResult> workload = api.startWorkload(genSqlRequest, applier.asReportReader());
+ * System.out.println(workload.await().getStatements() + " statements applied");
+ * }</pre>
+ *
+ * @see GenSqlParser
+ * @see SqlCheckpoint
+ */
+public final class JdbcSqlApplier {
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    private static final long POLL_MILLIS = 50;
+
+    private final DataSource dataSource;
+    private final int batchSize;
+    private final int parallelism;
+    private final int commitInterval;
+    private final Supplier<? extends Function<String, ?>> partitionKeys;
+    private final Consumer<SqlCheckpoint> checkpointListener;
+
+    /**
+     * The builder class for {@link JdbcSqlApplier}.
+     */
+    public static class Builder {
+        /**
+         * The default number of statements sent in a JDBC batch, 500.
+         */
+        public static final int DEFAULT_BATCH_SIZE = 500;
+        /**
+         * The default number of connections applying statements at once, 4.
+         */
+        public static final int DEFAULT_PARALLELISM = 4;
+        /**
+         * The default number of statements a connection applies between commits, 10000.
+         */
+        public static final int DEFAULT_COMMIT_INTERVAL = 10_000;
+
+        private final DataSource dataSource;
+        private int batchSize = DEFAULT_BATCH_SIZE;
+        private int parallelism = DEFAULT_PARALLELISM;
+        private int commitInterval = DEFAULT_COMMIT_INTERVAL;
+        private Supplier<? extends Function<String, ?>> partitionKeys = GenSqlParser::targetKeys;
+        private Consumer<SqlCheckpoint> checkpointListener = checkpoint -> {
+        };
+
+        /**
+         * Constructs a builder of appliers writing to the given database.
+         *
+         * @param dataSource the source of the connections to the database
+         */
+        public Builder(DataSource dataSource) {
+            this.dataSource = Objects.requireNonNull(dataSource, "dataSource");
+        }
+
+        /**
+         * Specifies the number of statements each connection sends in a JDBC batch.
+         *
+         * @param batchSize the number of statements, greater than zero
+         * @return the current builder instance, allowing for method chaining
+         */
+        public Builder withBatchSize(int batchSize) {
+            this.batchSize = checkPositive(batchSize, "batchSize");
+            return this;
+        }
+
+        /**
+         * Specifies the number of connections applying statements at once. Resuming from a checkpoint requires the
+         * parallelism of the run that wrote it.
+         *
+         * @param parallelism the number of connections, greater than zero
+         * @return the current builder instance, allowing for method chaining
+         */
+        public Builder withParallelism(int parallelism) {
+            this.parallelism = checkPositive(parallelism, "parallelism");
+            return this;
+        }
+
+        /**
+         * Specifies the number of statements each connection applies between commits. A connection commits after the
+         * first batch reaching the interval, and after its last statement.
+         *
+         * @param commitInterval the number of statements, greater than zero
+         * @return the current builder instance, allowing for method chaining
+         */
+        public Builder withCommitInterval(int commitInterval) {
+            this.commitInterval = checkPositive(commitInterval, "commitInterval");
+            return this;
+        }
+
+        /**
+         * Specifies the key partitioning statements over connections: statements with equal keys run on the same
+         * connection, in the order of the report, and statements with a null key are applied alone, after all the
+         * statements before them are committed. Statements writing the same row must have the same key, or one of them
+         * a null key, or they may be applied out of order. The key is applied to every statement of a report in order,
+         * from the reading thread, and must give the same keys when the report is read again. Resuming from a
+         * checkpoint requires the partition key of the run that wrote it.
+         * <p>
+         * The default, {@link GenSqlParser#targetKeys()}, keys statements by the row they write, assuming that the column
+         * identifying a row comes first in inserts.
+         * </p>
+         *
+         * @param partitionKey the key of a statement
+         * @return the current builder instance, allowing for method chaining
+         */
+        public Builder withPartitionKey(Function<String, ?> partitionKey) {
+            Objects.requireNonNull(partitionKey, "partitionKey");
+            this.partitionKeys = () -> partitionKey;
+            return this;
+        }
+
+        /**
+         * Specifies the listener receiving the checkpoint of the report after each commit. It is called on the thread of
+         * the committing connection, one call at a time, and must return quickly.
+         *
+         * @param checkpointListener the listener
+         * @return the current builder instance, allowing for method chaining
+         */
+        public Builder withCheckpointListener(Consumer<SqlCheckpoint> checkpointListener) {
+            this.checkpointListener = Objects.requireNonNull(checkpointListener, "checkpointListener");
+            return this;
+        }
+
+        /**
+         * Constructs a new {@code JdbcSqlApplier} with the current settings of this builder.
+         *
+         * @return a new {@code JdbcSqlApplier} instance
+         */
+        public JdbcSqlApplier build() {
+            return new JdbcSqlApplier(this);
+        }
+
+        private static int checkPositive(int value, String name) {
+            if (value < 1) {
+                throw new IllegalArgumentException(name + " must be greater than 0");
+            }
+            return value;
+        }
+    }
+
+    private JdbcSqlApplier(Builder builder) {
+        this.dataSource = builder.dataSource;
+        this.batchSize = builder.batchSize;
+        this.parallelism = builder.parallelism;
+        this.commitInterval = builder.commitInterval;
+        this.partitionKeys = builder.partitionKeys;
+        this.checkpointListener = builder.checkpointListener;
+    }
+
+    /**
+     * Applies a SQL report from its first statement. The reader is not closed.
+     *
+     * @param sql the report
+     * @return the outcome of the run
+     * @throws SqlApplyException if a statement fails, or the report cannot be read or parsed
+     */
+    public SqlApplyResult apply(Reader sql) throws SqlApplyException {
+        return apply(sql, SqlCheckpoint.empty(parallelism));
+    }
+
+    /**
+     * Applies the statements of a SQL report not committed at a checkpoint, written by an earlier run over the same
+     * report with the same parallelism and partition key. The reader is not closed.
+     *
+     * @param sql        the report
+     * @param resumeFrom the checkpoint of the earlier run
+     * @return the outcome of the run
+     * @throws SqlApplyException if a statement fails, or the report cannot be read or parsed
+     */
+    public SqlApplyResult apply(Reader sql, SqlCheckpoint resumeFrom) throws SqlApplyException {
+        Objects.requireNonNull(sql, "sql");
+        if (Objects.requireNonNull(resumeFrom, "resumeFrom").getPartitions() != parallelism) {
+            throw new IllegalArgumentException("The checkpoint has " + resumeFrom.getPartitions()
+                    + " partitions but the parallelism is " + parallelism);
+        }
+        return new Run(resumeFrom).apply(new GenSqlParser(sql));
+    }
+
+    /**
+     * Creates a {@link ReportReader} applying the report of a {@code GEN_SQL} workload as it arrives, for
+     * {@link com.interzoid.sdk.api.CloudDatabaseMatchKeyReportApi#startWorkload}. The reader resumes each report it reads
+     * from the last checkpoint it committed, so that reading a report again after a failure, such as in a retried workload,
+     * applies only the statements not yet committed. Failures are thrown as an {@link IOException} caused by a
+     * {@link SqlApplyException}.
+     *
+     * @return a reader completing with the outcome of the run
+     */
+    public ReportReader<SqlApplyResult> asReportReader() {
+        AtomicReference<SqlCheckpoint> checkpoint = new AtomicReference<>(SqlCheckpoint.empty(parallelism));
+        return (body, charset) -> {
+            try {
+                SqlApplyResult result = apply(new InputStreamReader(body, charset), checkpoint.get());
+                checkpoint.set(result.getCheckpoint());
+                return result;
+            } catch (SqlApplyException e) {
+                checkpoint.set(e.getCheckpoint());
+                throw new IOException(e.getMessage(), e);
+            }
+        };
+    }
+
+    /**
+     * A statement and its index in the report, or a request to commit the statements queued before a barrier.
+     */
+    private static final class Item {
+        static final Item END = new Item(-1, null, null);
+
+        final long index;
+        final String sql;
+        final CountDownLatch drained;
+
+        Item(long index, String sql, CountDownLatch drained) {
+            this.index = index;
+            this.sql = sql;
+            this.drained = drained;
+        }
+    }
+
+    /**
+     * The state of one call of {@code apply}: the reading thread dispatches statements to the queues of the connections,
+     * which apply and commit them.
+     */
+    private final class Run {
+        private final long[] resumeFrom;
+        private final long[] lastCommitted;
+        private long committedStatements;
+        private final LongAdder batches = new LongAdder();
+        private final LongAdder commits = new LongAdder();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Run(SqlCheckpoint checkpoint) {
+            this.resumeFrom = checkpoint.lastCommitted();
+            this.lastCommitted = checkpoint.lastCommitted();
+            this.committedStatements = checkpoint.getCommittedStatements();
+        }
+
+        SqlApplyResult apply(GenSqlParser parser) throws SqlApplyException {
+            long startNanos = System.nanoTime();
+            ExecutorService executor = Executors.newFixedThreadPool(parallelism, threadFactory());
+            List<BlockingQueue<Item>> queues = new ArrayList<>(parallelism);
+            List<Future<?>> workers = new ArrayList<>(parallelism);
+            for (int p = 0; p < parallelism; p++) {
+                BlockingQueue<Item> queue = new ArrayBlockingQueue<>(2 * batchSize);
+                int partition = p;
+                queues.add(queue);
+                workers.add(executor.submit(() -> applyPartition(partition, queue)));
+            }
+            Function<String, ?> partitionKey = partitionKeys.get();
+            long statements = 0;
+            long skipped = 0;
+            try {
+                for (String sql = parser.nextStatement(); sql != null && failure.get() == null; sql = parser.nextStatement()) {
+                    long index = parser.getStatementCount() - 1;
+                    Object key = partitionKey.apply(sql);
+                    if (key == null) {
+                        if (index <= Arrays.stream(resumeFrom).min().orElse(-1)) {
+                            skipped++;
+                        } else if (applyBarrier(queues, index, sql)) {
+                            statements++;
+                        }
+                        continue;
+                    }
+                    int partition = Math.floorMod(key.hashCode(), parallelism);
+                    if (index <= resumeFrom[partition]) {
+                        skipped++;
+                    } else if (offer(queues.get(partition), new Item(index, sql, null))) {
+                        statements++;
+                    }
+                }
+                for (BlockingQueue<Item> queue : queues) {
+                    offer(queue, Item.END);
+                }
+                for (Future<?> worker : workers) {
+                    worker.get();
+                }
+            } catch (InterruptedException e) {
+                fail(e);
+                Thread.currentThread().interrupt();
+            } catch (IOException | SQLException | RuntimeException e) {
+                fail(e);
+            } catch (ExecutionException e) {
+                fail(e.getCause());
+            } finally {
+                executor.shutdown();
+                awaitTermination(executor);
+            }
+            Throwable error = failure.get();
+            if (error != null) {
+                throw new SqlApplyException("Applying the SQL report failed: " + error, checkpoint(), error);
+            }
+            return new SqlApplyResult(statements, skipped, batches.sum(), commits.sum(), checkpoint(),
+                    Duration.ofNanos(System.nanoTime() - startNanos));
+        }
+
+        /**
+         * Applies the statements of a partition on a connection of its own, until the end of the report or a failure.
+         */
+        private void applyPartition(int partition, BlockingQueue<Item> queue) {
+            try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+                boolean autoCommit = connection.getAutoCommit();
+                connection.setAutoCommit(false);
+                try {
+                    int batched = 0;
+                    int uncommitted = 0;
+                    long last = -1;
+                    for (Item item = take(queue); item != Item.END; item = take(queue)) {
+                        if (item == null) {
+                            connection.rollback();
+                            return;
+                        }
+                        if (item.drained != null) {
+                            if (batched > 0) {
+                                executeBatch(statement);
+                                batched = 0;
+                            }
+                            if (uncommitted > 0) {
+                                commit(connection, partition, last, uncommitted);
+                                uncommitted = 0;
+                            }
+                            item.drained.countDown();
+                            continue;
+                        }
+                        statement.addBatch(item.sql);
+                        last = item.index;
+                        uncommitted++;
+                        if (++batched == batchSize) {
+                            executeBatch(statement);
+                            batched = 0;
+                            if (uncommitted >= commitInterval) {
+                                commit(connection, partition, last, uncommitted);
+                                uncommitted = 0;
+                            }
+                        }
+                    }
+                    if (batched > 0) {
+                        executeBatch(statement);
+                    }
+                    if (uncommitted > 0) {
+                        commit(connection, partition, last, uncommitted);
+                    }
+                } catch (SQLException | RuntimeException e) {
+                    fail(e);
+                    connection.rollback();
+                } finally {
+                    connection.setAutoCommit(autoCommit);
+                }
+            } catch (SQLException | RuntimeException e) {
+                fail(e);
+            }
+        }
+
+        /**
+         * Applies a statement without a partition key once every connection has committed the statements queued before it.
+         *
+         * @return false if the run failed
+         */
+        private boolean applyBarrier(List<BlockingQueue<Item>> queues, long index, String sql)
+                throws InterruptedException, SQLException {
+            CountDownLatch drained = new CountDownLatch(parallelism);
+            Item drain = new Item(index, null, drained);
+            for (BlockingQueue<Item> queue : queues) {
+                if (!offer(queue, drain)) {
+                    return false;
+                }
+            }
+            while (!drained.await(POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (failure.get() != null) {
+                    return false;
+                }
+            }
+            try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+                boolean autoCommit = connection.getAutoCommit();
+                connection.setAutoCommit(false);
+                try {
+                    statement.execute(sql);
+                    connection.commit();
+                } catch (SQLException | RuntimeException e) {
+                    connection.rollback();
+                    throw e;
+                } finally {
+                    connection.setAutoCommit(autoCommit);
+                }
+            }
+            commits.increment();
+            synchronized (this) {
+                for (int p = 0; p < parallelism; p++) {
+                    lastCommitted[p] = Math.max(lastCommitted[p], index);
+                }
+                committedStatements++;
+                checkpointListener.accept(checkpoint());
+            }
+            return true;
+        }
+
+        private void executeBatch(Statement statement) throws SQLException {
+            statement.executeBatch();
+            batches.increment();
+        }
+
+        private void commit(Connection connection, int partition, long last, int statements) throws SQLException {
+            connection.commit();
+            commits.increment();
+            synchronized (this) {
+                lastCommitted[partition] = last;
+                committedStatements += statements;
+                checkpointListener.accept(checkpoint());
+            }
+        }
+
+        private synchronized SqlCheckpoint checkpoint() {
+            return new SqlCheckpoint(lastCommitted.clone(), committedStatements);
+        }
+
+        /**
+         * Takes the next statement of a partition.
+         *
+         * @return the statement, {@link Item#END}, or null if the run failed
+         */
+        private Item take(BlockingQueue<Item> queue) {
+            try {
+                Item item;
+                do {
+                    item = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (failure.get() != null) {
+                        return null;
+                    }
+                } while (item == null);
+                return item;
+            } catch (InterruptedException e) {
+                fail(e);
+                return null;
+            }
+        }
+
+        /**
+         * Queues a statement, waiting while the queue is full.
+         *
+         * @return false if the run failed
+         */
+        private boolean offer(BlockingQueue<Item> queue, Item item) throws InterruptedException {
+            while (!queue.offer(item, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (failure.get() != null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void fail(Throwable error) {
+            failure.compareAndSet(null, error);
+        }
+
+        private void awaitTermination(ExecutorService executor) {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    if (executor.awaitTermination(1, TimeUnit.DAYS)) {
+                        break;
+                    }
+                } catch (InterruptedException e) {
+                    fail(e);
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static ThreadFactory threadFactory() {
+        return runnable -> {
+            Thread thread = new Thread(runnable, "Interzoid SQL Applier " + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,37 @@
+package com.interzoid.sdk.report.jdbc;
+
+import java.sql.SQLException;
+
+/**
+ * Thrown when a {@link JdbcSqlApplier} fails to apply a SQL report. The transactions in progress are rolled back, and the
+ * checkpoint holds the statements committed before the failure, to resume from once the cause is fixed.
+ *
+ * @see JdbcSqlApplier#apply(java.io.Reader, SqlCheckpoint)
+ */
+public class SqlApplyException extends SQLException {
+    private static final long serialVersionUID = 1L;
+
+    private final transient SqlCheckpoint checkpoint;
+
+    /**
+     * Constructs a new SqlApplyException.
+     *
+     * @param message    the detail message
+     * @param checkpoint the statements committed before the failure
+     * @param cause      the error the report failed with
+     */
+    public SqlApplyException(String message, SqlCheckpoint checkpoint, Throwable cause) {
+        super(message, cause instanceof SQLException ? ((SQLException) cause).getSQLState() : null,
+                cause instanceof SQLException ? ((SQLException) cause).getErrorCode() : 0, cause);
+        this.checkpoint = checkpoint;
+    }
+
+    /**
+     * Gets the statements committed before the failure.
+     *
+     * @return the checkpoint to resume from
+     */
+    public SqlCheckpoint getCheckpoint() {
+        return checkpoint;
+    }
+}
@@ -0,0 +1,92 @@
+package com.interzoid.sdk.report.jdbc;
+
+import java.time.Duration;
+
+/**
+ * The outcome of applying a SQL report with a {@link JdbcSqlApplier}.
+ *
+ * @see JdbcSqlApplier#apply(java.io.Reader)
+ */
+public final class SqlApplyResult {
+    private final long statements;
+    private final long skippedStatements;
+    private final long batches;
+    private final long commits;
+    private final SqlCheckpoint checkpoint;
+    private final Duration elapsed;
+
+    SqlApplyResult(long statements, long skippedStatements, long batches, long commits, SqlCheckpoint checkpoint, Duration elapsed) {
+        this.statements = statements;
+        this.skippedStatements = skippedStatements;
+        this.batches = batches;
+        this.commits = commits;
+        this.checkpoint = checkpoint;
+        this.elapsed = elapsed;
+    }
+
+    /**
+     * Gets the number of statements executed by this run.
+     *
+     * @return the number of statements executed
+     */
+    public long getStatements() {
+        return statements;
+    }
+
+    /**
+     * Gets the number of statements skipped because the checkpoint the run resumed from had committed them.
+     *
+     * @return the number of statements skipped
+     */
+    public long getSkippedStatements() {
+        return skippedStatements;
+    }
+
+    /**
+     * Gets the number of JDBC batches executed, over all connections.
+     *
+     * @return the number of batches
+     */
+    public long getBatches() {
+        return batches;
+    }
+
+    /**
+     * Gets the number of transactions committed, over all connections.
+     *
+     * @return the number of commits
+     */
+    public long getCommits() {
+        return commits;
+    }
+
+    /**
+     * Gets the checkpoint of the whole report, in which every statement is committed.
+     *
+     * @return the final checkpoint
+     */
+    public SqlCheckpoint getCheckpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * Gets the time taken to apply the report.
+     *
+     * @return the elapsed time
+     */
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    @Override
+    public String toString() {
+        return "SqlApplyResult{" +
+                "statements=" + statements +
+                ", skippedStatements=" + skippedStatements +
+                ", batches=" + batches +
+                ", commits=" + commits +
+                ", checkpoint=" + checkpoint +
+                ", elapsed=" + elapsed +
+                '}';
+    }
+}
@@ -0,0 +1,136 @@
+package com.interzoid.sdk.report.jdbc;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * The statements of a SQL report committed by a {@link JdbcSqlApplier}. Each connection of the applier commits the
+ * statements of its partition in the order of the report, so a checkpoint holds, for each partition, the index of the last
+ * statement it committed. Applying the same report again from a checkpoint, with the same parallelism and partition key,
+ * skips exactly the statements already committed.
+ * <p>
+ * Checkpoints are immutable. {@link #toString()} and {@link #parse(String)} store them between runs, such as in a file or
+ * a table of the target database.
+ * </p>
+ *
+ * @see JdbcSqlApplier#apply(java.io.Reader, SqlCheckpoint)
+ */
+public final class SqlCheckpoint {
+    private final long[] lastCommitted;
+    private final long committedStatements;
+
+    SqlCheckpoint(long[] lastCommitted, long committedStatements) {
+        this.lastCommitted = lastCommitted;
+        this.committedStatements = committedStatements;
+    }
+
+    /**
+     * Creates the checkpoint of a report of which no statement is committed yet.
+     *
+     * @param partitions the number of partitions, the parallelism of the applier
+     * @return an empty checkpoint
+     */
+    public static SqlCheckpoint empty(int partitions) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("partitions must be positive");
+        }
+        long[] lastCommitted = new long[partitions];
+        Arrays.fill(lastCommitted, -1);
+        return new SqlCheckpoint(lastCommitted, 0);
+    }
+
+    /**
+     * Parses a checkpoint written by {@link #toString()}.
+     *
+     * @param checkpoint the checkpoint, such as {@code "120:57,61,-1,59"}
+     * @return the checkpoint
+     * @throws IllegalArgumentException if the checkpoint is invalid
+     */
+    public static SqlCheckpoint parse(String checkpoint) {
+        int colon = checkpoint.indexOf(':');
+        try {
+            if (colon < 0) {
+                throw new NumberFormatException();
+            }
+            long committedStatements = Long.parseLong(checkpoint.substring(0, colon));
+            long[] lastCommitted = Arrays.stream(checkpoint.substring(colon + 1).split(",", -1)).mapToLong(Long::parseLong).toArray();
+            if (committedStatements < 0 || Arrays.stream(lastCommitted).anyMatch(index -> index < -1)) {
+                throw new NumberFormatException();
+            }
+            return new SqlCheckpoint(lastCommitted, committedStatements);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid SQL checkpoint: " + checkpoint);
+        }
+    }
+
+    /**
+     * Gets the number of partitions of the checkpoint.
+     *
+     * @return the number of partitions
+     */
+    public int getPartitions() {
+        return lastCommitted.length;
+    }
+
+    /**
+     * Gets the number of statements committed.
+     *
+     * @return the number of statements committed, over all partitions
+     */
+    public long getCommittedStatements() {
+        return committedStatements;
+    }
+
+    /**
+     * Gets the index, from 0, of the last statement a partition committed.
+     *
+     * @param partition the partition
+     * @return the index of the statement in the report, or -1 if the partition committed none
+     */
+    public long getLastCommitted(int partition) {
+        return lastCommitted[partition];
+    }
+
+    /**
+     * Whether a statement is committed.
+     *
+     * @param partition the partition of the statement
+     * @param index     the index, from 0, of the statement in the report
+     * @return true if the statement is committed
+     */
+    public boolean isCommitted(int partition, long index) {
+        return index <= lastCommitted[partition];
+    }
+
+    long[] lastCommitted() {
+        return lastCommitted.clone();
+    }
+
+    /**
+     * Writes this checkpoint as the number of statements committed and the last statement committed by each partition,
+     * such as {@code "120:57,61,-1,59"}.
+     *
+     * @return the checkpoint, to be read by {@link #parse(String)}
+     */
+    @Override
+    public String toString() {
+        return committedStatements + ":" + Arrays.stream(lastCommitted).mapToObj(Long::toString).collect(Collectors.joining(","));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SqlCheckpoint)) {
+            return false;
+        }
+        SqlCheckpoint that = (SqlCheckpoint) o;
+        return committedStatements == that.committedStatements && Arrays.equals(lastCommitted, that.lastCommitted);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(committedStatements) + Arrays.hashCode(lastCommitted);
+    }
+}
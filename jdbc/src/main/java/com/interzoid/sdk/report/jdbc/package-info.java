@@ -0,0 +1,5 @@
+/**
+ * This package contains {@link com.interzoid.sdk.report.jdbc.JdbcSqlApplier}, which applies the statements of generated
+ * SQL reports, read with a {@link com.interzoid.sdk.report.GenSqlParser}, to a database through JDBC.
+ */
+package com.interzoid.sdk.report.jdbc;
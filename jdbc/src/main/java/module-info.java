@@ -0,0 +1,10 @@
+/**
+ * The JDBC applier of generated SQL reports, kept out of the core SDK so that only applications applying reports to a
+ * database read {@code java.sql}.
+ */
+module com.interzoid.sdk.report.jdbc {
+    requires transitive com.interzoid.sdk;
+    requires transitive java.sql;
+
+    exports com.interzoid.sdk.report.jdbc;
+}
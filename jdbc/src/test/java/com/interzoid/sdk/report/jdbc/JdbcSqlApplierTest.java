@@ -0,0 +1,215 @@
+package com.interzoid.sdk.report.jdbc;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JdbcSqlApplierTest {
+    private DataSource dataSource;
+    private Connection keepAlive;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        dataSource = dataSource("jdbc:h2:mem:" + UUID.randomUUID());
+        keepAlive = dataSource.getConnection();
+        execute("CREATE TABLE t (id INT PRIMARY KEY, v VARCHAR(20))");
+    }
+
+    @AfterEach
+    public void tearDown() throws SQLException {
+        keepAlive.close();
+    }
+
+    @Test
+    public void apply_batchesAndCommitsEachPartitionAtTheConfiguredIntervals() throws Exception {
+        List<SqlCheckpoint> checkpoints = new CopyOnWriteArrayList<>();
+        JdbcSqlApplier applier = new JdbcSqlApplier.Builder(dataSource)
+                .withParallelism(1)
+                .withBatchSize(100)
+                .withCommitInterval(250)
+                .withCheckpointListener(checkpoints::add)
+                .build();
+
+        SqlApplyResult result = applier.apply(new StringReader(inserts(0, 1000)));
+
+        assertEquals(1000, result.getStatements());
+        assertEquals(10, result.getBatches());
+        assertEquals(4, result.getCommits());
+        assertEquals(List.of(300L, 600L, 900L, 1000L),
+                checkpoints.stream().map(SqlCheckpoint::getCommittedStatements).collect(Collectors.toList()));
+        assertEquals(SqlCheckpoint.parse("1000:999"), result.getCheckpoint());
+        assertEquals(1000, count("t"));
+    }
+
+    @Test
+    public void apply_runsStatementsWritingTheSameRowInOrder() throws Exception {
+        StringBuilder report = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            report.append("INSERT INTO t (id, v) VALUES (").append(i).append(", 'a');\n");
+            report.append("UPDATE t SET v = 'b' WHERE id = ").append(i).append(";\n");
+        }
+        JdbcSqlApplier applier = new JdbcSqlApplier.Builder(dataSource)
+                .withParallelism(4)
+                .withBatchSize(7)
+                .withCommitInterval(30)
+                .build();
+
+        SqlApplyResult result = applier.apply(new StringReader(report.toString()));
+
+        assertEquals(1000, result.getStatements());
+        assertEquals(1000, result.getCheckpoint().getCommittedStatements());
+        assertEquals(500, count("t WHERE v = 'b'"));
+    }
+
+    @Test
+    public void apply_runsStatementsIdentifyingTheSameRowByDifferentColumnsInOrder() throws Exception {
+        execute("CREATE TABLE c (name VARCHAR(20), id INT PRIMARY KEY, simkey VARCHAR(20))");
+        StringBuilder report = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            report.append("INSERT INTO c (name, id, simkey) VALUES ('company ").append(i).append("', ").append(i)
+                    .append(", NULL);\n");
+        }
+        for (int i = 0; i < 200; i++) {
+            report.append("UPDATE \"C\" SET simkey = 'k").append(i).append("' WHERE id = '").append(i).append("';\n");
+        }
+        JdbcSqlApplier applier = new JdbcSqlApplier.Builder(dataSource)
+                .withParallelism(4)
+                .withBatchSize(10)
+                .withCommitInterval(40)
+                .build();
+
+        SqlApplyResult result = applier.apply(new StringReader(report.toString()));
+
+        assertEquals(400, result.getStatements());
+        assertEquals(200, count("c WHERE simkey = CONCAT('k', id)"));
+    }
+
+    @Test
+    public void apply_runsStatementsWithoutAKeyAfterTheStatementsBeforeThemAndBeforeTheStatementsAfterThem() throws Exception {
+        StringBuilder report = new StringBuilder("CREATE TABLE u (id INT PRIMARY KEY, v VARCHAR(20));\n");
+        for (int i = 0; i < 300; i++) {
+            report.append("INSERT INTO u (id, v) VALUES (").append(i).append(", 'a');\n");
+        }
+        report.append("CREATE INDEX u_v ON u (v);\n");
+        report.append("ALTER TABLE u ADD COLUMN w INT;\n");
+        for (int i = 0; i < 300; i++) {
+            report.append("UPDATE u SET w = ").append(i).append(" WHERE id = ").append(i).append(";\n");
+        }
+        JdbcSqlApplier applier = new JdbcSqlApplier.Builder(dataSource)
+                .withParallelism(4)
+                .withBatchSize(10)
+                .withCommitInterval(40)
+                .build();
+
+        SqlApplyResult result = applier.apply(new StringReader(report.toString()));
+
+        assertEquals(603, result.getStatements());
+        assertEquals(603, result.getCheckpoint().getCommittedStatements());
+        assertEquals(300, count("u WHERE w = id"));
+    }
+
+    @Test
+    public void apply_resumesFromTheCheckpointOfAFailedRunWithoutApplyingStatementsTwice() throws Exception {
+        String report = inserts(0, 700) + "INSERT INTO audit (id) VALUES (700);\n" + inserts(701, 1000);
+        JdbcSqlApplier applier = new JdbcSqlApplier.Builder(dataSource)
+                .withParallelism(4)
+                .withBatchSize(20)
+                .withCommitInterval(50)
+                .build();
+
+        SqlApplyException e = assertThrows(SqlApplyException.class, () -> applier.apply(new StringReader(report)));
+        SqlCheckpoint checkpoint = SqlCheckpoint.parse(e.getCheckpoint().toString());
+        assertTrue(checkpoint.getCommittedStatements() < 1000);
+        assertEquals(checkpoint.getCommittedStatements(), count("t"));
+
+        execute("CREATE TABLE audit (id INT PRIMARY KEY)");
+        SqlApplyResult result = applier.apply(new StringReader(report), checkpoint);
+
+        assertEquals(checkpoint.getCommittedStatements(), result.getSkippedStatements());
+        assertEquals(1000, result.getSkippedStatements() + result.getStatements());
+        assertEquals(1000, result.getCheckpoint().getCommittedStatements());
+        assertEquals(999, count("t"));
+        assertEquals(1, count("audit"));
+    }
+
+    @Test
+    public void apply_rejectsCheckpointsOfAnotherParallelism() {
+        JdbcSqlApplier applier = new JdbcSqlApplier.Builder(dataSource).withParallelism(2).build();
+
+        assertThrows(IllegalArgumentException.class, () -> applier.apply(new StringReader(""), SqlCheckpoint.empty(4)));
+        assertThrows(IllegalArgumentException.class, () -> SqlCheckpoint.parse("12:3,x"));
+    }
+
+    @Test
+    public void asReportReader_appliesTheReportItReads() throws Exception {
+        execute("CREATE TABLE companies_simkeys (name VARCHAR(100), simkey VARCHAR(100))");
+        StringBuilder report = new StringBuilder();
+        for (int cluster = 0; cluster < 300; cluster++) {
+            for (int record = 0; record < 4; record++) {
+                report.append("INSERT INTO companies_simkeys (name, simkey) VALUES ('company ").append(cluster).append('-')
+                        .append(record).append("', 'simkey ").append(cluster).append("');\n");
+            }
+        }
+        JdbcSqlApplier applier = new JdbcSqlApplier.Builder(dataSource).withBatchSize(50).build();
+
+        SqlApplyResult result = applier.asReportReader()
+                .read(new ByteArrayInputStream(report.toString().getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8);
+
+        assertEquals(1200, result.getStatements());
+        assertEquals(1200, count("companies_simkeys"));
+        assertEquals(300, count("(SELECT DISTINCT simkey FROM companies_simkeys)"));
+    }
+
+    /**
+     * A data source of an embedded H2 database, which keeps its content while {@link #keepAlive} is open.
+     */
+    private static DataSource dataSource(String url) {
+        return (DataSource) Proxy.newProxyInstance(JdbcSqlApplierTest.class.getClassLoader(), new Class<?>[]{DataSource.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("getConnection") || args != null) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    return DriverManager.getConnection(url);
+                });
+    }
+
+    private static String inserts(int from, int to) {
+        StringBuilder sql = new StringBuilder();
+        for (int i = from; i < to; i++) {
+            sql.append("INSERT INTO t (id, v) VALUES (").append(i).append(", 'row ").append(i).append("');\n");
+        }
+        return sql.toString();
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private long count(String from) throws SQLException {
+        try (Statement statement = keepAlive.createStatement(); ResultSet rows = statement.executeQuery("SELECT COUNT(*) FROM " + from)) {
+            rows.next();
+            return rows.getLong(1);
+        }
+    }
+}
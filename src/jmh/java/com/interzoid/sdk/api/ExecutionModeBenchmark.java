@@ -0,0 +1,133 @@
+package com.interzoid.sdk.api;
+
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares running blocking calls on platform threads with running each call on its own virtual thread.
+ * <ul>
+ *     <li>{@code blockingCalls}: submits {@code concurrentCalls} tasks that block for {@code latencyMillis}, the way a
+ *     blocking {@code InterzoidApi} call waits on its socket, to a fixed pool of {@code platformThreads} threads or a
+ *     virtual thread per task, and waits for all of them</li>
+ *     <li>{@code transportCalls}: makes {@code concurrentCalls} asynchronous calls through a default {@link OkHttpTransport}
+ *     to a local server answering after {@code latencyMillis}, so the calls also go through the OkHttp dispatcher. Every
+ *     concurrency is above the {@value OkHttpTransport.Builder#DEFAULT_MAX_CONCURRENT_REQUESTS} calls per host the
+ *     dispatcher allows on platform threads. The local server adds up to a millisecond per call, so the
+ *     latency is long enough for the waiting to dominate.</li>
+ * </ul>
+ * The {@code virtual} mode requires Java 21 and the SDK built on JDK 21; run with {@code -prof gc} to compare allocation as
+ * well as throughput. The local server speaks HTTP/1.1, so {@code transportCalls} opens a connection per concurrent call
+ * and may need a higher {@code ulimit -n}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Dsun.net.httpserver.nodelay=true", "-Dsun.net.httpserver.maxIdleConnections=2000"})
+public class ExecutionModeBenchmark {
+    private static final byte[] RESPONSE = "{\"Code\":\"Success\",\"Credits\":\"9999\",\"SimKey\":\"N1Ai4RfV0SThJTIMXmjSBsJVIsjm0kbmwqqaUlhxHTQ\"}"
+            .getBytes(StandardCharsets.UTF_8);
+    private static final Map<String, String> HEADERS = Map.of("x-api-key", "benchmark");
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    @Param({"256", "1000"})
+    public int concurrentCalls;
+
+    @Param({"100"})
+    public long latencyMillis;
+
+    @Param({"200"})
+    public int platformThreads;
+
+    private ExecutorService executor;
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private URI uri;
+    private Transport transport;
+
+    @Setup
+    public void setUp() throws Exception {
+        if (mode.equals("platform")) {
+            executor = Executors.newFixedThreadPool(platformThreads);
+        } else {
+            // resolved reflectively so the benchmarks compile against Java 11
+            executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        }
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), concurrentCalls);
+        server.createContext("/getfullnamematch", exchange -> {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, RESPONSE.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(RESPONSE);
+            }
+        });
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+        uri = InterzoidApi.buildUri("http://127.0.0.1:" + server.getAddress().getPort() + "/getfullnamematch",
+                Map.of("fullname", "John Smith"));
+
+        // read when the transport is built, each parameter combination runs in its own fork
+        System.setProperty(RequestExecutors.PLATFORM_THREADS_PROPERTY, Boolean.toString(mode.equals("platform")));
+        if (RequestExecutors.usesVirtualThreads() != mode.equals("virtual")) {
+            throw new IllegalStateException("The Java 21 classes of the SDK are not on the classpath");
+        }
+        transport = new OkHttpTransport.Builder()
+                .withConnectionPool(concurrentCalls, OkHttpTransport.Builder.DEFAULT_KEEP_ALIVE)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public void blockingCalls() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(concurrentCalls);
+        for (int i = 0; i < concurrentCalls; i++) {
+            executor.execute(() -> {
+                try {
+                    Thread.sleep(latencyMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+
+    @Benchmark
+    public void transportCalls() {
+        CompletableFuture<?>[] calls = new CompletableFuture<?>[concurrentCalls];
+        for (int i = 0; i < concurrentCalls; i++) {
+            calls[i] = transport.getAsync(uri, HEADERS);
+        }
+        CompletableFuture.allOf(calls).join();
+    }
+}
@@ -0,0 +1,271 @@
+package com.interzoid.sdk.api;
+
+import com.interzoid.sdk.metrics.LatencyHistogram;
+import com.interzoid.sdk.model.FullNameMatchKeyRequest;
+import com.interzoid.sdk.model.MatchKeyResponse;
+import com.interzoid.sdk.testing.FakeInterzoidServer;
+import com.interzoid.sdk.testing.LatencyDistribution;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * <p>Load-generation harness measuring how batch throughput scales with concurrency, connection pool size and dataset size.</p>
+ *
+ * <p>Every combination of the swept parameters runs a dataset of full names through {@link FullNameMatchKeyApi} against a
+ * {@link FakeInterzoidServer} with log-normal server latency, and prints one CSV row: requests per second, client-side
+ * p50/p99/p99.9 latency, and the garbage collections and heap usage of the run. Two execution modes are compared:</p>
+ * <ul>
+ *     <li>{@code async}: {@link StreamEnricher} over {@code doRequestAsync} with {@code concurrency} calls in flight</li>
+ *     <li>{@code sync}: blocking {@code doRequest} calls from a pool of {@code concurrency} threads</li>
+ * </ul>
+ * <p>Each run uses a fresh transport whose pool keeps {@code connections} idle connections and allows as many concurrent calls
+ * to the host. A fraction {@code duplicates} of each dataset repeats earlier records, as real customer files do.</p>
+ *
+ * <p>Options, lists are comma-separated:</p>
+ * <pre>
+ * --modes=async,sync        --concurrency=1,8,64     --connections=1,8,64
+ * --dataset=1000,10000      --duplicates=0.0,0.3     --latency-ms=20
+ * --latency-sigma=0.5       --warm-up=200            --seed=42
+ * --out=results.csv         (default: standard output)
+ * </pre>
+ *
+ * <p>Run with {@code mvn -Pjmh test-compile exec:exec@load-harness -Dharness.args="--dataset=1000"} or
+ * {@code gradle loadHarness --args="--dataset=1000"}.</p>
+ */
+public final class LoadHarness {
+    static final String CSV_HEADER = "mode,concurrency,connections,dataset,duplicate_rate,unique_records,requests,errors,"
+            + "duration_ms,requests_per_sec,p50_ms,p99_ms,p999_ms,gc_count,gc_time_ms,heap_used_mb,heap_peak_mb";
+
+    private final Map<String, String> options;
+
+    private LoadHarness(Map<String, String> options) {
+        this.options = options;
+    }
+
+    /**
+     * Runs the sweep.
+     *
+     * @param args the options, see the class documentation
+     * @throws Exception if the fake server cannot start or the output cannot be written
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Options must be given as --name=value: " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        // the JDK HTTP server delays small responses by Nagle's algorithm otherwise
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        new LoadHarness(options).run();
+    }
+
+    private void run() throws Exception {
+        List<String> modes = strings("modes", "async,sync");
+        int[] concurrencies = ints("concurrency", "1,8,64");
+        int[] connections = ints("connections", "1,8,64");
+        int[] datasetSizes = ints("dataset", "1000,10000");
+        double[] duplicateRates = doubles("duplicates", "0.0,0.3");
+        Duration latency = Duration.ofMillis(Long.parseLong(options.getOrDefault("latency-ms", "20")));
+        double sigma = Double.parseDouble(options.getOrDefault("latency-sigma", "0.5"));
+        int warmUp = Integer.parseInt(options.getOrDefault("warm-up", "200"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        String out = options.get("out");
+
+        try (FakeInterzoidServer server = new FakeInterzoidServer.Builder()
+                .withLatency(latency.isZero() ? LatencyDistribution.NONE : LatencyDistribution.logNormal(latency, sigma))
+                .withSeed(seed)
+                .withCredits(Long.MAX_VALUE)
+                .build()
+                .start();
+             Writer writer = out != null
+                     ? new FileWriter(out, StandardCharsets.UTF_8)
+                     : new PrintWriter(System.out)) {
+            PrintWriter csv = new PrintWriter(writer, true);
+            csv.println(CSV_HEADER);
+            for (int datasetSize : datasetSizes) {
+                for (double duplicateRate : duplicateRates) {
+                    List<String> dataset = dataset(datasetSize, duplicateRate, seed);
+                    for (String mode : modes) {
+                        for (int concurrency : concurrencies) {
+                            for (int poolSize : connections) {
+                                FullNameMatchKeyApi api = new FullNameMatchKeyApi.Builder()
+                                        .withApiBaseUrl(server.getApiBaseUrl())
+                                        .withConnectionPool(poolSize, Duration.ofMinutes(5))
+                                        .withMaxConcurrentRequests(poolSize)
+                                        .build();
+                                run(mode, api, dataset.subList(0, Math.min(warmUp, dataset.size())), concurrency);
+                                Result result = measure(mode, api, dataset, concurrency);
+                                csv.println(String.join(",", mode, String.valueOf(concurrency), String.valueOf(poolSize),
+                                        String.valueOf(datasetSize), String.valueOf(duplicateRate),
+                                        String.valueOf(new HashSet<>(dataset).size()), result.toCsv()));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Generates full names, each record repeating a random earlier one with the given probability.
+     */
+    static List<String> dataset(int size, double duplicateRate, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<String> records = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (i > 0 && random.nextDouble() < duplicateRate) {
+                records.add(records.get(random.nextInt(i)));
+            } else {
+                records.add("First" + i + " Last" + random.nextInt(1_000_000));
+            }
+        }
+        return records;
+    }
+
+    private static Result measure(String mode, FullNameMatchKeyApi api, List<String> dataset, int concurrency)
+            throws InterruptedException {
+        System.gc();
+        List<MemoryPoolMXBean> heapPools = new ArrayList<>();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+                heapPools.add(pool);
+            }
+        }
+        long gcCount = gcCount();
+        long gcTime = gcTime();
+        long start = System.nanoTime();
+
+        Result result = run(mode, api, dataset, concurrency);
+
+        result.durationNanos = System.nanoTime() - start;
+        result.gcCount = gcCount() - gcCount;
+        result.gcTimeMillis = gcTime() - gcTime;
+        for (MemoryPoolMXBean pool : heapPools) {
+            result.heapUsedBytes += pool.getUsage().getUsed();
+            result.heapPeakBytes += pool.getPeakUsage().getUsed();
+        }
+        return result;
+    }
+
+    private static Result run(String mode, FullNameMatchKeyApi api, List<String> dataset, int concurrency)
+            throws InterruptedException {
+        switch (mode) {
+            case "async":
+                return runAsync(api, dataset, concurrency);
+            case "sync":
+                return runSync(api, dataset, concurrency);
+            default:
+                throw new IllegalArgumentException("Unknown mode: " + mode);
+        }
+    }
+
+    private static Result runAsync(FullNameMatchKeyApi api, List<String> dataset, int concurrency) {
+        Result result = new Result();
+        try (Stream<Enriched<String, MatchKeyResponse>> enriched = StreamEnricher.enrich(dataset.stream(), concurrency, name -> {
+            long start = System.nanoTime();
+            CompletableFuture<MatchKeyResponse> call = api.doRequestAsync(new FullNameMatchKeyRequest("load-harness", name));
+            return call.whenComplete((response, error) -> result.latency.record(System.nanoTime() - start));
+        })) {
+            enriched.forEach(e -> {
+                result.requests.increment();
+                if (!e.isSuccess()) {
+                    result.errors.increment();
+                }
+            });
+        }
+        return result;
+    }
+
+    private static Result runSync(FullNameMatchKeyApi api, List<String> dataset, int concurrency) throws InterruptedException {
+        Result result = new Result();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        for (String name : dataset) {
+            executor.execute(() -> {
+                long start = System.nanoTime();
+                try {
+                    api.doRequest(new FullNameMatchKeyRequest("load-harness", name));
+                } catch (Exception e) {
+                    result.errors.increment();
+                } finally {
+                    result.latency.record(System.nanoTime() - start);
+                    result.requests.increment();
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.HOURS);
+        return result;
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(gc.getCollectionCount(), 0);
+        }
+        return count;
+    }
+
+    private static long gcTime() {
+        long time = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(gc.getCollectionTime(), 0);
+        }
+        return time;
+    }
+
+    private List<String> strings(String name, String defaultValue) {
+        return Arrays.asList(options.getOrDefault(name, defaultValue).split(","));
+    }
+
+    private int[] ints(String name, String defaultValue) {
+        return strings(name, defaultValue).stream().mapToInt(Integer::parseInt).toArray();
+    }
+
+    private double[] doubles(String name, String defaultValue) {
+        return strings(name, defaultValue).stream().mapToDouble(Double::parseDouble).toArray();
+    }
+
+    /**
+     * The measurements of one run.
+     */
+    private static final class Result {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LongAdder requests = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        long durationNanos;
+        long gcCount;
+        long gcTimeMillis;
+        long heapUsedBytes;
+        long heapPeakBytes;
+
+        String toCsv() {
+            return String.format(Locale.ROOT, "%d,%d,%d,%.1f,%.3f,%.3f,%.3f,%d,%d,%.1f,%.1f",
+                    requests.sum(), errors.sum(), TimeUnit.NANOSECONDS.toMillis(durationNanos),
+                    requests.sum() * 1e9 / durationNanos,
+                    latency.getValueAtPercentile(50) / 1e6, latency.getValueAtPercentile(99) / 1e6,
+                    latency.getValueAtPercentile(99.9) / 1e6,
+                    gcCount, gcTimeMillis, heapUsedBytes / 1048576.0, heapPeakBytes / 1048576.0);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.interzoid.sdk.api;
+
+import com.interzoid.sdk.model.CloudDatabaseJsonResponse;
+import com.interzoid.sdk.model.FullNameMatchKeyRequest;
+import com.interzoid.sdk.model.MatchKeyResponse;
+import com.interzoid.sdk.validation.RequestValidator;
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.Moshi;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures each stage of {@code doRequest} in isolation, then the full round trip against a local HTTP server:
+ * <ul>
+ *     <li>{@code validate}: Bean Validation of the request</li>
+ *     <li>{@code validateBuiltIn}: the same constraints checked by {@link RequestValidator#builtIn()}</li>
+ *     <li>{@code buildParams}: building the query parameter map in {@link FullNameMatchKeyApi}</li>
+ *     <li>{@code buildUri}: encoding the request URI in {@link InterzoidApi#buildUri}</li>
+ *     <li>{@code createAdapter}: creating a Moshi instance and adapter, the per-call cost the API classes avoid by sharing static adapters</li>
+ *     <li>{@code decodeMatchKey} and {@code decodeCloudDatabase}: JSON decoding of a match key response and of a
+ *     Cloud Data Connect JSON report of 10 and 1000 clusters</li>
+ *     <li>{@code roundTrip}: {@link FullNameMatchKeyApi#doRequest} through the default OkHttp transport, sent to the local server as its API base URL</li>
+ * </ul>
+ * Each benchmark reports throughput and average time; run with {@code -prof gc} for allocation rates, for example
+ * {@code mvn -Pjmh test-compile exec:exec -Djmh.benchmarks="RequestPathBenchmark -prof gc"} or {@code gradle jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class RequestPathBenchmark {
+    private static final String MATCH_KEY_JSON = "{\"Code\":\"Success\",\"Credits\":\"9999\",\"SimKey\":\"N1Ai4RfV0SThJTIMXmjSBsJVIsjm0kbmwqqaUlhxHTQ\"}";
+
+    private HttpServer server;
+    private Validator validator;
+    private FullNameMatchKeyRequest request;
+    private JsonAdapter<MatchKeyResponse> matchKeyAdapter;
+    private FullNameMatchKeyApi api;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            validator = factory.getValidator();
+        }
+        request = new FullNameMatchKeyRequest("benchmark", "John Smith");
+        Moshi moshi = new Moshi.Builder().build();
+        matchKeyAdapter = moshi.adapter(MatchKeyResponse.class);
+
+        byte[] response = MATCH_KEY_JSON.getBytes(StandardCharsets.UTF_8);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        });
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.start();
+
+        api = new FullNameMatchKeyApi.Builder()
+                .withApiBaseUrl("http://127.0.0.1:" + server.getAddress().getPort() + "/")
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    /**
+     * A Cloud Data Connect JSON report with a configurable number of clusters of three records.
+     */
+    @State(Scope.Benchmark)
+    public static class CloudDatabaseReport {
+        @Param({"10", "1000"})
+        public int clusters;
+
+        private JsonAdapter<CloudDatabaseJsonResponse> adapter;
+        private String json;
+
+        @Setup
+        public void setUp() {
+            adapter = new Moshi.Builder().build().adapter(CloudDatabaseJsonResponse.class);
+            StringBuilder builder = new StringBuilder("{\"Status\":\"success\",\"Message\":\"\",\"MatchClusters\":[");
+            for (int i = 0; i < clusters; i++) {
+                builder.append(i == 0 ? "[" : ",[");
+                for (int j = 0; j < 3; j++) {
+                    builder.append(j == 0 ? "" : ",")
+                            .append("{\"Data\":\"Company ").append(i).append(" Inc").append(j)
+                            .append("\",\"Reference\":\"").append(i * 3 + j)
+                            .append("\",\"SimKey\":\"N1Ai4RfV0SThJTIMXmjSBsJVIsjm0kb").append(i).append("\"}");
+                }
+                builder.append(']');
+            }
+            json = builder.append("]}").toString();
+        }
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<FullNameMatchKeyRequest>> validate() {
+        return validator.validate(request);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<FullNameMatchKeyRequest>> validateBuiltIn() {
+        return RequestValidator.builtIn().validate(request);
+    }
+
+    @Benchmark
+    public Map<String, String> buildParams() {
+        return FullNameMatchKeyApi.params(request);
+    }
+
+    @Benchmark
+    public URI buildUri() {
+        return InterzoidApi.buildUri("https://api.interzoid.com/getfullnamematch", FullNameMatchKeyApi.params(request));
+    }
+
+    @Benchmark
+    public JsonAdapter<MatchKeyResponse> createAdapter() {
+        return new Moshi.Builder().build().adapter(MatchKeyResponse.class);
+    }
+
+    @Benchmark
+    public MatchKeyResponse decodeMatchKey() throws IOException {
+        return matchKeyAdapter.fromJson(MATCH_KEY_JSON);
+    }
+
+    @Benchmark
+    public CloudDatabaseJsonResponse decodeCloudDatabase(CloudDatabaseReport report) throws IOException {
+        return report.adapter.fromJson(report.json);
+    }
+
+    @Benchmark
+    public MatchKeyResponse roundTrip() throws Exception {
+        return api.doRequest(request);
+    }
+}
@@ -0,0 +1,55 @@
+package com.interzoid.sdk.api;
+
+import com.interzoid.sdk.model.FullNameMatchKeyRequest;
+import com.interzoid.sdk.model.MatchKeyResponse;
+import com.interzoid.sdk.testing.FakeInterzoidServer;
+import com.interzoid.sdk.validation.RequestValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cold start of a serverless function creating one {@link FullNameMatchKeyApi}: building the API and completing
+ * its first request against a {@link FakeInterzoidServer}, in a fresh JVM, which includes class loading and the bootstrap of
+ * the request validator.
+ * <ul>
+ *     <li>{@code builtIn}: the default validator of the core artifact, {@link RequestValidator#builtIn()}</li>
+ *     <li>{@code beanValidation}: {@link RequestValidator#beanValidation()}, bootstrapping Hibernate Validator and Jakarta EL,
+ *     as the {@code data-matching-sdk-bean-validation} module does</li>
+ * </ul>
+ * Run with {@code mvn -Pjmh test-compile exec:exec -Djmh.benchmarks="StartupBenchmark"} or {@code gradle jmh};
+ * add {@code -jvmArgsAppend -Xlog:class+load:file=classes.txt} to compare the classes loaded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(value = 20, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class StartupBenchmark {
+
+    @Param({"builtIn", "beanValidation"})
+    public String validator;
+
+    private FakeInterzoidServer server;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = new FakeInterzoidServer.Builder().build().start();
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public MatchKeyResponse firstRequest() throws Exception {
+        FullNameMatchKeyApi api = new FullNameMatchKeyApi.Builder()
+                .withApiBaseUrl(server.getApiBaseUrl())
+                .withRequestValidator(validator.equals("builtIn") ? RequestValidator.builtIn() : RequestValidator.beanValidation())
+                .build();
+        return api.doRequest(new FullNameMatchKeyRequest("benchmark", "John Smith"));
+    }
+}
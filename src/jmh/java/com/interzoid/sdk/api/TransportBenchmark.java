@@ -0,0 +1,81 @@
+package com.interzoid.sdk.api;
+
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link OkHttpTransport} and {@link JdkHttpTransport} against a local HTTP server returning a match key response.
+ * <ul>
+ *     <li>{@code throughput}: blocking requests over a warm connection pool, run with {@code -t} to add client threads</li>
+ *     <li>{@code startup}: creating a transport and completing the first request in a fresh JVM, which includes class loading</li>
+ * </ul>
+ * Run with {@code -prof gc} to compare allocation per request.
+ */
+@State(Scope.Benchmark)
+public class TransportBenchmark {
+    private static final byte[] RESPONSE = "{\"Code\":\"Success\",\"Credits\":\"9999\",\"SimKey\":\"N1Ai4RfV0SThJTIMXmjSBsJVIsjm0kbmwqqaUlhxHTQ\"}"
+            .getBytes(StandardCharsets.UTF_8);
+    private static final Map<String, String> HEADERS = Map.of("x-api-key", "benchmark");
+
+    @Param({"okhttp", "jdk"})
+    public String transportType;
+
+    private HttpServer server;
+    private URI uri;
+    private Transport transport;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/getfullnamematch", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, RESPONSE.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(RESPONSE);
+            }
+        });
+        server.setExecutor(Executors.newFixedThreadPool(16));
+        server.start();
+        uri = InterzoidApi.buildUri("http://127.0.0.1:" + server.getAddress().getPort() + "/getfullnamematch",
+                Map.of("fullname", "John Smith"));
+        transport = newTransport();
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    private Transport newTransport() {
+        return transportType.equals("okhttp") ? new OkHttpTransport() : new JdkHttpTransport();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    @Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+    public TransportResponse throughput() throws IOException {
+        return transport.get(uri, HEADERS);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(value = 10, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+    public TransportResponse startup() throws IOException {
+        return newTransport().get(uri, HEADERS);
+    }
+}
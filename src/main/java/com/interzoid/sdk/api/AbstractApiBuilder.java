@@ -0,0 +1,282 @@
+package com.interzoid.sdk.api;
+
+import com.interzoid.sdk.metrics.MetricsRecorder;
+import com.interzoid.sdk.metrics.SlowCallListener;
+import com.interzoid.sdk.validation.RequestValidator;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Configuration shared by the builders of all API classes.
+ * Each API declares its own {@code Builder} extending this class and adds a {@code build()} method returning the API.
+ *
+ * @param <B> the type of the concrete builder, returned by the configuration methods to allow method chaining
+ */
+abstract class AbstractApiBuilder<B extends AbstractApiBuilder<B>> {
+    private OkHttpClient client;
+    private Transport transport;
+    private InterzoidApi api;
+    private final OkHttpTransport.Builder transportBuilder = new OkHttpTransport.Builder();
+    private int warmUpConnections;
+    private Consumer<WarmUpReport> warmUpReportConsumer;
+    private MetricsRecorder metricsRecorder = MetricsRecorder.NOOP;
+    private RequestValidator requestValidator = RequestValidator.defaultValidator();
+    private List<String> apiBaseUrls = Collections.singletonList(InterzoidApi.API_BASE_URL);
+    private List<String> connectBaseUrls = Collections.singletonList(InterzoidApi.CONNECT_BASE_URL);
+
+    AbstractApiBuilder() {
+    }
+
+    /**
+     * Specifies the {@link OkHttpClient} instance to be used by the API instance being built.
+     * This is optional and allows for customization of the {@code OkHttpClient} instance used internally by the API instance.
+     * It is ignored if a {@link Transport} is specified with {@link #withTransport(Transport)}.
+     *
+     * @param client the {@code OkHttpClient} instance to be used
+     * @return the current builder instance, allowing for method chaining
+     */
+    public B withClient(OkHttpClient client) {
+        this.client = client;
+        return self();
+    }
+
+    /**
+     * Specifies the {@link Transport} to be used by the API instance being built.
+     * This is optional; by default an {@link OkHttpTransport} is used. Share a single transport between API instances so that they share connections.
+     *
+     * @param transport the {@code Transport} instance to be used
+     * @return the current builder instance, allowing for method chaining
+     * @see JdkHttpTransport
+     */
+    public B withTransport(Transport transport) {
+        this.transport = transport;
+        return self();
+    }
+
+    /**
+     * Configures the connection pool of the default transport.
+     * This is ignored if a client or transport is specified.
+     *
+     * @param maxIdleConnections the maximum number of idle connections kept in the pool
+     * @param keepAlive          how long an idle connection is kept before it is closed
+     * @return the current builder instance, allowing for method chaining
+     * @see OkHttpTransport.Builder#withConnectionPool(int, Duration)
+     */
+    public B withConnectionPool(int maxIdleConnections, Duration keepAlive) {
+        transportBuilder.withConnectionPool(maxIdleConnections, keepAlive);
+        return self();
+    }
+
+    /**
+     * Specifies the protocols the default transport negotiates, in order of preference. HTTP/2 is preferred by default.
+     * This is ignored if a client or transport is specified.
+     *
+     * @param protocols the protocols, which must include {@link Protocol#HTTP_1_1}
+     * @return the current builder instance, allowing for method chaining
+     * @see OkHttpTransport.Builder#withProtocols(List)
+     */
+    public B withProtocols(List<Protocol> protocols) {
+        transportBuilder.withProtocols(protocols);
+        return self();
+    }
+
+    /**
+     * Specifies the maximum number of concurrent calls the default transport makes to a single host.
+     * This is ignored if a client or transport is specified.
+     *
+     * @param maxConcurrentRequests the maximum number of concurrent calls per host
+     * @return the current builder instance, allowing for method chaining
+     * @see OkHttpTransport.Builder#withMaxConcurrentRequests(int)
+     */
+    public B withMaxConcurrentRequests(int maxConcurrentRequests) {
+        transportBuilder.withMaxConcurrentRequests(maxConcurrentRequests);
+        return self();
+    }
+
+    /**
+     * Warms up the transport when the API instance is built, so that the first requests do not pay for DNS lookups and TLS handshakes.
+     * {@code build()} blocks until the warm-up completes. Warm-up requests do not consume credits.
+     *
+     * @param connections the number of connections to open in parallel to the data matching API
+     * @return the current builder instance, allowing for method chaining
+     */
+    public B withWarmUp(int connections) {
+        return withWarmUp(connections, null);
+    }
+
+    /**
+     * Warms up the transport when the API instance is built and reports the warm-up timings.
+     * {@code build()} blocks until the warm-up completes. Warm-up requests do not consume credits.
+     *
+     * @param connections          the number of connections to open in parallel to the data matching API
+     * @param warmUpReportConsumer receives the timings of the warm-up, may be null
+     * @return the current builder instance, allowing for method chaining
+     */
+    public B withWarmUp(int connections, Consumer<WarmUpReport> warmUpReportConsumer) {
+        if (connections < 1) {
+            throw new IllegalArgumentException("connections must be greater than 0");
+        }
+        this.warmUpConnections = connections;
+        this.warmUpReportConsumer = warmUpReportConsumer;
+        return self();
+    }
+
+    /**
+     * Specifies the base URL of the data matching API, such as a proxy or a local stand-in server for load tests.
+     * This is optional; by default requests are sent to {@code https://api.interzoid.com/}.
+     *
+     * @param apiBaseUrl the base URL, to which resource names are appended
+     * @return the current builder instance, allowing for method chaining
+     * @throws IllegalArgumentException if the URL is not an absolute http or https URL
+     */
+    public B withApiBaseUrl(String apiBaseUrl) {
+        return withApiBaseUrls(Collections.singletonList(apiBaseUrl));
+    }
+
+    /**
+     * Specifies several equivalent base URLs of the data matching API, such as regional endpoints or proxies.
+     * Each request is sent to the endpoint with the lowest moving-average latency weighted by its health, and fails over to
+     * the next best endpoint if the connection cannot be established. Requests are not retried once they reached a server.
+     *
+     * @param apiBaseUrls the base URLs, in order of preference until their latency is measured
+     * @return the current builder instance, allowing for method chaining
+     * @throws IllegalArgumentException if the list is empty, has more than 64 URLs, or a URL is not an absolute http or https URL
+     */
+    public B withApiBaseUrls(List<String> apiBaseUrls) {
+        this.apiBaseUrls = validateBaseUrls(apiBaseUrls);
+        return self();
+    }
+
+    /**
+     * Specifies the base URL of the Cloud Data Connect API.
+     * This is optional; by default requests are sent to {@code https://connect.interzoid.com/}.
+     *
+     * @param connectBaseUrl the base URL, to which {@code run} is appended
+     * @return the current builder instance, allowing for method chaining
+     * @throws IllegalArgumentException if the URL is not an absolute http or https URL
+     */
+    public B withConnectBaseUrl(String connectBaseUrl) {
+        return withConnectBaseUrls(Collections.singletonList(connectBaseUrl));
+    }
+
+    /**
+     * Specifies several equivalent base URLs of the Cloud Data Connect API, selected as described in {@link #withApiBaseUrls(List)}.
+     *
+     * @param connectBaseUrls the base URLs, in order of preference until their latency is measured
+     * @return the current builder instance, allowing for method chaining
+     * @throws IllegalArgumentException if the list is empty, has more than 64 URLs, or a URL is not an absolute http or https URL
+     */
+    public B withConnectBaseUrls(List<String> connectBaseUrls) {
+        this.connectBaseUrls = validateBaseUrls(connectBaseUrls);
+        return self();
+    }
+
+    private static List<String> validateBaseUrls(List<String> baseUrls) {
+        if (baseUrls.isEmpty() || baseUrls.size() > EndpointSelector.MAX_ENDPOINTS) {
+            throw new IllegalArgumentException("Between 1 and " + EndpointSelector.MAX_ENDPOINTS + " base URLs are required");
+        }
+        List<String> normalized = new ArrayList<>(baseUrls.size());
+        for (String baseUrl : baseUrls) {
+            normalized.add(InterzoidApi.normalizeBaseUrl(baseUrl));
+        }
+        return normalized;
+    }
+
+    /**
+     * Specifies the {@link MetricsRecorder} every request made by the API instance being built is reported to.
+     * This is optional; by default nothing is recorded. Share a single recorder between API instances to aggregate their metrics.
+     * The default transport also reports the phase timings of its calls to the recorder; they are not available if a client or transport is specified.
+     *
+     * @param metricsRecorder the {@code MetricsRecorder} to be used
+     * @return the current builder instance, allowing for method chaining
+     * @see com.interzoid.sdk.metrics.InterzoidMetrics
+     */
+    public B withMetricsRecorder(MetricsRecorder metricsRecorder) {
+        this.metricsRecorder = Objects.requireNonNull(metricsRecorder, "metricsRecorder");
+        transportBuilder.withMetricsRecorder(metricsRecorder);
+        return self();
+    }
+
+    /**
+     * Specifies a listener receiving the phase breakdown of calls of the default transport taking at least the given threshold.
+     * This is ignored if a client or transport is specified.
+     *
+     * @param threshold        the minimum duration of a call reported as slow
+     * @param slowCallListener the listener
+     * @return the current builder instance, allowing for method chaining
+     * @see OkHttpTransport.Builder#withSlowCallListener(Duration, SlowCallListener)
+     */
+    public B withSlowCallListener(Duration threshold, SlowCallListener slowCallListener) {
+        transportBuilder.withSlowCallListener(threshold, slowCallListener);
+        return self();
+    }
+
+    /**
+     * Specifies the {@link RequestValidator} checking requests before they are sent.
+     * This is optional; by default {@link RequestValidator#defaultValidator()} is used, which checks the constraints of the
+     * request models with the built-in validator, or with Bean Validation when the {@code data-matching-sdk-bean-validation}
+     * module is on the classpath.
+     *
+     * @param requestValidator the {@code RequestValidator} to be used
+     * @return the current builder instance, allowing for method chaining
+     */
+    public B withRequestValidator(RequestValidator requestValidator) {
+        this.requestValidator = Objects.requireNonNull(requestValidator, "requestValidator");
+        return self();
+    }
+
+    /**
+     * Gets the {@link RequestValidator} for the API instance being built.
+     *
+     * @return the {@code RequestValidator} to be used
+     */
+    RequestValidator getRequestValidator() {
+        return requestValidator;
+    }
+
+    /**
+     * Specifies the {@link InterzoidApi} instance to be used by the API instance being built.
+     * This method is package protected and is intended for use in testing.
+     *
+     * @param interzoidApi the {@code InterzoidApi} instance to be used
+     * @return the current builder instance, allowing for method chaining
+     */
+    B withInterzoidApi(InterzoidApi interzoidApi) {
+        this.api = interzoidApi;
+        return self();
+    }
+
+    /**
+     * Creates the {@link InterzoidApi} for the API instance being built from the current configuration settings.
+     *
+     * @return the {@code InterzoidApi} instance to be used
+     */
+    InterzoidApi buildInterzoidApi() {
+        InterzoidApi interzoidApi = api;
+        if (interzoidApi == null) {
+            if (transport == null) {
+                transport = client != null ? new OkHttpTransport(client) : transportBuilder.build();
+            }
+            interzoidApi = new InterzoidApi(transport, metricsRecorder, apiBaseUrls, connectBaseUrls);
+        }
+        if (warmUpConnections > 0) {
+            WarmUpReport report = interzoidApi.warmUp(warmUpConnections);
+            if (warmUpReportConsumer != null) {
+                warmUpReportConsumer.accept(report);
+            }
+        }
+        return interzoidApi;
+    }
+
+    @SuppressWarnings("unchecked")
+    private B self() {
+        return (B) this;
+    }
+}
@@ -4,17 +4,12 @@ import com.interzoid.sdk.api.exceptions.InterzoidApiException;
 import com.interzoid.sdk.api.exceptions.ValidationException;
 import com.interzoid.sdk.model.InterzoidRequest;
 import com.interzoid.sdk.model.InterzoidResponse;
+import com.interzoid.sdk.validation.RequestValidator;
 import com.squareup.moshi.JsonAdapter;
-import com.squareup.moshi.Moshi;
 import jakarta.validation.ConstraintViolation;
-import jakarta.validation.Validation;
-import jakarta.validation.Validator;
-import jakarta.validation.ValidatorFactory;
-import okhttp3.OkHttpClient;
 
 import java.io.IOException;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
 
 /**
  * 
@@ -31,8 +26,9 @@ import java.util.concurrent.TimeUnit;
 
 public final class AccountInfoApi {
     private static final String RESOURCE = "getremainingcredits";
+    private static final JsonAdapter<InterzoidResponse> JSON_ADAPTER = InterzoidApi.MOSHI.adapter(InterzoidResponse.class);
     private final InterzoidApi interzoidApi;
-    private final Validator validator;
+    private final RequestValidator validator;
 
     /**
      * The builder class for {@link AccountInfoApi}, providing a flexible way to configure and create an instance of {@code AccountInfoApi}.
@@ -40,9 +36,7 @@ public final class AccountInfoApi {
      *
      * @see AccountInfoApi
      */
-    public static class Builder {
-        private OkHttpClient client;
-        private InterzoidApi api;
+    public static class Builder extends AbstractApiBuilder<Builder> {
 
         /**
          * Default constructor for the {@link Builder} class.
@@ -50,45 +44,13 @@ public final class AccountInfoApi {
         public Builder() {
         }
 
-        /**
-         * Specifies the {@link OkHttpClient} instance to be used by the {@code AccountInfoApi} instance being built.
-         * This is optional and allows for customization of the {@code OkHttpClient} instance used internally by the {@code AccountInfoApi} instance.
-         *
-         * @param client the {@code OkHttpClient} instance to be used
-         * @return the current builder instance, allowing for method chaining
-         */
-        public Builder withClient(OkHttpClient client) {
-            this.client = client;
-            return this;
-        }
-
-        /**
-         * Specifies the {@link InterzoidApi} instance to be used by the {@code AccountInfoApi} instance being built.
-         * This method is package protected and is intended for use in testing.
-         *
-         * @param interzoidApi the {@code InterzoidApi} instance to be used
-         * @return the current builder instance, allowing for method chaining
-         */
-        Builder withInterzoidApi(InterzoidApi interzoidApi) {
-            this.api = interzoidApi;
-            return this;
-        }
-
         /**
          * Constructs a new {@code AccountInfoApi} instance with the current configuration settings specified in this builder.
          *
          * @return a new {@code AccountInfoApi} instance
          */
         public AccountInfoApi build() {
-            if (client == null) {
-                client = new OkHttpClient.Builder()
-                        .connectTimeout(10, TimeUnit.SECONDS)
-                        .build();
-            }
-            if (api == null) {
-                api = new InterzoidApi(client);
-            }
-            return new AccountInfoApi(api);
+            return new AccountInfoApi(buildInterzoidApi(), getRequestValidator());
         }
     }
 
@@ -96,13 +58,12 @@ public final class AccountInfoApi {
      * Constructs a new {@code AccountInfoApi} instance with the specified {@link InterzoidApi} instance.
      *
      * @param interzoidApi the {@code InterzoidApi} instance to be used
+     * @param validator    the {@code RequestValidator} checking requests before they are sent
      * @see Builder#build() for a method to construct a {@code AccountInfoApi} instance based on the configuration settings specified in the {@code Builder}
      */
-    private AccountInfoApi(InterzoidApi interzoidApi) {
+    private AccountInfoApi(InterzoidApi interzoidApi, RequestValidator validator) {
         this.interzoidApi = interzoidApi;
-        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
-            validator = factory.getValidator();
-        }
+        this.validator = validator;
     }
 
     /**
@@ -123,10 +84,9 @@ public final class AccountInfoApi {
             throw new ValidationException("Validation failed", violations);
         }
 
-        Moshi moshi = new Moshi.Builder().build();
-        JsonAdapter<InterzoidResponse> jsonAdapter = moshi.adapter(InterzoidResponse.class);
-
         String response = interzoidApi.doApiGetRequest(request.getApikey(), RESOURCE, null);
-        return jsonAdapter.fromJson(response);
+        InterzoidResponse result = JSON_ADAPTER.fromJson(response);
+        interzoidApi.recordCredits(result);
+        return result;
     }
 }
@@ -1,22 +1,22 @@
 package com.interzoid.sdk.api;
 
+import com.interzoid.sdk.api.exceptions.ClientErrorException;
 import com.interzoid.sdk.api.exceptions.InterzoidApiException;
+import com.interzoid.sdk.api.exceptions.ServerErrorException;
+import com.interzoid.sdk.api.exceptions.UnexpectedResponseException;
 import com.interzoid.sdk.api.exceptions.ValidationException;
 import com.interzoid.sdk.model.AddressMatchKeyRequest;
 import com.interzoid.sdk.model.MatchKeyResponse;
+import com.interzoid.sdk.validation.RequestValidator;
 import com.squareup.moshi.JsonAdapter;
-import com.squareup.moshi.Moshi;
 import jakarta.validation.ConstraintViolation;
-import jakarta.validation.Validation;
-import jakarta.validation.Validator;
-import jakarta.validation.ValidatorFactory;
-import okhttp3.OkHttpClient;
 
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * <h2>Get Address Match Similarity Key API</h2>
@@ -52,8 +52,7 @@ import java.util.concurrent.TimeUnit;
  *
  * <pre>{@code
  * import com.interzoid.sdk.api.AddressMatchKeyApi;
- * import okhttp3.OkHttpClient;
- * import java.util.concurrent.TimeUnit;
+ *  * import java.util.concurrent.TimeUnit;
  *
  * public class AddressMatchKeyTest {
  *   public static void main(String[] args) throws Exception {
@@ -75,8 +74,9 @@ import java.util.concurrent.TimeUnit;
  */
 public final class AddressMatchKeyApi {
     private static final String RESOURCE = "getaddressmatchadvanced";
+    private static final JsonAdapter<MatchKeyResponse> JSON_ADAPTER = InterzoidApi.MOSHI.adapter(MatchKeyResponse.class);
     private final InterzoidApi interzoidApi;
-    private final Validator validator;
+    private final RequestValidator validator;
 
     /**
      * The builder class for {@link AddressMatchKeyApi}, providing a flexible way to configure and create an instance of {@code AddressMatchKeyApi}.
@@ -84,9 +84,7 @@ public final class AddressMatchKeyApi {
      *
      * @see AddressMatchKeyApi
      */
-    public static class Builder {
-        private OkHttpClient client;
-        private InterzoidApi api;
+    public static class Builder extends AbstractApiBuilder<Builder> {
 
         /**
          * Default constructor for the {@link AddressMatchKeyApi.Builder} class.
@@ -94,45 +92,13 @@ public final class AddressMatchKeyApi {
         public Builder() {
         }
 
-        /**
-         * Specifies the {@link OkHttpClient} instance to be used by the {@code AddressMatchKeyApi} instance being built.
-         * This is optional and allows for customization of the {@code OkHttpClient} instance used internally by the {@code AddressMatchKeyApi} instance.
-         *
-         * @param client the {@code OkHttpClient} instance to be used
-         * @return the current builder instance, allowing for method chaining
-         */
-        public Builder withClient(OkHttpClient client) {
-            this.client = client;
-            return this;
-        }
-
-        /**
-         * Specifies the {@link InterzoidApi} instance to be used by the {@code AddressMatchKeyApi} instance being built.
-         * This method is package protected and is intended for use in testing.
-         *
-         * @param interzoidApi the {@code InterzoidApi} instance to be used
-         * @return the current builder instance, allowing for method chaining
-         */
-        Builder withInterzoidApi(InterzoidApi interzoidApi) {
-            this.api = interzoidApi;
-            return this;
-        }
-
         /**
          * Constructs a new {@code AddressMatchKeyApi} instance with the current configuration settings specified in this builder.
          *
          * @return a new {@code AddressMatchKeyApi} instance
          */
         public AddressMatchKeyApi build() {
-            if (client == null) {
-                client = new OkHttpClient.Builder()
-                        .connectTimeout(10, TimeUnit.SECONDS)
-                        .build();
-            }
-            if (api == null) {
-                api = new InterzoidApi(client);
-            }
-            return new AddressMatchKeyApi(api);
+            return new AddressMatchKeyApi(buildInterzoidApi(), getRequestValidator());
         }
     }
 
@@ -140,13 +106,12 @@ public final class AddressMatchKeyApi {
      * Constructs a new {@code AddressMatchKeyApi} instance with the specified {@link InterzoidApi} instance.
      *
      * @param interzoidApi the {@code InterzoidApi} instance to be used
+     * @param validator    the {@code RequestValidator} checking requests before they are sent
      * @see AddressMatchKeyApi.Builder#build() for a method to construct a {@code AddressMatchKeyApi} instance based on the configuration settings specified in the {@code Builder}
      */
-    private AddressMatchKeyApi(InterzoidApi interzoidApi) {
+    private AddressMatchKeyApi(InterzoidApi interzoidApi, RequestValidator validator) {
         this.interzoidApi = interzoidApi;
-        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
-            validator = factory.getValidator();
-        }
+        this.validator = validator;
     }
 
     /**
@@ -166,14 +131,48 @@ public final class AddressMatchKeyApi {
             throw new ValidationException("Validation failed", violations);
         }
 
-        Moshi moshi = new Moshi.Builder().build();
-        JsonAdapter<MatchKeyResponse> jsonAdapter = moshi.adapter(MatchKeyResponse.class);
-
-        Map<String, String> params = new HashMap<>();
+        Map<String, String> params = new HashMap<>(4);
         params.put("address", request.getAddress());
         params.put("algorithm", request.getMatchAlgorithm().getValue());
 
         String response = interzoidApi.doApiGetRequest(request.getApikey(), RESOURCE, params);
-        return jsonAdapter.fromJson(response);
+        MatchKeyResponse result = InterzoidApi.decode(JSON_ADAPTER, response);
+        interzoidApi.recordCredits(result);
+        return result;
+    }
+
+    /**
+     * Asynchronously sends a request to the API to obtain a similarity key based on the provided address.
+     * The request is validated on the calling thread; the HTTP call runs on the transport and the response is decoded on
+     * the thread completing it, such as an OkHttp dispatcher thread, so the calling thread never blocks on the network.
+     *
+     * @param request the request object containing the necessary details, including the API key, to fetch the similarity key
+     * @return a future completed with the {@code MatchKeyResponse}, or exceptionally with an {@link UnexpectedResponseException}:
+     * caused by a {@link ClientErrorException} or {@link ServerErrorException} if the API returns an error status,
+     * by the I/O error if the call fails, or by the JSON error if the body cannot be decoded; a JSON {@code null}
+     * body fails as well
+     * @throws ValidationException if the request is invalid
+     * @see #doRequest(AddressMatchKeyRequest)
+     * @see StreamEnricher
+     */
+    public CompletableFuture<MatchKeyResponse> doRequestAsync(AddressMatchKeyRequest request) {
+        Set<ConstraintViolation<AddressMatchKeyRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new ValidationException("Validation failed", violations);
+        }
+
+        Map<String, String> params = new HashMap<>(4);
+        params.put("address", request.getAddress());
+        params.put("algorithm", request.getMatchAlgorithm().getValue());
+        return interzoidApi.doApiGetRequestAsync(request.getApikey(), RESOURCE, params)
+                .thenApply(response -> {
+                    try {
+                        MatchKeyResponse result = InterzoidApi.decode(JSON_ADAPTER, response);
+                        interzoidApi.recordCredits(result);
+                        return result;
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                });
     }
 }
@@ -2,19 +2,17 @@ package com.interzoid.sdk.api;
 
 import com.interzoid.sdk.api.exceptions.InterzoidApiException;
 import com.interzoid.sdk.api.exceptions.ValidationException;
+import com.interzoid.sdk.validation.RequestValidator;
 import com.interzoid.sdk.model.*;
 import com.squareup.moshi.JsonAdapter;
-import com.squareup.moshi.Moshi;
 import jakarta.validation.ConstraintViolation;
-import jakarta.validation.Validation;
-import jakarta.validation.Validator;
-import jakarta.validation.ValidatorFactory;
-import okhttp3.OkHttpClient;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.lang.Process;
+import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Executor;
 
 /**
  * <h2>Interzoid Cloud Database MatchKey Report API</h2>
@@ -52,26 +50,38 @@ import java.util.concurrent.TimeUnit;
  * }
  * }</pre>
  *
- * 
+ * <p>A workload runs over a single request, which the server may not answer until it has matched the whole table. Such
+ * requests may take up to the timeout of the {@link WorkloadPolicy} of the API, one hour by default, rather than the read
+ * timeout of the transport. {@link #startWorkload(CloudWorkloadRequest, ReportReader)} returns a {@link CloudWorkload}
+ * handle at once, to wait for the workload, follow its progress or cancel it, and reads the report as it arrives:</p>
+ * <pre>{@code
+ * CloudWorkload<Long> workload = api.startWorkload(request, (body, charset) ->
+ *   new BufferedReader(new InputStreamReader(body, charset)).lines().filter(line -> !line.isEmpty()).count());
+ * long records = workload.await(Duration.ofHours(2));
+ * }</pre>
+ *
  * @see <a href="https://connect.interzoid.com/">Interzoid Cloud Data Connect</a>
  * @see <a href="https://connect.interzoid.com/connection-strings">Interzoid Cloud Data Connect Example Connection Strings</a>
  * @see Process
  * @see Source
  * @see Category
  * @see CloudWorkloadRequest
+ * @see WorkloadPolicy
  * @version 1.0
  */
 public final class CloudDatabaseMatchKeyReportApi {
+    private static final JsonAdapter<CloudDatabaseJsonResponse> JSON_ADAPTER = InterzoidApi.MOSHI.adapter(CloudDatabaseJsonResponse.class);
     private final InterzoidApi interzoidApi;
-    private final Validator validator;
+    private final RequestValidator validator;
+    private final WorkloadPolicy workloadPolicy;
+    private final Executor reportExecutor = RequestExecutors.newRequestExecutor();
 
     /**
      * The builder class for {@link CloudDatabaseMatchKeyReportApi}, providing a flexible way to configure and create an instance of {@code CloudDatabaseMatchKeyReportApi}.
      * It follows the builder pattern, allowing for configuration settings to be specified before calling the {@link CloudDatabaseMatchKeyReportApi.Builder#build()} method to construct an instance of {@code CloudDatabaseMatchKeyReportApi}.
      */
-    public static class Builder {
-        private OkHttpClient client;
-        private InterzoidApi api;
+    public static class Builder extends AbstractApiBuilder<Builder> {
+        private WorkloadPolicy workloadPolicy = WorkloadPolicy.DEFAULT;
 
         /**
          * Default constructor for the {@link CloudDatabaseMatchKeyReportApi.Builder} class.
@@ -80,26 +90,14 @@ public final class CloudDatabaseMatchKeyReportApi {
         }
 
         /**
-         * Specifies the {@link OkHttpClient} instance to be used by the {@code CloudDatabaseMatchKeyReportApi} instance being built.
-         * This is optional and allows for customization of the {@code OkHttpClient} instance used internally by the {@code CloudDatabaseMatchKeyReportApi} instance.
-         *
-         * @param client the {@code OkHttpClient} instance to be used
-         * @return the current builder instance, allowing for method chaining
-         */
-        public Builder withClient(OkHttpClient client) {
-            this.client = client;
-            return this;
-        }
-
-        /**
-         * Specifies the {@link InterzoidApi} instance to be used by the {@code CloudDatabaseMatchKeyReport} instance being built.
-         * This method is package protected and is intended for use in testing.
+         * Specifies the timeout and keep-alive policy of workloads.
+         * This is optional; by default {@link WorkloadPolicy#DEFAULT} is used.
          *
-         * @param interzoidApi the {@code InterzoidApi} instance to be used
+         * @param workloadPolicy the {@code WorkloadPolicy} to be used
          * @return the current builder instance, allowing for method chaining
          */
-        Builder withInterzoidApi(InterzoidApi interzoidApi) {
-            this.api = interzoidApi;
+        public Builder withWorkloadPolicy(WorkloadPolicy workloadPolicy) {
+            this.workloadPolicy = Objects.requireNonNull(workloadPolicy, "workloadPolicy");
             return this;
         }
 
@@ -109,28 +107,21 @@ public final class CloudDatabaseMatchKeyReportApi {
          * @return a new {@code CloudDatabaseMatchKeyReportApi} instance
          */
         public CloudDatabaseMatchKeyReportApi build() {
-            if (client == null) {
-                client = new OkHttpClient.Builder()
-                        .connectTimeout(10, TimeUnit.SECONDS)
-                        .build();
-            }
-            if (api == null) {
-                api = new InterzoidApi(client);
-            }
-            return new CloudDatabaseMatchKeyReportApi(api);
+            return new CloudDatabaseMatchKeyReportApi(buildInterzoidApi(), getRequestValidator(), workloadPolicy);
         }
     }
 
     /**
      * Constructs a new {@code CloudDatabaseMatchKeyReportApi} instance with the given {@link InterzoidApi} instance.
      *
-     * @param interzoidApi the {@code InterzoidApi} instance to be used
+     * @param interzoidApi   the {@code InterzoidApi} instance to be used
+     * @param validator      the {@code RequestValidator} checking requests before they are sent
+     * @param workloadPolicy the timeout and keep-alive policy of workloads
      */
-    private CloudDatabaseMatchKeyReportApi(InterzoidApi interzoidApi) {
+    private CloudDatabaseMatchKeyReportApi(InterzoidApi interzoidApi, RequestValidator validator, WorkloadPolicy workloadPolicy) {
         this.interzoidApi = interzoidApi;
-        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
-            validator = factory.getValidator();
-        }
+        this.validator = validator;
+        this.workloadPolicy = workloadPolicy;
     }
 
     /**
@@ -145,17 +136,66 @@ public final class CloudDatabaseMatchKeyReportApi {
      * @see InterzoidApiException
      */
     public CloudConnectResponse doRequest(CloudWorkloadRequest request) throws IOException {
-        // Validate request object
+        validate(request);
+        return toResponse(request, interzoidApi.doCloudConnectRequest(request.toParamMap(), workloadPolicy));
+    }
+
+    /**
+     * Makes a Cloud Database Workload request and writes its report to a file as it arrives, in constant memory.
+     * This suits the TXT and HTML reports of large tables, which {@link #doRequest(CloudWorkloadRequest)} returns as a single
+     * String; the file holds the report as sent, in whichever format was requested.
+     *
+     * @param request the {@link CloudWorkloadRequest} object containing the details of the workload request
+     * @param path    the file to write, whose directory must exist; it is replaced once the report is complete
+     * @return a {@link CloudDatabaseFileResponse} with the path, size and SHA-256 checksum of the report
+     * @throws IOException         if an error occurs while making the request or writing the file
+     * @throws ValidationException if the request is invalid or missing required parameters
+     * @see ReportReader#toFile(Path)
+     */
+    public CloudDatabaseFileResponse downloadReport(CloudWorkloadRequest request, Path path) throws IOException {
+        validate(request);
+        return interzoidApi.doCloudConnectRequest(request.toParamMap(), workloadPolicy, ReportReader.toFile(path));
+    }
+
+    /**
+     * Starts a Cloud Database Workload request to obtain a MatchKey report, without waiting for the report.
+     *
+     * @param request the {@link CloudWorkloadRequest} object containing the details of the workload request
+     * @return a {@link CloudWorkload} completed with the {@link CloudConnectResponse} of the workload
+     * @throws ValidationException if the request is invalid or missing required parameters
+     * @see #doRequest(CloudWorkloadRequest)
+     */
+    public CloudWorkload<CloudConnectResponse> startWorkload(CloudWorkloadRequest request) {
+        return startWorkload(request, (body, charset) -> toResponse(request, new String(body.readAllBytes(), charset)));
+    }
+
+    /**
+     * Starts a Cloud Database Workload request, reading its report with the given reader as it arrives.
+     * The reader runs on a thread of the SDK once the server starts sending the report; the workload completes with its result.
+     *
+     * @param request the {@link CloudWorkloadRequest} object containing the details of the workload request
+     * @param reader  the reader of the report
+     * @param <T>     the type of the result of the reader
+     * @return a {@link CloudWorkload} completed with the result of the reader
+     * @throws ValidationException if the request is invalid or missing required parameters
+     */
+    public <T> CloudWorkload<T> startWorkload(CloudWorkloadRequest request, ReportReader<T> reader) {
+        validate(request);
+        Objects.requireNonNull(reader, "reader");
+        return CloudWorkload.start(interzoidApi.doCloudConnectStreamingRequest(request.toParamMap(), workloadPolicy), reader,
+                reportExecutor, workloadPolicy);
+    }
+
+    private void validate(CloudWorkloadRequest request) {
         Set<ConstraintViolation<CloudWorkloadRequest>> violations = validator.validate(request);
         if (!violations.isEmpty()) {
             throw new ValidationException("Validation failed", violations);
         }
+    }
 
-        String response = interzoidApi.doCloudConnectRequest(request.toParamMap());
+    private static CloudConnectResponse toResponse(CloudWorkloadRequest request, String response) throws IOException {
         if (request.isJson()) {
-            Moshi moshi = new Moshi.Builder().build();
-            JsonAdapter<CloudDatabaseJsonResponse> jsonAdapter = moshi.adapter(CloudDatabaseJsonResponse.class);
-            return jsonAdapter.fromJson(response);
+            return JSON_ADAPTER.fromJson(response);
         } else {
             return new CloudDatabaseStringResponse(response);
         }
@@ -0,0 +1,238 @@
+package com.interzoid.sdk.api;
+
+import com.interzoid.sdk.api.exceptions.UnexpectedResponseException;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>A handle on a running Cloud Data Connect workload, returned by
+ * {@link CloudDatabaseMatchKeyReportApi#startWorkload(com.interzoid.sdk.model.CloudWorkloadRequest, ReportReader)}.</p>
+ *
+ * <p>The workload completes with the result of its {@link ReportReader} once the report is read. It fails if the request
+ * fails, the reader throws, or the timeout of its {@link WorkloadPolicy} elapses, in which case the request is cancelled.
+ * {@link #cancel()} stops a workload at any time, waiting for the report or reading it. The handle is thread-safe.</p>
+ *
+ * <h2>Example</h2>
+ * <pre>{@code
+ * CloudWorkload<CloudConnectResponse> workload = api.startWorkload(request);
+ * while (!workload.isDone()) {
+ *   System.out.println(workload.getBytesReceived() + " bytes received after " + workload.getElapsed());
+ *   Thread.sleep(10_000);
+ * }
+ * CloudConnectResponse response = workload.await();
+ * }</pre>
+ *
+ * @param <T> the type of the result of the workload
+ */
+public final class CloudWorkload<T> {
+    private final CompletableFuture<T> result = new CompletableFuture<>();
+    private final CompletableFuture<StreamingResponse> response;
+    private final Duration timeout;
+    private final long startNanos = System.nanoTime();
+    private final AtomicLong bytesReceived = new AtomicLong();
+
+    private CloudWorkload(CompletableFuture<StreamingResponse> response, Duration timeout) {
+        this.response = response;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Starts reading the report of a workload on the given executor once its response arrives.
+     *
+     * @param response the response of the workload request, cancelled if the workload is cancelled before it arrives
+     * @param reader   the reader of the report
+     * @param executor runs the reader
+     * @param policy   the policy of the workload, whose timeout is enforced here whatever the transport
+     * @param <T>      the type of the result
+     * @return the workload
+     */
+    static <T> CloudWorkload<T> start(CompletableFuture<StreamingResponse> response, ReportReader<T> reader, Executor executor,
+                                      WorkloadPolicy policy) {
+        CloudWorkload<T> workload = new CloudWorkload<>(response, policy.getTimeout());
+        CompletableFuture<T> result = workload.result;
+        result.orTimeout(policy.getTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        result.whenComplete((value, error) -> {
+            if (error != null) {
+                response.cancel(true);
+            }
+        });
+        response.whenComplete((streamingResponse, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+                return;
+            }
+            result.whenComplete((value, failure) -> {
+                if (failure != null) {
+                    streamingResponse.abort();
+                }
+            });
+            try {
+                executor.execute(() -> {
+                    try (streamingResponse) {
+                        result.complete(reader.read(workload.new ProgressStream(streamingResponse.getBody()),
+                                streamingResponse.getCharset()));
+                    } catch (Throwable e) {
+                        result.completeExceptionally(e);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                streamingResponse.abort();
+                result.completeExceptionally(e);
+            }
+        });
+        return workload;
+    }
+
+    /**
+     * Waits for the workload to complete.
+     *
+     * @return the result of the {@link ReportReader}
+     * @throws IOException           if the request failed, the report could not be read, or the workload timed out
+     * @throws InterruptedException  if interrupted while waiting; the workload keeps running
+     * @throws CancellationException if the workload was cancelled
+     */
+    public T await() throws IOException, InterruptedException {
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            throw failure(e.getCause());
+        }
+    }
+
+    /**
+     * Waits at most the given time for the workload to complete.
+     *
+     * @param wait the maximum time to wait
+     * @return the result of the {@link ReportReader}
+     * @throws IOException           if the request failed, the report could not be read, or the workload timed out
+     * @throws InterruptedException  if interrupted while waiting; the workload keeps running
+     * @throws TimeoutException      if the workload is still running after the wait; it keeps running
+     * @throws CancellationException if the workload was cancelled
+     */
+    public T await(Duration wait) throws IOException, InterruptedException, TimeoutException {
+        try {
+            return result.get(wait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw failure(e.getCause());
+        }
+    }
+
+    /**
+     * Cancels the workload, aborting its request if it is still waiting for the report or reading it.
+     * The server may keep running the workload.
+     *
+     * @return true if the workload is cancelled, false if it had already completed otherwise
+     */
+    public boolean cancel() {
+        if (result.isDone()) {
+            return result.isCancelled();
+        }
+        response.cancel(true);
+        return result.cancel(true);
+    }
+
+    /**
+     * Whether the workload completed, successfully, with an error, or by being cancelled.
+     *
+     * @return true if the workload completed
+     */
+    public boolean isDone() {
+        return result.isDone();
+    }
+
+    /**
+     * Whether the workload was cancelled.
+     *
+     * @return true if the workload was cancelled
+     */
+    public boolean isCancelled() {
+        return result.isCancelled();
+    }
+
+    /**
+     * Gets the number of bytes of the report read so far.
+     *
+     * @return the number of bytes read
+     */
+    public long getBytesReceived() {
+        return bytesReceived.get();
+    }
+
+    /**
+     * Gets the time elapsed since the workload started.
+     *
+     * @return the elapsed time
+     */
+    public Duration getElapsed() {
+        return Duration.ofNanos(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Gets the future completed with the result of the workload. Cancelling it cancels the workload. If the workload times
+     * out, the future completes exceptionally with a {@link TimeoutException}.
+     *
+     * @return the future
+     */
+    public CompletableFuture<T> toCompletableFuture() {
+        return result;
+    }
+
+    private IOException failure(Throwable cause) {
+        if (cause instanceof IOException) {
+            return (IOException) cause;
+        } else if (cause instanceof TimeoutException) {
+            return new UnexpectedResponseException("Workload did not complete within " + timeout, cause);
+        } else if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        } else if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new UnexpectedResponseException("Workload failed", cause);
+    }
+
+    /**
+     * Counts the bytes of the report as the reader consumes them.
+     */
+    private final class ProgressStream extends FilterInputStream {
+        ProgressStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                bytesReceived.incrementAndGet();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                bytesReceived.addAndGet(n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            bytesReceived.addAndGet(skipped);
+            return skipped;
+        }
+    }
+}
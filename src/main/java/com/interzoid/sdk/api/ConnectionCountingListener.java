@@ -0,0 +1,38 @@
+package com.interzoid.sdk.api;
+
+import com.interzoid.sdk.metrics.PoolStats;
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+import okhttp3.Protocol;
+
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts opened and acquired connections for {@link PoolStats}.
+ * A single instance is shared by all calls of a client, so it only keeps counters; {@link PhaseTimingListener} forwards connection events to it when calls are timed.
+ */
+final class ConnectionCountingListener extends EventListener {
+    private final LongAdder connectionsOpened = new LongAdder();
+    private final LongAdder connectionsAcquired = new LongAdder();
+
+    @Override
+    public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+        connectionsOpened.increment();
+    }
+
+    @Override
+    public void connectionAcquired(Call call, Connection connection) {
+        connectionsAcquired.increment();
+    }
+
+    long getConnectionsOpened() {
+        return connectionsOpened.sum();
+    }
+
+    long getConnectionsAcquired() {
+        return connectionsAcquired.sum();
+    }
+}
@@ -0,0 +1,227 @@
+package com.interzoid.sdk.api;
+
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.net.http.HttpConnectTimeoutException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>Chooses among equivalent base URLs of an Interzoid API, such as regional endpoints or proxies.</p>
+ *
+ * <p>Each endpoint keeps an exponentially weighted moving average of its latency and a health score, the moving average of
+ * its successes. Requests go to the reachable endpoint with the lowest latency divided by health; endpoints that were never
+ * measured, or not measured for {@value #PROBE_INTERVAL_SECONDS} seconds, are tried first so that their latency stays current.
+ * An endpoint failing to connect is skipped for a backoff period, doubling with each consecutive failure, and the request
+ * fails over to the next best endpoint.</p>
+ *
+ * <p>With a single endpoint, selection and bookkeeping are skipped.</p>
+ */
+final class EndpointSelector {
+    static final int MAX_ENDPOINTS = 64;
+    static final long PROBE_INTERVAL_SECONDS = 10;
+
+    private static final double ALPHA = 0.2;
+    private static final double MIN_HEALTH = 0.05;
+    private static final long PROBE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(PROBE_INTERVAL_SECONDS);
+    private static final long BASE_PENALTY_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long MAX_PENALTY_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final Endpoint[] endpoints;
+
+    /**
+     * An endpoint and its statistics.
+     */
+    static final class Endpoint {
+        private final String baseUrl;
+        private final long mask;
+        private final AtomicLong lastSample = new AtomicLong(System.nanoTime() - 2 * PROBE_INTERVAL_NANOS);
+        private double latencyNanos;
+        private double health = 1;
+        private int consecutiveFailures;
+        private volatile long penalizedUntil = System.nanoTime();
+        private volatile double cost;
+
+        private Endpoint(String baseUrl, int index) {
+            this.baseUrl = baseUrl;
+            this.mask = 1L << index;
+        }
+
+        String getBaseUrl() {
+            return baseUrl;
+        }
+
+        synchronized double getLatencyNanos() {
+            return latencyNanos;
+        }
+
+        synchronized double getHealth() {
+            return health;
+        }
+
+        private synchronized void recordSample(long nanos, boolean success, boolean connectFailure) {
+            long now = System.nanoTime();
+            lastSample.set(now);
+            if (success || !connectFailure) {
+                latencyNanos = latencyNanos == 0 ? nanos : latencyNanos + ALPHA * (nanos - latencyNanos);
+            }
+            health += ALPHA * ((success ? 1 : 0) - health);
+            if (connectFailure) {
+                consecutiveFailures++;
+                long penalty = BASE_PENALTY_NANOS << Math.min(consecutiveFailures - 1, 5);
+                penalizedUntil = now + Math.min(penalty, MAX_PENALTY_NANOS);
+            } else {
+                consecutiveFailures = 0;
+            }
+            cost = latencyNanos / Math.max(health, MIN_HEALTH);
+        }
+
+        private boolean claimProbe(long now) {
+            long last = lastSample.get();
+            return now - last > PROBE_INTERVAL_NANOS && lastSample.compareAndSet(last, now);
+        }
+
+        @Override
+        public String toString() {
+            return "Endpoint{" +
+                    "baseUrl='" + baseUrl + '\'' +
+                    ", latencyMillis=" + getLatencyNanos() / 1e6 +
+                    ", health=" + getHealth() +
+                    '}';
+        }
+    }
+
+    /**
+     * Constructs a new EndpointSelector.
+     *
+     * @param baseUrls the base URLs, in order of preference while none was measured
+     * @throws IllegalArgumentException if there are no base URLs, more than {@value #MAX_ENDPOINTS}, or one is invalid
+     */
+    EndpointSelector(List<String> baseUrls) {
+        if (baseUrls.isEmpty() || baseUrls.size() > MAX_ENDPOINTS) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_ENDPOINTS + " base URLs are required");
+        }
+        endpoints = new Endpoint[baseUrls.size()];
+        for (int i = 0; i < endpoints.length; i++) {
+            endpoints[i] = new Endpoint(InterzoidApi.normalizeBaseUrl(baseUrls.get(i)), i);
+        }
+    }
+
+    /**
+     * Gets the endpoints, in the order they were configured.
+     *
+     * @return the endpoints
+     */
+    List<Endpoint> getEndpoints() {
+        List<Endpoint> list = new ArrayList<>(endpoints.length);
+        Collections.addAll(list, endpoints);
+        return list;
+    }
+
+    /**
+     * Selects the endpoint for the first attempt of a request.
+     *
+     * @return the endpoint
+     */
+    Endpoint select() {
+        return endpoints.length == 1 ? endpoints[0] : select(0);
+    }
+
+    /**
+     * Selects the endpoint for a failover attempt.
+     *
+     * @param tried the mask of the endpoints already tried, from {@link #tried(long, Endpoint)}
+     * @return the endpoint, or null if all endpoints were tried
+     */
+    Endpoint select(long tried) {
+        long now = System.nanoTime();
+        Endpoint best = null;
+        Endpoint earliestAvailable = null;
+        for (Endpoint endpoint : endpoints) {
+            if ((tried & endpoint.mask) != 0) {
+                continue;
+            }
+            long penalizedUntil = endpoint.penalizedUntil;
+            if (penalizedUntil - now > 0) {
+                if (earliestAvailable == null || penalizedUntil - earliestAvailable.penalizedUntil < 0) {
+                    earliestAvailable = endpoint;
+                }
+                continue;
+            }
+            if (endpoint.claimProbe(now)) {
+                return endpoint;
+            }
+            if (best == null || endpoint.cost < best.cost) {
+                best = endpoint;
+            }
+        }
+        return best != null ? best : earliestAvailable;
+    }
+
+    /**
+     * Adds an endpoint to a mask of tried endpoints.
+     *
+     * @param tried    the mask of endpoints tried so far, 0 initially
+     * @param endpoint the endpoint
+     * @return the new mask
+     */
+    static long tried(long tried, Endpoint endpoint) {
+        return tried | endpoint.mask;
+    }
+
+    /**
+     * Records a response received from an endpoint. Server errors lower its health.
+     *
+     * @param endpoint   the endpoint
+     * @param nanos      the time to receive the response
+     * @param statusCode the HTTP status code
+     */
+    void recordResponse(Endpoint endpoint, long nanos, int statusCode) {
+        if (endpoints.length > 1) {
+            endpoint.recordSample(nanos, statusCode < 500, false);
+        }
+    }
+
+    /**
+     * Records a request to an endpoint failing without a response.
+     *
+     * @param endpoint       the endpoint
+     * @param nanos          the time until the failure
+     * @param connectFailure whether the connection could not be established, see {@link #isConnectFailure(Throwable)}
+     */
+    void recordFailure(Endpoint endpoint, long nanos, boolean connectFailure) {
+        if (endpoints.length > 1) {
+            endpoint.recordSample(nanos, false, connectFailure);
+        }
+    }
+
+    /**
+     * Whether a request failed before reaching the server, so it can safely be sent to another endpoint.
+     *
+     * @param error the error
+     * @return true for DNS, connect and connect timeout failures
+     */
+    static boolean isConnectFailure(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException || cause instanceof UnknownHostException
+                    || cause instanceof NoRouteToHostException || cause instanceof HttpConnectTimeoutException) {
+                return true;
+            }
+            // "connect timed out" up to JDK 12, "Connect timed out" since
+            if (cause instanceof SocketTimeoutException && cause.getMessage() != null
+                    && cause.getMessage().toLowerCase(Locale.ROOT).contains("connect")) {
+                return true;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,94 @@
+package com.interzoid.sdk.api;
+
+import java.util.Objects;
+
+/**
+ * An element of an enriched stream: the original element together with the result of the API call made for it,
+ * or the error that call failed with.
+ *
+ * @param <T> the type of the source element
+ * @param <R> the type of the API response
+ * @see StreamEnricher
+ */
+public final class Enriched<T, R> {
+    private final T element;
+    private final R result;
+    private final Throwable error;
+
+    private Enriched(T element, R result, Throwable error) {
+        this.element = element;
+        this.result = result;
+        this.error = error;
+    }
+
+    /**
+     * Creates a successfully enriched element.
+     *
+     * @param element the source element
+     * @param result  the API response for the element
+     * @param <T>     the type of the source element
+     * @param <R>     the type of the API response
+     * @return the enriched element
+     */
+    public static <T, R> Enriched<T, R> success(T element, R result) {
+        return new Enriched<>(element, result, null);
+    }
+
+    /**
+     * Creates an element whose API call failed.
+     *
+     * @param element the source element
+     * @param error   the error the API call failed with
+     * @param <T>     the type of the source element
+     * @param <R>     the type of the API response
+     * @return the enriched element
+     */
+    public static <T, R> Enriched<T, R> failure(T element, Throwable error) {
+        return new Enriched<>(element, null, Objects.requireNonNull(error, "error"));
+    }
+
+    /**
+     * Gets the source element.
+     *
+     * @return the source element
+     */
+    public T getElement() {
+        return element;
+    }
+
+    /**
+     * Gets the API response for the element.
+     *
+     * @return the API response, or null if the call failed
+     */
+    public R getResult() {
+        return result;
+    }
+
+    /**
+     * Gets the error the API call failed with.
+     *
+     * @return the error, or null if the call succeeded
+     */
+    public Throwable getError() {
+        return error;
+    }
+
+    /**
+     * Whether the API call for the element succeeded.
+     *
+     * @return true if a result is available
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    @Override
+    public String toString() {
+        return "Enriched{" +
+                "element=" + element +
+                ", result=" + result +
+                ", error=" + error +
+                '}';
+    }
+}
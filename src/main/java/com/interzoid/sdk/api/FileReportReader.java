@@ -0,0 +1,83 @@
+package com.interzoid.sdk.api;
+
+import com.interzoid.sdk.model.CloudDatabaseFileResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Writes a report to a file as it arrives, in constant memory, for {@link ReportReader#toFile(Path)}.
+ * The report is transferred into a partial file next to the target, which replaces the target once the report is complete
+ * and is deleted if the download fails.
+ */
+final class FileReportReader implements ReportReader<CloudDatabaseFileResponse> {
+    /**
+     * The most bytes moved by one transfer; the channel transfer itself copies through a small buffer.
+     */
+    private static final long TRANSFER_SIZE = 1 << 20;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final Path path;
+
+    FileReportReader(Path path) {
+        this.path = path.toAbsolutePath();
+    }
+
+    @Override
+    public CloudDatabaseFileResponse read(InputStream body, Charset charset) throws IOException {
+        MessageDigest digest = sha256();
+        Path partial = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".part");
+        try {
+            long size = 0;
+            try (ReadableByteChannel source = Channels.newChannel(new DigestInputStream(body, digest));
+                 FileChannel target = FileChannel.open(partial, StandardOpenOption.WRITE)) {
+                long transferred;
+                while ((transferred = target.transferFrom(source, size, TRANSFER_SIZE)) > 0) {
+                    size += transferred;
+                }
+            }
+            move(partial, path);
+            return new CloudDatabaseFileResponse(path, size, hex(digest.digest()));
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(partial);
+            throw e;
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is required of every Java platform", e);
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[2 * i] = HEX_DIGITS[(bytes[i] >> 4) & 0xf];
+            chars[2 * i + 1] = HEX_DIGITS[bytes[i] & 0xf];
+        }
+        return new String(chars);
+    }
+}
@@ -1,21 +1,22 @@
 package com.interzoid.sdk.api;
 
+import com.interzoid.sdk.api.exceptions.ClientErrorException;
 import com.interzoid.sdk.api.exceptions.InterzoidApiException;
+import com.interzoid.sdk.api.exceptions.ServerErrorException;
+import com.interzoid.sdk.api.exceptions.UnexpectedResponseException;
 import com.interzoid.sdk.api.exceptions.ValidationException;
 import com.interzoid.sdk.model.FullNameMatchKeyRequest;
 import com.interzoid.sdk.model.MatchKeyResponse;
+import com.interzoid.sdk.validation.RequestValidator;
 import com.squareup.moshi.JsonAdapter;
-import com.squareup.moshi.Moshi;
 import jakarta.validation.ConstraintViolation;
-import jakarta.validation.Validation;
-import jakarta.validation.Validator;
-import jakarta.validation.ValidatorFactory;
-import okhttp3.OkHttpClient;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * 
@@ -51,8 +52,7 @@ import java.util.concurrent.TimeUnit;
  * <h3>With Custom OkHttpClient</h3>
  * <pre>{@code
  * import com.interzoid.sdk.api.FullNameMatchKeyApi;
- * import okhttp3.OkHttpClient;
- * import java.util.concurrent.TimeUnit;
+ *  * import java.util.concurrent.TimeUnit;
  *
  * public class FullNameMatchKeyTest {
  *   public static void main(String[] args) throws Exception {
@@ -76,8 +76,9 @@ import java.util.concurrent.TimeUnit;
 
 public final class FullNameMatchKeyApi {
     private static final String RESOURCE = "getfullnamematch";
+    private static final JsonAdapter<MatchKeyResponse> JSON_ADAPTER = InterzoidApi.MOSHI.adapter(MatchKeyResponse.class);
     private final InterzoidApi interzoidApi;
-    private final Validator validator;
+    private final RequestValidator validator;
 
     /**
      * The builder class for {@link FullNameMatchKeyApi}, providing a flexible way to configure and create an instance of {@code FullNameMatchKeyApi}.
@@ -85,9 +86,7 @@ public final class FullNameMatchKeyApi {
      *
      * @see FullNameMatchKeyApi
      */
-    public static class Builder {
-        private OkHttpClient client;
-        private InterzoidApi api;
+    public static class Builder extends AbstractApiBuilder<Builder> {
 
         /**
          * Default constructor for the {@link FullNameMatchKeyApi.Builder} class.
@@ -95,45 +94,13 @@ public final class FullNameMatchKeyApi {
         public Builder() {
         }
 
-        /**
-         * Specifies the {@link OkHttpClient} instance to be used by the {@code FullNameMatchKeyApi} instance being built.
-         * This is optional and allows for customization of the {@code OkHttpClient} instance used internally by the {@code FullNameMatchKeyApi} instance.
-         *
-         * @param client the {@code OkHttpClient} instance to be used
-         * @return the current builder instance, allowing for method chaining
-         */
-        public Builder withClient(OkHttpClient client) {
-            this.client = client;
-            return this;
-        }
-
-        /**
-         * Specifies the {@link InterzoidApi} instance to be used by the {@code FullNameMatchKeyApi} instance being built.
-         * This method is package protected and is intended for use in testing.
-         *
-         * @param interzoidApi the {@code InterzoidApi} instance to be used
-         * @return the current builder instance, allowing for method chaining
-         */
-        Builder withInterzoidApi(InterzoidApi interzoidApi) {
-            this.api = interzoidApi;
-            return this;
-        }
-
         /**
          * Constructs a new {@code FullNameMatchKeyApi} instance with the current configuration settings specified in this builder.
          *
          * @return a new {@code FullNameMatchKeyApi} instance
          */
         public FullNameMatchKeyApi build() {
-            if (client == null) {
-                client = new OkHttpClient.Builder()
-                        .connectTimeout(10, TimeUnit.SECONDS)
-                        .build();
-            }
-            if (api == null) {
-                api = new InterzoidApi(client);
-            }
-            return new FullNameMatchKeyApi(api);
+            return new FullNameMatchKeyApi(buildInterzoidApi(), getRequestValidator());
         }
     }
 
@@ -141,13 +108,12 @@ public final class FullNameMatchKeyApi {
      * Constructs a new {@code FullNameMatchKeyApi} instance with the specified {@link InterzoidApi} instance.
      *
      * @param interzoidApi the {@code InterzoidApi} instance to be used
+     * @param validator    the {@code RequestValidator} checking requests before they are sent
      * @see FullNameMatchKeyApi.Builder#build() for a method to construct a {@code FullNameMatchKeyApi} instance based on the configuration settings specified in the {@code Builder}
      */
-    private FullNameMatchKeyApi(InterzoidApi interzoidApi) {
+    private FullNameMatchKeyApi(InterzoidApi interzoidApi, RequestValidator validator) {
         this.interzoidApi = interzoidApi;
-        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
-            validator = factory.getValidator();
-        }
+        this.validator = validator;
     }
 
     /**
@@ -167,16 +133,57 @@ public final class FullNameMatchKeyApi {
             throw new ValidationException("Validation failed", violations);
         }
 
-        Moshi moshi = new Moshi.Builder().build();
-        JsonAdapter<MatchKeyResponse> jsonAdapter = moshi.adapter(MatchKeyResponse.class);
-
-        Map<String, String> params = new HashMap<>();
-        params.put("fullname", request.getFullName());
+        Map<String, String> params = params(request);
         try {
             String response = interzoidApi.doApiGetRequest(request.getApikey(), RESOURCE, params);
-            return jsonAdapter.fromJson(response);
+            MatchKeyResponse result = InterzoidApi.decode(JSON_ADAPTER, response);
+            interzoidApi.recordCredits(result);
+            return result;
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
     }
+
+    /**
+     * Asynchronously sends a request to the API to obtain a similarity key based on the provided full name.
+     * The request is validated on the calling thread; the HTTP call runs on the transport and the response is decoded on
+     * the thread completing it, such as an OkHttp dispatcher thread, so the calling thread never blocks on the network.
+     *
+     * @param request the request object containing the necessary details, including the API key, to fetch the similarity key
+     * @return a future completed with the {@code MatchKeyResponse}, or exceptionally with an {@link UnexpectedResponseException}:
+     * caused by a {@link ClientErrorException} or {@link ServerErrorException} if the API returns an error status,
+     * by the I/O error if the call fails, or by the JSON error if the body cannot be decoded; a JSON {@code null}
+     * body fails as well
+     * @throws ValidationException if the request is invalid
+     * @see #doRequest(FullNameMatchKeyRequest)
+     * @see StreamEnricher
+     */
+    public CompletableFuture<MatchKeyResponse> doRequestAsync(FullNameMatchKeyRequest request) {
+        Set<ConstraintViolation<FullNameMatchKeyRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new ValidationException("Validation failed", violations);
+        }
+
+        Map<String, String> params = params(request);
+        return interzoidApi.doApiGetRequestAsync(request.getApikey(), RESOURCE, params)
+                .thenApply(response -> {
+                    try {
+                        MatchKeyResponse result = InterzoidApi.decode(JSON_ADAPTER, response);
+                        interzoidApi.recordCredits(result);
+                        return result;
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                });
+    }
+
+    /**
+     * Builds the query parameters of a request.
+     *
+     * @param request a validated request
+     * @return the parameters
+     */
+    static Map<String, String> params(FullNameMatchKeyRequest request) {
+        return Collections.singletonMap("fullname", request.getFullName());
+    }
 }
@@ -4,20 +4,55 @@ import com.interzoid.sdk.api.exceptions.ClientErrorException;
 import com.interzoid.sdk.api.exceptions.InterzoidApiException;
 import com.interzoid.sdk.api.exceptions.ServerErrorException;
 import com.interzoid.sdk.api.exceptions.UnexpectedResponseException;
-import okhttp3.*;
+import com.interzoid.sdk.metrics.MetricsRecorder;
+import com.interzoid.sdk.model.InterzoidResponse;
+import com.interzoid.sdk.metrics.FlightRecording;
+import com.interzoid.sdk.metrics.RequestEvent;
+import com.interzoid.sdk.metrics.RequestOutcome;
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonDataException;
+import com.squareup.moshi.Moshi;
+import okhttp3.OkHttpClient;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
-import java.util.Map;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
 
 /**
- * <p>InterzoidApi is a wrapper around OkHttp client to make requests to Interzoid APIs.</p>
+ * <p>InterzoidApi is a wrapper around a {@link Transport} to make requests to Interzoid APIs.</p>
  * <p>This class is not intended to be used directly. Instead, use the more specific APIs in the @link{com.interzoid.sdk.api} package.</p>
  */
 public final class InterzoidApi {
-    private static final String API_BASE_URL = "https://api.interzoid.com/";
-    private static final String CONNECT_BASE_URL = "https://connect.interzoid.com/";
+    static final String API_BASE_URL = "https://api.interzoid.com/";
+    static final String CONNECT_BASE_URL = "https://connect.interzoid.com/";
 
-    private final OkHttpClient client;
+    /**
+     * The Moshi instance shared by the API classes, which create their adapters from it once. Moshi and its adapters are thread-safe.
+     */
+    static final Moshi MOSHI = new Moshi.Builder().build();
+
+    private static final String WARM_UP_RESOURCE = "getremainingcredits";
+    private static final String CONNECT_RESOURCE = "run";
+    private static final int NO_RESPONSE = -1;
+
+    private final Transport transport;
+    private final MetricsRecorder metricsRecorder;
+    private final EndpointSelector apiEndpoints;
+    private final EndpointSelector connectEndpoints;
 
     /**
      * Constructs a new InterzoidApi with the specified OkHttpClient.
@@ -25,7 +60,70 @@ public final class InterzoidApi {
      * @param client The OkHttpClient to use.
      */
     InterzoidApi(OkHttpClient client) {
-        this.client = client;
+        this(new OkHttpTransport(client));
+    }
+
+    /**
+     * Constructs a new InterzoidApi with the specified Transport.
+     *
+     * @param transport The Transport to use.
+     */
+    InterzoidApi(Transport transport) {
+        this(transport, MetricsRecorder.NOOP);
+    }
+
+    /**
+     * Constructs a new InterzoidApi with the specified Transport, reporting every request to the specified MetricsRecorder.
+     *
+     * @param transport       The Transport to use.
+     * @param metricsRecorder The MetricsRecorder to report requests to.
+     */
+    InterzoidApi(Transport transport, MetricsRecorder metricsRecorder) {
+        this(transport, metricsRecorder, API_BASE_URL, CONNECT_BASE_URL);
+    }
+
+    /**
+     * Constructs a new InterzoidApi with the specified Transport and MetricsRecorder, sending requests to the specified base URLs.
+     *
+     * @param transport       The Transport to use.
+     * @param metricsRecorder The MetricsRecorder to report requests to.
+     * @param apiBaseUrl      The base URL of the data matching API.
+     * @param connectBaseUrl  The base URL of the Cloud Data Connect API.
+     */
+    InterzoidApi(Transport transport, MetricsRecorder metricsRecorder, String apiBaseUrl, String connectBaseUrl) {
+        this(transport, metricsRecorder, Collections.singletonList(apiBaseUrl), Collections.singletonList(connectBaseUrl));
+    }
+
+    /**
+     * Constructs a new InterzoidApi with the specified Transport and MetricsRecorder, sending requests to the best of
+     * several equivalent base URLs and failing over to the others on connect errors.
+     *
+     * @param transport       The Transport to use.
+     * @param metricsRecorder The MetricsRecorder to report requests to.
+     * @param apiBaseUrls     The base URLs of the data matching API.
+     * @param connectBaseUrls The base URLs of the Cloud Data Connect API.
+     * @see EndpointSelector
+     */
+    InterzoidApi(Transport transport, MetricsRecorder metricsRecorder, List<String> apiBaseUrls, List<String> connectBaseUrls) {
+        this.transport = transport;
+        this.metricsRecorder = metricsRecorder;
+        this.apiEndpoints = new EndpointSelector(apiBaseUrls);
+        this.connectEndpoints = new EndpointSelector(connectBaseUrls);
+    }
+
+    /**
+     * Validates a base URL and ensures it ends with a slash, so resource names can be appended to it.
+     *
+     * @param baseUrl the base URL
+     * @return the base URL ending with a slash
+     * @throws IllegalArgumentException if the URL is not an absolute http or https URL
+     */
+    static String normalizeBaseUrl(String baseUrl) {
+        URI uri = URI.create(Objects.requireNonNull(baseUrl, "baseUrl"));
+        if (uri.getHost() == null || !("http".equals(uri.getScheme()) || "https".equals(uri.getScheme()))) {
+            throw new IllegalArgumentException("Base URL must be an absolute http or https URL: " + baseUrl);
+        }
+        return baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
     }
 
     /**
@@ -38,69 +136,572 @@ public final class InterzoidApi {
      * @throws IOException if an error occurs while making the request
      */
     String doApiGetRequest(String apiKey, String resource, Map<String, String> params) throws IOException {
-        HttpUrl.Builder urlBuilder = HttpUrl.parse(API_BASE_URL + resource).newBuilder();
-        if (params != null) {
-            for (Map.Entry<String, String> entry : params.entrySet()) {
-                urlBuilder.addQueryParameter(entry.getKey(), entry.getValue());
-            }
-        }
-        Request request = new Request.Builder()
-                .url(urlBuilder.build())
-                .addHeader("x-api-key", apiKey)
-                .build();
+        return get(resource, apiEndpoints, resource, params, Collections.singletonMap("x-api-key", apiKey));
+    }
 
-        return get(request);
+    /**
+     * Makes an asynchronous GET request to the specified resource with the given parameters.
+     * The calling thread never blocks on the network.
+     *
+     * @param apiKey   the API key to be used for authentication
+     * @param resource the resource to be requested
+     * @param params   the parameters to be sent with the request
+     * @return a future completed with the response body (JSON), or exceptionally with an {@link InterzoidApiException}
+     */
+    CompletableFuture<String> doApiGetRequestAsync(String apiKey, String resource, Map<String, String> params) {
+        return getAsync(resource, apiEndpoints, resource, params, Collections.singletonMap("x-api-key", apiKey));
     }
 
     /**
-     * Makes a request to the Interzoid Cloud Data Connect API with the given parameters.
+     * Makes a request to the Interzoid Cloud Data Connect API with the given parameters, with the default {@link WorkloadPolicy}.
      *
      * @param params the parameters to be sent with the request
      * @return String (JSON or Plain Text)
      * @throws InterzoidApiException if an error occurs while making the request
      */
     String doCloudConnectRequest(Map<String, String> params) throws IOException {
-        HttpUrl.Builder urlBuilder = HttpUrl.parse(CONNECT_BASE_URL + "run").newBuilder();
+        return doCloudConnectRequest(params, WorkloadPolicy.DEFAULT);
+    }
+
+    /**
+     * Makes a request to the Interzoid Cloud Data Connect API with the given parameters, which may take up to the timeout
+     * of the workload policy.
+     *
+     * @param params the parameters to be sent with the request
+     * @param policy the timeout and keep-alive policy of the workload
+     * @return String (JSON or Plain Text)
+     * @throws InterzoidApiException if an error occurs while making the request
+     */
+    String doCloudConnectRequest(Map<String, String> params, WorkloadPolicy policy) throws IOException {
+        CompletableFuture<StreamingResponse> response = doCloudConnectStreamingRequest(params, policy);
+        // the reader runs once the response is received, and reads the report into an array of its content length
+        return await(CloudWorkload.start(response, (body, charset) -> new String(
+                StreamingResponse.readAllBytes(body, response.join().getContentLength()), charset), Runnable::run, policy));
+    }
+
+    /**
+     * Makes a request to the Interzoid Cloud Data Connect API with the given parameters, reading the report with the given
+     * reader on the thread receiving it. The request may take up to the timeout of the workload policy.
+     *
+     * @param params the parameters to be sent with the request
+     * @param policy the timeout and keep-alive policy of the workload
+     * @param reader the reader of the report
+     * @param <T>    the type of the result of the reader
+     * @return the result of the reader
+     * @throws InterzoidApiException if an error occurs while making the request
+     */
+    <T> T doCloudConnectRequest(Map<String, String> params, WorkloadPolicy policy, ReportReader<T> reader) throws IOException {
+        return await(CloudWorkload.start(doCloudConnectStreamingRequest(params, policy), reader, Runnable::run, policy));
+    }
+
+    private static <T> T await(CloudWorkload<T> workload) throws IOException {
+        try {
+            return workload.await();
+        } catch (InterzoidApiException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new UnexpectedResponseException("Unexpected response", e);
+        } catch (InterruptedException e) {
+            workload.cancel();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Request interrupted");
+        }
+    }
+
+    /**
+     * Makes a request to the Interzoid Cloud Data Connect API for a long-running workload, whose report is read as it arrives.
+     * The calling thread never blocks on the network. The request is reported to the MetricsRecorder when the body of the
+     * response is closed, with the number of bytes read; a body not read to the end is reported as an unexpected response.
+     *
+     * @param params the parameters to be sent with the request
+     * @param policy the timeout and keep-alive policy of the workload
+     * @return a future completed with the successful response once its headers are received, or exceptionally with an
+     * {@link InterzoidApiException}; reading an empty body fails
+     */
+    CompletableFuture<StreamingResponse> doCloudConnectStreamingRequest(Map<String, String> params, WorkloadPolicy policy) {
+        metricsRecorder.requestStarted(CONNECT_RESOURCE);
+        long start = System.nanoTime();
+        RequestEvent event = FlightRecording.isInitialized() ? new RequestEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        Map<String, String> headers = Collections.emptyMap();
+        AtomicInteger retries = new AtomicInteger();
+        CompletableFuture<StreamingResponse> call = new CompletableFuture<>();
+        try {
+            attemptAsync(call, connectEndpoints, connectEndpoints.select(), 0, CONNECT_RESOURCE, params, headers, retries,
+                    uri -> transport.getStreamingAsync(uri, headers, policy), StreamingResponse::getCode);
+        } catch (RuntimeException e) {
+            recordCompletion(CONNECT_RESOURCE, start, event, null, 0, e);
+            throw e;
+        }
+        CompletableFuture<StreamingResponse> future = call.handle((response, error) -> {
+            TransportResponse received = null;
+            try {
+                if (error != null) {
+                    throw unwrap(error);
+                }
+                if (response.isSuccessful()) {
+                    return new StreamingResponse(response.getCode(), response.getCharset(),
+                            new MeteredBody(response.getBody(), response.getCode(), start, event, retries.get()),
+                            response.getContentLength(), response::abort);
+                }
+                received = response.toTransportResponse();
+                throw errorOf(received);
+            } catch (IOException e) {
+                recordCompletion(CONNECT_RESOURCE, start, event, received, retries.get(), e);
+                throw new CompletionException(new UnexpectedResponseException("Unexpected response", e));
+            }
+        });
+        future.whenComplete((response, error) -> {
+            if (future.isCancelled()) {
+                call.cancel(true);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Reports the credits remaining in a response to the MetricsRecorder.
+     *
+     * @param response the decoded response, may be null
+     */
+    void recordCredits(InterzoidResponse response) {
+        if (response != null && response.getCredits() != null && metricsRecorder != MetricsRecorder.NOOP) {
+            try {
+                metricsRecorder.creditsRemaining(Long.parseLong(response.getCredits().trim()));
+            } catch (NumberFormatException e) {
+                // not a count of credits, nothing to report
+            }
+        }
+    }
+
+    /**
+     * Decodes the body of a successful response.
+     *
+     * @param adapter the adapter of the response type
+     * @param body    the response body
+     * @param <T>     the response type
+     * @return the decoded response, never null
+     * @throws UnexpectedResponseException if the body is not valid JSON of the response type, or is the JSON {@code null}
+     */
+    static <T extends InterzoidResponse> T decode(JsonAdapter<T> adapter, String body) throws UnexpectedResponseException {
+        T response;
+        try {
+            response = adapter.fromJson(body);
+        } catch (IOException | JsonDataException e) {
+            throw new UnexpectedResponseException("Unexpected response: " + e.getMessage(), e);
+        }
+        if (response == null) {
+            throw new UnexpectedResponseException("Unexpected response: null body");
+        }
+        return response;
+    }
+
+    /**
+     * Warms up DNS and the connection pool of the transport.
+     * The Interzoid hosts are resolved, which caches them in the JVM, then the requested number of calls to the
+     * credits-remaining resource of each data matching endpoint and one call to each Cloud Data Connect endpoint are made in parallel.
+     * These calls do not consume credits; any HTTP response, including an authentication error, leaves an established connection
+     * in the pool and gives a first latency measurement of the endpoint. Over HTTP/2 the calls may be multiplexed over fewer connections.
+     *
+     * @param connections the number of parallel calls to each data matching endpoint
+     * @return the timings of the warm-up
+     */
+    WarmUpReport warmUp(int connections) {
+        if (connections < 1) {
+            throw new IllegalArgumentException("connections must be greater than 0");
+        }
+        long start = System.nanoTime();
+        Map<String, Duration> dnsResolutionTimes = new LinkedHashMap<>();
+        List<Throwable> failures = new ArrayList<>();
+        List<EndpointSelector.Endpoint> apiEndpointList = apiEndpoints.getEndpoints();
+        List<EndpointSelector.Endpoint> connectEndpointList = connectEndpoints.getEndpoints();
+        Set<String> hosts = new LinkedHashSet<>();
+        for (EndpointSelector.Endpoint endpoint : apiEndpointList) {
+            hosts.add(URI.create(endpoint.getBaseUrl()).getHost());
+        }
+        for (EndpointSelector.Endpoint endpoint : connectEndpointList) {
+            hosts.add(URI.create(endpoint.getBaseUrl()).getHost());
+        }
+        for (String host : hosts) {
+            long resolveStart = System.nanoTime();
+            try {
+                InetAddress.getAllByName(host);
+                dnsResolutionTimes.put(host, Duration.ofNanos(System.nanoTime() - resolveStart));
+            } catch (UnknownHostException e) {
+                failures.add(e);
+            }
+        }
+
+        List<CompletableFuture<Duration>> calls = new ArrayList<>(connections * apiEndpointList.size() + connectEndpointList.size());
+        for (EndpointSelector.Endpoint endpoint : apiEndpointList) {
+            for (int i = 0; i < connections; i++) {
+                calls.add(timedCall(apiEndpoints, endpoint, URI.create(endpoint.getBaseUrl() + WARM_UP_RESOURCE)));
+            }
+        }
+        for (EndpointSelector.Endpoint endpoint : connectEndpointList) {
+            calls.add(timedCall(connectEndpoints, endpoint, URI.create(endpoint.getBaseUrl())));
+        }
+
+        List<Duration> requestTimes = new ArrayList<>(calls.size());
+        for (CompletableFuture<Duration> call : calls) {
+            try {
+                requestTimes.add(call.join());
+            } catch (CompletionException | CancellationException e) {
+                failures.add(e.getCause() != null ? e.getCause() : e);
+            }
+        }
+        return new WarmUpReport(dnsResolutionTimes, requestTimes, failures, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private CompletableFuture<Duration> timedCall(EndpointSelector endpoints, EndpointSelector.Endpoint endpoint, URI uri) {
+        long start = System.nanoTime();
+        try {
+            return transport.getAsync(uri, Collections.emptyMap())
+                    .whenComplete((response, error) -> record(endpoints, endpoint, start, response, error))
+                    .thenApply(response -> Duration.ofNanos(System.nanoTime() - start));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Builds the URI for a request, appending the parameters as an encoded query string.
+     *
+     * @param url    the URL of the resource
+     * @param params the parameters to be sent with the request, may be null
+     * @return the URI
+     */
+    static URI buildUri(String url, Map<String, String> params) {
+        if (params == null || params.isEmpty()) {
+            return URI.create(url);
+        }
+        StringBuilder builder = new StringBuilder(url.length() + 16 * params.size()).append(url);
+        char separator = '?';
         for (Map.Entry<String, String> entry : params.entrySet()) {
-            urlBuilder.addQueryParameter(entry.getKey(), entry.getValue());
+            builder.append(separator).append(encode(entry.getKey()));
+            if (entry.getValue() != null) {
+                builder.append('=').append(encode(entry.getValue()));
+            }
+            separator = '&';
         }
-        Request request = new Request.Builder()
-                .url(urlBuilder.build())
-                .build();
+        return URI.create(builder.toString());
+    }
 
-        return get(request);
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
     }
 
     /**
-     * Makes a GET request using the OkHttpClient
+     * Makes a GET request using the Transport, failing over to the next best endpoint if the connection cannot be established.
      *
-     * @param request
+     * @param resource  the resource requested, as reported to the MetricsRecorder
+     * @param endpoints the endpoints to choose from
+     * @param path      the path of the resource relative to the base URL
+     * @param params    the parameters to be sent with the request
+     * @param headers   the request headers
      * @return String (request body)
      * @throws IOException if an error occurs while making the request
      */
-    private String get(Request request) throws IOException {
-        try (Response response = client.newCall(request).execute()) {
-            ResponseBody responseBody = response.body();
-            String body = responseBody != null ? responseBody.string() : null;
+    private String get(String resource, EndpointSelector endpoints, String path, Map<String, String> params,
+                       Map<String, String> headers) throws IOException {
+        metricsRecorder.requestStarted(resource);
+        long start = System.nanoTime();
+        RequestEvent event = FlightRecording.isInitialized() ? new RequestEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        TransportResponse response = null;
+        int retries = 0;
+        try {
+            EndpointSelector.Endpoint endpoint = endpoints.select();
+            long tried = 0;
+            while (true) {
+                long attemptStart = System.nanoTime();
+                try {
+                    response = transport.get(buildUri(endpoint.getBaseUrl() + path, params), headers);
+                    record(endpoints, endpoint, attemptStart, response, null);
+                    break;
+                } catch (IOException e) {
+                    EndpointSelector.Endpoint next = record(endpoints, endpoint, attemptStart, null, e);
+                    tried = EndpointSelector.tried(tried, endpoint);
+                    if (next == null || (next = endpoints.select(tried)) == null) {
+                        throw e;
+                    }
+                    endpoint = next;
+                    retries++;
+                }
+            }
+            String body = readBody(response);
+            recordCompletion(resource, start, event, response, retries, null);
+            return body;
+        } catch (IOException e) {
+            recordCompletion(resource, start, event, response, retries, e);
+            throw new UnexpectedResponseException("Unexpected response", e);
+        } catch (RuntimeException e) {
+            recordCompletion(resource, start, event, response, retries, e);
+            throw e;
+        }
+    }
 
-            if (response.isSuccessful()) {
-                if (body == null || body.isEmpty()) {
-                    throw new IOException("Response body is empty");
+    /**
+     * Makes an asynchronous GET request using the Transport, failing over to the next best endpoint if the connection
+     * cannot be established.
+     *
+     * @param resource  the resource requested, as reported to the MetricsRecorder
+     * @param endpoints the endpoints to choose from
+     * @param path      the path of the resource relative to the base URL
+     * @param params    the parameters to be sent with the request
+     * @param headers   the request headers
+     * @return a future completed with the response body
+     */
+    private CompletableFuture<String> getAsync(String resource, EndpointSelector endpoints, String path,
+                                               Map<String, String> params, Map<String, String> headers) {
+        metricsRecorder.requestStarted(resource);
+        long start = System.nanoTime();
+        RequestEvent event = FlightRecording.isInitialized() ? new RequestEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        AtomicInteger retries = new AtomicInteger();
+        CompletableFuture<TransportResponse> call = new CompletableFuture<>();
+        try {
+            attemptAsync(call, endpoints, endpoints.select(), 0, path, params, headers, retries,
+                    uri -> transport.getAsync(uri, headers), TransportResponse::getCode);
+        } catch (RuntimeException e) {
+            recordCompletion(resource, start, event, null, 0, e);
+            throw e;
+        }
+        CompletableFuture<String> future = call.handle((response, error) -> {
+            try {
+                if (error != null) {
+                    throw unwrap(error);
                 }
+                String body = readBody(response);
+                recordCompletion(resource, start, event, response, retries.get(), null);
                 return body;
-            } else {
-                String errorMsg = body != null ? body : "Unknown error";
-                int code = response.code();
-                if (code >= 400 && code < 500) {
-                    throw new ClientErrorException("Client error. StatusCode: " + code + ", Message: " + errorMsg);
-                } else if (code >= 500) {
-                    throw new ServerErrorException("Server error. StatusCode: " + code + ", Message: " + errorMsg);
-                } else {
-                    throw new UnexpectedResponseException("Unexpected response code: " + response.code() + ", message: " + errorMsg);
+            } catch (IOException e) {
+                recordCompletion(resource, start, event, response, retries.get(), e);
+                throw new CompletionException(new UnexpectedResponseException("Unexpected response", e));
+            }
+        });
+        future.whenComplete((body, error) -> {
+            if (future.isCancelled()) {
+                call.cancel(true);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Sends one attempt of an asynchronous request and completes the result with its response, or sends the next attempt
+     * to another endpoint if the connection could not be established. Cancelling the result cancels the current attempt.
+     */
+    private <R> void attemptAsync(CompletableFuture<R> result, EndpointSelector endpoints,
+                                  EndpointSelector.Endpoint endpoint, long tried, String path, Map<String, String> params,
+                                  Map<String, String> headers, AtomicInteger retries, Function<URI, CompletableFuture<R>> send,
+                                  ToIntFunction<R> codeOf) {
+        long attemptStart = System.nanoTime();
+        CompletableFuture<R> attempt = send.apply(buildUri(endpoint.getBaseUrl() + path, params));
+        result.whenComplete((response, error) -> {
+            if (result.isCancelled()) {
+                attempt.cancel(true);
+            }
+        });
+        attempt.whenComplete((response, error) -> {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            EndpointSelector.Endpoint next = record(endpoints, endpoint, attemptStart,
+                    response != null ? codeOf.applyAsInt(response) : NO_RESPONSE, cause);
+            if (error == null) {
+                result.complete(response);
+                return;
+            }
+            long nowTried = EndpointSelector.tried(tried, endpoint);
+            if (next != null && !result.isDone() && (next = endpoints.select(nowTried)) != null) {
+                retries.incrementAndGet();
+                try {
+                    attemptAsync(result, endpoints, next, nowTried, path, params, headers, retries, send, codeOf);
+                    return;
+                } catch (RuntimeException e) {
+                    cause = e;
                 }
             }
-        } catch (IOException e) {
-            throw new UnexpectedResponseException("Unexpected response", e);
+            result.completeExceptionally(cause);
+        });
+    }
+
+    /**
+     * Records the outcome of an attempt with the endpoint selector.
+     *
+     * @return the endpoint itself if the attempt failed to connect and may be retried elsewhere, null otherwise
+     */
+    private static EndpointSelector.Endpoint record(EndpointSelector endpoints, EndpointSelector.Endpoint endpoint, long start,
+                                                    TransportResponse response, Throwable error) {
+        return record(endpoints, endpoint, start, response != null ? response.getCode() : NO_RESPONSE, error);
+    }
+
+    private static EndpointSelector.Endpoint record(EndpointSelector endpoints, EndpointSelector.Endpoint endpoint, long start,
+                                                    int code, Throwable error) {
+        long nanos = System.nanoTime() - start;
+        if (code != NO_RESPONSE) {
+            endpoints.recordResponse(endpoint, nanos, code);
+            return null;
+        }
+        boolean connectFailure = EndpointSelector.isConnectFailure(error);
+        endpoints.recordFailure(endpoint, nanos, connectFailure);
+        return connectFailure ? endpoint : null;
+    }
+
+    private void recordCompletion(String resource, long start, RequestEvent event, TransportResponse response, int retries,
+                                  Throwable error) {
+        long bytesReceived = response != null ? response.getBytesReceived() : 0;
+        RequestOutcome outcome = outcomeOf(error);
+        metricsRecorder.requestCompleted(resource, System.nanoTime() - start, bytesReceived, outcome);
+        if (event != null) {
+            event.complete(resource, response != null ? response.getCode() : 0, bytesReceived, retries, outcome);
+        }
+    }
+
+    private static RequestOutcome outcomeOf(Throwable error) {
+        if (error == null) {
+            return RequestOutcome.SUCCESS;
+        } else if (error instanceof ClientErrorException) {
+            return RequestOutcome.CLIENT_ERROR;
+        } else if (error instanceof ServerErrorException) {
+            return RequestOutcome.SERVER_ERROR;
+        }
+        return RequestOutcome.UNEXPECTED_RESPONSE;
+    }
+
+    private static IOException unwrap(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof IOException ? (IOException) cause : new IOException(cause);
+    }
+
+    /**
+     * Reads the body of the response, mapping unsuccessful status codes to exceptions.
+     *
+     * @param response the response to read
+     * @return String (response body)
+     * @throws IOException if the response is unsuccessful or has no body
+     */
+    private static String readBody(TransportResponse response) throws IOException {
+        String body = response.getBody();
+
+        if (response.isSuccessful()) {
+            if (body == null || body.isEmpty()) {
+                throw new IOException("Response body is empty");
+            }
+            return body;
+        }
+        throw errorOf(response);
+    }
+
+    /**
+     * Maps an unsuccessful response to the exception reporting it.
+     *
+     * @param response the unsuccessful response
+     * @return the exception
+     */
+    private static InterzoidApiException errorOf(TransportResponse response) {
+        String body = response.getBody();
+        String errorMsg = body != null ? body : "Unknown error";
+        int code = response.getCode();
+        if (code >= 400 && code < 500) {
+            return new ClientErrorException("Client error. StatusCode: " + code + ", Message: " + errorMsg);
+        } else if (code >= 500) {
+            return new ServerErrorException("Server error. StatusCode: " + code + ", Message: " + errorMsg);
+        } else {
+            return new UnexpectedResponseException("Unexpected response code: " + response.getCode() + ", message: " + errorMsg);
+        }
+    }
+
+    /**
+     * The body of a successful Cloud Data Connect response, which reports the request once it is closed.
+     */
+    private final class MeteredBody extends FilterInputStream {
+        private final int code;
+        private final long start;
+        private final RequestEvent event;
+        private final int retries;
+        private long bytesRead;
+        private boolean ended;
+        private IOException error;
+        private boolean closed;
+
+        MeteredBody(InputStream in, int code, long start, RequestEvent event, int retries) {
+            super(in);
+            this.code = code;
+            this.start = start;
+            this.event = event;
+            this.retries = retries;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b;
+            try {
+                b = super.read();
+            } catch (IOException e) {
+                error = e;
+                throw e;
+            }
+            count(b < 0 ? -1 : 1);
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n;
+            try {
+                n = super.read(b, off, len);
+            } catch (IOException e) {
+                error = e;
+                throw e;
+            }
+            return count(n);
+        }
+
+        private int count(int n) throws IOException {
+            if (n > 0) {
+                bytesRead += n;
+            } else if (n < 0) {
+                ended = true;
+                if (bytesRead == 0) {
+                    error = new IOException("Response body is empty");
+                    throw error;
+                }
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            byte[] buffer = new byte[(int) Math.min(n, 8192)];
+            long skipped = 0;
+            while (skipped < n) {
+                int read = read(buffer, 0, (int) Math.min(n - skipped, buffer.length));
+                if (read < 0) {
+                    break;
+                }
+                skipped += read;
+            }
+            return skipped;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                super.close();
+            } finally {
+                IOException failure = error != null || ended ? error : new IOException("Response body was not read to the end");
+                recordCompletion(CONNECT_RESOURCE, start, event, new TransportResponse(code, null, bytesRead), retries, failure);
+            }
         }
     }
 }
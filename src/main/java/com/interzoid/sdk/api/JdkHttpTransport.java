@@ -0,0 +1,182 @@
+package com.interzoid.sdk.api;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * <p>A {@link Transport} backed by the JDK {@link HttpClient}.</p>
+ *
+ * <p>The default client negotiates HTTP/2, so concurrent requests to the same host are multiplexed over a single connection,
+ * and asynchronous requests use {@link HttpClient#sendAsync} without holding a thread while waiting for the response.
+ * This transport does not require OkHttp at runtime, which reduces startup time and class loading for short-lived processes.</p>
+ *
+ * <p>The JDK client keeps idle connections alive and reuses them by default. Its pool is configured with the system properties
+ * {@code jdk.httpclient.connectionPoolSize} and {@code jdk.httpclient.keepalive.timeout}, which apply to every client in the JVM.</p>
+ *
+ * @see Transport
+ */
+public final class JdkHttpTransport implements Transport {
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+    private final HttpClient client;
+
+    /**
+     * Constructs a new JdkHttpTransport with a default client preferring HTTP/2.
+     */
+    public JdkHttpTransport() {
+        this(HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(CONNECT_TIMEOUT)
+                .executor(RequestExecutors.newRequestExecutor())
+                .build());
+    }
+
+    /**
+     * Constructs a new JdkHttpTransport with the specified client.
+     *
+     * @param client the HttpClient to use
+     */
+    public JdkHttpTransport(HttpClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Gets the HttpClient used by this transport.
+     *
+     * @return the client
+     */
+    public HttpClient getClient() {
+        return client;
+    }
+
+    @Override
+    public TransportResponse get(URI uri, Map<String, String> headers) throws IOException {
+        try {
+            return toTransportResponse(client.send(newRequest(uri, headers), HttpResponse.BodyHandlers.ofByteArray()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Request interrupted");
+        }
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> getAsync(URI uri, Map<String, String> headers) {
+        return cancellable(client.sendAsync(newRequest(uri, headers), HttpResponse.BodyHandlers.ofByteArray()),
+                JdkHttpTransport::toTransportResponse, response -> {
+                });
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The JDK client applies the timeout of the policy until the response headers are received; the SDK enforces it for the
+     * body. Its keep-alive cannot be configured per request, so the keep-alive interval of the policy is not applied.
+     */
+    @Override
+    public CompletableFuture<StreamingResponse> getStreamingAsync(URI uri, Map<String, String> headers, WorkloadPolicy policy) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri).GET().timeout(policy.getTimeout());
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            builder.header(header.getKey(), header.getValue());
+        }
+        return cancellable(client.sendAsync(builder.build(), HttpResponse.BodyHandlers.ofInputStream()), response -> {
+            InputStream body = response.body();
+            Charset charset = response.headers().firstValue("Content-Type")
+                    .map(JdkHttpTransport::charsetOf)
+                    .orElse(StandardCharsets.UTF_8);
+            long contentLength = response.headers().firstValueAsLong("Content-Length").orElse(-1);
+            return new StreamingResponse(response.statusCode(), charset, body, contentLength, () -> closeQuietly(body));
+        }, response -> closeQuietly(response.body()));
+    }
+
+    /**
+     * Maps the response of an exchange into a future whose cancellation, or exceptional completion, cancels the exchange.
+     * A dependent of {@link HttpClient#sendAsync} does not cancel it, and would skip its mapping when the response arrives
+     * after the cancellation, leaving the body open; such a response is discarded instead.
+     *
+     * @param exchange the exchange started by {@code sendAsync}
+     * @param mapper   maps the response
+     * @param discard  releases a response arriving after the returned future completed
+     * @return a future completed with the mapped response
+     */
+    private static <T, R> CompletableFuture<R> cancellable(CompletableFuture<HttpResponse<T>> exchange,
+                                                           Function<HttpResponse<T>, R> mapper,
+                                                           Consumer<HttpResponse<T>> discard) {
+        CompletableFuture<R> result = new CompletableFuture<>();
+        exchange.whenComplete((response, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+            } else if (result.isDone()) {
+                discard.accept(response);
+            } else {
+                R mapped;
+                try {
+                    mapped = mapper.apply(response);
+                } catch (RuntimeException e) {
+                    discard.accept(response);
+                    result.completeExceptionally(e);
+                    return;
+                }
+                if (!result.complete(mapped)) {
+                    discard.accept(response);
+                }
+            }
+        });
+        result.whenComplete((mapped, error) -> {
+            if (error != null) {
+                exchange.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private static void closeQuietly(InputStream body) {
+        try {
+            body.close();
+        } catch (IOException e) {
+            // closing cancels the exchange, nothing else to do
+        }
+    }
+
+    private static HttpRequest newRequest(URI uri, Map<String, String> headers) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri).GET();
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            builder.header(header.getKey(), header.getValue());
+        }
+        return builder.build();
+    }
+
+    private static TransportResponse toTransportResponse(HttpResponse<byte[]> response) {
+        byte[] bytes = response.body();
+        Charset charset = response.headers().firstValue("Content-Type")
+                .map(JdkHttpTransport::charsetOf)
+                .orElse(StandardCharsets.UTF_8);
+        return new TransportResponse(response.statusCode(), new String(bytes, charset), bytes.length);
+    }
+
+    private static Charset charsetOf(String contentType) {
+        for (String parameter : contentType.split(";")) {
+            String trimmed = parameter.trim();
+            if (trimmed.regionMatches(true, 0, "charset=", 0, 8)) {
+                try {
+                    return Charset.forName(trimmed.substring(8).replace("\"", ""));
+                } catch (IllegalArgumentException e) {
+                    return StandardCharsets.UTF_8;
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+}
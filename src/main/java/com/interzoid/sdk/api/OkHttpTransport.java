@@ -0,0 +1,405 @@
+package com.interzoid.sdk.api;
+
+import com.interzoid.sdk.metrics.MetricsRecorder;
+import com.interzoid.sdk.metrics.PoolStats;
+import com.interzoid.sdk.metrics.SlowCallListener;
+import jdk.net.ExtendedSocketOptions;
+import okhttp3.*;
+
+import javax.net.SocketFactory;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>A {@link Transport} backed by an {@link OkHttpClient}. This is the transport used when none is specified.</p>
+ *
+ * <p>Transports created with the {@link Builder} reuse connections and prefer HTTP/2, so concurrent calls are multiplexed
+ * as streams over a few connections. Unlike a default {@code OkHttpClient}, which runs at most 5 concurrent calls per host,
+ * they allow {@value Builder#DEFAULT_MAX_CONCURRENT_REQUESTS} concurrent calls to each Interzoid host, or
+ * {@value Builder#DEFAULT_VIRTUAL_THREAD_MAX_CONCURRENT_REQUESTS} when calls run on virtual threads.
+ * They can also time the phases of every call (DNS, connect, TLS, time to first byte and body read) for a
+ * {@link MetricsRecorder} and report slow calls to a {@link SlowCallListener}.</p>
+ *
+ * <h2>Example</h2>
+ * <pre>{@code
+ * OkHttpTransport transport = new OkHttpTransport.Builder()
+ *   .withConnectionPool(32, Duration.ofMinutes(5))
+ *   .withMaxConcurrentRequests(128)
+ *   .build();
+ * FullNameMatchKeyApi api = new FullNameMatchKeyApi.Builder()
+ *   .withTransport(transport)
+ *   .build();
+ * // ...
+ * PoolStats stats = transport.getPoolStats();
+ * }</pre>
+ *
+ * <p>Cloud Data Connect workloads run on a client derived from this one for each {@link WorkloadPolicy}, with a connection
+ * pool of its own: its reads may wait up to the policy timeout instead of the read timeout of the client, and its
+ * connections send HTTP/2 pings and TCP keep-alive probes at the keep-alive interval of the policy.</p>
+ *
+ * @see Transport
+ */
+public final class OkHttpTransport implements Transport {
+    private final OkHttpClient client;
+    private final ConnectionCountingListener connectionCounter;
+    private final ConcurrentMap<WorkloadPolicy, OkHttpClient> workloadClients = new ConcurrentHashMap<>();
+
+    /**
+     * The builder class for {@link OkHttpTransport}, configuring the {@link OkHttpClient} created for the transport.
+     */
+    public static class Builder {
+        /**
+         * The default maximum number of idle connections kept in the pool.
+         */
+        public static final int DEFAULT_MAX_IDLE_CONNECTIONS = 16;
+        /**
+         * The default maximum number of concurrent calls to a single host.
+         */
+        public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 64;
+        /**
+         * The default maximum number of concurrent calls to a single host when asynchronous calls run on virtual threads.
+         */
+        public static final int DEFAULT_VIRTUAL_THREAD_MAX_CONCURRENT_REQUESTS = 1024;
+        /**
+         * The default time an idle connection is kept alive.
+         */
+        public static final Duration DEFAULT_KEEP_ALIVE = Duration.ofMinutes(5);
+        /**
+         * The default connect timeout.
+         */
+        public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+        private int maxIdleConnections = DEFAULT_MAX_IDLE_CONNECTIONS;
+        private Duration keepAlive = DEFAULT_KEEP_ALIVE;
+        private Duration connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+        private List<Protocol> protocols = Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1);
+        private Integer maxConcurrentRequests;
+        private MetricsRecorder metricsRecorder = MetricsRecorder.NOOP;
+        private Duration slowCallThreshold;
+        private SlowCallListener slowCallListener;
+
+        /**
+         * Default constructor for the {@link OkHttpTransport.Builder} class.
+         */
+        public Builder() {
+        }
+
+        /**
+         * Configures the connection pool.
+         *
+         * @param maxIdleConnections the maximum number of idle connections kept in the pool
+         * @param keepAlive          how long an idle connection is kept before it is closed
+         * @return the current builder instance, allowing for method chaining
+         */
+        public Builder withConnectionPool(int maxIdleConnections, Duration keepAlive) {
+            if (maxIdleConnections < 0) {
+                throw new IllegalArgumentException("maxIdleConnections must be greater than or equal to 0");
+            }
+            this.maxIdleConnections = maxIdleConnections;
+            this.keepAlive = Objects.requireNonNull(keepAlive, "keepAlive");
+            return this;
+        }
+
+        /**
+         * Specifies the protocols to negotiate, in order of preference.
+         * The default prefers {@link Protocol#HTTP_2}, which multiplexes concurrent calls as streams over one connection, and falls back to {@link Protocol#HTTP_1_1}.
+         *
+         * @param protocols the protocols, which must include {@link Protocol#HTTP_1_1}
+         * @return the current builder instance, allowing for method chaining
+         */
+        public Builder withProtocols(List<Protocol> protocols) {
+            this.protocols = new ArrayList<>(protocols);
+            return this;
+        }
+
+        /**
+         * Specifies the maximum number of concurrent calls to a single host.
+         * Over HTTP/2 these calls are concurrent streams on a shared connection; over HTTP/1.1 each needs its own connection.
+         * Calls beyond the limit are queued by the OkHttp dispatcher, whatever the threads the calls run on.
+         * The default is {@value #DEFAULT_MAX_CONCURRENT_REQUESTS}, or {@value #DEFAULT_VIRTUAL_THREAD_MAX_CONCURRENT_REQUESTS}
+         * when asynchronous calls run on virtual threads, which would otherwise never exceed the limit of platform threads.
+         * <p>
+         * OkHttp writes to connections while holding monitors, which pins a virtual thread to its carrier thread on Java 21;
+         * however high the limit, no more calls than there are carrier threads write their requests at the same time.
+         *
+         * @param maxConcurrentRequests the maximum number of concurrent calls per host
+         * @return the current builder instance, allowing for method chaining
+         */
+        public Builder withMaxConcurrentRequests(int maxConcurrentRequests) {
+            if (maxConcurrentRequests < 1) {
+                throw new IllegalArgumentException("maxConcurrentRequests must be greater than 0");
+            }
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            return this;
+        }
+
+        /**
+         * Specifies the connect timeout.
+         *
+         * @param connectTimeout the connect timeout
+         * @return the current builder instance, allowing for method chaining
+         */
+        public Builder withConnectTimeout(Duration connectTimeout) {
+            this.connectTimeout = Objects.requireNonNull(connectTimeout, "connectTimeout");
+            return this;
+        }
+
+        /**
+         * Specifies the {@link MetricsRecorder} the phase timings of every call are reported to, through {@link MetricsRecorder#callTimed}.
+         *
+         * @param metricsRecorder the recorder
+         * @return the current builder instance, allowing for method chaining
+         */
+        public Builder withMetricsRecorder(MetricsRecorder metricsRecorder) {
+            this.metricsRecorder = Objects.requireNonNull(metricsRecorder, "metricsRecorder");
+            return this;
+        }
+
+        /**
+         * Specifies a listener receiving the phase breakdown of every call taking at least the given threshold.
+         *
+         * @param threshold        the minimum duration of a call reported as slow
+         * @param slowCallListener the listener
+         * @return the current builder instance, allowing for method chaining
+         */
+        public Builder withSlowCallListener(Duration threshold, SlowCallListener slowCallListener) {
+            this.slowCallThreshold = Objects.requireNonNull(threshold, "threshold");
+            this.slowCallListener = Objects.requireNonNull(slowCallListener, "slowCallListener");
+            return this;
+        }
+
+        /**
+         * Constructs a new {@code OkHttpTransport} with a client configured from the current settings of this builder.
+         * Asynchronous calls are dispatched on virtual threads on Java 21 and later, with a higher default limit of concurrent calls.
+         *
+         * @return a new {@code OkHttpTransport} instance
+         */
+        public OkHttpTransport build() {
+            int maxConcurrentRequests = this.maxConcurrentRequests != null ? this.maxConcurrentRequests
+                    : RequestExecutors.usesVirtualThreads() ? DEFAULT_VIRTUAL_THREAD_MAX_CONCURRENT_REQUESTS
+                    : DEFAULT_MAX_CONCURRENT_REQUESTS;
+            Dispatcher dispatcher = new Dispatcher(RequestExecutors.newRequestExecutor());
+            dispatcher.setMaxRequestsPerHost(maxConcurrentRequests);
+            // both Interzoid hosts may be saturated at the same time
+            dispatcher.setMaxRequests(Math.max(dispatcher.getMaxRequests(), 2 * maxConcurrentRequests));
+
+            ConnectionCountingListener connectionCounter = new ConnectionCountingListener();
+            OkHttpClient client = new OkHttpClient.Builder()
+                    .connectTimeout(connectTimeout)
+                    .connectionPool(new ConnectionPool(maxIdleConnections, keepAlive.toMillis(), TimeUnit.MILLISECONDS))
+                    .protocols(protocols)
+                    .dispatcher(dispatcher)
+                    .eventListenerFactory(new PhaseTimingListener.Factory(connectionCounter, metricsRecorder,
+                            slowCallThreshold != null ? slowCallThreshold.toNanos() : Long.MAX_VALUE, slowCallListener))
+                    .build();
+            return new OkHttpTransport(client, connectionCounter);
+        }
+    }
+
+    /**
+     * Constructs a new OkHttpTransport with the default settings of the {@link Builder}.
+     */
+    public OkHttpTransport() {
+        this(new Builder().build());
+    }
+
+    private OkHttpTransport(OkHttpTransport transport) {
+        this(transport.client, transport.connectionCounter);
+    }
+
+    /**
+     * Constructs a new OkHttpTransport with the specified client.
+     * Connection counters in {@link #getPoolStats()} are only available for clients created by the {@link Builder}.
+     *
+     * @param client the OkHttpClient to use
+     */
+    public OkHttpTransport(OkHttpClient client) {
+        this(client, null);
+    }
+
+    private OkHttpTransport(OkHttpClient client, ConnectionCountingListener connectionCounter) {
+        this.client = client;
+        this.connectionCounter = connectionCounter;
+    }
+
+    /**
+     * Gets the OkHttpClient used by this transport.
+     *
+     * @return the client
+     */
+    public OkHttpClient getClient() {
+        return client;
+    }
+
+    /**
+     * Gets a snapshot of the connection pool of this transport.
+     *
+     * @return the pool statistics
+     */
+    public PoolStats getPoolStats() {
+        ConnectionPool pool = client.connectionPool();
+        long opened = connectionCounter != null ? connectionCounter.getConnectionsOpened() : 0;
+        long acquired = connectionCounter != null ? connectionCounter.getConnectionsAcquired() : 0;
+        return new PoolStats(pool.connectionCount(), pool.idleConnectionCount(), opened, acquired);
+    }
+
+    @Override
+    public TransportResponse get(URI uri, Map<String, String> headers) throws IOException {
+        try (Response response = client.newCall(newRequest(uri, headers)).execute()) {
+            return toTransportResponse(response);
+        }
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> getAsync(URI uri, Map<String, String> headers) {
+        CompletableFuture<TransportResponse> future = new CompletableFuture<>();
+        Call call = client.newCall(newRequest(uri, headers));
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                future.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                try (response) {
+                    future.complete(toTransportResponse(response));
+                } catch (IOException e) {
+                    future.completeExceptionally(e);
+                }
+            }
+        });
+        future.whenComplete((response, error) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+        return future;
+    }
+
+    @Override
+    public CompletableFuture<StreamingResponse> getStreamingAsync(URI uri, Map<String, String> headers, WorkloadPolicy policy) {
+        CompletableFuture<StreamingResponse> future = new CompletableFuture<>();
+        Call call = workloadClient(policy).newCall(newRequest(uri, headers));
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                future.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                ResponseBody responseBody = response.body();
+                if (responseBody == null) {
+                    response.close();
+                    future.complete(StreamingResponse.of(new TransportResponse(response.code(), null, 0)));
+                    return;
+                }
+                MediaType contentType = responseBody.contentType();
+                Charset charset = contentType != null ? contentType.charset(StandardCharsets.UTF_8) : StandardCharsets.UTF_8;
+                if (!future.complete(new StreamingResponse(response.code(), charset, responseBody.byteStream(),
+                        responseBody.contentLength(), call::cancel))) {
+                    response.close();
+                }
+            }
+        });
+        future.whenComplete((response, error) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+        return future;
+    }
+
+    private OkHttpClient workloadClient(WorkloadPolicy policy) {
+        return workloadClients.computeIfAbsent(policy, p -> client.newBuilder()
+                .readTimeout(p.getTimeout())
+                .pingInterval(p.getKeepAliveInterval())
+                .connectionPool(new ConnectionPool(1, Builder.DEFAULT_KEEP_ALIVE.toMillis(), TimeUnit.MILLISECONDS))
+                .socketFactory(new KeepAliveSocketFactory(client.socketFactory(), (int) p.getKeepAliveInterval().getSeconds()))
+                .build());
+    }
+
+    private static Request newRequest(URI uri, Map<String, String> headers) {
+        Request.Builder builder = new Request.Builder().url(uri.toString());
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            builder.addHeader(header.getKey(), header.getValue());
+        }
+        return builder.build();
+    }
+
+    private static TransportResponse toTransportResponse(Response response) throws IOException {
+        ResponseBody responseBody = response.body();
+        if (responseBody == null) {
+            return new TransportResponse(response.code(), null, 0);
+        }
+        byte[] bytes = responseBody.bytes();
+        MediaType contentType = responseBody.contentType();
+        Charset charset = contentType != null ? contentType.charset(StandardCharsets.UTF_8) : StandardCharsets.UTF_8;
+        return new TransportResponse(response.code(), new String(bytes, charset), bytes.length);
+    }
+
+    /**
+     * Enables TCP keep-alive on the sockets of workload connections, probing idle connections at the given interval where
+     * the platform supports it, or at the interval configured in the operating system otherwise.
+     */
+    private static final class KeepAliveSocketFactory extends SocketFactory {
+        private final SocketFactory delegate;
+        private final int intervalSeconds;
+
+        KeepAliveSocketFactory(SocketFactory delegate, int intervalSeconds) {
+            this.delegate = delegate;
+            this.intervalSeconds = intervalSeconds;
+        }
+
+        @Override
+        public Socket createSocket() throws IOException {
+            return keepAlive(delegate.createSocket());
+        }
+
+        @Override
+        public Socket createSocket(String host, int port) throws IOException {
+            return keepAlive(delegate.createSocket(host, port));
+        }
+
+        @Override
+        public Socket createSocket(String host, int port, InetAddress localHost, int localPort) throws IOException {
+            return keepAlive(delegate.createSocket(host, port, localHost, localPort));
+        }
+
+        @Override
+        public Socket createSocket(InetAddress host, int port) throws IOException {
+            return keepAlive(delegate.createSocket(host, port));
+        }
+
+        @Override
+        public Socket createSocket(InetAddress address, int port, InetAddress localAddress, int localPort) throws IOException {
+            return keepAlive(delegate.createSocket(address, port, localAddress, localPort));
+        }
+
+        private Socket keepAlive(Socket socket) throws IOException {
+            socket.setKeepAlive(true);
+            if (socket.supportedOptions().contains(ExtendedSocketOptions.TCP_KEEPIDLE)) {
+                socket.setOption(ExtendedSocketOptions.TCP_KEEPIDLE, intervalSeconds);
+            }
+            if (socket.supportedOptions().contains(ExtendedSocketOptions.TCP_KEEPINTERVAL)) {
+                socket.setOption(ExtendedSocketOptions.TCP_KEEPINTERVAL, intervalSeconds);
+            }
+            return socket;
+        }
+    }
+}
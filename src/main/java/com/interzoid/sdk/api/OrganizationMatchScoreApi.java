@@ -1,22 +1,22 @@
 package com.interzoid.sdk.api;
 
+import com.interzoid.sdk.api.exceptions.ClientErrorException;
 import com.interzoid.sdk.api.exceptions.InterzoidApiException;
+import com.interzoid.sdk.api.exceptions.ServerErrorException;
+import com.interzoid.sdk.api.exceptions.UnexpectedResponseException;
 import com.interzoid.sdk.api.exceptions.ValidationException;
 import com.interzoid.sdk.model.MatchScoreResponse;
 import com.interzoid.sdk.model.OrganizationMatchScoreRequest;
+import com.interzoid.sdk.validation.RequestValidator;
 import com.squareup.moshi.JsonAdapter;
-import com.squareup.moshi.Moshi;
 import jakarta.validation.ConstraintViolation;
-import jakarta.validation.Validation;
-import jakarta.validation.Validator;
-import jakarta.validation.ValidatorFactory;
-import okhttp3.OkHttpClient;
 
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * OrganizationMatchScoreApi provides a client for interacting with the Interzoid Organization Match Score API.
@@ -57,8 +57,7 @@ import java.util.concurrent.TimeUnit;
  * <h3>With Custom OkHttpClient</h3>
  * <pre>{@code
  * import com.interzoid.sdk.api.OrganizationMatchScoreApi;
- * import okhttp3.OkHttpClient;
- * import java.util.concurrent.TimeUnit;
+ *  * import java.util.concurrent.TimeUnit;
  *
  * public class OrganizationMatchScoreTest {
  *   public static void main(String[] args) throws Exception {
@@ -78,8 +77,9 @@ import java.util.concurrent.TimeUnit;
 
 public final class OrganizationMatchScoreApi {
     private static final String RESOURCE = "getorgmatchscore";
+    private static final JsonAdapter<MatchScoreResponse> JSON_ADAPTER = InterzoidApi.MOSHI.adapter(MatchScoreResponse.class);
     private final InterzoidApi interzoidApi;
-    private final Validator validator;
+    private final RequestValidator validator;
 
     /**
      * The builder class for {@link OrganizationMatchScoreApi}, providing a flexible way to configure and create an instance of {@code OrganizationMatchScoreApi}.
@@ -87,9 +87,7 @@ public final class OrganizationMatchScoreApi {
      *
      * @see OrganizationMatchScoreApi
      */
-    public static class Builder {
-        private OkHttpClient client;
-        private InterzoidApi api;
+    public static class Builder extends AbstractApiBuilder<Builder> {
 
         /**
          * Default constructor for the {@link OrganizationMatchScoreApi.Builder} class.
@@ -97,45 +95,13 @@ public final class OrganizationMatchScoreApi {
         public Builder() {
         }
 
-        /**
-         * Specifies the {@link OkHttpClient} instance to be used by the {@code OrganizationMatchScoreApi} instance being built.
-         * This is optional and allows for customization of the {@code OkHttpClient} instance used internally by the {@code OrganizationMatchScoreApi} instance.
-         *
-         * @param client the {@code OkHttpClient} instance to be used
-         * @return the current builder instance, allowing for method chaining
-         */
-        public Builder withClient(OkHttpClient client) {
-            this.client = client;
-            return this;
-        }
-
-        /**
-         * Specifies the {@link InterzoidApi} instance to be used by the {@code OrganizationMatchScoreApi} instance being built.
-         * This method is package protected and is intended for use in testing.
-         *
-         * @param interzoidApi the {@code InterzoidApi} instance to be used
-         * @return the current builder instance, allowing for method chaining
-         */
-        Builder withInterzoidApi(InterzoidApi interzoidApi) {
-            this.api = interzoidApi;
-            return this;
-        }
-
         /**
          * Constructs a new {@code OrganizationMatchScoreApi} instance with the current configuration settings specified in this builder.
          *
          * @return a new {@code OrganizationMatchScoreApi} instance
          */
         public OrganizationMatchScoreApi build() {
-            if (client == null) {
-                client = new OkHttpClient.Builder()
-                        .connectTimeout(10, TimeUnit.SECONDS)
-                        .build();
-            }
-            if (api == null) {
-                api = new InterzoidApi(client);
-            }
-            return new OrganizationMatchScoreApi(api);
+            return new OrganizationMatchScoreApi(buildInterzoidApi(), getRequestValidator());
         }
     }
 
@@ -143,13 +109,12 @@ public final class OrganizationMatchScoreApi {
      * Constructs a new {@code OrganizationMatchScoreApi} instance with the specified {@link InterzoidApi} instance.
      *
      * @param interzoidApi the {@code InterzoidApi} instance to be used
+     * @param validator    the {@code RequestValidator} checking requests before they are sent
      * @see OrganizationMatchScoreApi.Builder#build() for a method to construct a {@code OrganizationMatchScoreApi} instance based on the configuration settings specified in the {@code Builder}
      */
-    private OrganizationMatchScoreApi(InterzoidApi interzoidApi) {
+    private OrganizationMatchScoreApi(InterzoidApi interzoidApi, RequestValidator validator) {
         this.interzoidApi = interzoidApi;
-        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
-            validator = factory.getValidator();
-        }
+        this.validator = validator;
     }
 
     /**
@@ -171,20 +136,54 @@ public final class OrganizationMatchScoreApi {
         }
 
         // Set up JSON adapter
-        Moshi moshi = new Moshi.Builder().build();
-        JsonAdapter<MatchScoreResponse> jsonAdapter = moshi.adapter(MatchScoreResponse.class);
-
         // Build request parameters
-        Map<String, String> params = new HashMap<>();
+        Map<String, String> params = new HashMap<>(4);
         params.put("org1", request.getValue1());
         params.put("org2", request.getValue2());
 
         // Make request
         try {
             String response = interzoidApi.doApiGetRequest(request.getApikey(), RESOURCE, params);
-            return jsonAdapter.fromJson(response);
+            MatchScoreResponse result = InterzoidApi.decode(JSON_ADAPTER, response);
+            interzoidApi.recordCredits(result);
+            return result;
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
     }
+
+    /**
+     * Asynchronously sends a request to the API to obtain a match score based on the provided data.
+     * The request is validated on the calling thread; the HTTP call runs on the transport and the response is decoded on
+     * the thread completing it, such as an OkHttp dispatcher thread, so the calling thread never blocks on the network.
+     *
+     * @param request the request object containing the necessary details, including the API key, to fetch the match score
+     * @return a future completed with the {@code MatchScoreResponse}, or exceptionally with an {@link UnexpectedResponseException}:
+     * caused by a {@link ClientErrorException} or {@link ServerErrorException} if the API returns an error status,
+     * by the I/O error if the call fails, or by the JSON error if the body cannot be decoded; a JSON {@code null}
+     * body fails as well
+     * @throws ValidationException if the request is invalid
+     * @see #doRequest(OrganizationMatchScoreRequest)
+     * @see StreamEnricher
+     */
+    public CompletableFuture<MatchScoreResponse> doRequestAsync(OrganizationMatchScoreRequest request) {
+        Set<ConstraintViolation<OrganizationMatchScoreRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new ValidationException("Validation failed", violations);
+        }
+
+        Map<String, String> params = new HashMap<>(4);
+        params.put("org1", request.getValue1());
+        params.put("org2", request.getValue2());
+        return interzoidApi.doApiGetRequestAsync(request.getApikey(), RESOURCE, params)
+                .thenApply(response -> {
+                    try {
+                        MatchScoreResponse result = InterzoidApi.decode(JSON_ADAPTER, response);
+                        interzoidApi.recordCredits(result);
+                        return result;
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                });
+    }
 }
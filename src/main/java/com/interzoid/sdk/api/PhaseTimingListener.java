@@ -0,0 +1,170 @@
+package com.interzoid.sdk.api;
+
+import com.interzoid.sdk.metrics.CallPhase;
+import com.interzoid.sdk.metrics.CallTimings;
+import com.interzoid.sdk.metrics.MetricsRecorder;
+import com.interzoid.sdk.metrics.SlowCallListener;
+import okhttp3.*;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Times the phases of a single call and reports them to a {@link MetricsRecorder} and, for slow calls, a {@link SlowCallListener}.
+ * Connection events are also forwarded to the {@link ConnectionCountingListener} of the client.
+ * The resource reported is the last segment of the request path, which is the resource name for Interzoid URLs.
+ */
+final class PhaseTimingListener extends EventListener {
+    private final Factory factory;
+    private final long[] phaseNanos = new long[CallPhase.values().length];
+    private final long[] phaseStarts = new long[CallPhase.values().length];
+    private long callStart;
+    private int responseCode = -1;
+
+    private PhaseTimingListener(Factory factory) {
+        this.factory = factory;
+        Arrays.fill(phaseNanos, -1);
+    }
+
+    /**
+     * Creates a {@link PhaseTimingListener} for each call of a client.
+     * When there is nothing to report to, the shared connection counter is used for every call instead.
+     */
+    static final class Factory implements EventListener.Factory {
+        private final ConnectionCountingListener connectionCounter;
+        private final MetricsRecorder metricsRecorder;
+        private final long slowCallThresholdNanos;
+        private final SlowCallListener slowCallListener;
+
+        Factory(ConnectionCountingListener connectionCounter, MetricsRecorder metricsRecorder,
+                long slowCallThresholdNanos, SlowCallListener slowCallListener) {
+            this.connectionCounter = connectionCounter;
+            this.metricsRecorder = metricsRecorder;
+            this.slowCallThresholdNanos = slowCallThresholdNanos;
+            this.slowCallListener = slowCallListener;
+        }
+
+        @Override
+        public EventListener create(Call call) {
+            if (metricsRecorder == MetricsRecorder.NOOP && slowCallListener == null) {
+                return connectionCounter;
+            }
+            return new PhaseTimingListener(this);
+        }
+    }
+
+    private void start(CallPhase phase) {
+        phaseStarts[phase.ordinal()] = System.nanoTime();
+    }
+
+    private void end(CallPhase phase) {
+        long elapsed = System.nanoTime() - phaseStarts[phase.ordinal()];
+        int index = phase.ordinal();
+        phaseNanos[index] = phaseNanos[index] < 0 ? elapsed : phaseNanos[index] + elapsed;
+    }
+
+    @Override
+    public void callStart(Call call) {
+        callStart = System.nanoTime();
+    }
+
+    @Override
+    public void dnsStart(Call call, String domainName) {
+        start(CallPhase.DNS);
+    }
+
+    @Override
+    public void dnsEnd(Call call, String domainName, List<InetAddress> inetAddressList) {
+        end(CallPhase.DNS);
+    }
+
+    @Override
+    public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+        start(CallPhase.CONNECT);
+    }
+
+    @Override
+    public void secureConnectStart(Call call) {
+        start(CallPhase.TLS);
+    }
+
+    @Override
+    public void secureConnectEnd(Call call, Handshake handshake) {
+        end(CallPhase.TLS);
+    }
+
+    @Override
+    public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+        end(CallPhase.CONNECT);
+        factory.connectionCounter.connectEnd(call, inetSocketAddress, proxy, protocol);
+    }
+
+    @Override
+    public void connectFailed(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol, IOException ioe) {
+        end(CallPhase.CONNECT);
+    }
+
+    @Override
+    public void connectionAcquired(Call call, Connection connection) {
+        factory.connectionCounter.connectionAcquired(call, connection);
+    }
+
+    @Override
+    public void requestHeadersEnd(Call call, Request request) {
+        start(CallPhase.TIME_TO_FIRST_BYTE);
+    }
+
+    @Override
+    public void requestBodyEnd(Call call, long byteCount) {
+        start(CallPhase.TIME_TO_FIRST_BYTE);
+    }
+
+    @Override
+    public void responseHeadersStart(Call call) {
+        end(CallPhase.TIME_TO_FIRST_BYTE);
+    }
+
+    @Override
+    public void responseHeadersEnd(Call call, Response response) {
+        responseCode = response.code();
+    }
+
+    @Override
+    public void responseBodyStart(Call call) {
+        start(CallPhase.BODY_READ);
+    }
+
+    @Override
+    public void responseBodyEnd(Call call, long byteCount) {
+        end(CallPhase.BODY_READ);
+    }
+
+    @Override
+    public void callEnd(Call call) {
+        report(call);
+    }
+
+    @Override
+    public void callFailed(Call call, IOException ioe) {
+        report(call);
+    }
+
+    private void report(Call call) {
+        long totalNanos = System.nanoTime() - callStart;
+        CallTimings timings = new CallTimings(resourceOf(call.request().url()), responseCode, totalNanos, phaseNanos);
+        factory.metricsRecorder.callTimed(timings);
+        if (factory.slowCallListener != null && totalNanos >= factory.slowCallThresholdNanos) {
+            factory.slowCallListener.onSlowCall(timings);
+        }
+    }
+
+    static String resourceOf(HttpUrl url) {
+        List<String> segments = url.pathSegments();
+        String last = segments.get(segments.size() - 1);
+        return last.isEmpty() ? "/" : last;
+    }
+}
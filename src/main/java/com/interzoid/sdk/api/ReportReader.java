@@ -0,0 +1,52 @@
+package com.interzoid.sdk.api;
+
+import com.interzoid.sdk.model.CloudDatabaseFileResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+
+/**
+ * <p>Reads the report of a Cloud Data Connect workload as it arrives, for
+ * {@link CloudDatabaseMatchKeyReportApi#startWorkload(com.interzoid.sdk.model.CloudWorkloadRequest, ReportReader)}.</p>
+ *
+ * <p>The reader runs on a thread of the SDK once the server starts sending the report, so it can process records before
+ * the last one is received. It need not close the body. If the workload is cancelled or times out, the pending read fails
+ * with an {@link IOException}.</p>
+ *
+ * <h2>Example</h2>
+ * <pre>{@code
+ * ReportReader<Long> lineCounter = (body, charset) -> {
+ *   BufferedReader reader = new BufferedReader(new InputStreamReader(body, charset));
+ *   return reader.lines().count();
+ * };
+ * }</pre>
+ *
+ * @param <T> the type of the result of the workload
+ */
+@FunctionalInterface
+public interface ReportReader<T> {
+
+    /**
+     * Reads a report.
+     *
+     * @param body    the report, read as it arrives
+     * @param charset the charset of the report
+     * @return the result of the workload
+     * @throws IOException if the report cannot be read or is invalid
+     */
+    T read(InputStream body, Charset charset) throws IOException;
+
+    /**
+     * Creates a reader writing the report to a file as it arrives, in constant memory whatever the size of the report.
+     * The file holds the bytes of the report as sent, and is replaced only once the report is complete; if the workload
+     * fails, any existing file is left as it was.
+     *
+     * @param path the file to write, whose directory must exist
+     * @return a reader completing with the path, size and SHA-256 checksum of the report
+     */
+    static ReportReader<CloudDatabaseFileResponse> toFile(Path path) {
+        return new FileReportReader(path);
+    }
+}
@@ -0,0 +1,58 @@
+package com.interzoid.sdk.api;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the executors on which asynchronous API calls run their blocking HTTP exchanges.
+ * <p>
+ * This is the Java 11 implementation, which uses a pool of platform threads equivalent to the OkHttp default dispatcher.
+ * The SDK is packaged as a multi-release JAR; on Java 21 and later a version of this class running each call on its own
+ * virtual thread is loaded instead.
+ */
+final class RequestExecutors {
+    /**
+     * System property that forces platform threads even when virtual threads are available.
+     */
+    static final String PLATFORM_THREADS_PROPERTY = "com.interzoid.sdk.platformThreads";
+
+    private RequestExecutors() {
+    }
+
+    /**
+     * Whether executors created by this class run calls on virtual threads.
+     *
+     * @return false, virtual threads require Java 21
+     */
+    static boolean usesVirtualThreads() {
+        return false;
+    }
+
+    /**
+     * Creates a new executor for running HTTP calls.
+     *
+     * @return a cached pool of daemon platform threads
+     */
+    static ExecutorService newRequestExecutor() {
+        return newPlatformExecutor();
+    }
+
+    /**
+     * Creates a cached pool of daemon platform threads, mirroring the OkHttp default dispatcher executor.
+     *
+     * @return the executor
+     */
+    static ExecutorService newPlatformExecutor() {
+        AtomicInteger count = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "Interzoid Dispatcher " + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), threadFactory);
+    }
+}
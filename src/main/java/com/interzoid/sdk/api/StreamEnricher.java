@@ -0,0 +1,159 @@
+package com.interzoid.sdk.api;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <h2>Stream Enrichment</h2>
+ *
+ * <p>Enriches a {@link Stream} with similarity keys or match scores by overlapping asynchronous API calls.
+ * At most {@code maxInFlight} calls are outstanding at any time; results are emitted in the encounter order of the source stream.</p>
+ *
+ * <p>Calls are issued through the {@code doRequestAsync} methods of the API classes, so the network I/O runs on the threads of the transport.
+ * The returned stream does not split, so running it in parallel never parks common-pool workers on sockets;
+ * the consuming thread only waits for the oldest outstanding call to complete.</p>
+ *
+ * <h3>Example</h3>
+ * <pre>{@code
+ * FullNameMatchKeyApi api = new FullNameMatchKeyApi.Builder().build();
+ *
+ * try (Stream<Enriched<Customer, MatchKeyResponse>> enriched = StreamEnricher.enrich(customers, 32,
+ *         customer -> api.doRequestAsync(new FullNameMatchKeyRequest("YOUR-API-KEY", customer.getName())))) {
+ *     enriched.filter(Enriched::isSuccess)
+ *             .forEach(e -> e.getElement().setSimKey(e.getResult().getSimKey()));
+ * }
+ * }</pre>
+ *
+ * @see Enriched
+ * @see FullNameMatchKeyApi#doRequestAsync(com.interzoid.sdk.model.FullNameMatchKeyRequest)
+ */
+public final class StreamEnricher {
+
+    private StreamEnricher() {
+    }
+
+    /**
+     * Enriches the elements of the source stream with the results of an asynchronous API call.
+     * Failed calls, including requests rejected by validation, are emitted as {@link Enriched#failure(Object, Throwable)} and do not terminate the stream.
+     * Closing the returned stream closes the source stream and cancels outstanding calls.
+     *
+     * @param source      the stream to enrich
+     * @param maxInFlight the maximum number of outstanding API calls
+     * @param call        the asynchronous API call to make for each element
+     * @param <T>         the type of the source elements
+     * @param <R>         the type of the API response
+     * @return a sequential, ordered stream of enriched elements
+     */
+    public static <T, R> Stream<Enriched<T, R>> enrich(Stream<T> source, int maxInFlight,
+                                                       Function<? super T, ? extends CompletionStage<R>> call) {
+        Objects.requireNonNull(source, "source");
+        Objects.requireNonNull(call, "call");
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be greater than 0");
+        }
+        EnrichingSpliterator<T, R> spliterator = new EnrichingSpliterator<>(source.spliterator(), maxInFlight, call);
+        return StreamSupport.stream(spliterator, false)
+                .onClose(spliterator::cancel)
+                .onClose(source::close);
+    }
+
+    /**
+     * A spliterator keeping a window of outstanding calls ahead of the element being consumed.
+     */
+    private static final class EnrichingSpliterator<T, R> implements Spliterator<Enriched<T, R>> {
+        private final Spliterator<T> source;
+        private final int maxInFlight;
+        private final Function<? super T, ? extends CompletionStage<R>> call;
+        private final ArrayDeque<Pending<T, R>> window;
+        private boolean exhausted;
+
+        EnrichingSpliterator(Spliterator<T> source, int maxInFlight, Function<? super T, ? extends CompletionStage<R>> call) {
+            this.source = source;
+            this.maxInFlight = maxInFlight;
+            this.call = call;
+            this.window = new ArrayDeque<>(Math.min(maxInFlight, 1024));
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Enriched<T, R>> action) {
+            while (!exhausted && window.size() < maxInFlight) {
+                exhausted = !source.tryAdvance(this::submit);
+            }
+            Pending<T, R> head = window.poll();
+            if (head == null) {
+                return false;
+            }
+            action.accept(head.await());
+            return true;
+        }
+
+        private void submit(T element) {
+            CompletableFuture<R> future;
+            try {
+                future = call.apply(element).toCompletableFuture();
+            } catch (RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            window.add(new Pending<>(element, future));
+        }
+
+        void cancel() {
+            Pending<T, R> pending;
+            while ((pending = window.poll()) != null) {
+                pending.future.cancel(true);
+            }
+        }
+
+        @Override
+        public Spliterator<Enriched<T, R>> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            long size = source.estimateSize();
+            return size == Long.MAX_VALUE ? size : size + window.size();
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL | (source.characteristics() & SIZED);
+        }
+    }
+
+    /**
+     * An element whose call has been issued but not yet consumed.
+     */
+    private static final class Pending<T, R> {
+        private final T element;
+        private final CompletableFuture<R> future;
+
+        Pending(T element, CompletableFuture<R> future) {
+            this.element = element;
+            this.future = future;
+        }
+
+        Enriched<T, R> await() {
+            try {
+                return Enriched.success(element, future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                return Enriched.failure(element, e);
+            } catch (ExecutionException | CompletionException e) {
+                return Enriched.failure(element, e.getCause() != null ? e.getCause() : e);
+            } catch (RuntimeException e) {
+                return Enriched.failure(element, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.interzoid.sdk.api;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>A response received by a {@link Transport} whose body is read as it arrives, for Cloud Data Connect workloads.</p>
+ *
+ * <p>The body must be closed, which releases the connection. {@link #abort()} may be called from any thread to cancel the
+ * exchange while the body is being read; reads then fail with an {@link IOException}.</p>
+ */
+public final class StreamingResponse implements Closeable {
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+    /**
+     * The largest array allocated from the content length of a body before any of it is read, 1 MiB.
+     */
+    static final int MAX_PRESIZED_LENGTH = 1 << 20;
+    private static final int BUFFER_SIZE = 8192;
+
+    private final int code;
+    private final Charset charset;
+    private final InputStream body;
+    private final long contentLength;
+    private final Runnable abort;
+
+    /**
+     * Constructs a new StreamingResponse.
+     *
+     * @param code    the HTTP status code
+     * @param charset the charset of the body, from its content type
+     * @param body    the body, read as it arrives
+     * @param abort   cancels the exchange, may be called more than once and from any thread
+     */
+    public StreamingResponse(int code, Charset charset, InputStream body, Runnable abort) {
+        this(code, charset, body, -1, abort);
+    }
+
+    /**
+     * Constructs a new StreamingResponse whose body has a known length.
+     *
+     * @param code          the HTTP status code
+     * @param charset       the charset of the body, from its content type
+     * @param body          the body, read as it arrives
+     * @param contentLength the length of the body in bytes, from its Content-Length header, or -1 if unknown
+     * @param abort         cancels the exchange, may be called more than once and from any thread
+     */
+    public StreamingResponse(int code, Charset charset, InputStream body, long contentLength, Runnable abort) {
+        this.code = code;
+        this.charset = Objects.requireNonNull(charset, "charset");
+        this.body = Objects.requireNonNull(body, "body");
+        this.contentLength = contentLength;
+        this.abort = Objects.requireNonNull(abort, "abort");
+    }
+
+    /**
+     * Creates a StreamingResponse over a response already received in full, for transports that cannot stream.
+     *
+     * @param response the response
+     * @return the response, with a UTF-8 body
+     */
+    public static StreamingResponse of(TransportResponse response) {
+        byte[] bytes = response.getBody() != null ? response.getBody().getBytes(StandardCharsets.UTF_8) : new byte[0];
+        return new StreamingResponse(response.getCode(), StandardCharsets.UTF_8, new ByteArrayInputStream(bytes), bytes.length,
+                () -> {
+                });
+    }
+
+    /**
+     * Gets the HTTP status code.
+     *
+     * @return the status code
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Whether the status code is in the range [200..300).
+     *
+     * @return true if the request succeeded
+     */
+    public boolean isSuccessful() {
+        return code >= 200 && code < 300;
+    }
+
+    /**
+     * Gets the charset of the body.
+     *
+     * @return the charset, UTF-8 unless the content type names another
+     */
+    public Charset getCharset() {
+        return charset;
+    }
+
+    /**
+     * Gets the length of the body.
+     *
+     * @return the length in bytes, or -1 if unknown
+     */
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    /**
+     * Gets the body, read as it arrives.
+     *
+     * @return the body
+     */
+    public InputStream getBody() {
+        return body;
+    }
+
+    /**
+     * Cancels the exchange. Pending and later reads of the body fail.
+     */
+    public void abort() {
+        abort.run();
+    }
+
+    /**
+     * Reads the rest of the body and closes it.
+     *
+     * @return the response, with the body decoded
+     * @throws IOException if the body cannot be read
+     */
+    TransportResponse toTransportResponse() throws IOException {
+        try (InputStream in = body) {
+            byte[] bytes = readAllBytes(in, contentLength);
+            return new TransportResponse(code, new String(bytes, charset), bytes.length);
+        }
+    }
+
+    /**
+     * Reads a body to its end into an array sized from its content length, when known, rather than through the chunks of
+     * {@link InputStream#readAllBytes()}. The header is not trusted beyond {@value #MAX_PRESIZED_LENGTH} bytes: a longer
+     * body starts in an array of that size, which doubles as bytes arrive, up to the content length. A body shorter or
+     * longer than its content length is read as it is.
+     *
+     * @param in            the body
+     * @param contentLength the length of the body, or -1 if unknown
+     * @return the bytes of the body
+     * @throws IOException if the body cannot be read
+     */
+    static byte[] readAllBytes(InputStream in, long contentLength) throws IOException {
+        if (contentLength < 0) {
+            return in.readAllBytes();
+        }
+        byte[] bytes = new byte[(int) Math.min(contentLength, MAX_PRESIZED_LENGTH)];
+        int length = 0;
+        while (true) {
+            if (length == bytes.length) {
+                int next = in.read();
+                if (next < 0) {
+                    return bytes;
+                }
+                if (bytes.length == MAX_ARRAY_LENGTH) {
+                    throw new OutOfMemoryError("Response body too large");
+                }
+                long grown = Math.max(bytes.length * 2L, BUFFER_SIZE);
+                if (bytes.length < contentLength) {
+                    grown = Math.min(grown, contentLength);
+                }
+                bytes = Arrays.copyOf(bytes, (int) Math.min(grown, MAX_ARRAY_LENGTH));
+                bytes[length++] = (byte) next;
+            }
+            int read = in.read(bytes, length, bytes.length - length);
+            if (read < 0) {
+                return Arrays.copyOf(bytes, length);
+            }
+            length += read;
+        }
+    }
+
+    /**
+     * Closes the body, releasing the connection.
+     *
+     * @throws IOException if the body cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        body.close();
+    }
+}
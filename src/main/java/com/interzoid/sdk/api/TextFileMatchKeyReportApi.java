@@ -1,18 +1,14 @@
 package com.interzoid.sdk.api;
 
 import com.interzoid.sdk.api.exceptions.InterzoidApiException;
+import com.interzoid.sdk.validation.RequestValidator;
 import com.interzoid.sdk.model.*;
 import com.squareup.moshi.JsonAdapter;
-import com.squareup.moshi.Moshi;
 import jakarta.validation.ConstraintViolation;
-import jakarta.validation.Validation;
-import jakarta.validation.Validator;
-import jakarta.validation.ValidatorFactory;
-import okhttp3.OkHttpClient;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
 
 /**
  * <h2>CSV/TSV file Data Matching Workload API</h2>
@@ -48,19 +44,19 @@ import java.util.concurrent.TimeUnit;
  * @see TextFileMatchRequest
  * @see CloudDatabaseJsonResponse
  * @see CloudDatabaseStringResponse
+ * @see CloudDatabaseFileResponse
  * @version 1.0
  */
 public final class TextFileMatchKeyReportApi {
+    private static final JsonAdapter<CloudDatabaseJsonResponse> JSON_ADAPTER = InterzoidApi.MOSHI.adapter(CloudDatabaseJsonResponse.class);
     private final InterzoidApi interzoidApi;
-    private final Validator validator;
+    private final RequestValidator validator;
 
     /**
      * The builder class for {@link TextFileMatchKeyReportApi}, providing a flexible way to configure and create an instance of {@code CloudDatabaseMatchKeyReportApi}.
      * It follows the builder pattern, allowing for configuration settings to be specified before calling the {@link TextFileMatchKeyReportApi.Builder#build()} method to construct an instance of {@code DelimitedFileMatchKeyReportApi}.
      */
-    public static class Builder {
-        private OkHttpClient client;
-        private InterzoidApi api;
+    public static class Builder extends AbstractApiBuilder<Builder> {
 
         /**
          * Default constructor for the {@link TextFileMatchKeyReportApi.Builder} class.
@@ -68,45 +64,13 @@ public final class TextFileMatchKeyReportApi {
         public Builder() {
         }
 
-        /**
-         * Specifies the {@link OkHttpClient} instance to be used by the {@code DelimitedFileMatchKeyReportApi} instance being built.
-         * This is optional and allows for customization of the {@code OkHttpClient} instance used internally by the {@code DelimitedFileMatchKeyReportApi} instance.
-         *
-         * @param client the {@code OkHttpClient} instance to be used
-         * @return the current builder instance, allowing for method chaining
-         */
-        public TextFileMatchKeyReportApi.Builder withClient(OkHttpClient client) {
-            this.client = client;
-            return this;
-        }
-
-        /**
-         * Specifies the {@link InterzoidApi} instance to be used by the {@code DelimitedFileMatchKeyReportApi} instance being built.
-         * This method is package protected and is intended for use in testing.
-         *
-         * @param interzoidApi the {@code InterzoidApi} instance to be used
-         * @return the current builder instance, allowing for method chaining
-         */
-        TextFileMatchKeyReportApi.Builder withInterzoidApi(InterzoidApi interzoidApi) {
-            this.api = interzoidApi;
-            return this;
-        }
-
         /**
          * Constructs a new {@code DelimitedFileMatchKeyReportApi} instance with the current configuration settings specified in this builder.
          *
          * @return a new {@code DelimitedFileMatchKeyReportApi} instance
          */
         public TextFileMatchKeyReportApi build() {
-            if (client == null) {
-                client = new OkHttpClient.Builder()
-                        .connectTimeout(10, TimeUnit.SECONDS)
-                        .build();
-            }
-            if (api == null) {
-                api = new InterzoidApi(client);
-            }
-            return new TextFileMatchKeyReportApi(api);
+            return new TextFileMatchKeyReportApi(buildInterzoidApi(), getRequestValidator());
         }
     }
 
@@ -114,12 +78,11 @@ public final class TextFileMatchKeyReportApi {
      * Constructs a new {@code DelimitedFileMatchKeyReportApi} instance with the given {@link InterzoidApi} instance.
      *
      * @param interzoidApi the {@code InterzoidApi} instance to be used
+     * @param validator    the {@code RequestValidator} checking requests before they are sent
      */
-    private TextFileMatchKeyReportApi(InterzoidApi interzoidApi) {
+    private TextFileMatchKeyReportApi(InterzoidApi interzoidApi, RequestValidator validator) {
         this.interzoidApi = interzoidApi;
-        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
-            validator = factory.getValidator();
-        }
+        this.validator = validator;
     }
 
     /**
@@ -138,9 +101,7 @@ public final class TextFileMatchKeyReportApi {
         try {
             String response = interzoidApi.doCloudConnectRequest(request.toParamMap());
             if (request.getResponseType().equals(ResponseType.JSON)) {
-                Moshi moshi = new Moshi.Builder().build();
-                JsonAdapter<CloudDatabaseJsonResponse> jsonAdapter = moshi.adapter(CloudDatabaseJsonResponse.class);
-                return jsonAdapter.fromJson(response);
+                return JSON_ADAPTER.fromJson(response);
             } else {
                 return new CloudDatabaseStringResponse(response);
             }
@@ -148,4 +109,23 @@ public final class TextFileMatchKeyReportApi {
             throw new RuntimeException(e);
         }
     }
+
+    /**
+     * Makes a request to the Interzoid Text File Match Key Report API and writes the report to a file as it arrives,
+     * in constant memory. This suits large {@link ResponseType#TXT} and {@link ResponseType#HTML} reports, which
+     * {@link #doRequest(TextFileMatchRequest)} returns as a single String.
+     *
+     * @param request the {@link TextFileMatchRequest} instance containing the request parameters
+     * @param path    the file to write, whose directory must exist; it is replaced once the report is complete
+     * @return a {@link CloudDatabaseFileResponse} with the path, size and SHA-256 checksum of the report
+     * @throws IOException if an error occurs while making the request or writing the file
+     * @see ReportReader#toFile(Path)
+     */
+    public CloudDatabaseFileResponse downloadReport(TextFileMatchRequest request, Path path) throws IOException {
+        Set<ConstraintViolation<TextFileMatchRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new InterzoidApiException(violations.toString());
+        }
+        return interzoidApi.doCloudConnectRequest(request.toParamMap(), WorkloadPolicy.DEFAULT, ReportReader.toFile(path));
+    }
 }
@@ -0,0 +1,68 @@
+package com.interzoid.sdk.api;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * <p>The HTTP transport used by the APIs to reach the Interzoid services.</p>
+ *
+ * <p>A transport only performs the exchange: it returns the status code and body of every response, successful or not,
+ * and leaves mapping status codes to exceptions to the SDK. Two implementations are provided:</p>
+ * <ul>
+ *     <li>{@link OkHttpTransport}, the default, backed by an {@code OkHttpClient}</li>
+ *     <li>{@link JdkHttpTransport}, backed by the JDK {@code java.net.http.HttpClient} with HTTP/2 multiplexing</li>
+ * </ul>
+ *
+ * <p>Transports are thread-safe and should be shared between API instances so that they share a connection pool.</p>
+ *
+ * <h2>Example</h2>
+ * <pre>{@code
+ * Transport transport = new JdkHttpTransport();
+ * FullNameMatchKeyApi fullNameApi = new FullNameMatchKeyApi.Builder()
+ *   .withTransport(transport)
+ *   .build();
+ * CompanyNameMatchKeyApi companyApi = new CompanyNameMatchKeyApi.Builder()
+ *   .withTransport(transport)
+ *   .build();
+ * }</pre>
+ */
+public interface Transport {
+
+    /**
+     * Performs a blocking GET request.
+     *
+     * @param uri     the URI to request, including the query string
+     * @param headers the request headers
+     * @return the response
+     * @throws IOException if the request could not be executed
+     */
+    TransportResponse get(URI uri, Map<String, String> headers) throws IOException;
+
+    /**
+     * Performs an asynchronous GET request without blocking the calling thread.
+     * Cancelling the returned future should cancel the underlying exchange where the implementation supports it.
+     *
+     * @param uri     the URI to request, including the query string
+     * @param headers the request headers
+     * @return a future completed with the response, or exceptionally with an {@link IOException}
+     */
+    CompletableFuture<TransportResponse> getAsync(URI uri, Map<String, String> headers);
+
+    /**
+     * Performs an asynchronous GET request for a long-running Cloud Data Connect workload, whose body is read as it arrives.
+     * The request is not subject to the read timeout of the transport; implementations apply the timeout and keep-alive of
+     * the policy where they can. Cancelling the returned future should cancel the exchange.
+     * <p>
+     * The default implementation calls {@link #getAsync(URI, Map)} and returns the body once it is received in full.
+     *
+     * @param uri     the URI to request, including the query string
+     * @param headers the request headers
+     * @param policy  the timeout and keep-alive policy of the workload
+     * @return a future completed with the response once its headers are received, or exceptionally with an {@link IOException}
+     */
+    default CompletableFuture<StreamingResponse> getStreamingAsync(URI uri, Map<String, String> headers, WorkloadPolicy policy) {
+        return getAsync(uri, headers).thenApply(StreamingResponse::of);
+    }
+}
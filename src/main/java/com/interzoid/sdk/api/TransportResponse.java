@@ -0,0 +1,78 @@
+package com.interzoid.sdk.api;
+
+/**
+ * A response received by a {@link Transport}: the HTTP status code, the body decoded as a String and the size of the body in bytes.
+ */
+public final class TransportResponse {
+    private final int code;
+    private final String body;
+    private final long bytesReceived;
+
+    /**
+     * Constructs a new TransportResponse. The number of bytes received is taken to be the length of the body,
+     * which is exact for ASCII bodies.
+     *
+     * @param code the HTTP status code
+     * @param body the response body, may be null if the response had no body
+     */
+    public TransportResponse(int code, String body) {
+        this(code, body, body != null ? body.length() : 0);
+    }
+
+    /**
+     * Constructs a new TransportResponse.
+     *
+     * @param code          the HTTP status code
+     * @param body          the response body, may be null if the response had no body
+     * @param bytesReceived the size of the body before decoding, in bytes
+     */
+    public TransportResponse(int code, String body, long bytesReceived) {
+        this.code = code;
+        this.body = body;
+        this.bytesReceived = bytesReceived;
+    }
+
+    /**
+     * Gets the HTTP status code.
+     *
+     * @return the status code
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Gets the response body.
+     *
+     * @return the body, or null if the response had no body
+     */
+    public String getBody() {
+        return body;
+    }
+
+    /**
+     * Gets the size of the body before decoding.
+     *
+     * @return the number of bytes received
+     */
+    public long getBytesReceived() {
+        return bytesReceived;
+    }
+
+    /**
+     * Whether the status code is in the range [200..300).
+     *
+     * @return true if the request succeeded
+     */
+    public boolean isSuccessful() {
+        return code >= 200 && code < 300;
+    }
+
+    @Override
+    public String toString() {
+        return "TransportResponse{" +
+                "code=" + code +
+                ", body='" + body + '\'' +
+                '}';
+    }
+}
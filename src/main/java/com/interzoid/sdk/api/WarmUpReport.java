@@ -0,0 +1,90 @@
+package com.interzoid.sdk.api;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The timings of a connection warm-up.
+ * <p>
+ * A warm-up resolves the Interzoid hosts and completes a number of parallel requests that do not consume credits, so that
+ * DNS entries are cached and the connection pool holds established TLS connections before traffic arrives.
+ * Warm-ups are requested with {@code withWarmUp} on the API builders.
+ */
+public final class WarmUpReport {
+    private final Map<String, Duration> dnsResolutionTimes;
+    private final List<Duration> requestTimes;
+    private final List<Throwable> failures;
+    private final Duration totalTime;
+
+    /**
+     * Constructs a new WarmUpReport.
+     *
+     * @param dnsResolutionTimes the time taken to resolve each host
+     * @param requestTimes       the time taken by each successful warm-up request
+     * @param failures           the errors of the failed DNS resolutions and requests
+     * @param totalTime          the time taken by the whole warm-up
+     */
+    public WarmUpReport(Map<String, Duration> dnsResolutionTimes, List<Duration> requestTimes, List<Throwable> failures, Duration totalTime) {
+        this.dnsResolutionTimes = Collections.unmodifiableMap(dnsResolutionTimes);
+        this.requestTimes = Collections.unmodifiableList(requestTimes);
+        this.failures = Collections.unmodifiableList(failures);
+        this.totalTime = totalTime;
+    }
+
+    /**
+     * Gets the time taken to resolve each host.
+     *
+     * @return the resolution times by host name
+     */
+    public Map<String, Duration> getDnsResolutionTimes() {
+        return dnsResolutionTimes;
+    }
+
+    /**
+     * Gets the time taken by each successful warm-up request, including connection setup and TLS handshake.
+     *
+     * @return the request times
+     */
+    public List<Duration> getRequestTimes() {
+        return requestTimes;
+    }
+
+    /**
+     * Gets the errors of the failed DNS resolutions and requests.
+     *
+     * @return the failures
+     */
+    public List<Throwable> getFailures() {
+        return failures;
+    }
+
+    /**
+     * Gets the time taken by the whole warm-up.
+     *
+     * @return the total time
+     */
+    public Duration getTotalTime() {
+        return totalTime;
+    }
+
+    /**
+     * Whether every DNS resolution and request succeeded.
+     *
+     * @return true if the warm-up had no failures
+     */
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "WarmUpReport{" +
+                "dnsResolutionTimes=" + dnsResolutionTimes +
+                ", requestTimes=" + requestTimes +
+                ", failures=" + failures +
+                ", totalTime=" + totalTime +
+                '}';
+    }
+}
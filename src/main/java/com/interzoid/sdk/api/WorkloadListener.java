@@ -0,0 +1,49 @@
+package com.interzoid.sdk.api;
+
+import com.interzoid.sdk.model.CloudWorkloadRequest;
+
+import java.time.Duration;
+
+/**
+ * Receives the progress of the workloads run by a {@link WorkloadOrchestrator}.
+ * Methods are called on the threads of the SDK, possibly concurrently, and must return quickly; all do nothing by default.
+ *
+ * @see WorkloadOrchestrator.Builder#withListener(WorkloadListener)
+ */
+public interface WorkloadListener {
+    /**
+     * A listener ignoring all progress.
+     */
+    WorkloadListener NOOP = new WorkloadListener() {
+    };
+
+    /**
+     * Called when an attempt of a workload starts. The workload handle reports the bytes received and the elapsed time
+     * while it runs.
+     *
+     * @param request  the request of the workload
+     * @param attempt  the attempt, 1 for the first
+     * @param workload the running attempt
+     */
+    default void workloadStarted(CloudWorkloadRequest request, int attempt, CloudWorkload<?> workload) {
+    }
+
+    /**
+     * Called when an attempt of a workload failed and the workload will be retried.
+     *
+     * @param request the request of the workload
+     * @param attempt the attempt that failed
+     * @param error   the error it failed with
+     * @param delay   the delay before the next attempt
+     */
+    default void workloadRetrying(CloudWorkloadRequest request, int attempt, Throwable error, Duration delay) {
+    }
+
+    /**
+     * Called when a workload succeeded or failed for good, before its result is emitted.
+     *
+     * @param result the outcome of the workload
+     */
+    default void workloadCompleted(WorkloadResult<?> result) {
+    }
+}
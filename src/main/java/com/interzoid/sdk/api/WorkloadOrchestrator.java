@@ -0,0 +1,536 @@
+package com.interzoid.sdk.api;
+
+import com.interzoid.sdk.api.exceptions.ClientErrorException;
+import com.interzoid.sdk.api.exceptions.ServerErrorException;
+import com.interzoid.sdk.api.exceptions.ValidationException;
+import com.interzoid.sdk.model.CloudConnectResponse;
+import com.interzoid.sdk.model.CloudWorkloadRequest;
+import com.interzoid.sdk.model.Source;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <h2>Workload Orchestration</h2>
+ *
+ * <p>Runs many Cloud Data Connect workloads concurrently, such as the match reports of several tables and columns, and
+ * emits their results as they complete, so that a run takes about as long as its slowest workload.</p>
+ *
+ * <p>At most {@link Builder#withMaxConcurrentWorkloads(int)} workloads run at once against each {@link Source}, so that one
+ * database is not loaded with every workload of the run; the cap may be set per source. Workloads beyond the cap wait in
+ * the order given. Each attempt may take up to the timeout of the {@link WorkloadPolicy} of the API. An attempt failing
+ * with a server error, a timeout or a broken connection is retried after a backoff doubling with each attempt; client
+ * errors and invalid requests are not retried. An optional deadline bounds the whole run: workloads still waiting or
+ * running when it passes fail with a {@link TimeoutException}. A {@link WorkloadListener} follows the progress.</p>
+ *
+ * <p>An orchestrator is immutable and thread-safe, and may run any number of workload sets.</p>
+ *
+ * <h3>Example</h3>
+ * <pre>{@code
+ * WorkloadOrchestrator orchestrator = new WorkloadOrchestrator.Builder()
+ *   .withMaxConcurrentWorkloads(4)
+ *   .withMaxConcurrentWorkloads(Source.SNOWFLAKE, 8)
+ *   .withDeadline(Duration.ofHours(6))
+ *   .build();
+ *
+ * try (Stream<WorkloadResult<CloudDatabaseFileResponse>> results = orchestrator.run(api, requests,
+ *         request -> ReportReader.toFile(reports.resolve(request.getSourceTableName() + "-" + request.getMatchColumn() + ".txt")))) {
+ *   results.forEach(result -> System.out.println(result.getRequest().getSourceTableName() + ": "
+ *       + (result.isSuccess() ? result.getResult().getSize() + " bytes" : result.getError())));
+ * }
+ * }</pre>
+ *
+ * @see CloudDatabaseMatchKeyReportApi#startWorkload(CloudWorkloadRequest, ReportReader)
+ * @see WorkloadResult
+ */
+public final class WorkloadOrchestrator {
+    private final int maxConcurrentWorkloads;
+    private final Map<Source, Integer> maxConcurrentWorkloadsBySource;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration deadline;
+    private final WorkloadListener listener;
+
+    /**
+     * The builder class for {@link WorkloadOrchestrator}.
+     */
+    public static class Builder {
+        /**
+         * The default maximum number of workloads running at once against each source, 2.
+         */
+        public static final int DEFAULT_MAX_CONCURRENT_WORKLOADS = 2;
+        /**
+         * The default maximum number of attempts of a workload, 3.
+         */
+        public static final int DEFAULT_MAX_ATTEMPTS = 3;
+        /**
+         * The default delay before the first retry of a workload, 30 seconds.
+         */
+        public static final Duration DEFAULT_RETRY_BACKOFF = Duration.ofSeconds(30);
+
+        private int maxConcurrentWorkloads = DEFAULT_MAX_CONCURRENT_WORKLOADS;
+        private final Map<Source, Integer> maxConcurrentWorkloadsBySource = new EnumMap<>(Source.class);
+        private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+        private Duration retryBackoff = DEFAULT_RETRY_BACKOFF;
+        private Duration deadline;
+        private WorkloadListener listener = WorkloadListener.NOOP;
+
+        /**
+         * Default constructor for the {@link WorkloadOrchestrator.Builder} class.
+         */
+        public Builder() {
+        }
+
+        /**
+         * Specifies the maximum number of workloads running at once against each source without a cap of its own.
+         *
+         * @param maxConcurrentWorkloads the maximum number of workloads, greater than zero
+         * @return the current builder instance, allowing for method chaining
+         */
+        public Builder withMaxConcurrentWorkloads(int maxConcurrentWorkloads) {
+            this.maxConcurrentWorkloads = checkPositive(maxConcurrentWorkloads, "maxConcurrentWorkloads");
+            return this;
+        }
+
+        /**
+         * Specifies the maximum number of workloads running at once against the given source.
+         *
+         * @param source                 the source
+         * @param maxConcurrentWorkloads the maximum number of workloads, greater than zero
+         * @return the current builder instance, allowing for method chaining
+         */
+        public Builder withMaxConcurrentWorkloads(Source source, int maxConcurrentWorkloads) {
+            maxConcurrentWorkloadsBySource.put(Objects.requireNonNull(source, "source"),
+                    checkPositive(maxConcurrentWorkloads, "maxConcurrentWorkloads"));
+            return this;
+        }
+
+        /**
+         * Specifies the maximum number of attempts of a workload, including the first; 1 disables retries.
+         *
+         * @param maxAttempts the maximum number of attempts, greater than zero
+         * @return the current builder instance, allowing for method chaining
+         */
+        public Builder withMaxAttempts(int maxAttempts) {
+            this.maxAttempts = checkPositive(maxAttempts, "maxAttempts");
+            return this;
+        }
+
+        /**
+         * Specifies the delay before the first retry of a workload, doubled for each further retry.
+         *
+         * @param retryBackoff the delay, zero or more
+         * @return the current builder instance, allowing for method chaining
+         */
+        public Builder withRetryBackoff(Duration retryBackoff) {
+            if (Objects.requireNonNull(retryBackoff, "retryBackoff").isNegative()) {
+                throw new IllegalArgumentException("retryBackoff must not be negative");
+            }
+            this.retryBackoff = retryBackoff;
+            return this;
+        }
+
+        /**
+         * Specifies how long a run may take in total, from its start to the result of its last workload.
+         * This is optional; by default a run is only bounded by the timeouts and retries of its workloads.
+         *
+         * @param deadline the deadline, greater than zero
+         * @return the current builder instance, allowing for method chaining
+         */
+        public Builder withDeadline(Duration deadline) {
+            if (Objects.requireNonNull(deadline, "deadline").isNegative() || deadline.isZero()) {
+                throw new IllegalArgumentException("deadline must be greater than zero");
+            }
+            this.deadline = deadline;
+            return this;
+        }
+
+        /**
+         * Specifies the listener receiving the progress of workloads.
+         *
+         * @param listener the listener
+         * @return the current builder instance, allowing for method chaining
+         */
+        public Builder withListener(WorkloadListener listener) {
+            this.listener = Objects.requireNonNull(listener, "listener");
+            return this;
+        }
+
+        /**
+         * Constructs a new {@code WorkloadOrchestrator} with the current settings of this builder.
+         *
+         * @return a new {@code WorkloadOrchestrator} instance
+         */
+        public WorkloadOrchestrator build() {
+            return new WorkloadOrchestrator(this);
+        }
+
+        private static int checkPositive(int value, String name) {
+            if (value < 1) {
+                throw new IllegalArgumentException(name + " must be greater than 0");
+            }
+            return value;
+        }
+    }
+
+    private WorkloadOrchestrator(Builder builder) {
+        this.maxConcurrentWorkloads = builder.maxConcurrentWorkloads;
+        this.maxConcurrentWorkloadsBySource = new EnumMap<>(builder.maxConcurrentWorkloadsBySource);
+        this.maxAttempts = builder.maxAttempts;
+        this.retryBackoff = builder.retryBackoff;
+        this.deadline = builder.deadline;
+        this.listener = builder.listener;
+    }
+
+    /**
+     * Runs the given workloads, reading each report into a {@link CloudConnectResponse}.
+     *
+     * @param api      the API starting the workloads
+     * @param requests the requests of the workloads
+     * @return a sequential stream of the results of the workloads in the order they complete; closing it cancels the
+     * workloads still waiting or running
+     * @see #run(CloudDatabaseMatchKeyReportApi, Collection, Function)
+     */
+    public Stream<WorkloadResult<CloudConnectResponse>> run(CloudDatabaseMatchKeyReportApi api, Collection<CloudWorkloadRequest> requests) {
+        Objects.requireNonNull(api, "api");
+        return run(requests, api::startWorkload);
+    }
+
+    /**
+     * Runs the given workloads, reading each report with the reader created for its request, such as
+     * {@link ReportReader#toFile(java.nio.file.Path)} with a file per request.
+     * The workloads start at once, up to the caps of their sources; the returned stream waits for their results.
+     *
+     * @param api      the API starting the workloads
+     * @param requests the requests of the workloads
+     * @param readers  creates the reader of the report of each attempt of a workload
+     * @param <T>      the type of the results of the readers
+     * @return a sequential stream of the results of the workloads in the order they complete; closing it cancels the
+     * workloads still waiting or running
+     */
+    public <T> Stream<WorkloadResult<T>> run(CloudDatabaseMatchKeyReportApi api, Collection<CloudWorkloadRequest> requests,
+                                             Function<? super CloudWorkloadRequest, ? extends ReportReader<T>> readers) {
+        Objects.requireNonNull(api, "api");
+        Objects.requireNonNull(readers, "readers");
+        return run(requests, request -> api.startWorkload(request, readers.apply(request)));
+    }
+
+    private <T> Stream<WorkloadResult<T>> run(Collection<CloudWorkloadRequest> requests,
+                                              Function<CloudWorkloadRequest, CloudWorkload<T>> start) {
+        List<CloudWorkloadRequest> workloads = new ArrayList<>(Objects.requireNonNull(requests, "requests"));
+        Run<T> run = new Run<>(start, workloads);
+        run.start();
+        return StreamSupport.stream(run, false).onClose(run::cancel);
+    }
+
+    /**
+     * Whether an attempt failing with the given error may succeed if retried: a server error, a workload timeout or a broken
+     * connection, anywhere in the causes of the error. Other failures, such as a report that cannot be parsed or written by
+     * its {@link ReportReader}, would fail the same way again. A plain {@link InterruptedIOException} means the attempt was
+     * interrupted and is not retried, but its subclass {@link SocketTimeoutException} is transient.
+     */
+    static boolean isRetryable(Throwable error) {
+        boolean transientCause = false;
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ClientErrorException || cause instanceof ValidationException
+                    || cause.getClass() == InterruptedIOException.class) {
+                return false;
+            }
+            transientCause |= cause instanceof ServerErrorException || cause instanceof TimeoutException
+                    || cause instanceof SocketException || cause instanceof SocketTimeoutException
+                    || cause instanceof UnknownHostException || cause instanceof HttpTimeoutException
+                    || cause instanceof EOFException;
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return transientCause;
+    }
+
+    /**
+     * A workload waiting for, or making, an attempt.
+     */
+    private static final class Task {
+        private final CloudWorkloadRequest request;
+        private int attempts;
+        private long startNanos;
+
+        Task(CloudWorkloadRequest request) {
+            this.request = request;
+        }
+
+        Duration elapsed() {
+            return attempts == 0 ? Duration.ZERO : Duration.ofNanos(System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * A run of a set of workloads, emitting their results as a spliterator. The scheduling state is guarded by the run.
+     */
+    private final class Run<T> implements Spliterator<WorkloadResult<T>> {
+        private final Function<CloudWorkloadRequest, CloudWorkload<T>> start;
+        private final List<CloudWorkloadRequest> requests;
+        private final Map<Source, ArrayDeque<Task>> waiting = new HashMap<>();
+        private final Map<Source, Integer> running = new HashMap<>();
+        private final Set<CloudWorkload<T>> active = new HashSet<>();
+        private final BlockingQueue<WorkloadResult<T>> results = new LinkedBlockingQueue<>();
+        private int outstanding;
+        private int remaining;
+        private boolean expired;
+        private boolean cancelled;
+        private boolean dispatching;
+
+        Run(Function<CloudWorkloadRequest, CloudWorkload<T>> start, List<CloudWorkloadRequest> requests) {
+            this.start = start;
+            this.requests = requests;
+            this.outstanding = requests.size();
+            this.remaining = requests.size();
+        }
+
+        void start() {
+            synchronized (this) {
+                for (CloudWorkloadRequest request : requests) {
+                    waiting.computeIfAbsent(request.getSource(), source -> new ArrayDeque<>()).add(new Task(request));
+                }
+            }
+            if (deadline != null && !requests.isEmpty()) {
+                CompletableFuture.delayedExecutor(deadline.toNanos(), TimeUnit.NANOSECONDS).execute(this::expire);
+            }
+            dispatch();
+        }
+
+        /**
+         * Starts the waiting workloads allowed by the caps of their sources. Only one thread dispatches at a time, and it
+         * loops until no workload is ready, so that workloads failing as they start free their slots without recursing
+         * through {@link #completed}; a thread finding another dispatching leaves the slots it freed to that one.
+         */
+        private void dispatch() {
+            synchronized (this) {
+                if (dispatching) {
+                    return;
+                }
+                dispatching = true;
+            }
+            boolean drained = false;
+            try {
+                List<Task> ready = new ArrayList<>();
+                while (true) {
+                    synchronized (this) {
+                        if (!expired && !cancelled) {
+                            collectReady(ready);
+                        }
+                        if (ready.isEmpty()) {
+                            dispatching = false;
+                            drained = true;
+                            return;
+                        }
+                    }
+                    for (Task task : ready) {
+                        attempt(task);
+                    }
+                    ready.clear();
+                }
+            } finally {
+                if (!drained) {
+                    synchronized (this) {
+                        dispatching = false;
+                    }
+                }
+            }
+        }
+
+        private void collectReady(List<Task> ready) {
+            for (Map.Entry<Source, ArrayDeque<Task>> entry : waiting.entrySet()) {
+                Source source = entry.getKey();
+                int cap = source == null ? maxConcurrentWorkloads : maxConcurrentWorkloadsBySource.getOrDefault(source, maxConcurrentWorkloads);
+                int runningNow = running.getOrDefault(source, 0);
+                while (runningNow < cap && !entry.getValue().isEmpty()) {
+                    ready.add(entry.getValue().poll());
+                    runningNow++;
+                }
+                running.put(source, runningNow);
+            }
+        }
+
+        private void attempt(Task task) {
+            if (task.attempts++ == 0) {
+                task.startNanos = System.nanoTime();
+            }
+            CloudWorkload<T> workload;
+            try {
+                workload = start.apply(task.request);
+            } catch (RuntimeException e) {
+                completed(task, null, null, e);
+                return;
+            }
+            boolean stopped;
+            synchronized (this) {
+                stopped = expired || cancelled;
+                active.add(workload);
+            }
+            if (stopped) {
+                workload.cancel();
+            }
+            listener.workloadStarted(task.request, task.attempts, workload);
+            workload.toCompletableFuture().whenComplete((value, failure) -> {
+                try {
+                    completed(task, workload, workload.await(), null);
+                } catch (IOException | RuntimeException e) {
+                    completed(task, workload, null, e);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    completed(task, workload, null, e);
+                }
+            });
+        }
+
+        private void completed(Task task, CloudWorkload<T> workload, T value, Throwable error) {
+            Duration delay = null;
+            synchronized (this) {
+                active.remove(workload);
+                running.merge(task.request.getSource(), -1, Integer::sum);
+                if (cancelled) {
+                    return;
+                }
+                if (expired) {
+                    error = expiredError();
+                } else if (error != null && task.attempts < maxAttempts && isRetryable(error)) {
+                    delay = retryBackoff.multipliedBy(1L << Math.min(task.attempts - 1, 20));
+                }
+            }
+            dispatch();
+            if (delay != null) {
+                listener.workloadRetrying(task.request, task.attempts, error, delay);
+                CompletableFuture.delayedExecutor(delay.toNanos(), TimeUnit.NANOSECONDS).execute(() -> retry(task));
+            } else {
+                emit(error == null ? WorkloadResult.success(task.request, value, task.attempts, task.elapsed())
+                        : WorkloadResult.failure(task.request, error, task.attempts, task.elapsed()));
+            }
+        }
+
+        private void retry(Task task) {
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                if (!expired) {
+                    waiting.computeIfAbsent(task.request.getSource(), source -> new ArrayDeque<>()).add(task);
+                    task = null;
+                }
+            }
+            if (task != null) {
+                emit(WorkloadResult.failure(task.request, expiredError(), task.attempts, task.elapsed()));
+            }
+            dispatch();
+        }
+
+        private void emit(WorkloadResult<T> result) {
+            synchronized (this) {
+                outstanding--;
+            }
+            listener.workloadCompleted(result);
+            results.add(result);
+        }
+
+        /**
+         * Fails the workloads still waiting once the deadline passed, and cancels those running.
+         */
+        private void expire() {
+            List<Task> expiredTasks = new ArrayList<>();
+            List<CloudWorkload<T>> running;
+            synchronized (this) {
+                if (cancelled || outstanding == 0) {
+                    return;
+                }
+                expired = true;
+                for (ArrayDeque<Task> tasks : waiting.values()) {
+                    expiredTasks.addAll(tasks);
+                    tasks.clear();
+                }
+                running = new ArrayList<>(active);
+            }
+            for (Task task : expiredTasks) {
+                emit(WorkloadResult.failure(task.request, expiredError(), task.attempts, task.elapsed()));
+            }
+            for (CloudWorkload<T> workload : running) {
+                workload.cancel();
+            }
+        }
+
+        private TimeoutException expiredError() {
+            return new TimeoutException("Workloads did not complete within " + deadline);
+        }
+
+        void cancel() {
+            List<CloudWorkload<T>> running;
+            synchronized (this) {
+                cancelled = true;
+                waiting.clear();
+                running = new ArrayList<>(active);
+            }
+            for (CloudWorkload<T> workload : running) {
+                workload.cancel();
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super WorkloadResult<T>> action) {
+            synchronized (this) {
+                if (remaining == 0) {
+                    return false;
+                }
+                remaining--;
+            }
+            try {
+                action.accept(results.take());
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancel();
+                throw new UncheckedIOException(new InterruptedIOException("Interrupted while waiting for workloads"));
+            }
+        }
+
+        @Override
+        public Spliterator<WorkloadResult<T>> trySplit() {
+            return null;
+        }
+
+        @Override
+        public synchronized long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return NONNULL | SIZED;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.interzoid.sdk.api;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * <p>The timeout and keep-alive policy of Cloud Data Connect workloads.</p>
+ *
+ * <p>A workload runs over a single request, which the server may not answer until it has matched the whole table. Such
+ * requests do not use the read timeout of the transport: each may take up to {@link #getTimeout()} from the time it is sent
+ * to the last byte of its report, after which it is cancelled. While the request waits, the connection is kept alive
+ * every {@link #getKeepAliveInterval()} so that proxies, load balancers and NAT gateways do not drop it as idle: with
+ * HTTP/2 pings, and with TCP keep-alive probes where the platform supports setting their interval.</p>
+ *
+ * <p>{@link OkHttpTransport} applies both settings on a connection pool of its own for workloads. {@link JdkHttpTransport}
+ * applies the timeout only; the keep-alive of the JDK client cannot be configured per request. Other transports receive the
+ * policy, and the timeout is enforced by the SDK whatever the transport.</p>
+ *
+ * <h2>Example</h2>
+ * <pre>{@code
+ * CloudDatabaseMatchKeyReportApi api = new CloudDatabaseMatchKeyReportApi.Builder()
+ *   .withWorkloadPolicy(new WorkloadPolicy.Builder()
+ *     .withTimeout(Duration.ofHours(3))
+ *     .withKeepAliveInterval(Duration.ofSeconds(20))
+ *     .build())
+ *   .build();
+ * }</pre>
+ *
+ * @see CloudDatabaseMatchKeyReportApi#startWorkload(com.interzoid.sdk.model.CloudWorkloadRequest, ReportReader)
+ */
+public final class WorkloadPolicy {
+    /**
+     * The default policy: a one-hour timeout and a keep-alive every 30 seconds.
+     */
+    public static final WorkloadPolicy DEFAULT = new Builder().build();
+
+    private final Duration timeout;
+    private final Duration keepAliveInterval;
+
+    /**
+     * The builder class for {@link WorkloadPolicy}.
+     */
+    public static class Builder {
+        /**
+         * The default timeout of a workload, one hour.
+         */
+        public static final Duration DEFAULT_TIMEOUT = Duration.ofHours(1);
+        /**
+         * The default keep-alive interval, 30 seconds.
+         */
+        public static final Duration DEFAULT_KEEP_ALIVE_INTERVAL = Duration.ofSeconds(30);
+
+        private Duration timeout = DEFAULT_TIMEOUT;
+        private Duration keepAliveInterval = DEFAULT_KEEP_ALIVE_INTERVAL;
+
+        /**
+         * Default constructor for the {@link WorkloadPolicy.Builder} class.
+         */
+        public Builder() {
+        }
+
+        /**
+         * Specifies how long a workload may take, from sending its request to receiving the last byte of its report.
+         *
+         * @param timeout the timeout, greater than zero
+         * @return the current builder instance, allowing for method chaining
+         */
+        public Builder withTimeout(Duration timeout) {
+            this.timeout = checkPositive(timeout, "timeout");
+            return this;
+        }
+
+        /**
+         * Specifies how often the connection of a workload is kept alive while it waits for the report.
+         *
+         * @param keepAliveInterval the interval, at least one second
+         * @return the current builder instance, allowing for method chaining
+         */
+        public Builder withKeepAliveInterval(Duration keepAliveInterval) {
+            if (checkPositive(keepAliveInterval, "keepAliveInterval").getSeconds() < 1) {
+                throw new IllegalArgumentException("keepAliveInterval must be at least one second");
+            }
+            this.keepAliveInterval = keepAliveInterval;
+            return this;
+        }
+
+        /**
+         * Constructs a new {@code WorkloadPolicy} with the current settings of this builder.
+         *
+         * @return a new {@code WorkloadPolicy} instance
+         */
+        public WorkloadPolicy build() {
+            return new WorkloadPolicy(this);
+        }
+
+        private static Duration checkPositive(Duration duration, String name) {
+            if (Objects.requireNonNull(duration, name).isNegative() || duration.isZero()) {
+                throw new IllegalArgumentException(name + " must be greater than zero");
+            }
+            return duration;
+        }
+    }
+
+    private WorkloadPolicy(Builder builder) {
+        this.timeout = builder.timeout;
+        this.keepAliveInterval = builder.keepAliveInterval;
+    }
+
+    /**
+     * Gets how long a workload may take, from sending its request to receiving the last byte of its report.
+     *
+     * @return the timeout
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Gets how often the connection of a workload is kept alive while it waits for the report.
+     *
+     * @return the keep-alive interval
+     */
+    public Duration getKeepAliveInterval() {
+        return keepAliveInterval;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof WorkloadPolicy)) {
+            return false;
+        }
+        WorkloadPolicy that = (WorkloadPolicy) o;
+        return timeout.equals(that.timeout) && keepAliveInterval.equals(that.keepAliveInterval);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(timeout, keepAliveInterval);
+    }
+
+    @Override
+    public String toString() {
+        return "WorkloadPolicy{" +
+                "timeout=" + timeout +
+                ", keepAliveInterval=" + keepAliveInterval +
+                '}';
+    }
+}
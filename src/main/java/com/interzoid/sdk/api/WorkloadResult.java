@@ -0,0 +1,102 @@
+package com.interzoid.sdk.api;
+
+import com.interzoid.sdk.model.CloudWorkloadRequest;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * The outcome of a workload run by a {@link WorkloadOrchestrator}: the request together with the result of its report,
+ * or the error its last attempt failed with.
+ *
+ * @param <T> the type of the result of the workload
+ * @see WorkloadOrchestrator
+ */
+public final class WorkloadResult<T> {
+    private final CloudWorkloadRequest request;
+    private final T result;
+    private final Throwable error;
+    private final int attempts;
+    private final Duration elapsed;
+
+    private WorkloadResult(CloudWorkloadRequest request, T result, Throwable error, int attempts, Duration elapsed) {
+        this.request = request;
+        this.result = result;
+        this.error = error;
+        this.attempts = attempts;
+        this.elapsed = elapsed;
+    }
+
+    static <T> WorkloadResult<T> success(CloudWorkloadRequest request, T result, int attempts, Duration elapsed) {
+        return new WorkloadResult<>(request, result, null, attempts, elapsed);
+    }
+
+    static <T> WorkloadResult<T> failure(CloudWorkloadRequest request, Throwable error, int attempts, Duration elapsed) {
+        return new WorkloadResult<>(request, null, Objects.requireNonNull(error, "error"), attempts, elapsed);
+    }
+
+    /**
+     * Gets the request of the workload.
+     *
+     * @return the request
+     */
+    public CloudWorkloadRequest getRequest() {
+        return request;
+    }
+
+    /**
+     * Gets the result of the workload.
+     *
+     * @return the result of the report, or null if the workload failed
+     */
+    public T getResult() {
+        return result;
+    }
+
+    /**
+     * Gets the error the workload failed with.
+     *
+     * @return the error of the last attempt, or null if the workload succeeded
+     */
+    public Throwable getError() {
+        return error;
+    }
+
+    /**
+     * Gets the number of attempts made, including the first.
+     *
+     * @return the number of attempts, 0 if the workload never started
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * Gets the time from the start of the first attempt to the outcome, including retry delays.
+     *
+     * @return the elapsed time
+     */
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * Whether the workload succeeded.
+     *
+     * @return true if a result is available
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    @Override
+    public String toString() {
+        return "WorkloadResult{" +
+                "request=" + request +
+                ", result=" + result +
+                ", error=" + error +
+                ", attempts=" + attempts +
+                ", elapsed=" + elapsed +
+                '}';
+    }
+}
@@ -0,0 +1,46 @@
+package com.interzoid.sdk.metrics;
+
+import jdk.jfr.*;
+
+/**
+ * <p>A Java Flight Recorder event for a lookup in a response cache, named {@code com.interzoid.sdk.CacheLookup}.
+ * The SDK itself does not cache responses; the event is provided for tools built on it that do, so that every
+ * cache decision shows up next to the {@link RequestEvent}s it saved or caused.</p>
+ *
+ * <p>Like {@link RequestEvent}, it is disabled by default and only costs a {@link #shouldCommit()} check when disabled.</p>
+ */
+@Name("com.interzoid.sdk.CacheLookup")
+@Label("Interzoid Cache Lookup")
+@Category({"Interzoid", "SDK"})
+@Description("A lookup of an Interzoid API response in a cache")
+@StackTrace(false)
+@Enabled(false)
+public final class CacheLookupEvent extends Event {
+    @Label("Resource")
+    private String resource;
+
+    @Label("Hit")
+    @Description("Whether the response was found in the cache")
+    private boolean hit;
+
+    /**
+     * Constructs a new CacheLookupEvent. Call {@link #begin()} before the lookup.
+     */
+    public CacheLookupEvent() {
+    }
+
+    /**
+     * Ends the event and commits it if it is enabled and passes the threshold.
+     *
+     * @param resource the resource whose response was looked up
+     * @param hit      whether the response was found
+     */
+    public void complete(String resource, boolean hit) {
+        end();
+        if (shouldCommit()) {
+            this.resource = resource;
+            this.hit = hit;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.interzoid.sdk.metrics;
+
+/**
+ * A phase of an HTTP call, timed by transports that support it.
+ *
+ * @see CallTimings
+ */
+public enum CallPhase {
+    /**
+     * Resolving the host name. Skipped when a pooled connection is reused.
+     */
+    DNS,
+    /**
+     * Establishing the connection, including the TLS handshake. Skipped when a pooled connection is reused.
+     */
+    CONNECT,
+    /**
+     * The TLS handshake, which is part of {@link #CONNECT}.
+     */
+    TLS,
+    /**
+     * From the end of writing the request to the start of the response headers: network round trip plus server time.
+     */
+    TIME_TO_FIRST_BYTE,
+    /**
+     * Reading the response body.
+     */
+    BODY_READ
+}
@@ -0,0 +1,112 @@
+package com.interzoid.sdk.metrics;
+
+import java.time.Duration;
+
+/**
+ * The phase breakdown of a single HTTP call.
+ * Phases that did not happen during the call, such as {@link CallPhase#DNS} on a reused connection, have no duration.
+ * When a call is retried on another connection, the durations of the attempts are added up.
+ */
+public final class CallTimings {
+    private final String resource;
+    private final int responseCode;
+    private final long totalNanos;
+    private final long[] phaseNanos;
+
+    /**
+     * Constructs a new CallTimings.
+     *
+     * @param resource     the resource requested
+     * @param responseCode the HTTP status code, or -1 if no response was received
+     * @param totalNanos   the duration of the whole call, in nanoseconds
+     * @param phaseNanos   the duration of each phase in nanoseconds, indexed by {@link CallPhase#ordinal()}, or -1 for phases that did not happen
+     */
+    public CallTimings(String resource, int responseCode, long totalNanos, long[] phaseNanos) {
+        if (phaseNanos.length != CallPhase.values().length) {
+            throw new IllegalArgumentException("phaseNanos must have one entry per CallPhase");
+        }
+        this.resource = resource;
+        this.responseCode = responseCode;
+        this.totalNanos = totalNanos;
+        this.phaseNanos = phaseNanos.clone();
+    }
+
+    /**
+     * Gets the resource requested.
+     *
+     * @return the resource name
+     */
+    public String getResource() {
+        return resource;
+    }
+
+    /**
+     * Gets the HTTP status code of the response.
+     *
+     * @return the status code, or -1 if the call failed before a response was received
+     */
+    public int getResponseCode() {
+        return responseCode;
+    }
+
+    /**
+     * Gets the duration of the whole call.
+     *
+     * @return the duration in nanoseconds
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Gets the duration of the whole call.
+     *
+     * @return the duration
+     */
+    public Duration getTotal() {
+        return Duration.ofNanos(totalNanos);
+    }
+
+    /**
+     * Whether a phase happened during the call.
+     *
+     * @param phase the phase
+     * @return true if the phase has a duration
+     */
+    public boolean hasPhase(CallPhase phase) {
+        return phaseNanos[phase.ordinal()] >= 0;
+    }
+
+    /**
+     * Gets the duration of a phase.
+     *
+     * @param phase the phase
+     * @return the duration in nanoseconds, or -1 if the phase did not happen
+     */
+    public long getNanos(CallPhase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    /**
+     * Gets the duration of a phase.
+     *
+     * @param phase the phase
+     * @return the duration, or {@link Duration#ZERO} if the phase did not happen
+     */
+    public Duration get(CallPhase phase) {
+        return Duration.ofNanos(Math.max(0, phaseNanos[phase.ordinal()]));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("CallTimings{resource='").append(resource).append('\'')
+                .append(", responseCode=").append(responseCode)
+                .append(", total=").append(getTotal());
+        for (CallPhase phase : CallPhase.values()) {
+            if (hasPhase(phase)) {
+                builder.append(", ").append(phase).append('=').append(get(phase));
+            }
+        }
+        return builder.append('}').toString();
+    }
+}
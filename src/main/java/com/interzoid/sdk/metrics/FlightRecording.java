@@ -0,0 +1,26 @@
+package com.interzoid.sdk.metrics;
+
+import jdk.jfr.FlightRecorder;
+
+/**
+ * <p>Tells whether the SDK's Java Flight Recorder events can be recorded.</p>
+ *
+ * <p>Loading the first event class registers it with Flight Recorder, which takes a few hundred milliseconds in a fresh JVM and
+ * cannot be saved by a class data sharing archive. Events are therefore only created once Flight Recorder is initialized,
+ * by {@code -XX:StartFlightRecording} or by a recording started later with {@code jcmd JFR.start} or JDK Mission Control;
+ * requests made before then are not recorded.</p>
+ */
+public final class FlightRecording {
+
+    private FlightRecording() {
+    }
+
+    /**
+     * Checks whether Flight Recorder is initialized, so that events created now may be recorded.
+     *
+     * @return true if Flight Recorder is initialized
+     */
+    public static boolean isInitialized() {
+        return FlightRecorder.isInitialized();
+    }
+}
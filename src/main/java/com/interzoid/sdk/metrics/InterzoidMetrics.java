@@ -0,0 +1,94 @@
+package com.interzoid.sdk.metrics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <h2>Interzoid Metrics</h2>
+ *
+ * <p>A {@link MetricsRecorder} keeping {@link ResourceMetrics} for every resource requested: a latency histogram,
+ * request counters by outcome, requests in flight, bytes received and, with transports that time them, per-phase latency histograms. It has no dependencies and adds an atomic increment
+ * or two per request to the hot path.</p>
+ *
+ * <p>Share a single instance between API instances to aggregate their metrics.</p>
+ *
+ * <h3>Example</h3>
+ * <pre>{@code
+ * InterzoidMetrics metrics = new InterzoidMetrics();
+ * FullNameMatchKeyApi api = new FullNameMatchKeyApi.Builder()
+ *   .withMetricsRecorder(metrics)
+ *   .build();
+ * // ...
+ * ResourceMetrics fullName = metrics.getResourceMetrics("getfullnamematch");
+ * long p99Nanos = fullName.getLatency().getValueAtPercentile(99);
+ * }</pre>
+ */
+public class InterzoidMetrics implements MetricsRecorder {
+    private final ConcurrentMap<String, ResourceMetrics> resources = new ConcurrentHashMap<>();
+    private volatile long creditsRemaining = -1;
+
+    /**
+     * Constructs a new InterzoidMetrics with no recorded data.
+     */
+    public InterzoidMetrics() {
+    }
+
+    @Override
+    public void requestStarted(String resource) {
+        metricsFor(resource).started();
+    }
+
+    @Override
+    public void requestCompleted(String resource, long latencyNanos, long bytesReceived, RequestOutcome outcome) {
+        metricsFor(resource).completed(latencyNanos, bytesReceived, outcome);
+    }
+
+    @Override
+    public void callTimed(CallTimings timings) {
+        metricsFor(timings.getResource()).timed(timings);
+    }
+
+    @Override
+    public void creditsRemaining(long credits) {
+        creditsRemaining = credits;
+    }
+
+    private ResourceMetrics metricsFor(String resource) {
+        ResourceMetrics metrics = resources.get(resource);
+        if (metrics == null) {
+            metrics = resources.computeIfAbsent(resource, ResourceMetrics::new);
+        }
+        return metrics;
+    }
+
+    /**
+     * Gets the metrics of a resource.
+     *
+     * @param resource the resource name
+     * @return the metrics, or null if the resource was never requested
+     */
+    public ResourceMetrics getResourceMetrics(String resource) {
+        return resources.get(resource);
+    }
+
+    /**
+     * Gets the metrics of every resource requested so far.
+     *
+     * @return the metrics of each resource
+     */
+    public Collection<ResourceMetrics> getResourceMetrics() {
+        return Collections.unmodifiableCollection(new ArrayList<>(resources.values()));
+    }
+
+    /**
+     * Gets the number of credits remaining, from the most recent response reporting it.
+     *
+     * @return the number of credits remaining, or -1 if no response reported it yet
+     */
+    public long getCreditsRemaining() {
+        return creditsRemaining;
+    }
+}
@@ -0,0 +1,62 @@
+package com.interzoid.sdk.metrics;
+
+/**
+ * <p>Receives a callback at the start and end of every HTTP request made by the SDK.</p>
+ *
+ * <p>Implementations are called on the request path, from any thread, and must be thread-safe and fast;
+ * they should not block or throw. {@link InterzoidMetrics} is a ready-made implementation.</p>
+ *
+ * <p>The resource identifies the endpoint: the data matching API resource name, such as {@code getfullnamematch} or
+ * {@code getorgmatchscore}, or {@code run} for Cloud Data Connect workloads.</p>
+ */
+public interface MetricsRecorder {
+
+    /**
+     * A recorder that discards everything. This is the recorder used when none is specified.
+     */
+    MetricsRecorder NOOP = new MetricsRecorder() {
+        @Override
+        public void requestStarted(String resource) {
+        }
+
+        @Override
+        public void requestCompleted(String resource, long latencyNanos, long bytesReceived, RequestOutcome outcome) {
+        }
+    };
+
+    /**
+     * Called when a request is about to be sent.
+     *
+     * @param resource the resource being requested
+     */
+    void requestStarted(String resource);
+
+    /**
+     * Called when a request has completed, successfully or not. Every call to {@link #requestStarted(String)} is followed by exactly one call to this method.
+     *
+     * @param resource      the resource requested
+     * @param latencyNanos  the time from sending the request to receiving the complete response, in nanoseconds
+     * @param bytesReceived the size of the response body, or 0 if no response was received
+     * @param outcome       the outcome of the request
+     */
+    void requestCompleted(String resource, long latencyNanos, long bytesReceived, RequestOutcome outcome);
+
+    /**
+     * Called with the phase breakdown of each HTTP call, by transports that time phases.
+     * This is reported separately from {@link #requestCompleted}, after the call completes; it also covers calls made outside a request, such as warm-up calls.
+     * The default implementation does nothing.
+     *
+     * @param timings the timings of the call
+     */
+    default void callTimed(CallTimings timings) {
+    }
+
+    /**
+     * Called with the number of credits remaining on the account, as reported by a successful data matching API response.
+     * The default implementation does nothing.
+     *
+     * @param credits the number of credits remaining
+     */
+    default void creditsRemaining(long credits) {
+    }
+}
@@ -0,0 +1,96 @@
+package com.interzoid.sdk.metrics;
+
+/**
+ * A snapshot of the connection pool of an HTTP transport, such as the one returned by {@code OkHttpTransport.getPoolStats()}.
+ *
+ * @see PrometheusExporter#registerPoolStats
+ */
+public final class PoolStats {
+    private final int connectionCount;
+    private final int idleConnectionCount;
+    private final long connectionsOpened;
+    private final long connectionsAcquired;
+
+    /**
+     * Constructs a new PoolStats.
+     *
+     * @param connectionCount     the number of connections in the pool
+     * @param idleConnectionCount the number of idle connections in the pool
+     * @param connectionsOpened   the number of connections opened since the transport was created
+     * @param connectionsAcquired the number of times a call acquired a connection since the transport was created
+     */
+    public PoolStats(int connectionCount, int idleConnectionCount, long connectionsOpened, long connectionsAcquired) {
+        this.connectionCount = connectionCount;
+        this.idleConnectionCount = idleConnectionCount;
+        this.connectionsOpened = connectionsOpened;
+        this.connectionsAcquired = connectionsAcquired;
+    }
+
+    /**
+     * Gets the number of connections in the pool.
+     *
+     * @return the number of open connections
+     */
+    public int getConnectionCount() {
+        return connectionCount;
+    }
+
+    /**
+     * Gets the number of idle connections in the pool.
+     *
+     * @return the number of connections not carrying any call
+     */
+    public int getIdleConnectionCount() {
+        return idleConnectionCount;
+    }
+
+    /**
+     * Gets the number of connections currently carrying at least one call.
+     *
+     * @return the number of active connections
+     */
+    public int getActiveConnectionCount() {
+        return connectionCount - idleConnectionCount;
+    }
+
+    /**
+     * Gets the number of connections opened since the transport was created.
+     *
+     * @return the number of TCP connections opened
+     */
+    public long getConnectionsOpened() {
+        return connectionsOpened;
+    }
+
+    /**
+     * Gets the number of times a call acquired a connection since the transport was created, whether new or reused.
+     *
+     * @return the number of connection acquisitions
+     */
+    public long getConnectionsAcquired() {
+        return connectionsAcquired;
+    }
+
+    /**
+     * Gets the fraction of connection acquisitions served by an already open connection.
+     *
+     * @return the reuse ratio between 0 and 1, or 0 if no connection has been acquired
+     */
+    public double getReuseRatio() {
+        if (connectionsAcquired == 0) {
+            return 0;
+        }
+        return Math.max(0, connectionsAcquired - connectionsOpened) / (double) connectionsAcquired;
+    }
+
+    @Override
+    public String toString() {
+        return "PoolStats{" +
+                "connectionCount=" + connectionCount +
+                ", idleConnectionCount=" + idleConnectionCount +
+                ", connectionsOpened=" + connectionsOpened +
+                ", connectionsAcquired=" + connectionsAcquired +
+                ", reuseRatio=" + getReuseRatio() +
+                '}';
+    }
+}
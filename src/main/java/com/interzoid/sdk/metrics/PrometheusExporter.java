@@ -0,0 +1,424 @@
+package com.interzoid.sdk.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * <h2>Prometheus Exporter</h2>
+ *
+ * <p>Renders the metrics of an {@link InterzoidMetrics} in the Prometheus text exposition format:</p>
+ * <ul>
+ *     <li>{@code interzoid_request_duration_seconds}: request latency histogram per resource</li>
+ *     <li>{@code interzoid_requests_total}: completed requests per resource and outcome</li>
+ *     <li>{@code interzoid_requests_in_flight}: requests sent but not completed per resource</li>
+ *     <li>{@code interzoid_received_bytes_total}: response body bytes received per resource</li>
+ *     <li>{@code interzoid_call_phase_duration_seconds}: latency histogram per resource and call phase, for transports timing phases</li>
+ *     <li>{@code interzoid_credits_remaining}: credits remaining, from the most recent response reporting them</li>
+ *     <li>{@code interzoid_pool_*}: connection pool statistics of the transports registered with {@link #registerPoolStats}</li>
+ *     <li>any gauge or counter registered with {@link #registerGauge} or {@link #registerCounter}, such as cache or rate limiter state</li>
+ * </ul>
+ *
+ * <p>Metrics are served by a JDK {@link HttpServer}, either one started with {@link #start(InetSocketAddress)} or an existing one
+ * with this exporter as handler, or written on demand with {@link #writeTo(Writer)}. Rendering reuses its text and byte buffers
+ * between scrapes, so a scrape allocates little beyond the buffers growing to the size of the largest output.</p>
+ *
+ * <p>Histogram buckets are derived from the {@link LatencyHistogram} buckets; a bucket boundary may include values up to 1/{@value LatencyHistogram#SUB_BUCKETS} above it.</p>
+ *
+ * <h3>Example</h3>
+ * <pre>{@code
+ * InterzoidMetrics metrics = new InterzoidMetrics();
+ * OkHttpTransport transport = new OkHttpTransport.Builder().withMetricsRecorder(metrics).build();
+ * HttpServer server = new PrometheusExporter(metrics)
+ *   .registerPoolStats("default", transport::getPoolStats)
+ *   .start(new InetSocketAddress(9400));
+ * // metrics are served at http://localhost:9400/metrics
+ * }</pre>
+ */
+public final class PrometheusExporter implements HttpHandler {
+    /**
+     * The content type of the Prometheus text exposition format.
+     */
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    /**
+     * The path metrics are served at by {@link #start(InetSocketAddress)}.
+     */
+    public static final String PATH = "/metrics";
+
+    private static final Pattern METRIC_NAME = Pattern.compile("[a-zA-Z_:][a-zA-Z0-9_:]*");
+    private static final String[] BUCKET_LABELS = {
+            "0.001", "0.0025", "0.005", "0.01", "0.025", "0.05", "0.1", "0.25", "0.5", "1", "2.5", "5", "10", "30", "60"
+    };
+    private static final int[] BUCKET_INDEXES = new int[BUCKET_LABELS.length];
+    private static final String[] OUTCOME_LABELS = new String[RequestOutcome.values().length];
+    private static final String[] PHASE_LABELS = new String[CallPhase.values().length];
+
+    static {
+        for (int i = 0; i < BUCKET_LABELS.length; i++) {
+            BUCKET_INDEXES[i] = LatencyHistogram.bucketIndex((long) (Double.parseDouble(BUCKET_LABELS[i]) * 1e9));
+        }
+        for (RequestOutcome outcome : RequestOutcome.values()) {
+            OUTCOME_LABELS[outcome.ordinal()] = outcome.name().toLowerCase(Locale.ROOT);
+        }
+        for (CallPhase phase : CallPhase.values()) {
+            PHASE_LABELS[phase.ordinal()] = phase.name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final InterzoidMetrics metrics;
+    private final Map<String, Family> families = new LinkedHashMap<>();
+    private final Map<String, Supplier<PoolStats>> poolStats = new LinkedHashMap<>();
+
+    private final StringBuilder text = new StringBuilder(16 * 1024);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    private final long[] bucketCounts = new long[BUCKET_LABELS.length + 1];
+    private final char[] chunk = new char[4096];
+    private ByteBuffer bytes = ByteBuffer.allocate(16 * 1024);
+
+    /**
+     * Constructs a new PrometheusExporter for the specified metrics.
+     *
+     * @param metrics the metrics to export
+     */
+    public PrometheusExporter(InterzoidMetrics metrics) {
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+    }
+
+    /**
+     * Registers a gauge, read on every scrape.
+     *
+     * @param name  the metric name
+     * @param help  the description of the metric
+     * @param value supplies the current value; it must be thread-safe and fast
+     * @return this exporter, allowing for method chaining
+     * @throws IllegalArgumentException if the name is not a valid metric name or is already registered
+     */
+    public PrometheusExporter registerGauge(String name, String help, DoubleSupplier value) {
+        return register(name, help, "gauge", value);
+    }
+
+    /**
+     * Registers a counter, read on every scrape. By convention counter names end with {@code _total}.
+     *
+     * @param name  the metric name
+     * @param help  the description of the metric
+     * @param value supplies the current value, which must never decrease; it must be thread-safe and fast
+     * @return this exporter, allowing for method chaining
+     * @throws IllegalArgumentException if the name is not a valid metric name or is already registered
+     */
+    public PrometheusExporter registerCounter(String name, String help, DoubleSupplier value) {
+        return register(name, help, "counter", value);
+    }
+
+    /**
+     * Registers the connection pool statistics of a transport, rendered with a {@code transport} label.
+     *
+     * @param transport the label identifying the transport
+     * @param stats     supplies the pool statistics, such as {@code OkHttpTransport::getPoolStats}
+     * @return this exporter, allowing for method chaining
+     */
+    public synchronized PrometheusExporter registerPoolStats(String transport, Supplier<PoolStats> stats) {
+        poolStats.put(Objects.requireNonNull(transport, "transport"), Objects.requireNonNull(stats, "stats"));
+        return this;
+    }
+
+    private synchronized PrometheusExporter register(String name, String help, String type, DoubleSupplier value) {
+        if (!METRIC_NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Invalid metric name: " + name);
+        }
+        if (families.containsKey(name)) {
+            throw new IllegalArgumentException("Metric already registered: " + name);
+        }
+        families.put(name, new Family(name, Objects.requireNonNull(help, "help"), type, Objects.requireNonNull(value, "value")));
+        return this;
+    }
+
+    /**
+     * Writes the current metrics to a writer.
+     *
+     * @param writer the writer
+     * @throws IOException if writing fails
+     */
+    public synchronized void writeTo(Writer writer) throws IOException {
+        render();
+        for (int start = 0; start < text.length(); start += chunk.length) {
+            int end = Math.min(text.length(), start + chunk.length);
+            text.getChars(start, end, chunk, 0);
+            writer.write(chunk, 0, end - start);
+        }
+        writer.flush();
+    }
+
+    /**
+     * Serves the current metrics in response to a GET request.
+     *
+     * @param exchange the exchange
+     * @throws IOException if writing the response fails
+     */
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            synchronized (this) {
+                render();
+                encode();
+                if ("HEAD".equals(method)) {
+                    exchange.sendResponseHeaders(200, -1);
+                    return;
+                }
+                exchange.sendResponseHeaders(200, bytes.position());
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(bytes.array(), 0, bytes.position());
+                }
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Starts an HTTP server serving the metrics at {@value #PATH}.
+     *
+     * @param address the address to listen on
+     * @return the started server, to be stopped by the caller
+     * @throws IOException if the server cannot be started
+     */
+    public HttpServer start(InetSocketAddress address) throws IOException {
+        HttpServer server = HttpServer.create(address, 0);
+        server.createContext(PATH, this);
+        server.start();
+        return server;
+    }
+
+    private void encode() {
+        encoder.reset();
+        bytes.clear();
+        CharBuffer in = CharBuffer.wrap(text);
+        while (true) {
+            CoderResult result = encoder.encode(in, bytes, true);
+            if (result.isOverflow()) {
+                grow();
+            } else if (encoder.flush(bytes).isOverflow()) {
+                grow();
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void grow() {
+        ByteBuffer larger = ByteBuffer.allocate(bytes.capacity() * 2);
+        bytes.flip();
+        larger.put(bytes);
+        bytes = larger;
+    }
+
+    private void render() {
+        text.setLength(0);
+        Collection<ResourceMetrics> resources = metrics.getResourceMetrics();
+
+        header("interzoid_request_duration_seconds", "Latency of requests to Interzoid APIs.", "histogram");
+        for (ResourceMetrics resource : resources) {
+            histogram("interzoid_request_duration_seconds", resource.getResource(), null, resource.getLatency());
+        }
+
+        header("interzoid_requests_total", "Completed requests to Interzoid APIs by outcome.", "counter");
+        for (ResourceMetrics resource : resources) {
+            for (RequestOutcome outcome : RequestOutcome.values()) {
+                text.append("interzoid_requests_total{resource=\"");
+                labelValue(resource.getResource());
+                text.append("\",outcome=\"").append(OUTCOME_LABELS[outcome.ordinal()]).append("\"} ")
+                        .append(resource.getCount(outcome)).append('\n');
+            }
+        }
+
+        header("interzoid_requests_in_flight", "Requests to Interzoid APIs sent but not completed.", "gauge");
+        for (ResourceMetrics resource : resources) {
+            resourceSample("interzoid_requests_in_flight", resource.getResource()).append(resource.getInFlight()).append('\n');
+        }
+
+        header("interzoid_received_bytes_total", "Response body bytes received from Interzoid APIs.", "counter");
+        for (ResourceMetrics resource : resources) {
+            resourceSample("interzoid_received_bytes_total", resource.getResource()).append(resource.getBytesReceived()).append('\n');
+        }
+
+        header("interzoid_call_phase_duration_seconds", "Latency of the phases of HTTP calls to Interzoid APIs.", "histogram");
+        for (ResourceMetrics resource : resources) {
+            for (CallPhase phase : CallPhase.values()) {
+                LatencyHistogram histogram = resource.getPhaseLatency(phase);
+                if (histogram.getCount() > 0) {
+                    histogram("interzoid_call_phase_duration_seconds", resource.getResource(), PHASE_LABELS[phase.ordinal()], histogram);
+                }
+            }
+        }
+
+        long credits = metrics.getCreditsRemaining();
+        if (credits >= 0) {
+            header("interzoid_credits_remaining", "Credits remaining on the Interzoid account.", "gauge");
+            text.append("interzoid_credits_remaining ").append(credits).append('\n');
+        }
+
+        if (!poolStats.isEmpty()) {
+            renderPoolStats();
+        }
+
+        for (Family family : families.values()) {
+            header(family.name, family.help, family.type);
+            text.append(family.name).append(' ');
+            number(family.value.getAsDouble());
+            text.append('\n');
+        }
+    }
+
+    private void renderPoolStats() {
+        List<String> transports = new ArrayList<>(poolStats.size());
+        List<PoolStats> stats = new ArrayList<>(poolStats.size());
+        for (Map.Entry<String, Supplier<PoolStats>> entry : poolStats.entrySet()) {
+            transports.add(entry.getKey());
+            stats.add(entry.getValue().get());
+        }
+        // idle and active only, so that summing over the state gives the connections of the pool
+        header("interzoid_pool_connections", "Connections in the pool of the transport, by state.", "gauge");
+        for (int i = 0; i < stats.size(); i++) {
+            poolSample("interzoid_pool_connections", transports.get(i), "idle").append(stats.get(i).getIdleConnectionCount()).append('\n');
+            poolSample("interzoid_pool_connections", transports.get(i), "active").append(stats.get(i).getActiveConnectionCount()).append('\n');
+        }
+        header("interzoid_pool_connections_opened_total", "Connections opened by the transport.", "counter");
+        for (int i = 0; i < stats.size(); i++) {
+            poolSample("interzoid_pool_connections_opened_total", transports.get(i), null).append(stats.get(i).getConnectionsOpened()).append('\n');
+        }
+        header("interzoid_pool_connections_acquired_total", "Connections acquired by calls of the transport, new or reused.", "counter");
+        for (int i = 0; i < stats.size(); i++) {
+            poolSample("interzoid_pool_connections_acquired_total", transports.get(i), null).append(stats.get(i).getConnectionsAcquired()).append('\n');
+        }
+    }
+
+    private void header(String name, String help, String type) {
+        text.append("# HELP ").append(name).append(' ');
+        for (int i = 0; i < help.length(); i++) {
+            char c = help.charAt(i);
+            if (c == '\\') {
+                text.append("\\\\");
+            } else if (c == '\n') {
+                text.append("\\n");
+            } else {
+                text.append(c);
+            }
+        }
+        text.append("\n# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private StringBuilder resourceSample(String name, String resource) {
+        text.append(name).append("{resource=\"");
+        labelValue(resource);
+        return text.append("\"} ");
+    }
+
+    private StringBuilder poolSample(String name, String transport, String state) {
+        text.append(name).append("{transport=\"");
+        labelValue(transport);
+        if (state != null) {
+            text.append("\",state=\"").append(state);
+        }
+        return text.append("\"} ");
+    }
+
+    private void histogram(String name, String resource, String phase, LatencyHistogram histogram) {
+        Arrays.fill(bucketCounts, 0);
+        int bound = 0;
+        long count = 0;
+        for (int i = 0; i < histogram.getBucketCount(); i++) {
+            long value = histogram.getBucketValueCount(i);
+            if (value == 0) {
+                continue;
+            }
+            while (bound < BUCKET_INDEXES.length && BUCKET_INDEXES[bound] < i) {
+                bound++;
+            }
+            bucketCounts[bound] += value;
+            count += value;
+        }
+
+        long cumulative = 0;
+        for (int i = 0; i <= BUCKET_LABELS.length; i++) {
+            cumulative += bucketCounts[i];
+            labels(name, "_bucket", resource, phase);
+            text.append(",le=\"").append(i < BUCKET_LABELS.length ? BUCKET_LABELS[i] : "+Inf").append("\"} ")
+                    .append(cumulative).append('\n');
+        }
+        labels(name, "_sum", resource, phase);
+        text.append("} ");
+        number(histogram.getSum() / 1e9);
+        text.append('\n');
+        labels(name, "_count", resource, phase);
+        text.append("} ").append(count).append('\n');
+    }
+
+    private void labels(String name, String suffix, String resource, String phase) {
+        text.append(name).append(suffix).append("{resource=\"");
+        labelValue(resource);
+        text.append('"');
+        if (phase != null) {
+            text.append(",phase=\"").append(phase).append('"');
+        }
+    }
+
+    private void labelValue(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' || c == '"') {
+                text.append('\\').append(c);
+            } else if (c == '\n') {
+                text.append("\\n");
+            } else {
+                text.append(c);
+            }
+        }
+    }
+
+    private void number(double value) {
+        if (Double.isNaN(value)) {
+            text.append("NaN");
+        } else if (Double.isInfinite(value)) {
+            text.append(value > 0 ? "+Inf" : "-Inf");
+        } else if (value == (long) value) {
+            text.append((long) value);
+        } else {
+            text.append(value);
+        }
+    }
+
+    private static final class Family {
+        private final String name;
+        private final String help;
+        private final String type;
+        private final DoubleSupplier value;
+
+        private Family(String name, String help, String type, DoubleSupplier value) {
+            this.name = name;
+            this.help = help;
+            this.type = type;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.interzoid.sdk.metrics;
+
+import jdk.jfr.*;
+
+/**
+ * <p>A Java Flight Recorder event for the time a request waited for a rate limiter permit, named {@code com.interzoid.sdk.RateLimiterWait}.
+ * The event duration is the wait. The SDK itself does not limit the request rate; the event is provided for tools built on it that do.</p>
+ *
+ * <p>Like {@link RequestEvent}, it is disabled by default and only costs a {@link #shouldCommit()} check when disabled.</p>
+ */
+@Name("com.interzoid.sdk.RateLimiterWait")
+@Label("Interzoid Rate Limiter Wait")
+@Category({"Interzoid", "SDK"})
+@Description("Time spent waiting for a permit to call an Interzoid API")
+@StackTrace(false)
+@Enabled(false)
+public final class RateLimiterWaitEvent extends Event {
+    @Label("Permits")
+    private int permits;
+
+    @Label("Rate")
+    @Description("The configured number of permits per second")
+    private double rate;
+
+    /**
+     * Constructs a new RateLimiterWaitEvent. Call {@link #begin()} before waiting.
+     */
+    public RateLimiterWaitEvent() {
+    }
+
+    /**
+     * Ends the event and commits it if it is enabled and passes the threshold.
+     *
+     * @param permits the number of permits acquired
+     * @param rate    the configured number of permits per second
+     */
+    public void complete(int permits, double rate) {
+        end();
+        if (shouldCommit()) {
+            this.permits = permits;
+            this.rate = rate;
+            commit();
+        }
+    }
+}
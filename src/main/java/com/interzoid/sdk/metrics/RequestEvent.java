@@ -0,0 +1,67 @@
+package com.interzoid.sdk.metrics;
+
+import jdk.jfr.*;
+
+/**
+ * <p>A Java Flight Recorder event emitted for every request made by the SDK, named {@code com.interzoid.sdk.Request}.
+ * The event duration is the request latency.</p>
+ *
+ * <p>The event is disabled unless enabled in the recording settings, for example with
+ * {@code -XX:StartFlightRecording:settings=profile,+com.interzoid.sdk.Request#enabled=true} on Java 17 and later,
+ * or with a custom {@code .jfc} file. When disabled it costs a few instructions per request: the fields are only set
+ * after {@link #shouldCommit()} returns true, and the event object itself is eliminated by the JIT compiler. Until Flight
+ * Recorder is initialized the event is not created at all, see {@link FlightRecording}.</p>
+ */
+@Name("com.interzoid.sdk.Request")
+@Label("Interzoid Request")
+@Category({"Interzoid", "SDK"})
+@Description("A request to an Interzoid API")
+@StackTrace(false)
+@Enabled(false)
+public final class RequestEvent extends Event {
+    @Label("Resource")
+    @Description("The resource requested, or run for Cloud Data Connect")
+    private String resource;
+
+    @Label("Status Code")
+    @Description("The HTTP status code, or 0 if no response was received")
+    private int statusCode;
+
+    @Label("Bytes Received")
+    @DataAmount
+    private long bytesReceived;
+
+    @Label("Retry Count")
+    @Description("The number of times the request was retried")
+    private int retryCount;
+
+    @Label("Outcome")
+    private String outcome;
+
+    /**
+     * Constructs a new RequestEvent. Call {@link #begin()} when the request is sent.
+     */
+    public RequestEvent() {
+    }
+
+    /**
+     * Ends the event and commits it if it is enabled and passes the threshold.
+     *
+     * @param resource      the resource requested
+     * @param statusCode    the HTTP status code, or 0 if no response was received
+     * @param bytesReceived the size of the response body
+     * @param retryCount    the number of retries
+     * @param outcome       the outcome of the request
+     */
+    public void complete(String resource, int statusCode, long bytesReceived, int retryCount, RequestOutcome outcome) {
+        end();
+        if (shouldCommit()) {
+            this.resource = resource;
+            this.statusCode = statusCode;
+            this.bytesReceived = bytesReceived;
+            this.retryCount = retryCount;
+            this.outcome = outcome.name();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.interzoid.sdk.metrics;
+
+/**
+ * The outcome of a request, as reported to a {@link MetricsRecorder}.
+ */
+public enum RequestOutcome {
+    /**
+     * The request succeeded.
+     */
+    SUCCESS,
+    /**
+     * The API returned a 4xx status code, surfaced as a {@code ClientErrorException}.
+     */
+    CLIENT_ERROR,
+    /**
+     * The API returned a 5xx status code, surfaced as a {@code ServerErrorException}.
+     */
+    SERVER_ERROR,
+    /**
+     * The request failed without a usable response, or with an unexpected status code or empty body, surfaced as an {@code UnexpectedResponseException}.
+     */
+    UNEXPECTED_RESPONSE
+}
@@ -0,0 +1,141 @@
+package com.interzoid.sdk.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The metrics of a single resource: a latency histogram, request counters by {@link RequestOutcome},
+ * the number of requests in flight, the number of bytes received and a latency histogram per {@link CallPhase}.
+ *
+ * @see InterzoidMetrics#getResourceMetrics(String)
+ */
+public final class ResourceMetrics {
+    private final String resource;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder[] outcomes = new LongAdder[RequestOutcome.values().length];
+    private final LongAdder inFlight = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final LatencyHistogram[] phaseLatencies = new LatencyHistogram[CallPhase.values().length];
+
+    ResourceMetrics(String resource) {
+        this.resource = resource;
+        for (int i = 0; i < outcomes.length; i++) {
+            outcomes[i] = new LongAdder();
+        }
+        for (int i = 0; i < phaseLatencies.length; i++) {
+            phaseLatencies[i] = new LatencyHistogram();
+        }
+    }
+
+    void started() {
+        inFlight.increment();
+    }
+
+    void completed(long latencyNanos, long bytes, RequestOutcome outcome) {
+        inFlight.decrement();
+        latency.record(latencyNanos);
+        outcomes[outcome.ordinal()].increment();
+        bytesReceived.add(bytes);
+    }
+
+    void timed(CallTimings timings) {
+        for (CallPhase phase : CallPhase.values()) {
+            long nanos = timings.getNanos(phase);
+            if (nanos >= 0) {
+                phaseLatencies[phase.ordinal()].record(nanos);
+            }
+        }
+    }
+
+    /**
+     * Gets the resource these metrics belong to.
+     *
+     * @return the resource name
+     */
+    public String getResource() {
+        return resource;
+    }
+
+    /**
+     * Gets the latency histogram of completed requests, successful or not.
+     *
+     * @return the latency histogram
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * Gets the latency histogram of a call phase. Only calls where the phase happened are recorded,
+     * so a low count for {@link CallPhase#CONNECT} relative to the request count means connections are reused.
+     * Phases are only recorded by transports that time them.
+     *
+     * @param phase the phase
+     * @return the latency histogram of the phase
+     */
+    public LatencyHistogram getPhaseLatency(CallPhase phase) {
+        return phaseLatencies[phase.ordinal()];
+    }
+
+    /**
+     * Gets the number of completed requests with the given outcome.
+     *
+     * @param outcome the outcome
+     * @return the number of requests
+     */
+    public long getCount(RequestOutcome outcome) {
+        return outcomes[outcome.ordinal()].sum();
+    }
+
+    /**
+     * Gets the number of completed requests.
+     *
+     * @return the number of requests
+     */
+    public long getRequestCount() {
+        long total = 0;
+        for (LongAdder outcome : outcomes) {
+            total += outcome.sum();
+        }
+        return total;
+    }
+
+    /**
+     * Gets the number of completed requests that failed.
+     *
+     * @return the number of failed requests
+     */
+    public long getErrorCount() {
+        return getRequestCount() - getCount(RequestOutcome.SUCCESS);
+    }
+
+    /**
+     * Gets the number of requests sent but not yet completed.
+     *
+     * @return the number of requests in flight
+     */
+    public long getInFlight() {
+        return inFlight.sum();
+    }
+
+    /**
+     * Gets the number of response body bytes received.
+     *
+     * @return the number of bytes
+     */
+    public long getBytesReceived() {
+        return bytesReceived.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "ResourceMetrics{" +
+                "resource='" + resource + '\'' +
+                ", requests=" + getRequestCount() +
+                ", errors=" + getErrorCount() +
+                ", inFlight=" + getInFlight() +
+                ", bytesReceived=" + getBytesReceived() +
+                ", p50Nanos=" + latency.getValueAtPercentile(50) +
+                ", p99Nanos=" + latency.getValueAtPercentile(99) +
+                '}';
+    }
+}
@@ -0,0 +1,16 @@
+package com.interzoid.sdk.metrics;
+
+/**
+ * Receives the phase breakdown of calls slower than a threshold, to find where tail latency comes from.
+ * It is called on the thread completing the call and must return quickly.
+ */
+@FunctionalInterface
+public interface SlowCallListener {
+
+    /**
+     * Called when a call took longer than the configured threshold.
+     *
+     * @param timings the timings of the call, including its resource and response code
+     */
+    void onSlowCall(CallTimings timings);
+}
@@ -0,0 +1,5 @@
+/**
+ * This package contains the metrics surface of the SDK: the {@link com.interzoid.sdk.metrics.MetricsRecorder} SPI invoked for every request,
+ * and {@link com.interzoid.sdk.metrics.InterzoidMetrics}, a dependency-free recorder keeping latency histograms and counters per resource.
+ */
+package com.interzoid.sdk.metrics;
@@ -0,0 +1,60 @@
+package com.interzoid.sdk.model;
+
+import java.nio.file.Path;
+
+/**
+ *
+ * This is a match report downloaded to a file, as the bytes sent by the Cloud Connect service
+ * @see CloudConnectResponse
+ */
+public class CloudDatabaseFileResponse implements CloudConnectResponse {
+    private final Path path;
+    private final long size;
+    private final String sha256;
+
+    /**
+     * Constructs a new CloudDatabaseFileResponse.
+     *
+     * @param path   The file holding the report.
+     * @param size   The size of the report in bytes.
+     * @param sha256 The SHA-256 checksum of the report, in lowercase hexadecimal.
+     */
+    public CloudDatabaseFileResponse(Path path, long size, String sha256) {
+        this.path = path;
+        this.size = size;
+        this.sha256 = sha256;
+    }
+
+    /**
+     * Gets the file holding the report.
+     * @return The absolute path of the file.
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Gets the size of the report.
+     * @return The size in bytes.
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the SHA-256 checksum of the report, to verify the file or compare reports.
+     * @return The checksum in lowercase hexadecimal.
+     */
+    public String getSha256() {
+        return sha256;
+    }
+
+    @Override
+    public String toString() {
+        return "CloudDatabaseFileResponse{" +
+                "path=" + path +
+                ", size=" + size +
+                ", sha256='" + sha256 + '\'' +
+                '}';
+    }
+}
@@ -3,6 +3,10 @@ package com.interzoid.sdk.model;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * 
  * Validates the CreateTableRequest object
@@ -29,23 +33,35 @@ public class CloudWorkloadRequestValidator implements ConstraintValidator<ValidC
     public boolean isValid(CloudWorkloadRequest request, ConstraintValidatorContext context) {
         context.disableDefaultConstraintViolation();
 
-        boolean valid = true;
+        List<String> messages = getViolationMessages(request);
+        for (String message : messages) {
+            context.buildConstraintViolationWithTemplate(message)
+                    .addConstraintViolation();
+        }
+        return messages.isEmpty();
+    }
+
+    /**
+     * Checks the rules spanning several fields of a request, without Bean Validation.
+     *
+     * @param request object to validate
+     * @return the messages of the violated rules, empty if the request is valid
+     */
+    public static List<String> getViolationMessages(CloudWorkloadRequest request) {
+        List<String> messages = Collections.emptyList();
 
         if (request.getProcess() == Process.CREATE_TABLE && (request.getNewTableName() == null || request.getNewTableName().isBlank())) {
-            context.buildConstraintViolationWithTemplate("newTable is required when process is CREATE_TABLE")
-                    .addConstraintViolation();
-            valid = false;
+            messages = new ArrayList<>(2);
+            messages.add("newTable is required when process is CREATE_TABLE");
         }
 
         if (request.getProcess() != Process.MATCH_REPORT && (request.isJson() || request.isHtml())) {
-            context.buildConstraintViolationWithTemplate("Setting json or html to true is only valid when process is MATCH_REPORT")
-                    .addConstraintViolation();
-            valid = false;
+            if (messages.isEmpty()) {
+                messages = new ArrayList<>(1);
+            }
+            messages.add("Setting json or html to true is only valid when process is MATCH_REPORT");
         }
 
-        return valid;
+        return messages;
     }
 }
-
-
-
@@ -0,0 +1,404 @@
+package com.interzoid.sdk.report;
+
+import com.interzoid.sdk.api.ReportReader;
+import com.interzoid.sdk.model.CloudDatabaseJsonResponse;
+import com.interzoid.sdk.model.CloudDatabaseJsonResponse.MatchCluster;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * <h2>Compact Match Report</h2>
+ * <p>
+ * Holds a JSON match report in a few arrays instead of a {@link MatchCluster} object and three strings per record, for
+ * reports of millions of records. The data and references of all records are packed as UTF-8 into one byte array indexed by
+ * an offset table, similarity keys are replaced by ids into a dictionary of the distinct keys, and the clusters are the
+ * ranges of records between the entries of a table of starts. Beyond its UTF-8 bytes, a record then costs a dozen bytes and
+ * a share of its similarity key, against about 200 bytes in the {@link CloudDatabaseJsonResponse} of the same report.
+ * </p>
+ * <p>
+ * The report is read from the bytes of the response as they arrive, without building the response as strings or objects
+ * first. Strings are decoded only when read, and the {@link Record} and cluster views are flyweights over the arrays.
+ * A report is immutable and thread-safe.
+ * </p>
+ *
+ * <h3>Example</h3>
+ * <pre>{@code
+ * CloudWorkloadRequest request = new CloudWorkloadRequest(apiKey, Process.MATCH_REPORT, Source.MYSQL, Category.COMPANY,
+ *     connectionString, "companies", "name", "id", true, false);
+ * CompactMatchReport report = api.startWorkload(request, CompactMatchReport.reader()).await();
+ * for (List<CompactMatchReport.Record> cluster : report.getClusters()) {
+ *   System.out.println(cluster.size() + " records match " + cluster.get(0).getData());
+ * }
+ * }</pre>
+ *
+ * @see CloudDatabaseJsonResponse
+ */
+public final class CompactMatchReport {
+    private final String status;
+    private final String message;
+    private final byte[] text;
+    private final int[] textOffsets;
+    private final BitSet nulls;
+    private final int[] simKeyIds;
+    private final String[] simKeys;
+    private final int[] clusterStarts;
+
+    /**
+     * Constructs a report from its arrays.
+     *
+     * @param text          the UTF-8 bytes of the data and reference of each record, in order
+     * @param textOffsets   for record {@code i}, the data at {@code [2i, 2i + 1)} and the reference at {@code [2i + 1, 2i + 2)}
+     * @param nulls         bit {@code 2i} set if the data of record {@code i} is null, bit {@code 2i + 1} for its reference
+     * @param simKeyIds     the id of the similarity key of each record, -1 if it has none
+     * @param simKeys       the distinct similarity keys by id
+     * @param clusterStarts the first record of each cluster, followed by the number of records
+     */
+    CompactMatchReport(String status, String message, byte[] text, int[] textOffsets, BitSet nulls, int[] simKeyIds,
+                       String[] simKeys, int[] clusterStarts) {
+        this.status = status;
+        this.message = message;
+        this.text = text;
+        this.textOffsets = textOffsets;
+        this.nulls = nulls;
+        this.simKeyIds = simKeyIds;
+        this.simKeys = simKeys;
+        this.clusterStarts = clusterStarts;
+    }
+
+    /**
+     * Reads a JSON match report, encoded in UTF-8, to its end. The stream is not closed.
+     *
+     * @param json the report
+     * @return the report
+     * @throws com.interzoid.sdk.api.exceptions.UnexpectedResponseException if the report is not a JSON match report
+     * @throws IOException                                                 if the report cannot be read
+     */
+    public static CompactMatchReport read(InputStream json) throws IOException {
+        return new JsonMatchReportReader(json).read();
+    }
+
+    /**
+     * Creates a {@link ReportReader} reading the JSON report of a workload as it arrives, for
+     * {@link com.interzoid.sdk.api.CloudDatabaseMatchKeyReportApi#startWorkload}; the request must ask for a JSON report.
+     * JSON is read as UTF-8 whatever the charset of the response.
+     *
+     * @return a reader completing with the report
+     */
+    public static ReportReader<CompactMatchReport> reader() {
+        return (body, charset) -> read(body);
+    }
+
+    /**
+     * Gets the status of the report.
+     *
+     * @return the status, or null if the report has none
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * Gets the message of the report.
+     *
+     * @return the message, or null if the report has none
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Gets the number of clusters.
+     *
+     * @return the number of clusters
+     */
+    public int getClusterCount() {
+        return clusterStarts.length - 1;
+    }
+
+    /**
+     * Gets the number of records, over all clusters.
+     *
+     * @return the number of records
+     */
+    public int getRecordCount() {
+        return simKeyIds.length;
+    }
+
+    /**
+     * Gets the index of the first record of a cluster.
+     *
+     * @param cluster the index of the cluster
+     * @return the index of its first record
+     */
+    public int getClusterStart(int cluster) {
+        checkIndex(cluster, getClusterCount());
+        return clusterStarts[cluster];
+    }
+
+    /**
+     * Gets the number of records of a cluster.
+     *
+     * @param cluster the index of the cluster
+     * @return the number of records
+     */
+    public int getClusterSize(int cluster) {
+        checkIndex(cluster, getClusterCount());
+        return clusterStarts[cluster + 1] - clusterStarts[cluster];
+    }
+
+    /**
+     * Gets the index of the cluster a record belongs to.
+     *
+     * @param record the index of the record
+     * @return the index of its cluster
+     */
+    public int getClusterOf(int record) {
+        checkIndex(record, getRecordCount());
+        int found = Arrays.binarySearch(clusterStarts, 0, clusterStarts.length - 1, record);
+        if (found < 0) {
+            return -found - 2;
+        }
+        while (found + 1 < clusterStarts.length - 1 && clusterStarts[found + 1] == record) {
+            found++;
+        }
+        return found;
+    }
+
+    /**
+     * Gets the data of a record.
+     *
+     * @param record the index of the record
+     * @return the data
+     */
+    public String getData(int record) {
+        return string(2 * record);
+    }
+
+    /**
+     * Gets the reference of a record.
+     *
+     * @param record the index of the record
+     * @return the reference, or null if the report has no reference column
+     */
+    public String getReference(int record) {
+        return string(2 * record + 1);
+    }
+
+    /**
+     * Gets the similarity key of a record.
+     *
+     * @param record the index of the record
+     * @return the similarity key
+     */
+    public String getSimKey(int record) {
+        int id = getSimKeyId(record);
+        return id < 0 ? null : simKeys[id];
+    }
+
+    /**
+     * Gets the id of the similarity key of a record. Records with the same key have the same id, so ids may be compared
+     * and used as array indexes instead of the keys.
+     *
+     * @param record the index of the record
+     * @return the id, from 0 to {@link #getSimKeyCount()} exclusive, or -1 if the record has no similarity key
+     */
+    public int getSimKeyId(int record) {
+        checkIndex(record, getRecordCount());
+        return simKeyIds[record];
+    }
+
+    /**
+     * Gets the number of distinct similarity keys.
+     *
+     * @return the number of keys
+     */
+    public int getSimKeyCount() {
+        return simKeys.length;
+    }
+
+    /**
+     * Gets a similarity key by its id.
+     *
+     * @param id the id of the key
+     * @return the key
+     */
+    public String getSimKeyById(int id) {
+        checkIndex(id, simKeys.length);
+        return simKeys[id];
+    }
+
+    /**
+     * Gets a view of a record.
+     *
+     * @param record the index of the record
+     * @return a flyweight view of the record
+     */
+    public Record getRecord(int record) {
+        checkIndex(record, getRecordCount());
+        return new Record(this, record);
+    }
+
+    /**
+     * Gets a view of the records of a cluster.
+     *
+     * @param cluster the index of the cluster
+     * @return an unmodifiable list of flyweight views of the records
+     */
+    public List<Record> getCluster(int cluster) {
+        int start = getClusterStart(cluster);
+        int size = clusterStarts[cluster + 1] - start;
+        return new AbstractList<>() {
+            @Override
+            public Record get(int index) {
+                checkIndex(index, size);
+                return new Record(CompactMatchReport.this, start + index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Gets a view of the clusters of the report, in the order of the report.
+     *
+     * @return an unmodifiable list of the clusters
+     */
+    public List<List<Record>> getClusters() {
+        return new AbstractList<>() {
+            @Override
+            public List<Record> get(int index) {
+                return getCluster(index);
+            }
+
+            @Override
+            public int size() {
+                return getClusterCount();
+            }
+        };
+    }
+
+    /**
+     * Gets the number of bytes of UTF-8 data and references held by the report.
+     *
+     * @return the size of the packed text
+     */
+    public int getTextSize() {
+        return text.length;
+    }
+
+    @Override
+    public String toString() {
+        return "CompactMatchReport{" +
+                "status='" + status + '\'' +
+                ", message='" + message + '\'' +
+                ", clusters=" + getClusterCount() +
+                ", records=" + getRecordCount() +
+                ", simKeys=" + simKeys.length +
+                '}';
+    }
+
+    private String string(int field) {
+        checkIndex(field / 2, getRecordCount());
+        if (nulls.get(field)) {
+            return null;
+        }
+        int start = textOffsets[field];
+        return new String(text, start, textOffsets[field + 1] - start, StandardCharsets.UTF_8);
+    }
+
+    private static void checkIndex(int index, int length) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+        }
+    }
+
+    /**
+     * A flyweight view of a record of a {@link CompactMatchReport}, decoding its fields when they are read.
+     */
+    public static final class Record {
+        private final CompactMatchReport report;
+        private final int index;
+
+        private Record(CompactMatchReport report, int index) {
+            this.report = report;
+            this.index = index;
+        }
+
+        /**
+         * Gets the index of the record in the report.
+         *
+         * @return the index of the record
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * Gets the data of the record.
+         *
+         * @return the data
+         */
+        public String getData() {
+            return report.getData(index);
+        }
+
+        /**
+         * Gets the reference of the record.
+         *
+         * @return the reference, or null if the report has no reference column
+         */
+        public String getReference() {
+            return report.getReference(index);
+        }
+
+        /**
+         * Gets the similarity key of the record.
+         *
+         * @return the similarity key
+         */
+        public String getSimKey() {
+            return report.getSimKey(index);
+        }
+
+        /**
+         * Gets the id of the similarity key of the record.
+         *
+         * @return the id
+         * @see CompactMatchReport#getSimKeyId(int)
+         */
+        public int getSimKeyId() {
+            return report.getSimKeyId(index);
+        }
+
+        /**
+         * Copies the record into a {@link MatchCluster}, the record of {@link CloudDatabaseJsonResponse}.
+         *
+         * @return a new match cluster record
+         */
+        public MatchCluster toMatchCluster() {
+            MatchCluster record = new MatchCluster();
+            record.setData(getData());
+            record.setReference(getReference());
+            record.setSimKey(getSimKey());
+            return record;
+        }
+
+        @Override
+        public String toString() {
+            return "Record{" +
+                    "data='" + getData() + '\'' +
+                    ", reference='" + getReference() + '\'' +
+                    ", simKey='" + getSimKey() + '\'' +
+                    '}';
+        }
+    }
+}
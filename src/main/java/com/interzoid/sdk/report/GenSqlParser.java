@@ -0,0 +1,243 @@
+package com.interzoid.sdk.report;
+
+import com.interzoid.sdk.api.exceptions.UnexpectedResponseException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * <h2>Generated SQL Parser</h2>
+ * <p>
+ * Reads the SQL statements of a {@link com.interzoid.sdk.model.Process#GEN_SQL} report one at a time. Statements end with a
+ * semicolon outside quoted strings and identifiers; quotes are escaped by doubling them, as in standard SQL. Comments are
+ * dropped and blank statements skipped, and a last statement need not end with a semicolon.
+ * </p>
+ * <p>
+ * The parser reads the report through a fixed buffer and holds only the current statement, so reports of any size are read
+ * in constant memory, as they arrive or from a downloaded file. It is not thread-safe. The
+ * {@code com.interzoid.sdk.report.jdbc} module applies the statements to a database in parallel JDBC batches.
+ * </p>
+ *
+ * <h3>Example</h3>
+ * <pre>{@code
+ * try (GenSqlParser parser = GenSqlParser.open(api.downloadReport(request, path).getPath())) {
+ *   for (String sql = parser.nextStatement(); sql != null; sql = parser.nextStatement()) {
+ *     statement.execute(sql);
+ *   }
+ * }
+ * }</pre>
+ */
+public final class GenSqlParser implements Closeable {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder statement = new StringBuilder();
+    private int position;
+    private int limit;
+    private long statementCount;
+
+    /**
+     * Constructs a new GenSqlParser reading the given report. The reader need not be buffered.
+     *
+     * @param reader the report
+     */
+    public GenSqlParser(Reader reader) {
+        this.reader = Objects.requireNonNull(reader, "reader");
+    }
+
+    /**
+     * Opens a report downloaded to a file, encoded in UTF-8.
+     *
+     * @param path the file holding the report
+     * @return a parser of the report, to be closed
+     * @throws IOException if the file cannot be opened
+     */
+    public static GenSqlParser open(Path path) throws IOException {
+        return open(path, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Opens a report downloaded to a file.
+     *
+     * @param path    the file holding the report
+     * @param charset the encoding of the report
+     * @return a parser of the report, to be closed
+     * @throws IOException if the file cannot be opened
+     */
+    public static GenSqlParser open(Path path, Charset charset) throws IOException {
+        return new GenSqlParser(new InputStreamReader(Files.newInputStream(path), charset));
+    }
+
+    /**
+     * Reads the next statement of the report.
+     *
+     * @return the statement, without its semicolon and surrounding whitespace, or null at the end of the report
+     * @throws UnexpectedResponseException if the report ends inside a quoted string or comment
+     * @throws IOException                 if the report cannot be read
+     */
+    public String nextStatement() throws IOException {
+        statement.setLength(0);
+        char quote = 0;
+        boolean lineComment = false;
+        boolean blockComment = false;
+        for (int c = read(); c >= 0; c = read()) {
+            char ch = (char) c;
+            if (lineComment) {
+                if (ch == '\n') {
+                    lineComment = false;
+                    statement.append(ch);
+                }
+            } else if (blockComment) {
+                if (ch == '*' && peek() == '/') {
+                    position++;
+                    blockComment = false;
+                    statement.append(' ');
+                }
+            } else if (quote != 0) {
+                statement.append(ch);
+                if (ch == quote) {
+                    if (peek() == quote) {
+                        statement.append((char) read());
+                    } else {
+                        quote = 0;
+                    }
+                }
+            } else if (ch == ';') {
+                String sql = trimmedStatement();
+                if (sql != null) {
+                    return sql;
+                }
+            } else if (ch == '-' && peek() == '-') {
+                position++;
+                lineComment = true;
+            } else if (ch == '/' && peek() == '*') {
+                position++;
+                blockComment = true;
+            } else {
+                if (ch == '\'' || ch == '"' || ch == '`') {
+                    quote = ch;
+                }
+                statement.append(ch);
+            }
+        }
+        if (quote != 0 || blockComment) {
+            throw new UnexpectedResponseException("Statement " + (statementCount + 1) + " of the SQL report ends inside a "
+                    + (quote != 0 ? "quoted string" : "comment"));
+        }
+        return trimmedStatement();
+    }
+
+    /**
+     * Gets the number of statements read so far.
+     *
+     * @return the number of statements read
+     */
+    public long getStatementCount() {
+        return statementCount;
+    }
+
+    /**
+     * Gets the key of the row a statement writes: its table, the column identifying the row and the value of that column.
+     * The column is the first column of an {@code INSERT} or {@code REPLACE}, so the key assumes that the column
+     * identifying a row comes first in inserts. For an {@code UPDATE} or {@code DELETE} it is the column of the first
+     * {@code column = literal} condition of a {@code WHERE} clause whose conditions are all joined by {@code AND}.
+     * Identifiers are compared without quotes, schema or case, and values as a database may compare them: {@code 5},
+     * {@code '5'} and {@code 5.0} are equal, and so are {@code 'Acme'} and {@code 'ACME '}.
+     * <p>
+     * Statements identifying a row by the same column and value have the same key. Statements identifying it by different
+     * columns, such as an insert of {@code (name, id)} and an update {@code WHERE id = 5}, do not, which
+     * {@link #targetKeys()} accounts for.
+     * </p>
+     *
+     * @param sql a statement
+     * @return the key of the statement, or null if the statement is not an {@code INSERT}, {@code REPLACE},
+     * {@code UPDATE} or {@code DELETE} of a single row identified by a literal, such as DDL, a multi-row insert, or an
+     * update of the column identifying its row
+     */
+    public static String targetKey(String sql) {
+        RowKey key = RowKey.of(sql);
+        return key == null ? null : key.toString();
+    }
+
+    /**
+     * Creates the partition key of the statements of one report, in order, which is the default
+     * partition key of the {@code JdbcSqlApplier} of the {@code com.interzoid.sdk.report.jdbc} module. The key of a statement is its {@link #targetKey(String)
+     * target key}, or null when the statement identifies its row by another column than the statement before it on the
+     * same table. A null key makes the statement a barrier, applied once all statements before it are committed, so that
+     * statements on the same row keep their order even when they identify it by different columns.
+     *
+     * @return a new partition key, to be applied to every statement of a single report, in order
+     */
+    public static Function<String, String> targetKeys() {
+        Map<String, String> keyColumns = new HashMap<>();
+        return sql -> {
+            RowKey key = RowKey.of(sql);
+            if (key == null) {
+                return null;
+            }
+            String previous = keyColumns.put(key.table, key.column);
+            return previous == null || previous.equals(key.column) ? key.toString() : null;
+        };
+    }
+
+    /**
+     * Closes the report.
+     *
+     * @throws IOException if the report cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        int read;
+        do {
+            read = reader.read(buffer, 0, buffer.length);
+        } while (read == 0);
+        position = 0;
+        limit = Math.max(read, 0);
+        return read > 0;
+    }
+
+    private String trimmedStatement() {
+        int start = 0;
+        int end = statement.length();
+        while (start < end && Character.isWhitespace(statement.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(statement.charAt(end - 1))) {
+            end--;
+        }
+        if (start == end) {
+            return null;
+        }
+        statementCount++;
+        return statement.substring(start, end);
+    }
+}
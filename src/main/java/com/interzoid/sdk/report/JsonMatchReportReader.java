@@ -0,0 +1,443 @@
+package com.interzoid.sdk.report;
+
+import com.interzoid.sdk.api.exceptions.UnexpectedResponseException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads a JSON match report into a {@link CompactMatchReport}, straight from the UTF-8 bytes of the response: strings are
+ * unescaped into the packed text of the report as they are read, and only the similarity keys and the status and message
+ * are decoded to strings. Unknown fields are skipped.
+ */
+final class JsonMatchReportReader {
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+    private static final int REPLACEMENT_CHARACTER = 0xfffd;
+
+    private static final byte[] STATUS = name("Status");
+    private static final byte[] MESSAGE = name("Message");
+    private static final byte[] MATCH_CLUSTERS = name("MatchClusters");
+    private static final byte[] DATA = name("Data");
+    private static final byte[] REFERENCE = name("Reference");
+    private static final byte[] SIM_KEY = name("SimKey");
+    private static final byte[][] NAMES = {DATA, SIM_KEY, REFERENCE, STATUS, MESSAGE, MATCH_CLUSTERS};
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private long consumed;
+
+    private byte[] text = new byte[BUFFER_SIZE];
+    private int textLength;
+    private int[] textOffsets = new int[1024 + 1];
+    private final BitSet nulls = new BitSet();
+    private int[] simKeyIds = new int[512];
+    private int records;
+    private int[] clusterStarts = new int[128];
+    private int clusters;
+    private final Map<String, Integer> simKeyDictionary = new HashMap<>();
+    private final List<String> simKeys = new ArrayList<>();
+
+    JsonMatchReportReader(InputStream in) {
+        this.in = in;
+    }
+
+    CompactMatchReport read() throws IOException {
+        String status = null;
+        String message = null;
+        expect('{');
+        if (!consume('}')) {
+            do {
+                byte[] name = readName();
+                if (name == STATUS) {
+                    status = readStringValue();
+                } else if (name == MESSAGE) {
+                    message = readStringValue();
+                } else if (name == MATCH_CLUSTERS) {
+                    readClusters();
+                } else {
+                    skipValue();
+                }
+            } while (consume(','));
+            expect('}');
+        }
+        clusterStarts = grow(clusterStarts, clusters + 1);
+        clusterStarts[clusters] = records;
+        return new CompactMatchReport(status, message, Arrays.copyOf(text, textLength), Arrays.copyOf(textOffsets, 2 * records + 1),
+                nulls, Arrays.copyOf(simKeyIds, records), simKeys.toArray(new String[0]), Arrays.copyOf(clusterStarts, clusters + 1));
+    }
+
+    private void readClusters() throws IOException {
+        if (consumeNull()) {
+            return;
+        }
+        expect('[');
+        if (consume(']')) {
+            return;
+        }
+        do {
+            clusterStarts = grow(clusterStarts, clusters + 1);
+            clusterStarts[clusters++] = records;
+            expect('[');
+            if (!consume(']')) {
+                do {
+                    readRecord();
+                } while (consume(','));
+                expect(']');
+            }
+        } while (consume(','));
+        expect(']');
+    }
+
+    /**
+     * Reads a record, leaving its data followed by its reference at the end of the packed text.
+     */
+    private void readRecord() throws IOException {
+        int start = textLength;
+        int dataStart = -1;
+        int dataEnd = -1;
+        int referenceStart = -1;
+        int referenceEnd = -1;
+        boolean nullData = true;
+        boolean nullReference = true;
+        int simKeyId = -1;
+        expect('{');
+        if (!consume('}')) {
+            do {
+                byte[] name = readName();
+                if (name == DATA || name == REFERENCE) {
+                    if ((name == DATA ? dataStart : referenceStart) >= 0) {
+                        throw malformed("a record with a single " + new String(name, StandardCharsets.UTF_8) + " field");
+                    }
+                    int fieldStart = textLength;
+                    boolean isNull = consumeNull();
+                    if (!isNull) {
+                        readString();
+                    }
+                    if (name == DATA) {
+                        dataStart = fieldStart;
+                        dataEnd = textLength;
+                        nullData = isNull;
+                    } else {
+                        referenceStart = fieldStart;
+                        referenceEnd = textLength;
+                        nullReference = isNull;
+                    }
+                } else if (name == SIM_KEY) {
+                    String simKey = readStringValue();
+                    simKeyId = simKey == null ? -1 : simKeyDictionary.computeIfAbsent(simKey, key -> {
+                        simKeys.add(key);
+                        return simKeys.size() - 1;
+                    });
+                } else {
+                    skipValue();
+                }
+            } while (consume(','));
+            expect('}');
+        }
+        int dataLength = dataStart < 0 ? 0 : dataEnd - dataStart;
+        if (referenceStart >= 0 && dataStart > referenceStart) {
+            byte[] reference = Arrays.copyOfRange(text, referenceStart, referenceEnd);
+            System.arraycopy(text, dataStart, text, start, dataLength);
+            System.arraycopy(reference, 0, text, start + dataLength, reference.length);
+        }
+        if (records == MAX_ARRAY_SIZE / 2) {
+            throw new UnexpectedResponseException("The match report has too many records for a compact report");
+        }
+        textOffsets = grow(textOffsets, 2 * records + 3);
+        textOffsets[2 * records + 1] = start + dataLength;
+        textOffsets[2 * records + 2] = textLength;
+        simKeyIds = grow(simKeyIds, records + 1);
+        simKeyIds[records] = simKeyId;
+        if (nullData) {
+            nulls.set(2 * records);
+        }
+        if (nullReference) {
+            nulls.set(2 * records + 1);
+        }
+        records++;
+    }
+
+    /**
+     * Reads a field name, followed by its colon.
+     *
+     * @return one of the known names, compared by identity, or null for another name
+     */
+    private byte[] readName() throws IOException {
+        int start = textLength;
+        readString();
+        byte[] name = null;
+        for (byte[] known : NAMES) {
+            if (Arrays.equals(text, start, textLength, known, 0, known.length)) {
+                name = known;
+                break;
+            }
+        }
+        textLength = start;
+        expect(':');
+        return name;
+    }
+
+    private String readStringValue() throws IOException {
+        if (consumeNull()) {
+            return null;
+        }
+        int start = textLength;
+        readString();
+        String value = new String(text, start, textLength - start, StandardCharsets.UTF_8);
+        textLength = start;
+        return value;
+    }
+
+    /**
+     * Reads a string, appending its unescaped UTF-8 bytes to the packed text.
+     */
+    private void readString() throws IOException {
+        expect('"');
+        while (true) {
+            int start = position;
+            while (position < limit && buffer[position] != '"' && buffer[position] != '\\') {
+                position++;
+            }
+            append(buffer, start, position - start);
+            if (position == limit) {
+                if (!fill()) {
+                    throw malformed("the end of a string");
+                }
+                continue;
+            }
+            if (buffer[position++] == '"') {
+                return;
+            }
+            int escaped = readByte();
+            if (escaped == 'u') {
+                readUnicodeEscape();
+            } else {
+                appendByte(unescape(escaped));
+            }
+        }
+    }
+
+    /**
+     * Reads the four hex digits of a unicode escape, and the low surrogate escaped after a high surrogate.
+     */
+    private void readUnicodeEscape() throws IOException {
+        int codePoint = readHex();
+        if (Character.isHighSurrogate((char) codePoint) && peek() == '\\') {
+            position++;
+            int escaped = readByte();
+            if (escaped != 'u') {
+                appendCodePoint(REPLACEMENT_CHARACTER);
+                appendByte(unescape(escaped));
+                return;
+            }
+            int low = readHex();
+            if (Character.isLowSurrogate((char) low)) {
+                appendCodePoint(Character.toCodePoint((char) codePoint, (char) low));
+                return;
+            }
+            appendCodePoint(REPLACEMENT_CHARACTER);
+            codePoint = low;
+        }
+        appendCodePoint(Character.isSurrogate((char) codePoint) ? REPLACEMENT_CHARACTER : codePoint);
+    }
+
+    private int readHex() throws IOException {
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            int digit = Character.digit(readByte(), 16);
+            if (digit < 0) {
+                throw malformed("a hex digit");
+            }
+            value = value << 4 | digit;
+        }
+        return value;
+    }
+
+    private int unescape(int escaped) throws UnexpectedResponseException {
+        switch (escaped) {
+            case '"':
+            case '\\':
+            case '/':
+                return escaped;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            default:
+                throw malformed("an escape sequence");
+        }
+    }
+
+    /**
+     * Skips a value of any type, nested objects and arrays included.
+     */
+    private void skipValue() throws IOException {
+        int depth = 0;
+        do {
+            int b = peekToken();
+            if (b == '"') {
+                int start = textLength;
+                readString();
+                textLength = start;
+            } else if (b == '{' || b == '[') {
+                position++;
+                depth++;
+            } else if (b == '}' || b == ']') {
+                if (depth == 0) {
+                    throw malformed("a value");
+                }
+                position++;
+                depth--;
+            } else if (b == ',' || b == ':') {
+                if (depth == 0) {
+                    throw malformed("a value");
+                }
+                position++;
+            } else {
+                while ((b = peek()) >= 0 && b != ',' && b != '}' && b != ']' && b != ':' && !isWhitespace(b)) {
+                    position++;
+                }
+            }
+        } while (depth > 0);
+    }
+
+    private boolean consumeNull() throws IOException {
+        if (peekToken() != 'n') {
+            return false;
+        }
+        for (int i = 0; i < 4; i++) {
+            if (readByte() != "null".charAt(i)) {
+                throw malformed("null");
+            }
+        }
+        return true;
+    }
+
+    private boolean consume(char expected) throws IOException {
+        if (peekToken() == expected) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(char expected) throws IOException {
+        if (!consume(expected)) {
+            throw malformed("'" + expected + "'");
+        }
+    }
+
+    /**
+     * Skips whitespace and peeks the next byte.
+     *
+     * @return the next byte, or -1 at the end of the report
+     */
+    private int peekToken() throws IOException {
+        int b;
+        while ((b = peek()) >= 0 && isWhitespace(b)) {
+            position++;
+        }
+        return b;
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position] & 0xff;
+    }
+
+    private int readByte() throws IOException {
+        int b = peek();
+        if (b < 0) {
+            throw malformed("more of the report");
+        }
+        position++;
+        return b;
+    }
+
+    private boolean fill() throws IOException {
+        consumed += limit;
+        position = 0;
+        limit = 0;
+        int read = in.read(buffer);
+        if (read <= 0) {
+            return false;
+        }
+        limit = read;
+        return true;
+    }
+
+    private void append(byte[] bytes, int offset, int length) throws UnexpectedResponseException {
+        ensureText(length);
+        System.arraycopy(bytes, offset, text, textLength, length);
+        textLength += length;
+    }
+
+    private void appendByte(int b) throws UnexpectedResponseException {
+        ensureText(1);
+        text[textLength++] = (byte) b;
+    }
+
+    private void appendCodePoint(int codePoint) throws UnexpectedResponseException {
+        if (codePoint < 0x80) {
+            appendByte(codePoint);
+        } else if (codePoint < 0x800) {
+            appendByte(0xc0 | codePoint >> 6);
+            appendByte(0x80 | codePoint & 0x3f);
+        } else if (codePoint < 0x10000) {
+            appendByte(0xe0 | codePoint >> 12);
+            appendByte(0x80 | codePoint >> 6 & 0x3f);
+            appendByte(0x80 | codePoint & 0x3f);
+        } else {
+            appendByte(0xf0 | codePoint >> 18);
+            appendByte(0x80 | codePoint >> 12 & 0x3f);
+            appendByte(0x80 | codePoint >> 6 & 0x3f);
+            appendByte(0x80 | codePoint & 0x3f);
+        }
+    }
+
+    private void ensureText(int length) throws UnexpectedResponseException {
+        if (length > MAX_ARRAY_SIZE - textLength) {
+            throw new UnexpectedResponseException("The match report has too much data for a compact report");
+        }
+        if (textLength + length > text.length) {
+            text = Arrays.copyOf(text, (int) Math.min(MAX_ARRAY_SIZE, Math.max(2L * text.length, textLength + length)));
+        }
+    }
+
+    private static int[] grow(int[] array, int length) {
+        if (length <= array.length) {
+            return array;
+        }
+        return Arrays.copyOf(array, (int) Math.min(MAX_ARRAY_SIZE, Math.max(2L * array.length, length)));
+    }
+
+    private static boolean isWhitespace(int b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    private UnexpectedResponseException malformed(String expected) {
+        return new UnexpectedResponseException("Expected " + expected + " at byte " + (consumed + position) + " of the JSON match report");
+    }
+
+    private static byte[] name(String name) {
+        return name.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,205 @@
+package com.interzoid.sdk.report;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * An open-addressing hash table from strings to ints, with linear probing. The keys are packed as UTF-8 into one byte
+ * array, and each slot holds the index of an entry plus one, 0 when empty, so the table is a handful of arrays that
+ * {@link MatchReportIndex} writes and reads as they are. Keys are hashed with {@link String#hashCode()}, which is fixed by
+ * the Java specification, so a table read from a file needs no rehashing.
+ */
+final class KeyTable {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private byte[] keys;
+    private int[] keyOffsets;
+    private int[] hashes;
+    private int[] values;
+    private int[] slots;
+    private int size;
+
+    KeyTable() {
+        this(new byte[256], new int[INITIAL_CAPACITY / 2 + 1], new int[INITIAL_CAPACITY / 2], new int[INITIAL_CAPACITY / 2],
+                new int[INITIAL_CAPACITY], 0);
+    }
+
+    private KeyTable(byte[] keys, int[] keyOffsets, int[] hashes, int[] values, int[] slots, int size) {
+        this.keys = keys;
+        this.keyOffsets = keyOffsets;
+        this.hashes = hashes;
+        this.values = values;
+        this.slots = slots;
+        this.size = size;
+    }
+
+    /**
+     * Adds a key unless the table already holds it.
+     *
+     * @return true if the key was added
+     */
+    boolean putIfAbsent(String key, int value) {
+        int hash = key.hashCode();
+        int mask = slots.length - 1;
+        int slot = spread(hash) & mask;
+        for (int entry = slots[slot]; entry != 0; entry = slots[slot]) {
+            if (hashes[entry - 1] == hash && keyEquals(entry - 1, key)) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (size == MAX_CAPACITY / 2) {
+            throw new IllegalStateException("The index holds too many keys");
+        }
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        int keyOffset = keyOffsets[size];
+        if (bytes.length > Integer.MAX_VALUE - 8 - keyOffset) {
+            throw new IllegalStateException("The keys of the index are too large");
+        }
+        if (keyOffset + bytes.length > keys.length) {
+            keys = Arrays.copyOf(keys, (int) Math.min(Integer.MAX_VALUE - 8, Math.max(2L * keys.length, keyOffset + bytes.length)));
+        }
+        System.arraycopy(bytes, 0, keys, keyOffset, bytes.length);
+        if (size == hashes.length) {
+            hashes = Arrays.copyOf(hashes, 2 * size);
+            values = Arrays.copyOf(values, 2 * size);
+            keyOffsets = Arrays.copyOf(keyOffsets, 2 * size + 1);
+        }
+        keyOffsets[size + 1] = keyOffset + bytes.length;
+        hashes[size] = hash;
+        values[size] = value;
+        slots[slot] = ++size;
+        if (2 * size > slots.length) {
+            rehash(2 * slots.length);
+        }
+        return true;
+    }
+
+    /**
+     * Gets the value of a key.
+     *
+     * @return the value, or -1 if the table does not hold the key
+     */
+    int get(String key) {
+        int hash = key.hashCode();
+        int mask = slots.length - 1;
+        for (int slot = spread(hash) & mask, entry = slots[slot]; entry != 0; slot = (slot + 1) & mask, entry = slots[slot]) {
+            if (hashes[entry - 1] == hash && keyEquals(entry - 1, key)) {
+                return values[entry - 1];
+            }
+        }
+        return -1;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Trims the arrays of the table to its entries, once it is complete.
+     */
+    KeyTable trim() {
+        return new KeyTable(Arrays.copyOf(keys, keyOffsets[size]), Arrays.copyOf(keyOffsets, size + 1), Arrays.copyOf(hashes, size),
+                Arrays.copyOf(values, size), slots, size);
+    }
+
+    void writeTo(MatchReportIndex.Output output) throws IOException {
+        output.writeInt(size);
+        output.writeInt(keyOffsets[size]);
+        output.writeInt(slots.length);
+        output.writeBytes(keys, keyOffsets[size]);
+        output.writeInts(keyOffsets, size + 1);
+        output.writeInts(hashes, size);
+        output.writeInts(values, size);
+        output.writeInts(slots, slots.length);
+    }
+
+    static KeyTable readFrom(MatchReportIndex.Input input) throws IOException {
+        int size = input.readInt();
+        int keysLength = input.readInt();
+        int capacity = input.readInt();
+        if (size < 0 || keysLength < 0 || capacity < INITIAL_CAPACITY || capacity > MAX_CAPACITY
+                || Integer.bitCount(capacity) != 1 || 2 * (long) size > capacity) {
+            throw input.corrupted();
+        }
+        byte[] keys = input.readBytes(keysLength);
+        int[] keyOffsets = input.readInts(size + 1);
+        int[] hashes = input.readInts(size);
+        int[] values = input.readInts(size);
+        int[] slots = input.readInts(capacity);
+        if (keyOffsets[0] != 0 || keyOffsets[size] != keysLength) {
+            throw input.corrupted();
+        }
+        for (int i = 0; i < size; i++) {
+            if (keyOffsets[i + 1] < keyOffsets[i]) {
+                throw input.corrupted();
+            }
+        }
+        // each entry in exactly one slot, which leaves at least half of the slots empty for get() to stop probing at
+        boolean[] placed = new boolean[size];
+        int occupied = 0;
+        for (int entry : slots) {
+            if (entry < 0 || entry > size) {
+                throw input.corrupted();
+            }
+            if (entry != 0) {
+                if (placed[entry - 1]) {
+                    throw input.corrupted();
+                }
+                placed[entry - 1] = true;
+                occupied++;
+            }
+        }
+        if (occupied != size) {
+            throw input.corrupted();
+        }
+        return new KeyTable(keys, keyOffsets, hashes, values, slots, size);
+    }
+
+    private void rehash(int capacity) {
+        int[] rehashed = new int[capacity];
+        int mask = capacity - 1;
+        for (int entry = 0; entry < size; entry++) {
+            int slot = spread(hashes[entry]) & mask;
+            while (rehashed[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            rehashed[slot] = entry + 1;
+        }
+        slots = rehashed;
+    }
+
+    /**
+     * Compares a key of the table with a string, without decoding the key when both are ASCII.
+     */
+    private boolean keyEquals(int entry, String key) {
+        int start = keyOffsets[entry];
+        int length = keyOffsets[entry + 1] - start;
+        if (length < key.length()) {
+            return false;
+        }
+        if (length == key.length()) {
+            int i = 0;
+            while (i < length && keys[start + i] >= 0) {
+                if (keys[start + i] != key.charAt(i)) {
+                    return false;
+                }
+                i++;
+            }
+            if (i == length) {
+                return true;
+            }
+        }
+        return new String(keys, start, length, StandardCharsets.UTF_8).equals(key);
+    }
+
+    /**
+     * Mixes the high bits of a string hash into the low bits used to pick a slot.
+     */
+    private static int spread(int hash) {
+        int h = hash * 0x9e3779b9;
+        return h ^ h >>> 16;
+    }
+}
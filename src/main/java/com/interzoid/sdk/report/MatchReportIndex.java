@@ -0,0 +1,334 @@
+package com.interzoid.sdk.report;
+
+import com.interzoid.sdk.model.CloudDatabaseJsonResponse;
+import com.interzoid.sdk.model.CloudDatabaseJsonResponse.MatchCluster;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <h2>Match Report Index</h2>
+ * <p>
+ * Finds the cluster of a match report holding a reference or a similarity key in constant time, instead of scanning the
+ * clusters. The index is built once over a {@link CompactMatchReport} or the clusters of a {@link CloudDatabaseJsonResponse},
+ * and holds two open-addressing hash tables, from reference to cluster and from similarity key to cluster, whose keys are
+ * packed as UTF-8. It does not keep the report: the cluster indexes it returns refer to the report it was built over.
+ * </p>
+ * <p>
+ * An index can be written to a file and read back quickly, for instance next to a downloaded report: the file holds the
+ * arrays of the tables as they are, so reading it neither parses the report nor rehashes its keys. An index is immutable
+ * and thread-safe.
+ * </p>
+ *
+ * <h3>Example</h3>
+ * <pre>{@code
+ * CompactMatchReport report = api.startWorkload(request, CompactMatchReport.reader()).await();
+ * MatchReportIndex index = MatchReportIndex.of(report);
+ * index.writeTo(Path.of("companies.idx"));
+ *
+ * int cluster = index.findClusterByReference("10042");
+ * if (cluster >= 0) {
+ *   report.getCluster(cluster).forEach(record -> System.out.println(record.getData()));
+ * }
+ * }</pre>
+ *
+ * @see CompactMatchReport
+ */
+public final class MatchReportIndex {
+    private static final int MAGIC = 0x495a4d58;
+    private static final int VERSION = 1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final int clusterCount;
+    private final KeyTable references;
+    private final KeyTable simKeys;
+
+    private MatchReportIndex(int clusterCount, KeyTable references, KeyTable simKeys) {
+        this.clusterCount = clusterCount;
+        this.references = references;
+        this.simKeys = simKeys;
+    }
+
+    /**
+     * Builds the index of a compact report.
+     *
+     * @param report the report
+     * @return the index of the report
+     */
+    public static MatchReportIndex of(CompactMatchReport report) {
+        KeyTable references = new KeyTable();
+        KeyTable simKeys = new KeyTable();
+        boolean[] indexedSimKeys = new boolean[report.getSimKeyCount()];
+        for (int cluster = 0; cluster < report.getClusterCount(); cluster++) {
+            int end = report.getClusterStart(cluster) + report.getClusterSize(cluster);
+            for (int record = report.getClusterStart(cluster); record < end; record++) {
+                String reference = report.getReference(record);
+                if (reference != null) {
+                    references.putIfAbsent(reference, cluster);
+                }
+                int simKeyId = report.getSimKeyId(record);
+                if (simKeyId >= 0 && !indexedSimKeys[simKeyId]) {
+                    simKeys.putIfAbsent(report.getSimKeyById(simKeyId), cluster);
+                    indexedSimKeys[simKeyId] = true;
+                }
+            }
+        }
+        return new MatchReportIndex(report.getClusterCount(), references.trim(), simKeys.trim());
+    }
+
+    /**
+     * Builds the index of the clusters of a JSON report, as returned by {@link CloudDatabaseJsonResponse#getMatchClusters()}.
+     *
+     * @param clusters the clusters of the report
+     * @return the index of the report
+     */
+    public static MatchReportIndex of(List<List<MatchCluster>> clusters) {
+        KeyTable references = new KeyTable();
+        KeyTable simKeys = new KeyTable();
+        int index = 0;
+        for (List<MatchCluster> cluster : clusters) {
+            for (MatchCluster record : cluster) {
+                if (record.getReference() != null) {
+                    references.putIfAbsent(record.getReference(), index);
+                }
+                if (record.getSimKey() != null) {
+                    simKeys.putIfAbsent(record.getSimKey(), index);
+                }
+            }
+            index++;
+        }
+        return new MatchReportIndex(index, references.trim(), simKeys.trim());
+    }
+
+    /**
+     * Finds the cluster holding the record with the given reference. If several records have the reference, the cluster of
+     * the first is returned.
+     *
+     * @param reference the reference
+     * @return the index of the cluster, or -1 if no record has the reference
+     */
+    public int findClusterByReference(String reference) {
+        return references.get(Objects.requireNonNull(reference, "reference"));
+    }
+
+    /**
+     * Finds the cluster of the records sharing the given similarity key. If several clusters have the key, the first is
+     * returned.
+     *
+     * @param simKey the similarity key
+     * @return the index of the cluster, or -1 if no record has the key
+     */
+    public int findClusterBySimKey(String simKey) {
+        return simKeys.get(Objects.requireNonNull(simKey, "simKey"));
+    }
+
+    /**
+     * Gets the number of clusters of the indexed report.
+     *
+     * @return the number of clusters
+     */
+    public int getClusterCount() {
+        return clusterCount;
+    }
+
+    /**
+     * Gets the number of distinct references indexed.
+     *
+     * @return the number of references
+     */
+    public int getReferenceCount() {
+        return references.size();
+    }
+
+    /**
+     * Gets the number of distinct similarity keys indexed.
+     *
+     * @return the number of similarity keys
+     */
+    public int getSimKeyCount() {
+        return simKeys.size();
+    }
+
+    /**
+     * Writes this index to a file, replacing it if it exists.
+     *
+     * @param path the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void writeTo(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            Output output = new Output(channel);
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeInt(clusterCount);
+            references.writeTo(output);
+            simKeys.writeTo(output);
+            output.flush();
+        }
+    }
+
+    /**
+     * Reads an index written by {@link #writeTo(Path)}.
+     *
+     * @param path the file to read
+     * @return the index
+     * @throws IOException if the file cannot be read or does not hold an index
+     */
+    public static MatchReportIndex readFrom(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Input input = new Input(channel, path);
+            if (input.readInt() != MAGIC) {
+                throw new IOException(path + " does not hold a match report index");
+            }
+            int version = input.readInt();
+            if (version != VERSION) {
+                throw new IOException(path + " holds a match report index of unsupported version " + version);
+            }
+            int clusterCount = input.readInt();
+            if (clusterCount < 0) {
+                throw input.corrupted();
+            }
+            MatchReportIndex index = new MatchReportIndex(clusterCount, KeyTable.readFrom(input), KeyTable.readFrom(input));
+            if (channel.position() - input.buffer.remaining() != channel.size()) {
+                throw input.corrupted();
+            }
+            return index;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MatchReportIndex{" +
+                "clusters=" + clusterCount +
+                ", references=" + references.size() +
+                ", simKeys=" + simKeys.size() +
+                '}';
+    }
+
+    /**
+     * Writes the big-endian ints and bytes of an index file through a buffer.
+     */
+    static final class Output {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+        Output(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        void writeInt(int value) throws IOException {
+            if (buffer.remaining() < Integer.BYTES) {
+                flush();
+            }
+            buffer.putInt(value);
+        }
+
+        void writeInts(int[] values, int length) throws IOException {
+            for (int offset = 0; offset < length; ) {
+                if (buffer.remaining() < Integer.BYTES) {
+                    flush();
+                }
+                int count = Math.min(length - offset, buffer.remaining() / Integer.BYTES);
+                buffer.asIntBuffer().put(values, offset, count);
+                buffer.position(buffer.position() + count * Integer.BYTES);
+                offset += count;
+            }
+        }
+
+        void writeBytes(byte[] bytes, int length) throws IOException {
+            for (int offset = 0; offset < length; ) {
+                if (!buffer.hasRemaining()) {
+                    flush();
+                }
+                int count = Math.min(length - offset, buffer.remaining());
+                buffer.put(bytes, offset, count);
+                offset += count;
+            }
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Reads the big-endian ints and bytes of an index file through a buffer.
+     */
+    static final class Input {
+        private final FileChannel channel;
+        private final Path path;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).flip();
+
+        Input(FileChannel channel, Path path) {
+            this.channel = channel;
+            this.path = path;
+        }
+
+        int readInt() throws IOException {
+            require(Integer.BYTES);
+            return buffer.getInt();
+        }
+
+        int[] readInts(int length) throws IOException {
+            checkLength((long) length * Integer.BYTES);
+            int[] values = new int[length];
+            for (int offset = 0; offset < length; ) {
+                require(Integer.BYTES);
+                int count = Math.min(length - offset, buffer.remaining() / Integer.BYTES);
+                buffer.asIntBuffer().get(values, offset, count);
+                buffer.position(buffer.position() + count * Integer.BYTES);
+                offset += count;
+            }
+            return values;
+        }
+
+        byte[] readBytes(int length) throws IOException {
+            checkLength(length);
+            byte[] bytes = new byte[length];
+            for (int offset = 0; offset < length; ) {
+                require(1);
+                int count = Math.min(length - offset, buffer.remaining());
+                buffer.get(bytes, offset, count);
+                offset += count;
+            }
+            return bytes;
+        }
+
+        IOException corrupted() {
+            return new IOException(path + " holds a corrupted match report index");
+        }
+
+        /**
+         * Rejects lengths beyond the end of the file before allocating them.
+         */
+        private void checkLength(long length) throws IOException {
+            if (length > channel.size() - channel.position() + buffer.remaining()) {
+                throw corrupted();
+            }
+        }
+
+        private void require(int bytes) throws IOException {
+            if (buffer.remaining() >= bytes) {
+                return;
+            }
+            buffer.compact();
+            while (buffer.position() < bytes) {
+                if (channel.read(buffer) < 0) {
+                    throw new EOFException(path + " ends before the end of the match report index");
+                }
+            }
+            buffer.flip();
+        }
+    }
+}
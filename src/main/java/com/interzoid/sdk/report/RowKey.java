@@ -0,0 +1,400 @@
+package com.interzoid.sdk.report;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * The row a statement of a generated SQL report writes, as far as the statement alone tells: its table, a column
+ * identifying the row and the value of that column. The column is the first column of an {@code INSERT} or
+ * {@code REPLACE}, and the column of the first {@code column = literal} condition of the {@code WHERE} clause of an
+ * {@code UPDATE} or {@code DELETE} whose conditions are all joined by {@code AND}.
+ * <p>
+ * Keys err on the side of being equal: identifiers are unquoted, stripped of their schema and lower-cased, and values a
+ * database may compare equal, such as {@code 5}, {@code '5'} and {@code 5.0}, or {@code 'Acme'} and {@code 'ACME '}, are
+ * equal. A statement has no key when its row cannot be told this way, for instance when it writes several rows, assigns
+ * the column identifying its row, or its condition is not a literal.
+ */
+final class RowKey {
+    private static final int WORD = 0;
+    private static final int QUOTED_IDENTIFIER = 1;
+    private static final int STRING = 2;
+    private static final int NUMBER = 3;
+    private static final int SYMBOL = 4;
+
+    final String table;
+    final String column;
+    final String value;
+
+    private RowKey(String table, String column, String value) {
+        this.table = table;
+        this.column = column;
+        this.value = value;
+    }
+
+    /**
+     * Gets the key of the row a statement writes.
+     *
+     * @return the key, or null if the statement does not write a single row it identifies by a literal
+     */
+    static RowKey of(String sql) {
+        Cursor cursor = new Cursor(tokenize(sql));
+        if (cursor.acceptKeyword("INSERT") || cursor.acceptKeyword("REPLACE")) {
+            return insert(cursor);
+        }
+        if (cursor.acceptKeyword("UPDATE")) {
+            return update(cursor);
+        }
+        if (cursor.acceptKeyword("DELETE")) {
+            return delete(cursor);
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return table + '\u0000' + column + '\u0000' + value;
+    }
+
+    private static RowKey insert(Cursor cursor) {
+        cursor.skipKeywords("LOW_PRIORITY", "DELAYED", "HIGH_PRIORITY", "IGNORE");
+        cursor.acceptKeyword("INTO");
+        String table = cursor.name();
+        if (table == null || !cursor.acceptSymbol('(')) {
+            return null;
+        }
+        String column = cursor.name();
+        if (column == null || !cursor.skipToClosingParenthesis()
+                || !(cursor.acceptKeyword("VALUES") || cursor.acceptKeyword("VALUE")) || !cursor.acceptSymbol('(')) {
+            return null;
+        }
+        String value = cursor.literal();
+        if (value == null || !(cursor.isSymbol(',') || cursor.isSymbol(')')) || !cursor.skipToClosingParenthesis()
+                || cursor.isSymbol(',') || cursor.assignsLater(column)) {
+            return null;
+        }
+        return new RowKey(table, column, value);
+    }
+
+    private static RowKey update(Cursor cursor) {
+        cursor.skipKeywords("LOW_PRIORITY", "IGNORE");
+        String table = cursor.name();
+        if (table == null || !cursor.acceptKeyword("SET")) {
+            return null;
+        }
+        Set<String> assigned = new HashSet<>();
+        do {
+            String column = cursor.name();
+            if (column == null || !cursor.acceptSymbol('=')) {
+                return null;
+            }
+            assigned.add(column);
+            cursor.skipExpression();
+        } while (cursor.acceptSymbol(','));
+        RowKey key = where(cursor, table);
+        return key == null || assigned.contains(key.column) ? null : key;
+    }
+
+    private static RowKey delete(Cursor cursor) {
+        cursor.skipKeywords("LOW_PRIORITY", "QUICK", "IGNORE");
+        if (!cursor.acceptKeyword("FROM")) {
+            return null;
+        }
+        String table = cursor.name();
+        return table == null ? null : where(cursor, table);
+    }
+
+    /**
+     * Finds the first {@code column = literal} condition of a {@code WHERE} clause of conditions joined by {@code AND}.
+     */
+    private static RowKey where(Cursor cursor, String table) {
+        if (!cursor.acceptKeyword("WHERE")) {
+            return null;
+        }
+        RowKey key = null;
+        boolean conditionStart = true;
+        int depth = 0;
+        while (!cursor.atEnd()) {
+            if (depth == 0) {
+                if (cursor.isKeyword("OR") || cursor.isKeyword("XOR") || cursor.isSymbol('|')) {
+                    return null;
+                }
+                if (cursor.isKeyword("ORDER") || cursor.isKeyword("LIMIT")) {
+                    break;
+                }
+                if (cursor.acceptKeyword("AND")) {
+                    conditionStart = true;
+                    continue;
+                }
+                if (conditionStart && key == null) {
+                    key = equality(cursor, table);
+                    if (key != null) {
+                        continue;
+                    }
+                }
+            }
+            conditionStart = false;
+            if (cursor.isSymbol('(')) {
+                depth++;
+            } else if (cursor.isSymbol(')')) {
+                depth--;
+            }
+            cursor.position++;
+        }
+        return key;
+    }
+
+    /**
+     * Reads a {@code column = literal} or {@code literal = column} condition, or leaves the cursor where it was.
+     */
+    private static RowKey equality(Cursor cursor, String table) {
+        int start = cursor.position;
+        String column = cursor.name();
+        String value = null;
+        if (column != null && cursor.acceptSymbol('=')) {
+            value = cursor.literal();
+        } else {
+            cursor.position = start;
+            value = cursor.literal();
+            column = value != null && cursor.acceptSymbol('=') ? cursor.name() : null;
+        }
+        if (column == null || value == null
+                || !(cursor.atEnd() || cursor.isKeyword("AND") || cursor.isKeyword("ORDER") || cursor.isKeyword("LIMIT"))) {
+            cursor.position = start;
+            return null;
+        }
+        return new RowKey(table, column, value);
+    }
+
+    private static List<Token> tokenize(String sql) {
+        List<Token> tokens = new ArrayList<>();
+        int length = sql.length();
+        int i = 0;
+        while (i < length) {
+            char ch = sql.charAt(i);
+            int start = i;
+            if (Character.isWhitespace(ch)) {
+                i++;
+            } else if (ch == '\'' || ch == '"' || ch == '`') {
+                i = endOfQuoted(sql, i, ch);
+                String text = unquote(sql, start, i, ch);
+                tokens.add(new Token(ch == '\'' ? STRING : QUOTED_IDENTIFIER, text));
+            } else if (Character.isDigit(ch) || ch == '.' && i + 1 < length && Character.isDigit(sql.charAt(i + 1))) {
+                while (i < length && (Character.isLetterOrDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                tokens.add(new Token(NUMBER, sql.substring(start, i)));
+            } else if (Character.isLetter(ch) || ch == '_' || ch == '$') {
+                while (i < length && (Character.isLetterOrDigit(sql.charAt(i)) || sql.charAt(i) == '_' || sql.charAt(i) == '$')) {
+                    i++;
+                }
+                tokens.add(new Token(WORD, sql.substring(start, i)));
+            } else {
+                i++;
+                tokens.add(new Token(SYMBOL, String.valueOf(ch)));
+            }
+        }
+        return tokens;
+    }
+
+    private static int endOfQuoted(String sql, int start, char quote) {
+        int i = start + 1;
+        while (i < sql.length()) {
+            if (sql.charAt(i++) == quote) {
+                if (i < sql.length() && sql.charAt(i) == quote) {
+                    i++;
+                } else {
+                    break;
+                }
+            }
+        }
+        return i;
+    }
+
+    private static String unquote(String sql, int start, int end, char quote) {
+        int contentEnd = end > start + 1 && sql.charAt(end - 1) == quote ? end - 1 : end;
+        String doubled = String.valueOf(quote) + quote;
+        return sql.substring(start + 1, contentEnd).replace(doubled, String.valueOf(quote));
+    }
+
+    /**
+     * Normalizes a value so that values a database may compare equal are equal: numbers by their numeric value, strings
+     * without case or trailing spaces.
+     */
+    private static String normalizeValue(String value) {
+        String normalized = value.toLowerCase(Locale.ROOT);
+        int end = normalized.length();
+        while (end > 0 && normalized.charAt(end - 1) == ' ') {
+            end--;
+        }
+        normalized = normalized.substring(0, end);
+        String trimmed = normalized.trim();
+        if (!trimmed.isEmpty() && (Character.isDigit(trimmed.charAt(0)) || "+-.".indexOf(trimmed.charAt(0)) >= 0)) {
+            try {
+                return new BigDecimal(trimmed).stripTrailingZeros().toString();
+            } catch (NumberFormatException | ArithmeticException e) {
+                // not a number, compared as a string
+            }
+        }
+        return normalized;
+    }
+
+    private static final class Token {
+        final int kind;
+        final String text;
+
+        Token(int kind, String text) {
+            this.kind = kind;
+            this.text = text;
+        }
+    }
+
+    private static final class Cursor {
+        private final List<Token> tokens;
+        int position;
+
+        Cursor(List<Token> tokens) {
+            this.tokens = tokens;
+        }
+
+        boolean atEnd() {
+            return position == tokens.size();
+        }
+
+        boolean isKeyword(String keyword) {
+            return !atEnd() && tokens.get(position).kind == WORD && tokens.get(position).text.equalsIgnoreCase(keyword);
+        }
+
+        boolean isSymbol(char symbol) {
+            return !atEnd() && tokens.get(position).kind == SYMBOL && tokens.get(position).text.charAt(0) == symbol;
+        }
+
+        boolean acceptKeyword(String keyword) {
+            if (isKeyword(keyword)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        boolean acceptSymbol(char symbol) {
+            if (isSymbol(symbol)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        void skipKeywords(String... keywords) {
+            for (boolean skipped = true; skipped; ) {
+                skipped = false;
+                for (String keyword : keywords) {
+                    skipped |= acceptKeyword(keyword);
+                }
+            }
+        }
+
+        /**
+         * Reads a possibly qualified name, and returns its last part lower-cased.
+         */
+        String name() {
+            String name = null;
+            do {
+                if (atEnd() || tokens.get(position).kind != WORD && tokens.get(position).kind != QUOTED_IDENTIFIER) {
+                    return null;
+                }
+                name = tokens.get(position++).text.toLowerCase(Locale.ROOT);
+            } while (acceptSymbol('.'));
+            return name;
+        }
+
+        /**
+         * Reads a string, number, boolean or null literal, and returns it normalized.
+         */
+        String literal() {
+            if (atEnd()) {
+                return null;
+            }
+            int start = position;
+            String sign = isSymbol('-') ? "-" : "";
+            if (isSymbol('-') || isSymbol('+')) {
+                position++;
+            }
+            if (atEnd()) {
+                position = start;
+                return null;
+            }
+            Token token = tokens.get(position++);
+            if (token.kind == NUMBER) {
+                return normalizeValue(sign + token.text);
+            }
+            if (sign.isEmpty() && position == start + 1) {
+                if (token.kind == STRING) {
+                    return normalizeValue(token.text);
+                }
+                if (token.kind == WORD && token.text.equalsIgnoreCase("NULL")) {
+                    return "null";
+                }
+                if (token.kind == WORD && token.text.equalsIgnoreCase("TRUE")) {
+                    return "1";
+                }
+                if (token.kind == WORD && token.text.equalsIgnoreCase("FALSE")) {
+                    return "0";
+                }
+            }
+            position = start;
+            return null;
+        }
+
+        /**
+         * Skips to the token after the parenthesis closing the current one.
+         *
+         * @return false if the statement ends first
+         */
+        boolean skipToClosingParenthesis() {
+            for (int depth = 1; !atEnd(); position++) {
+                if (isSymbol('(')) {
+                    depth++;
+                } else if (isSymbol(')') && --depth == 0) {
+                    position++;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Skips an expression, up to a comma or clause keyword outside parentheses.
+         */
+        void skipExpression() {
+            for (int depth = 0; !atEnd(); position++) {
+                if (depth == 0 && (isSymbol(',') || isKeyword("WHERE") || isKeyword("ORDER") || isKeyword("LIMIT"))) {
+                    return;
+                }
+                if (isSymbol('(')) {
+                    depth++;
+                } else if (isSymbol(')')) {
+                    depth--;
+                }
+            }
+        }
+
+        /**
+         * Whether the rest of the statement assigns a column, as an {@code ON DUPLICATE KEY UPDATE} clause may.
+         */
+        boolean assignsLater(String column) {
+            for (int i = position; i + 1 < tokens.size(); i++) {
+                Token token = tokens.get(i);
+                Token next = tokens.get(i + 1);
+                if ((token.kind == WORD || token.kind == QUOTED_IDENTIFIER) && token.text.equalsIgnoreCase(column)
+                        && next.kind == SYMBOL && next.text.equals("=")) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
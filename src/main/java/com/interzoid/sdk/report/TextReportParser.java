@@ -0,0 +1,277 @@
+package com.interzoid.sdk.report;
+
+import com.interzoid.sdk.api.ReportReader;
+import com.interzoid.sdk.api.exceptions.UnexpectedResponseException;
+import com.interzoid.sdk.model.CloudDatabaseJsonResponse.MatchCluster;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <h2>Text Match Report Parser</h2>
+ * <p>
+ * Reads a plain-text match report, requested with {@link com.interzoid.sdk.model.ResponseType#TXT} or without the JSON and
+ * HTML options, one cluster at a time. Each line of the report is a record holding its data, its reference when a reference
+ * column was requested, and its similarity key, separated by tabs; a blank line ends a cluster. Records are returned as the
+ * {@link MatchCluster} objects of JSON reports.
+ * </p>
+ * <p>
+ * The parser scans the characters of the report in place, without splitting lines or holding more than the current cluster,
+ * so reports of any size are read in constant memory, as they arrive or from a downloaded file. It is not thread-safe.
+ * </p>
+ *
+ * <h3>Example</h3>
+ * <pre>{@code
+ * try (TextReportParser parser = TextReportParser.open(api.downloadReport(request, path).getPath())) {
+ *   List<MatchCluster> cluster;
+ *   while ((cluster = parser.nextCluster()) != null) {
+ *     System.out.println(cluster.size() + " records match " + cluster.get(0).getData());
+ *   }
+ * }
+ * }</pre>
+ *
+ * @see com.interzoid.sdk.api.CloudDatabaseMatchKeyReportApi
+ * @see com.interzoid.sdk.api.TextFileMatchKeyReportApi
+ */
+public final class TextReportParser implements Closeable {
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_FIELDS = 3;
+
+    private final Reader reader;
+    private final int[] fieldStarts = new int[MAX_FIELDS];
+    private final int[] fieldEnds = new int[MAX_FIELDS];
+    private char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private boolean endOfInput;
+    private long lineNumber;
+
+    /**
+     * Constructs a new TextReportParser reading the given report. The reader need not be buffered.
+     *
+     * @param reader the report
+     */
+    public TextReportParser(Reader reader) {
+        this.reader = Objects.requireNonNull(reader, "reader");
+    }
+
+    /**
+     * Opens a report downloaded to a file, encoded in UTF-8.
+     *
+     * @param path the file holding the report
+     * @return a parser of the report, to be closed
+     * @throws IOException if the file cannot be opened
+     */
+    public static TextReportParser open(Path path) throws IOException {
+        return open(path, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Opens a report downloaded to a file.
+     *
+     * @param path    the file holding the report
+     * @param charset the encoding of the report
+     * @return a parser of the report, to be closed
+     * @throws IOException if the file cannot be opened
+     */
+    public static TextReportParser open(Path path, Charset charset) throws IOException {
+        return new TextReportParser(new InputStreamReader(Files.newInputStream(path), charset));
+    }
+
+    /**
+     * Creates a {@link ReportReader} passing each cluster of a workload's text report to the given action as it arrives,
+     * for {@link com.interzoid.sdk.api.CloudDatabaseMatchKeyReportApi#startWorkload}.
+     *
+     * @param action the action performed on each cluster, on the thread reading the report
+     * @return a reader completing with the number of clusters read
+     */
+    public static ReportReader<Long> forEachCluster(Consumer<List<MatchCluster>> action) {
+        Objects.requireNonNull(action, "action");
+        return (body, charset) -> {
+            try (TextReportParser parser = new TextReportParser(new InputStreamReader(body, charset))) {
+                long clusters = 0;
+                for (List<MatchCluster> cluster = parser.nextCluster(); cluster != null; cluster = parser.nextCluster()) {
+                    action.accept(cluster);
+                    clusters++;
+                }
+                return clusters;
+            }
+        };
+    }
+
+    /**
+     * Reads the next cluster of the report.
+     *
+     * @return the records of the cluster, or null at the end of the report
+     * @throws UnexpectedResponseException if a line of the report is not a record
+     * @throws IOException                 if the report cannot be read
+     */
+    public List<MatchCluster> nextCluster() throws IOException {
+        List<MatchCluster> cluster = null;
+        for (int fields = nextLine(); fields >= 0; fields = nextLine()) {
+            if (fields == 0) {
+                if (cluster != null) {
+                    return cluster;
+                }
+                continue;
+            }
+            if (cluster == null) {
+                cluster = new ArrayList<>();
+            }
+            cluster.add(record(fields));
+        }
+        return cluster;
+    }
+
+    /**
+     * Gets the clusters of the report as a lazily read stream, which closes this parser when it is closed.
+     * Errors reading the report are thrown as {@link UncheckedIOException}.
+     *
+     * @return the clusters of the report
+     */
+    public Stream<List<MatchCluster>> clusters() {
+        Spliterator<List<MatchCluster>> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super List<MatchCluster>> action) {
+                try {
+                    List<MatchCluster> cluster = nextCluster();
+                    if (cluster == null) {
+                        return false;
+                    }
+                    action.accept(cluster);
+                    return true;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Gets the number of lines read so far.
+     *
+     * @return the number of lines read
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Closes the report.
+     *
+     * @throws IOException if the report cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Reads the next line, recording the bounds of its fields in the buffer.
+     *
+     * @return the number of fields, 0 for a blank line, or -1 at the end of the report
+     */
+    private int nextLine() throws IOException {
+        int end = position;
+        while (true) {
+            while (end < limit && buffer[end] != '\n') {
+                end++;
+            }
+            if (end < limit || endOfInput) {
+                break;
+            }
+            end -= position;
+            fill();
+        }
+        if (position == limit) {
+            return -1;
+        }
+        int start = position;
+        position = end < limit ? end + 1 : end;
+        lineNumber++;
+        if (end > start && buffer[end - 1] == '\r') {
+            end--;
+        }
+        if (end == start) {
+            return 0;
+        }
+        int fields = 0;
+        for (int i = start; i < end; i++) {
+            if (buffer[i] == '\t') {
+                if (fields == MAX_FIELDS - 1) {
+                    throw malformed();
+                }
+                fieldStarts[fields] = start;
+                fieldEnds[fields++] = i;
+                start = i + 1;
+            }
+        }
+        fieldStarts[fields] = start;
+        fieldEnds[fields++] = end;
+        if (fields < 2) {
+            throw malformed();
+        }
+        return fields;
+    }
+
+    /**
+     * Moves the current line to the start of the buffer, growing it for lines longer than the buffer, and reads more of the report.
+     */
+    private void fill() throws IOException {
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        } else if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        int read = reader.read(buffer, limit, buffer.length - limit);
+        if (read < 0) {
+            endOfInput = true;
+        } else {
+            limit += read;
+        }
+    }
+
+    private MatchCluster record(int fields) {
+        MatchCluster record = new MatchCluster();
+        record.setData(field(0));
+        if (fields == MAX_FIELDS) {
+            record.setReference(field(1));
+        }
+        record.setSimKey(field(fields - 1));
+        return record;
+    }
+
+    private String field(int index) {
+        return new String(buffer, fieldStarts[index], fieldEnds[index] - fieldStarts[index]);
+    }
+
+    private UnexpectedResponseException malformed() {
+        return new UnexpectedResponseException("Line " + lineNumber + " of the match report is not a record of 2 or 3 fields");
+    }
+}
@@ -0,0 +1,8 @@
+/**
+ * This package contains readers of the match reports of the Cloud Connect services, such as
+ * {@link com.interzoid.sdk.report.TextReportParser}, which read reports of any size cluster by cluster as they arrive or from
+ * a downloaded file, {@link com.interzoid.sdk.report.CompactMatchReport}, which holds large JSON reports in compact arrays,
+ * indexed by reference and similarity key with {@link com.interzoid.sdk.report.MatchReportIndex}, and
+ * {@link com.interzoid.sdk.report.GenSqlParser}, which reads the statements of generated SQL reports.
+ */
+package com.interzoid.sdk.report;
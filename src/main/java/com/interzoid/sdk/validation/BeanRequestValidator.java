@@ -0,0 +1,30 @@
+package com.interzoid.sdk.validation;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+import java.util.Set;
+
+/**
+ * Validates requests with a single Bean Validation {@link Validator}, created when the first request is validated
+ * rather than when API instances are built. {@code Validator} instances are thread-safe.
+ */
+final class BeanRequestValidator implements RequestValidator {
+    static final BeanRequestValidator INSTANCE = new BeanRequestValidator();
+
+    private BeanRequestValidator() {
+    }
+
+    /**
+     * Holds the validator, initialized by the JVM on first access. The factory stays open for the lifetime of the validator.
+     */
+    private static final class Holder {
+        static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validate(T request) {
+        return Holder.VALIDATOR.validate(request);
+    }
+}
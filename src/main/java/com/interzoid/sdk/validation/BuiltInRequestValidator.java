@@ -0,0 +1,125 @@
+package com.interzoid.sdk.validation;
+
+import com.interzoid.sdk.model.*;
+import jakarta.validation.ConstraintViolation;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Checks the {@code @NotBlank}, {@code @NotNull}, {@code @Positive} and {@code @PositiveOrZero} constraints of the request
+ * models and the rules of {@link CloudWorkloadRequestValidator} in plain Java code, with the messages of the annotations.
+ * A valid request allocates nothing.
+ */
+final class BuiltInRequestValidator implements RequestValidator {
+    static final BuiltInRequestValidator INSTANCE = new BuiltInRequestValidator();
+
+    private BuiltInRequestValidator() {
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validate(T request) {
+        if (!(request instanceof InterzoidRequest)) {
+            return Collections.emptySet();
+        }
+        Violations<T> violations = new Violations<>(request);
+        violations.notBlank("apikey", ((InterzoidRequest) request).getApikey(), "API key is required");
+
+        if (request instanceof FullNameMatchKeyRequest) {
+            violations.notBlank("fullName", ((FullNameMatchKeyRequest) request).getFullName(), "Full name is required");
+        } else if (request instanceof CompanyNameMatchKeyRequest) {
+            CompanyNameMatchKeyRequest company = (CompanyNameMatchKeyRequest) request;
+            violations.notBlank("companyName", company.getCompanyName(), "Company name is required");
+            violations.notNull("matchAlgorithm", company.getMatchAlgorithm(), "Match algorithm is required");
+        } else if (request instanceof AddressMatchKeyRequest) {
+            AddressMatchKeyRequest address = (AddressMatchKeyRequest) request;
+            violations.notBlank("address", address.getAddress(), "Address is required");
+            violations.notNull("matchAlgorithm", address.getMatchAlgorithm(), "Match algorithm is required");
+        } else if (request instanceof FullNameMatchScoreRequest) {
+            FullNameMatchScoreRequest score = (FullNameMatchScoreRequest) request;
+            violations.notBlank("value1", score.getValue1(), "Value 1 is required");
+            violations.notBlank("value2", score.getValue2(), "Value 2 is required");
+        } else if (request instanceof OrganizationMatchScoreRequest) {
+            OrganizationMatchScoreRequest score = (OrganizationMatchScoreRequest) request;
+            violations.notBlank("value1", score.getValue1(), "Value 1 is required");
+            violations.notBlank("value2", score.getValue2(), "Value 2 is required");
+        } else if (request instanceof CloudWorkloadRequest) {
+            CloudWorkloadRequest workload = (CloudWorkloadRequest) request;
+            violations.notNull("process", workload.getProcess(), "process is required");
+            violations.notNull("source", workload.getSource(), "source is required");
+            violations.notNull("category", workload.getCategory(), "category is required");
+            violations.notBlank("connectionString", workload.getConnectionString(), "connectionString is required");
+            violations.notBlank("sourceTableName", workload.getSourceTableName(), "sourceTableName is required");
+            violations.notBlank("matchColumn", workload.getMatchColumn(), "matchColumn is required");
+            for (String message : CloudWorkloadRequestValidator.getViolationMessages(workload)) {
+                violations.add("", null, message);
+            }
+        } else if (request instanceof TextFileMatchRequest) {
+            TextFileMatchRequest textFile = (TextFileMatchRequest) request;
+            violations.notNull("source", textFile.getSource(), "source is required");
+            violations.notNull("category", textFile.getCategory(), "category is required");
+            violations.notBlank("fileUrl", textFile.getFileUrl(), "fileUrl is required");
+            if (textFile.getMatchColumnNumber() <= 0) {
+                violations.add("matchColumnNumber", textFile.getMatchColumnNumber(),
+                        "value of matchColumnNumber must be an int greater than 0");
+            }
+            if (textFile.getReferenceColumnNumber() < 0) {
+                violations.add("referenceColumnNumber", textFile.getReferenceColumnNumber(),
+                        "value of referenceColumnNumber must be an int greater than or equal to 0");
+            }
+            violations.notNull("responseType", textFile.getResponseType(), "responseType is required");
+        }
+        return violations.toSet();
+    }
+
+    /**
+     * Collects the violations of one request, allocating the set only when a constraint is violated.
+     */
+    private static final class Violations<T> {
+        private final T request;
+        private Set<ConstraintViolation<T>> set;
+
+        Violations(T request) {
+            this.request = request;
+        }
+
+        void notBlank(String property, String value, String message) {
+            if (isBlank(value)) {
+                add(property, value, message);
+            }
+        }
+
+        /**
+         * Whether a value is null or only has characters that {@link String#trim()} removes, as {@code @NotBlank} checks it.
+         */
+        private static boolean isBlank(String value) {
+            if (value == null) {
+                return true;
+            }
+            for (int i = 0; i < value.length(); i++) {
+                if (value.charAt(i) > ' ') {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void notNull(String property, Object value, String message) {
+            if (value == null) {
+                add(property, null, message);
+            }
+        }
+
+        void add(String property, Object value, String message) {
+            if (set == null) {
+                set = new LinkedHashSet<>(4);
+            }
+            set.add(new SimpleConstraintViolation<>(request, property, value, message));
+        }
+
+        Set<ConstraintViolation<T>> toSet() {
+            return set != null ? set : Collections.emptySet();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.interzoid.sdk.validation;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Looks up the default {@link RequestValidator} once: the first implementation registered as a service, such as the one of the
+ * {@code data-matching-sdk-bean-validation} module, or the built-in validator when none is.
+ */
+final class DefaultRequestValidator {
+    static final RequestValidator INSTANCE = load();
+
+    private DefaultRequestValidator() {
+    }
+
+    private static RequestValidator load() {
+        try {
+            Iterator<RequestValidator> providers = ServiceLoader.load(RequestValidator.class, RequestValidator.class.getClassLoader())
+                    .iterator();
+            if (providers.hasNext()) {
+                return providers.next();
+            }
+        } catch (ServiceConfigurationError e) {
+            // a provider that cannot be instantiated, typically for missing dependencies, falls back to the built-in validator
+        }
+        return BuiltInRequestValidator.INSTANCE;
+    }
+}
@@ -0,0 +1,65 @@
+package com.interzoid.sdk.validation;
+
+import jakarta.validation.ConstraintViolation;
+
+import java.util.Set;
+
+/**
+ * <p>Validates requests before the API classes send them, reporting violations in the Jakarta Bean Validation format.</p>
+ *
+ * <p>Two implementations are provided. {@link #builtIn()} checks the constraints of the request models with plain Java code,
+ * avoiding the bootstrap of a Bean Validation provider and the reflection of each call. {@link #beanValidation()} evaluates the
+ * constraint annotations with Bean Validation, which requires a provider such as Hibernate Validator on the classpath; the
+ * {@code data-matching-sdk-bean-validation} module adds Hibernate Validator and makes it the default.
+ * Implementations must be thread-safe.</p>
+ *
+ * <h2>Example</h2>
+ * <pre>{@code
+ * FullNameMatchKeyApi api = new FullNameMatchKeyApi.Builder()
+ *         .withRequestValidator(RequestValidator.builtIn())
+ *         .build();
+ * }</pre>
+ */
+public interface RequestValidator {
+
+    /**
+     * Validates a request.
+     *
+     * @param request the request to validate
+     * @param <T>     the type of the request
+     * @return the constraint violations, empty if the request is valid
+     */
+    <T> Set<ConstraintViolation<T>> validate(T request);
+
+    /**
+     * Gets the validator used when none is specified: the first {@code RequestValidator} registered with
+     * {@link java.util.ServiceLoader}, or {@link #builtIn()} when none is. The lookup is done once.
+     *
+     * @return the default validator
+     */
+    static RequestValidator defaultValidator() {
+        return DefaultRequestValidator.INSTANCE;
+    }
+
+    /**
+     * Gets the validator evaluating the constraint annotations with Bean Validation.
+     * All API instances share one {@code Validator}, bootstrapped on the first validation, which fails with a
+     * {@code jakarta.validation.NoProviderFoundException} if no Bean Validation provider is on the classpath.
+     *
+     * @return the Bean Validation validator
+     */
+    static RequestValidator beanValidation() {
+        return BeanRequestValidator.INSTANCE;
+    }
+
+    /**
+     * Gets the reflection-free validator checking the constraints of the SDK request models in plain Java code.
+     * It reports the same messages as Bean Validation. Constraint descriptors are not available from its violations,
+     * and requests of other types are not validated.
+     *
+     * @return the built-in validator
+     */
+    static RequestValidator builtIn() {
+        return BuiltInRequestValidator.INSTANCE;
+    }
+}
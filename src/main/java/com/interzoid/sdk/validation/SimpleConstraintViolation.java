@@ -0,0 +1,163 @@
+package com.interzoid.sdk.validation;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ElementKind;
+import jakarta.validation.Path;
+import jakarta.validation.metadata.ConstraintDescriptor;
+
+import java.util.Collections;
+import java.util.Iterator;
+
+/**
+ * A constraint violation reported by the built-in validator, on a property of the request or, with an empty property name,
+ * on the request as a whole. No constraint descriptor is available.
+ *
+ * @param <T> the type of the request
+ */
+final class SimpleConstraintViolation<T> implements ConstraintViolation<T> {
+    private final T rootBean;
+    private final PropertyPath propertyPath;
+    private final Object invalidValue;
+    private final String message;
+
+    SimpleConstraintViolation(T rootBean, String property, Object invalidValue, String message) {
+        this.rootBean = rootBean;
+        this.propertyPath = new PropertyPath(property);
+        this.invalidValue = invalidValue;
+        this.message = message;
+    }
+
+    @Override
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String getMessageTemplate() {
+        return message;
+    }
+
+    @Override
+    public T getRootBean() {
+        return rootBean;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Class<T> getRootBeanClass() {
+        return (Class<T>) rootBean.getClass();
+    }
+
+    @Override
+    public Object getLeafBean() {
+        return rootBean;
+    }
+
+    @Override
+    public Object[] getExecutableParameters() {
+        return null;
+    }
+
+    @Override
+    public Object getExecutableReturnValue() {
+        return null;
+    }
+
+    @Override
+    public Path getPropertyPath() {
+        return propertyPath;
+    }
+
+    @Override
+    public Object getInvalidValue() {
+        return invalidValue;
+    }
+
+    /**
+     * Not available from the built-in validator.
+     *
+     * @return null
+     */
+    @Override
+    public ConstraintDescriptor<?> getConstraintDescriptor() {
+        return null;
+    }
+
+    @Override
+    public <U> U unwrap(Class<U> type) {
+        if (type.isInstance(this)) {
+            return type.cast(this);
+        }
+        throw new jakarta.validation.ValidationException("Type " + type.getName() + " not supported for unwrapping.");
+    }
+
+    @Override
+    public String toString() {
+        return "ConstraintViolation{" +
+                "propertyPath=" + propertyPath +
+                ", message='" + message + '\'' +
+                ", rootBeanClass=" + rootBean.getClass().getName() +
+                '}';
+    }
+
+    /**
+     * The path of a property of the root bean, or the empty path of the bean itself.
+     */
+    private static final class PropertyPath implements Path, Path.PropertyNode {
+        private final String name;
+
+        PropertyPath(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Iterator<Node> iterator() {
+            return name.isEmpty() ? Collections.emptyIterator() : Collections.<Node>singletonList(this).iterator();
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public boolean isInIterable() {
+            return false;
+        }
+
+        @Override
+        public Integer getIndex() {
+            return null;
+        }
+
+        @Override
+        public Object getKey() {
+            return null;
+        }
+
+        @Override
+        public ElementKind getKind() {
+            return ElementKind.PROPERTY;
+        }
+
+        @Override
+        public <N extends Node> N as(Class<N> nodeType) {
+            return nodeType.cast(this);
+        }
+
+        @Override
+        public Class<?> getContainerClass() {
+            return null;
+        }
+
+        @Override
+        public Integer getTypeArgumentIndex() {
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * This package contains the validation of requests before they are sent: the {@link com.interzoid.sdk.validation.RequestValidator}
+ * interface, a built-in validator checking the constraints of the SDK request models without reflection, and Bean Validation
+ * through a single, lazily bootstrapped {@code Validator} when a provider is on the classpath.
+ */
+package com.interzoid.sdk.validation;
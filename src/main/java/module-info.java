@@ -0,0 +1,35 @@
+/**
+ * The Interzoid Data Matching SDK.
+ * <p>
+ * OkHttp, Okio and Moshi are automatic modules, which jlink cannot link; a jlink image therefore links only the JDK modules
+ * required here and runs the SDK and its dependencies from the module path.
+ * The model package is open: Moshi decodes responses into its fields, and Hibernate Validator reads their constraint
+ * annotations when the {@code com.interzoid.sdk.validation.bean} module is present.
+ * OkHttp is required transitively although it is an automatic module, since the API builders take an {@code OkHttpClient};
+ * its name, {@code okhttp3}, is the one OkHttp declares in its manifest, so it is stable. The JDK HTTP client, HTTP server
+ * and Flight Recorder modules are required transitively as well: {@code JdkHttpTransport} takes an {@code HttpClient}, the
+ * {@code PrometheusExporter} serves on an {@code HttpServer}, and the SDK events extend {@code jdk.jfr.Event}. The Kotlin
+ * standard library is required at compile time only, for the compiler to read the Kotlin annotations of the OkHttp classes.
+ */
+@SuppressWarnings("requires-transitive-automatic")
+module com.interzoid.sdk {
+    requires transitive jakarta.validation;
+    requires transitive okhttp3;
+    requires transitive java.net.http;
+    requires transitive jdk.httpserver;
+    requires transitive jdk.jfr;
+    requires com.squareup.moshi;
+    requires static kotlin.stdlib;
+    requires jdk.net;
+
+    exports com.interzoid.sdk.api;
+    exports com.interzoid.sdk.api.exceptions;
+    exports com.interzoid.sdk.metrics;
+    exports com.interzoid.sdk.model;
+    exports com.interzoid.sdk.report;
+    exports com.interzoid.sdk.validation;
+
+    opens com.interzoid.sdk.model;
+
+    uses com.interzoid.sdk.validation.RequestValidator;
+}
@@ -0,0 +1,62 @@
+package com.interzoid.sdk.api;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the executors on which asynchronous API calls run their blocking HTTP exchanges.
+ * <p>
+ * This is the Java 21 implementation, loaded from {@code META-INF/versions/21} of the multi-release JAR.
+ * Each call runs on its own virtual thread, so tens of thousands of concurrent calls cost little more than their sockets.
+ * Setting the system property {@value #PLATFORM_THREADS_PROPERTY} to {@code true} restores the platform thread pool.
+ */
+final class RequestExecutors {
+    /**
+     * System property that forces platform threads even when virtual threads are available.
+     */
+    static final String PLATFORM_THREADS_PROPERTY = "com.interzoid.sdk.platformThreads";
+
+    private RequestExecutors() {
+    }
+
+    /**
+     * Whether executors created by this class run calls on virtual threads.
+     *
+     * @return true unless platform threads were requested through {@value #PLATFORM_THREADS_PROPERTY}
+     */
+    static boolean usesVirtualThreads() {
+        return !Boolean.getBoolean(PLATFORM_THREADS_PROPERTY);
+    }
+
+    /**
+     * Creates a new executor for running HTTP calls.
+     *
+     * @return an executor starting a virtual thread per call, or a platform thread pool if virtual threads are disabled
+     */
+    static ExecutorService newRequestExecutor() {
+        if (!usesVirtualThreads()) {
+            return newPlatformExecutor();
+        }
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("Interzoid Dispatcher ", 1).factory());
+    }
+
+    /**
+     * Creates a cached pool of daemon platform threads, mirroring the OkHttp default dispatcher executor.
+     *
+     * @return the executor
+     */
+    static ExecutorService newPlatformExecutor() {
+        AtomicInteger count = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "Interzoid Dispatcher " + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), threadFactory);
+    }
+}
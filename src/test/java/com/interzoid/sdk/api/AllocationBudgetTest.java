@@ -0,0 +1,141 @@
+package com.interzoid.sdk.api;
+
+import com.interzoid.sdk.model.*;
+import com.interzoid.sdk.validation.RequestValidator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Fails the build when a {@code doRequest} call allocates more bytes than its budget in {@code allocation-budget.properties}.
+ * Each API class runs against an {@link InterzoidApi} whose transport returns a canned response, so the measurement covers
+ * validation, parameter and URI building, metrics bookkeeping and JSON decoding, but no network I/O. Calls are repeated until
+ * compiled before the bytes allocated by the current thread are averaged.
+ */
+public class AllocationBudgetTest {
+    private static final String BUDGET_FILE = "/allocation-budget.properties";
+    private static final String JSON = "{\"Code\":\"Success\",\"Credits\":\"9999\","
+            + "\"SimKey\":\"N1Ai4RfV0SThJTIMXmjSBsJVIsjm0kbmwqqaUlhxHTQ\",\"Score\":\"85\"}";
+    private static final String REPORT_JSON = "{\"Status\":\"success\",\"Message\":\"\",\"MatchClusters\":["
+            + "[{\"Data\":\"Apple Inc\",\"Reference\":\"1\",\"SimKey\":\"k1\"},{\"Data\":\"Apple\",\"Reference\":\"2\",\"SimKey\":\"k1\"}]]}";
+    private static final int WARM_UP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 2_000;
+
+    private static com.sun.management.ThreadMXBean threadBean;
+    private static Properties budgets;
+
+    @FunctionalInterface
+    interface Call {
+        Object run() throws Exception;
+    }
+
+    @BeforeAll
+    public static void setUp() throws IOException {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "per-thread allocation counters are not available");
+        threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported(), "per-thread allocation counters are not supported");
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        budgets = new Properties();
+        try (InputStream in = AllocationBudgetTest.class.getResourceAsStream(BUDGET_FILE)) {
+            assertNotNull(in, BUDGET_FILE + " is missing");
+            budgets.load(in);
+        }
+    }
+
+    static Stream<Arguments> calls() {
+        InterzoidApi api = new InterzoidApi(new CannedTransport(JSON));
+        InterzoidApi connectApi = new InterzoidApi(new CannedTransport(REPORT_JSON));
+
+        AccountInfoApi accountInfo = new AccountInfoApi.Builder().withInterzoidApi(api).build();
+        AddressMatchKeyApi address = new AddressMatchKeyApi.Builder().withInterzoidApi(api).build();
+        CompanyNameMatchKeyApi company = new CompanyNameMatchKeyApi.Builder().withInterzoidApi(api).build();
+        FullNameMatchKeyApi fullName = new FullNameMatchKeyApi.Builder().withInterzoidApi(api).build();
+        FullNameMatchKeyApi fullNameBuiltIn = new FullNameMatchKeyApi.Builder().withInterzoidApi(api)
+                .withRequestValidator(RequestValidator.builtIn()).build();
+        FullNameMatchScoreApi fullNameScore = new FullNameMatchScoreApi.Builder().withInterzoidApi(api).build();
+        OrganizationMatchScoreApi organizationScore = new OrganizationMatchScoreApi.Builder().withInterzoidApi(api).build();
+        CloudDatabaseMatchKeyReportApi cloudDatabase = new CloudDatabaseMatchKeyReportApi.Builder().withInterzoidApi(connectApi).build();
+        TextFileMatchKeyReportApi textFile = new TextFileMatchKeyReportApi.Builder().withInterzoidApi(connectApi).build();
+
+        InterzoidRequest accountInfoRequest = new InterzoidRequest("apikey");
+        AddressMatchKeyRequest addressRequest = new AddressMatchKeyRequest("apikey", "400 East Broadway St",
+                AddressMatchKeyRequest.MatchAlgorithm.MEDIUM);
+        CompanyNameMatchKeyRequest companyRequest = new CompanyNameMatchKeyRequest("apikey", "Apple Inc.",
+                CompanyNameMatchKeyRequest.MatchAlgorithm.WIDE);
+        FullNameMatchKeyRequest fullNameRequest = new FullNameMatchKeyRequest("apikey", "John Smith");
+        FullNameMatchScoreRequest fullNameScoreRequest = new FullNameMatchScoreRequest("apikey", "John Smith", "Jon Smyth");
+        OrganizationMatchScoreRequest organizationScoreRequest = new OrganizationMatchScoreRequest("apikey", "IBM", "International Business Machines");
+        CloudWorkloadRequest cloudDatabaseRequest = new CloudWorkloadRequest("apikey", com.interzoid.sdk.model.Process.MATCH_REPORT,
+                Source.MYSQL, Category.COMPANY, "user:pass@tcp(localhost)/db", "companies", "name", "id", true, false);
+        TextFileMatchRequest textFileRequest = new TextFileMatchRequest("apikey", Source.CSV, Category.COMPANY,
+                "https://dl.interzoid.com/csv/companies.csv", 1, 2, ResponseType.JSON);
+
+        return Stream.of(
+                Arguments.of("AccountInfoApi", (Call) () -> accountInfo.doRequest(accountInfoRequest)),
+                Arguments.of("AddressMatchKeyApi", (Call) () -> address.doRequest(addressRequest)),
+                Arguments.of("CompanyNameMatchKeyApi", (Call) () -> company.doRequest(companyRequest)),
+                Arguments.of("FullNameMatchKeyApi", (Call) () -> fullName.doRequest(fullNameRequest)),
+                Arguments.of("FullNameMatchKeyApi.builtInValidation", (Call) () -> fullNameBuiltIn.doRequest(fullNameRequest)),
+                Arguments.of("FullNameMatchScoreApi", (Call) () -> fullNameScore.doRequest(fullNameScoreRequest)),
+                Arguments.of("OrganizationMatchScoreApi", (Call) () -> organizationScore.doRequest(organizationScoreRequest)),
+                Arguments.of("CloudDatabaseMatchKeyReportApi", (Call) () -> cloudDatabase.doRequest(cloudDatabaseRequest)),
+                Arguments.of("TextFileMatchKeyReportApi", (Call) () -> textFile.doRequest(textFileRequest))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("calls")
+    public void doRequest_staysWithinAllocationBudget(String api, Call call) throws Exception {
+        String budget = budgets.getProperty(api);
+        assertNotNull(budget, "no allocation budget for " + api + " in " + BUDGET_FILE);
+
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            assertNotNull(call.run());
+        }
+        long threadId = Thread.currentThread().getId();
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            call.run();
+        }
+        long bytesPerCall = (threadBean.getThreadAllocatedBytes(threadId) - before) / MEASURED_ITERATIONS;
+
+        assertTrue(bytesPerCall <= Long.parseLong(budget.trim()),
+                api + ".doRequest allocated " + bytesPerCall + " bytes per call, over its budget of " + budget
+                        + " bytes in " + BUDGET_FILE);
+    }
+
+    /**
+     * A transport answering every request with the same response, allocated once.
+     */
+    private static final class CannedTransport implements Transport {
+        private final TransportResponse response;
+
+        CannedTransport(String body) {
+            this.response = new TransportResponse(200, body);
+        }
+
+        @Override
+        public TransportResponse get(URI uri, Map<String, String> headers) {
+            return response;
+        }
+
+        @Override
+        public CompletableFuture<TransportResponse> getAsync(URI uri, Map<String, String> headers) {
+            return CompletableFuture.completedFuture(response);
+        }
+    }
+}
@@ -14,6 +14,7 @@ import java.util.Set;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 public class CloudDatabaseMatchKeyReportApiTest {
@@ -35,7 +36,7 @@ public class CloudDatabaseMatchKeyReportApiTest {
         String apiKey = "testApiKey";
 
         String textResponse = "success";
-        when(interzoidApiMock.doCloudConnectRequest(anyMap())).thenReturn(textResponse);
+        when(interzoidApiMock.doCloudConnectRequest(anyMap(), eq(WorkloadPolicy.DEFAULT))).thenReturn(textResponse);
 
         CloudWorkloadRequest request = new CloudWorkloadRequest(
                 apiKey,
@@ -0,0 +1,117 @@
+package com.interzoid.sdk.api;
+
+import com.interzoid.sdk.api.exceptions.ClientErrorException;
+import com.interzoid.sdk.api.exceptions.UnexpectedResponseException;
+import com.interzoid.sdk.model.Category;
+import com.interzoid.sdk.model.CloudConnectResponse;
+import com.interzoid.sdk.model.CloudDatabaseJsonResponse;
+import com.interzoid.sdk.model.CloudWorkloadRequest;
+import com.interzoid.sdk.model.Process;
+import com.interzoid.sdk.model.Source;
+import com.interzoid.sdk.testing.FakeInterzoidServer;
+import com.interzoid.sdk.testing.LatencyDistribution;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CloudWorkloadTest {
+
+    private static CloudWorkloadRequest matchReport(boolean json) {
+        return new CloudWorkloadRequest("key", Process.MATCH_REPORT, Source.CSV, Category.COMPANY,
+                "https://example.com/companies.csv", "companies", "1", null, json, false);
+    }
+
+    private static CloudDatabaseMatchKeyReportApi api(FakeInterzoidServer server, WorkloadPolicy policy) {
+        return new CloudDatabaseMatchKeyReportApi.Builder()
+                .withConnectBaseUrl(server.getConnectBaseUrl())
+                .withWorkloadPolicy(policy)
+                .build();
+    }
+
+    @Test
+    public void startWorkload_readsReportAsItArrives() throws Exception {
+        try (FakeInterzoidServer server = new FakeInterzoidServer.Builder().withReportSize(50, 4).build().start()) {
+            CloudWorkload<Long> workload = api(server, WorkloadPolicy.DEFAULT).startWorkload(matchReport(false), (body, charset) ->
+                    new BufferedReader(new InputStreamReader(body, charset)).lines().filter(line -> !line.isEmpty()).count());
+
+            assertEquals(50 * 4, workload.await(Duration.ofSeconds(10)));
+            assertTrue(workload.isDone());
+            assertFalse(workload.isCancelled());
+            assertTrue(workload.getBytesReceived() > 50 * 4);
+        }
+    }
+
+    @Test
+    public void startWorkload_parsesJsonReport() throws Exception {
+        try (FakeInterzoidServer server = new FakeInterzoidServer.Builder().withReportSize(3, 2).build().start()) {
+            CloudConnectResponse response = api(server, WorkloadPolicy.DEFAULT).startWorkload(matchReport(true)).await();
+
+            assertEquals(3, ((CloudDatabaseJsonResponse) response).getMatchClusters().size());
+        }
+    }
+
+    @Test
+    public void doRequest_waitsLongerThanTheReadTimeout() throws Exception {
+        try (FakeInterzoidServer server = new FakeInterzoidServer.Builder()
+                .withLatency(LatencyDistribution.fixed(Duration.ofMillis(1500))).build().start()) {
+            CloudDatabaseMatchKeyReportApi api = new CloudDatabaseMatchKeyReportApi.Builder()
+                    .withConnectBaseUrl(server.getConnectBaseUrl())
+                    .withClient(new OkHttpClient.Builder().readTimeout(Duration.ofMillis(500)).build())
+                    .build();
+
+            assertTrue(api.doRequest(matchReport(true)) instanceof CloudDatabaseJsonResponse);
+        }
+    }
+
+    @Test
+    public void workloadFailsAfterItsTimeout() throws Exception {
+        try (FakeInterzoidServer server = new FakeInterzoidServer.Builder()
+                .withLatency(LatencyDistribution.fixed(Duration.ofSeconds(10))).build().start()) {
+            WorkloadPolicy policy = new WorkloadPolicy.Builder().withTimeout(Duration.ofMillis(200)).build();
+            CloudWorkload<CloudConnectResponse> workload = api(server, policy).startWorkload(matchReport(true));
+
+            UnexpectedResponseException e = assertThrows(UnexpectedResponseException.class, workload::await);
+            assertTrue(e.getMessage().startsWith("Workload did not complete within"));
+            assertTrue(e.getCause() instanceof TimeoutException);
+        }
+    }
+
+    @Test
+    public void cancel_stopsWaitingForTheReport() throws Exception {
+        try (FakeInterzoidServer server = new FakeInterzoidServer.Builder()
+                .withLatency(LatencyDistribution.fixed(Duration.ofSeconds(10))).build().start()) {
+            CloudWorkload<CloudConnectResponse> workload = api(server, WorkloadPolicy.DEFAULT).startWorkload(matchReport(true));
+
+            assertThrows(TimeoutException.class, () -> workload.await(Duration.ofMillis(100)));
+            assertTrue(workload.cancel());
+
+            assertTrue(workload.isCancelled());
+            assertThrows(CancellationException.class, workload::await);
+        }
+    }
+
+    @Test
+    public void errorsOfTheRequestAndTheReaderFailTheWorkload() throws Exception {
+        try (FakeInterzoidServer failing = new FakeInterzoidServer.Builder().withErrorRate(400, 1).build().start();
+             FakeInterzoidServer server = new FakeInterzoidServer.Builder().build().start()) {
+            CloudWorkload<CloudConnectResponse> failed = api(failing, WorkloadPolicy.DEFAULT).startWorkload(matchReport(true));
+            assertTrue(assertThrows(UnexpectedResponseException.class, failed::await).getCause() instanceof ClientErrorException);
+
+            CloudWorkload<Object> workload = api(server, WorkloadPolicy.DEFAULT).startWorkload(matchReport(false), (body, charset) -> {
+                throw new IOException("Invalid report");
+            });
+            assertEquals("Invalid report", assertThrows(IOException.class, workload::await).getMessage());
+        }
+    }
+}
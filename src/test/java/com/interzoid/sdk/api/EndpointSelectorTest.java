@@ -0,0 +1,92 @@
+package com.interzoid.sdk.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EndpointSelectorTest {
+    private static final long MILLIS = 1_000_000;
+
+    @Test
+    public void select_returnsOnlyEndpoint() {
+        EndpointSelector selector = new EndpointSelector(Collections.singletonList("https://api.interzoid.com"));
+
+        assertEquals("https://api.interzoid.com/", selector.select().getBaseUrl());
+        assertNull(selector.select(EndpointSelector.tried(0, selector.select())));
+    }
+
+    @Test
+    public void select_triesUnmeasuredEndpointsInOrder() {
+        EndpointSelector selector = new EndpointSelector(Arrays.asList("https://a.example/", "https://b.example/"));
+        List<EndpointSelector.Endpoint> endpoints = selector.getEndpoints();
+
+        assertSame(endpoints.get(0), selector.select());
+        assertSame(endpoints.get(1), selector.select());
+    }
+
+    @Test
+    public void select_prefersLowerLatency() {
+        EndpointSelector selector = new EndpointSelector(Arrays.asList("https://a.example/", "https://b.example/"));
+        EndpointSelector.Endpoint a = selector.getEndpoints().get(0);
+        EndpointSelector.Endpoint b = selector.getEndpoints().get(1);
+
+        selector.recordResponse(a, 50 * MILLIS, 200);
+        selector.recordResponse(b, 10 * MILLIS, 200);
+
+        assertSame(b, selector.select());
+        assertEquals(10 * MILLIS, b.getLatencyNanos(), 1);
+    }
+
+    @Test
+    public void select_avoidsUnhealthyEndpoint() {
+        EndpointSelector selector = new EndpointSelector(Arrays.asList("https://a.example/", "https://b.example/"));
+        EndpointSelector.Endpoint a = selector.getEndpoints().get(0);
+        EndpointSelector.Endpoint b = selector.getEndpoints().get(1);
+
+        selector.recordResponse(a, 50 * MILLIS, 200);
+        for (int i = 0; i < 10; i++) {
+            selector.recordResponse(b, 10 * MILLIS, 503);
+        }
+
+        assertTrue(b.getHealth() < 0.2);
+        assertSame(a, selector.select());
+    }
+
+    @Test
+    public void select_skipsEndpointFailingToConnect() {
+        EndpointSelector selector = new EndpointSelector(Arrays.asList("https://a.example/", "https://b.example/"));
+        EndpointSelector.Endpoint a = selector.getEndpoints().get(0);
+        EndpointSelector.Endpoint b = selector.getEndpoints().get(1);
+
+        selector.recordResponse(a, 50 * MILLIS, 200);
+        selector.recordResponse(b, 10 * MILLIS, 200);
+        selector.recordFailure(b, MILLIS, true);
+
+        assertSame(a, selector.select());
+        assertSame(b, selector.select(EndpointSelector.tried(0, a)), "penalized endpoints remain a last resort");
+        assertNull(selector.select(EndpointSelector.tried(EndpointSelector.tried(0, a), b)));
+    }
+
+    @Test
+    public void isConnectFailure_detectsFailuresBeforeTheRequestIsSent() {
+        assertTrue(EndpointSelector.isConnectFailure(new ConnectException("Connection refused")));
+        assertTrue(EndpointSelector.isConnectFailure(new IOException(new UnknownHostException("a.example"))));
+        assertTrue(EndpointSelector.isConnectFailure(new SocketTimeoutException("connect timed out")));
+        assertTrue(EndpointSelector.isConnectFailure(new SocketTimeoutException("Connect timed out")));
+        assertFalse(EndpointSelector.isConnectFailure(new SocketTimeoutException("timeout")));
+        assertFalse(EndpointSelector.isConnectFailure(new IOException("unexpected end of stream")));
+    }
+
+    @Test
+    public void constructor_rejectsEmptyList() {
+        assertThrows(IllegalArgumentException.class, () -> new EndpointSelector(Collections.emptyList()));
+    }
+}
@@ -0,0 +1,78 @@
+package com.interzoid.sdk.api;
+
+import com.interzoid.sdk.model.CloudDatabaseFileResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FileReportReaderTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    public void read_writesReportWithSizeAndChecksum() throws Exception {
+        byte[] report = new byte[3 * 1024 * 1024 + 17];
+        new Random(1).nextBytes(report);
+        Path path = directory.resolve("report.txt");
+
+        CloudDatabaseFileResponse response = ReportReader.toFile(path).read(new ByteArrayInputStream(report), StandardCharsets.UTF_8);
+
+        assertEquals(path.toAbsolutePath(), response.getPath());
+        assertEquals(report.length, response.getSize());
+        assertArrayEquals(report, Files.readAllBytes(path));
+        assertEquals(sha256(report), response.getSha256());
+    }
+
+    @Test
+    public void read_replacesExistingFileOnceComplete() throws Exception {
+        Path path = Files.writeString(directory.resolve("report.txt"), "previous report");
+
+        CloudDatabaseFileResponse response = ReportReader.toFile(path)
+                .read(new ByteArrayInputStream(new byte[0]), StandardCharsets.UTF_8);
+
+        assertEquals(0, response.getSize());
+        assertEquals(0, Files.size(path));
+        assertEquals("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855", response.getSha256());
+    }
+
+    @Test
+    public void read_keepsExistingFileAndRemovesPartialFileOnFailure() throws Exception {
+        Path path = Files.writeString(directory.resolve("report.txt"), "previous report");
+        InputStream failing = new SequenceInputStream(new ByteArrayInputStream("Data\tSimKey\n".getBytes(StandardCharsets.UTF_8)),
+                new InputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        throw new IOException("Connection reset");
+                    }
+                });
+
+        assertThrows(IOException.class, () -> ReportReader.toFile(path).read(failing, StandardCharsets.UTF_8));
+
+        assertEquals("previous report", Files.readString(path));
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    private static String sha256(byte[] bytes) throws Exception {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : MessageDigest.getInstance("SHA-256").digest(bytes)) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+}
@@ -1,5 +1,6 @@
 package com.interzoid.sdk.api;
 
+import com.interzoid.sdk.api.exceptions.UnexpectedResponseException;
 import com.interzoid.sdk.api.exceptions.ValidationException;
 import com.interzoid.sdk.model.FullNameMatchKeyRequest;
 import com.interzoid.sdk.model.MatchKeyResponse;
@@ -9,6 +10,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyMap;
@@ -43,6 +46,50 @@ public class FullNameMatchKeyApiTest {
         assertEquals("12345", response.getSimKey());
     }
 
+    @Test
+    public void testSuccessfulAsyncRequest() throws Exception {
+        String jsonResponse = "{\"SimKey\": \"12345\", \"Code\": \"Success\", \"Credits\": \"9999\"}";
+        when(interzoidApiMock.doApiGetRequestAsync(anyString(), anyString(), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture(jsonResponse));
+
+        FullNameMatchKeyRequest request = new FullNameMatchKeyRequest("testApiKey", "John Doe");
+
+        MatchKeyResponse response = fullNameMatchKeyApi.doRequestAsync(request).get();
+
+        assertNotNull(response);
+        assertEquals("12345", response.getSimKey());
+    }
+
+    @Test
+    public void testAsyncRequest_NullBody() {
+        when(interzoidApiMock.doApiGetRequestAsync(anyString(), anyString(), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture("null"));
+
+        FullNameMatchKeyRequest request = new FullNameMatchKeyRequest("testApiKey", "John Doe");
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> fullNameMatchKeyApi.doRequestAsync(request).get());
+        assertInstanceOf(UnexpectedResponseException.class, e.getCause());
+    }
+
+    @Test
+    public void testAsyncRequest_MalformedBody() {
+        when(interzoidApiMock.doApiGetRequestAsync(anyString(), anyString(), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture("{\"SimKey\": "));
+
+        FullNameMatchKeyRequest request = new FullNameMatchKeyRequest("testApiKey", "John Doe");
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> fullNameMatchKeyApi.doRequestAsync(request).get());
+        assertInstanceOf(UnexpectedResponseException.class, e.getCause());
+        assertNotNull(e.getCause().getCause());
+    }
+
+    @Test
+    public void testFailedValidation_AsyncRequest() {
+        FullNameMatchKeyRequest invalidRequest = new FullNameMatchKeyRequest("testApiKey", "");
+
+        assertThrows(ValidationException.class, () -> fullNameMatchKeyApi.doRequestAsync(invalidRequest));
+    }
+
     @Test
     public void testFailedValidation_MissingApiKey() {
         FullNameMatchKeyRequest invalidRequest = new FullNameMatchKeyRequest(
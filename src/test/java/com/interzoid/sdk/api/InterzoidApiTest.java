@@ -1,12 +1,41 @@
 package com.interzoid.sdk.api;
 
+import com.interzoid.sdk.api.exceptions.ClientErrorException;
+import com.interzoid.sdk.api.exceptions.UnexpectedResponseException;
+import com.interzoid.sdk.metrics.InterzoidMetrics;
+import com.interzoid.sdk.metrics.MetricsRecorder;
+import com.interzoid.sdk.metrics.RequestOutcome;
+import com.interzoid.sdk.metrics.ResourceMetrics;
+import com.interzoid.sdk.model.InterzoidResponse;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import okhttp3.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class InterzoidApiTest {
@@ -33,10 +62,189 @@ public class InterzoidApiTest {
         when(response.code()).thenReturn(200);
         when(response.isSuccessful()).thenReturn(true);
         when(headers.size()).thenReturn(0);
-        when(responseBody.string()).thenReturn("OK");
+        when(responseBody.bytes()).thenReturn("OK".getBytes(StandardCharsets.UTF_8));
 
         String resp = interzoidApi.doApiGetRequest("apikey", "resource", null);
 
         assertEquals("OK", resp);
     }
+
+    @Test
+    public void buildUri_encodesQueryParameters() {
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("company", "AT&T Inc.");
+        params.put("algorithm", "wide");
+
+        assertEquals("https://api.interzoid.com/getcompanymatchadvanced?company=AT%26T%20Inc.&algorithm=wide",
+                InterzoidApi.buildUri("https://api.interzoid.com/getcompanymatchadvanced", params).toString());
+    }
+
+    @Test
+    public void sendGet_mapsClientError() throws Exception {
+        Transport transport = Mockito.mock(Transport.class);
+        when(transport.get(any(), any())).thenReturn(new TransportResponse(403, "forbidden"));
+
+        UnexpectedResponseException exception = assertThrows(UnexpectedResponseException.class,
+                () -> new InterzoidApi(transport).doApiGetRequest("apikey", "resource", null));
+
+        assertInstanceOf(ClientErrorException.class, exception.getCause());
+    }
+
+    @Test
+    public void sendGetAsync_mapsTransportFailure() {
+        Transport transport = Mockito.mock(Transport.class);
+        when(transport.getAsync(any(), any())).thenReturn(CompletableFuture.failedFuture(new IOException("reset")));
+
+        CompletableFuture<String> future = new InterzoidApi(transport).doApiGetRequestAsync("apikey", "resource", null);
+
+        ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(UnexpectedResponseException.class, exception.getCause());
+    }
+
+    @Test
+    public void warmUp_callsApiAndConnectHosts() {
+        Transport transport = Mockito.mock(Transport.class);
+        when(transport.getAsync(any(), any())).thenReturn(CompletableFuture.completedFuture(new TransportResponse(401, "Missing apikey")));
+
+        WarmUpReport report = new InterzoidApi(transport).warmUp(3);
+
+        Mockito.verify(transport, Mockito.times(3)).getAsync(Mockito.eq(URI.create("https://api.interzoid.com/getremainingcredits")), any());
+        Mockito.verify(transport).getAsync(Mockito.eq(URI.create("https://connect.interzoid.com/")), any());
+        assertEquals(4, report.getRequestTimes().size());
+    }
+
+    @Test
+    public void warmUp_reportsFailedCalls() {
+        Transport transport = Mockito.mock(Transport.class);
+        when(transport.getAsync(any(), any())).thenReturn(CompletableFuture.failedFuture(new IOException("refused")));
+
+        WarmUpReport report = new InterzoidApi(transport).warmUp(2);
+
+        assertFalse(report.isSuccessful());
+        assertTrue(report.getRequestTimes().isEmpty());
+        assertTrue(report.getFailures().stream().anyMatch(e -> e.getMessage().equals("refused")));
+    }
+
+    @Test
+    public void sendGet_recordsMetricsPerResource() throws Exception {
+        Transport transport = Mockito.mock(Transport.class);
+        when(transport.get(any(), any()))
+                .thenReturn(new TransportResponse(200, "{\"Code\":\"Success\"}", 18))
+                .thenReturn(new TransportResponse(500, "unavailable", 11));
+        InterzoidMetrics metrics = new InterzoidMetrics();
+        InterzoidApi api = new InterzoidApi(transport, metrics);
+
+        api.doApiGetRequest("apikey", "getfullnamematch", null);
+        assertThrows(UnexpectedResponseException.class, () -> api.doApiGetRequest("apikey", "getfullnamematch", null));
+
+        ResourceMetrics resource = metrics.getResourceMetrics("getfullnamematch");
+        assertEquals(2, resource.getRequestCount());
+        assertEquals(1, resource.getCount(RequestOutcome.SUCCESS));
+        assertEquals(1, resource.getCount(RequestOutcome.SERVER_ERROR));
+        assertEquals(29, resource.getBytesReceived());
+        assertEquals(0, resource.getInFlight());
+        assertEquals(2, resource.getLatency().getCount());
+    }
+
+    @Test
+    public void sendGetAsync_recordsInFlightAndFailures() {
+        Transport transport = Mockito.mock(Transport.class);
+        CompletableFuture<TransportResponse> pending = new CompletableFuture<>();
+        when(transport.getAsync(any(), any())).thenReturn(pending);
+        InterzoidMetrics metrics = new InterzoidMetrics();
+
+        CompletableFuture<String> future = new InterzoidApi(transport, metrics).doApiGetRequestAsync("apikey", "getorgmatchscore", null);
+
+        ResourceMetrics resource = metrics.getResourceMetrics("getorgmatchscore");
+        assertEquals(1, resource.getInFlight());
+        pending.completeExceptionally(new IOException("reset"));
+        assertTrue(future.isCompletedExceptionally());
+        assertEquals(0, resource.getInFlight());
+        assertEquals(1, resource.getCount(RequestOutcome.UNEXPECTED_RESPONSE));
+    }
+
+    @Test
+    public void sendGet_emitsFlightRecorderEvent() throws Exception {
+        Transport transport = Mockito.mock(Transport.class);
+        when(transport.get(any(), any())).thenReturn(new TransportResponse(200, "{}", 2));
+        Path file = Files.createTempFile("interzoid", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.interzoid.sdk.Request").withThreshold(Duration.ZERO);
+            recording.start();
+            new InterzoidApi(transport).doApiGetRequest("apikey", "getfullnamematch", null);
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertEquals(1, events.size());
+            RecordedEvent event = events.get(0);
+            assertEquals("getfullnamematch", event.getString("resource"));
+            assertEquals(200, event.getInt("statusCode"));
+            assertEquals(2, event.getLong("bytesReceived"));
+            assertEquals("SUCCESS", event.getString("outcome"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void recordCredits_reportsNumericCredits() {
+        InterzoidMetrics metrics = new InterzoidMetrics();
+        InterzoidApi api = new InterzoidApi(Mockito.mock(Transport.class), metrics);
+        InterzoidResponse response = new InterzoidResponse();
+
+        response.setCredits("n/a");
+        api.recordCredits(response);
+        assertEquals(-1, metrics.getCreditsRemaining());
+
+        response.setCredits("12345");
+        api.recordCredits(response);
+        assertEquals(12345, metrics.getCreditsRemaining());
+    }
+
+    @Test
+    public void sendGet_failsOverOnConnectError() throws Exception {
+        Transport transport = Mockito.mock(Transport.class);
+        when(transport.get(any(), any())).thenAnswer(invocation -> {
+            URI uri = invocation.getArgument(0);
+            if (uri.getHost().equals("down.example")) {
+                throw new ConnectException("Connection refused");
+            }
+            return new TransportResponse(200, "OK");
+        });
+        InterzoidApi api = new InterzoidApi(transport, MetricsRecorder.NOOP,
+                Arrays.asList("https://down.example/", "https://up.example/"), Collections.singletonList(InterzoidApi.CONNECT_BASE_URL));
+
+        assertEquals("OK", api.doApiGetRequest("apikey", "getfullnamematch", null));
+        assertEquals("OK", api.doApiGetRequest("apikey", "getfullnamematch", null));
+
+        verify(transport, times(1)).get(eq(URI.create("https://down.example/getfullnamematch")), any());
+        verify(transport, times(2)).get(eq(URI.create("https://up.example/getfullnamematch")), any());
+    }
+
+    @Test
+    public void sendGetAsync_failsOverOnConnectError() throws Exception {
+        Transport transport = Mockito.mock(Transport.class);
+        when(transport.getAsync(any(), any())).thenAnswer(invocation -> {
+            URI uri = invocation.getArgument(0);
+            return uri.getHost().equals("down.example")
+                    ? CompletableFuture.failedFuture(new ConnectException("Connection refused"))
+                    : CompletableFuture.completedFuture(new TransportResponse(200, "OK"));
+        });
+        InterzoidApi api = new InterzoidApi(transport, MetricsRecorder.NOOP,
+                Arrays.asList("https://down.example/", "https://up.example/"), Collections.singletonList(InterzoidApi.CONNECT_BASE_URL));
+
+        assertEquals("OK", api.doApiGetRequestAsync("apikey", "getfullnamematch", null).get());
+    }
+
+    @Test
+    public void sendGet_doesNotFailOverOnceRequestWasSent() throws Exception {
+        Transport transport = Mockito.mock(Transport.class);
+        when(transport.get(any(), any())).thenThrow(new SocketTimeoutException("timeout"));
+        InterzoidApi api = new InterzoidApi(transport, MetricsRecorder.NOOP,
+                Arrays.asList("https://a.example/", "https://b.example/"), Collections.singletonList(InterzoidApi.CONNECT_BASE_URL));
+
+        assertThrows(UnexpectedResponseException.class, () -> api.doApiGetRequest("apikey", "getfullnamematch", null));
+        verify(transport, times(1)).get(any(), any());
+    }
 }
@@ -0,0 +1,104 @@
+package com.interzoid.sdk.api;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+public class JdkHttpTransportTest {
+    private static final URI URI_ = URI.create("http://127.0.0.1/connect");
+
+    private final AtomicBoolean exchangeCancelled = new AtomicBoolean();
+    /**
+     * An exchange that goes on when cancelled, as the exchanges of the JDK client before JDK 16, so that its response may
+     * arrive after the cancellation.
+     */
+    private final CompletableFuture<HttpResponse<Object>> exchange = new CompletableFuture<>() {
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            exchangeCancelled.set(true);
+            return false;
+        }
+    };
+    private final AtomicBoolean bodyClosed = new AtomicBoolean();
+    private JdkHttpTransport transport;
+
+    @BeforeEach
+    public void setUp() {
+        HttpClient client = Mockito.mock(HttpClient.class);
+        when(client.sendAsync(any(), any())).thenAnswer(invocation -> exchange);
+        transport = new JdkHttpTransport(client);
+    }
+
+    @Test
+    public void getStreamingAsync_cancelsTheExchangeWhenCancelled() {
+        CompletableFuture<StreamingResponse> response = transport.getStreamingAsync(URI_, Map.of(), WorkloadPolicy.DEFAULT);
+
+        response.cancel(true);
+
+        assertTrue(exchangeCancelled.get());
+    }
+
+    @Test
+    public void getStreamingAsync_closesTheBodyOfAResponseArrivingAfterCancellation() {
+        CompletableFuture<StreamingResponse> response = transport.getStreamingAsync(URI_, Map.of(), WorkloadPolicy.DEFAULT);
+        response.cancel(true);
+
+        exchange.complete(response(body()));
+
+        assertTrue(exchangeCancelled.get());
+        assertTrue(bodyClosed.get());
+    }
+
+    @Test
+    public void getStreamingAsync_handsOverTheBodyOfAResponse() throws Exception {
+        CompletableFuture<StreamingResponse> response = transport.getStreamingAsync(URI_, Map.of(), WorkloadPolicy.DEFAULT);
+
+        exchange.complete(response(body()));
+
+        assertEquals(200, response.get().getCode());
+        assertFalse(bodyClosed.get());
+        assertFalse(exchangeCancelled.get());
+    }
+
+    @Test
+    public void getAsync_cancelsTheExchangeWhenCancelled() {
+        transport.getAsync(URI_, Map.of()).cancel(true);
+
+        assertTrue(exchangeCancelled.get());
+    }
+
+    private InputStream body() {
+        return new ByteArrayInputStream("report".getBytes()) {
+            @Override
+            public void close() {
+                bodyClosed.set(true);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static HttpResponse<Object> response(InputStream body) {
+        HttpResponse<Object> response = Mockito.mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(200);
+        when(response.headers()).thenReturn(HttpHeaders.of(Map.of("Content-Type", List.of("text/plain")), (name, value) -> true));
+        when(response.body()).thenReturn(body);
+        return response;
+    }
+}
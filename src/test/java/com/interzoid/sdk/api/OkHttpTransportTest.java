@@ -0,0 +1,147 @@
+package com.interzoid.sdk.api;
+
+import com.interzoid.sdk.metrics.CallPhase;
+import com.interzoid.sdk.metrics.CallTimings;
+import com.interzoid.sdk.metrics.InterzoidMetrics;
+import com.interzoid.sdk.metrics.PoolStats;
+import com.interzoid.sdk.metrics.ResourceMetrics;
+import com.sun.net.httpserver.HttpServer;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OkHttpTransportTest {
+    private HttpServer server;
+    private URI uri;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] body = "OK".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        uri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/getremainingcredits");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testDefaultsAllowConcurrencyAndPreferHttp2() {
+        OkHttpClient client = new OkHttpTransport().getClient();
+
+        assertEquals(OkHttpTransport.Builder.DEFAULT_MAX_CONCURRENT_REQUESTS, client.dispatcher().getMaxRequestsPerHost());
+        assertEquals(Protocol.HTTP_2, client.protocols().get(0));
+    }
+
+    @Test
+    public void testBuilderAppliesSettings() {
+        OkHttpClient client = new OkHttpTransport.Builder()
+                .withMaxConcurrentRequests(200)
+                .withProtocols(List.of(Protocol.HTTP_1_1))
+                .withConnectTimeout(Duration.ofSeconds(3))
+                .build()
+                .getClient();
+
+        assertEquals(200, client.dispatcher().getMaxRequestsPerHost());
+        assertTrue(client.dispatcher().getMaxRequests() >= 400);
+        assertEquals(List.of(Protocol.HTTP_1_1), client.protocols());
+        assertEquals(3000, client.connectTimeoutMillis());
+    }
+
+    @Test
+    public void testPoolStatsCountConnectionReuse() throws Exception {
+        OkHttpTransport transport = new OkHttpTransport.Builder()
+                .withConnectionPool(4, Duration.ofMinutes(1))
+                .build();
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(200, transport.get(uri, Map.of()).getCode());
+        }
+
+        PoolStats stats = transport.getPoolStats();
+        assertEquals(1, stats.getConnectionsOpened());
+        assertEquals(4, stats.getConnectionsAcquired());
+        assertEquals(0.75, stats.getReuseRatio(), 0.0001);
+        assertEquals(1, stats.getConnectionCount());
+        assertEquals(1, stats.getIdleConnectionCount());
+        assertEquals(0, stats.getActiveConnectionCount());
+    }
+
+    @Test
+    public void testPhaseTimingsAreRecordedPerResource() throws Exception {
+        InterzoidMetrics metrics = new InterzoidMetrics();
+        OkHttpTransport transport = new OkHttpTransport.Builder()
+                .withMetricsRecorder(metrics)
+                .build();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(200, transport.get(uri, Map.of()).getCode());
+        }
+
+        ResourceMetrics resource = metrics.getResourceMetrics("getremainingcredits");
+        assertEquals(1, resource.getPhaseLatency(CallPhase.CONNECT).getCount());
+        assertEquals(0, resource.getPhaseLatency(CallPhase.TLS).getCount());
+        assertEquals(3, resource.getPhaseLatency(CallPhase.TIME_TO_FIRST_BYTE).getCount());
+        assertEquals(3, resource.getPhaseLatency(CallPhase.BODY_READ).getCount());
+        assertEquals(1, transport.getPoolStats().getConnectionsOpened());
+        assertEquals(3, transport.getPoolStats().getConnectionsAcquired());
+    }
+
+    @Test
+    public void testSlowCallListenerReceivesBreakdown() throws Exception {
+        List<CallTimings> slowCalls = new CopyOnWriteArrayList<>();
+        OkHttpTransport transport = new OkHttpTransport.Builder()
+                .withSlowCallListener(Duration.ZERO, slowCalls::add)
+                .build();
+
+        transport.get(uri, Map.of());
+
+        assertEquals(1, slowCalls.size());
+        CallTimings timings = slowCalls.get(0);
+        assertEquals("getremainingcredits", timings.getResource());
+        assertEquals(200, timings.getResponseCode());
+        assertTrue(timings.hasPhase(CallPhase.CONNECT));
+        assertFalse(timings.hasPhase(CallPhase.TLS));
+        assertTrue(timings.getTotalNanos() >= timings.getNanos(CallPhase.TIME_TO_FIRST_BYTE));
+    }
+
+    @Test
+    public void testSlowCallListenerIgnoresFastCalls() throws Exception {
+        List<CallTimings> slowCalls = new CopyOnWriteArrayList<>();
+        OkHttpTransport transport = new OkHttpTransport.Builder()
+                .withSlowCallListener(Duration.ofMinutes(1), slowCalls::add)
+                .build();
+
+        transport.get(uri, Map.of());
+
+        assertTrue(slowCalls.isEmpty());
+    }
+
+    @Test
+    public void testInvalidSettingsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new OkHttpTransport.Builder().withMaxConcurrentRequests(0));
+        assertThrows(IllegalArgumentException.class, () -> new OkHttpTransport.Builder().withConnectionPool(-1, Duration.ZERO));
+    }
+}
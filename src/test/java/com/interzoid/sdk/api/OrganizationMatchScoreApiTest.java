@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyMap;
@@ -44,6 +45,20 @@ public class OrganizationMatchScoreApiTest {
         assertEquals("89", response.getScore());
     }
 
+    @Test
+    public void testSuccessfulAsyncRequest() throws Exception {
+        String jsonResponse = "{\"Score\": \"89\", \"Code\": \"Success\", \"Credits\": \"9999\"}";
+        when(interzoidApiMock.doApiGetRequestAsync(anyString(), anyString(), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture(jsonResponse));
+
+        OrganizationMatchScoreRequest request = new OrganizationMatchScoreRequest("testApiKey", "Apple", "Apple Inc.");
+
+        MatchScoreResponse response = organizationMatchScoreApi.doRequestAsync(request).get();
+
+        assertNotNull(response);
+        assertEquals("89", response.getScore());
+    }
+
     @Test
     public void testFailedValidation_MissingApiKey() {
         OrganizationMatchScoreRequest invalidRequest = new OrganizationMatchScoreRequest(
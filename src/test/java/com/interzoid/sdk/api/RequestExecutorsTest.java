@@ -0,0 +1,32 @@
+package com.interzoid.sdk.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequestExecutorsTest {
+
+    @Test
+    public void testRequestExecutorRunsTasks() throws Exception {
+        ExecutorService executor = RequestExecutors.newRequestExecutor();
+        try {
+            Thread thread = executor.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+            assertTrue(thread.getName().startsWith("Interzoid Dispatcher"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testPlatformExecutorUsesDaemonThreads() throws Exception {
+        ExecutorService executor = RequestExecutors.newPlatformExecutor();
+        try {
+            assertTrue(executor.submit(() -> Thread.currentThread().isDaemon()).get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
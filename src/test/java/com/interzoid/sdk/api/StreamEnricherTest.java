@@ -0,0 +1,95 @@
+package com.interzoid.sdk.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StreamEnricherTest {
+
+    @Test
+    public void testPreservesEncounterOrder() {
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        Stream<Enriched<Integer, String>> enriched = StreamEnricher.enrich(Stream.of(1, 2, 3), 3, i -> {
+            CompletableFuture<String> future = new CompletableFuture<>();
+            futures.add(future);
+            if (i == 3) {
+                // complete all outstanding calls in reverse order
+                for (int j = futures.size() - 1; j >= 0; j--) {
+                    futures.get(j).complete("key-" + (j + 1));
+                }
+            }
+            return future;
+        });
+
+        List<String> results = enriched.map(Enriched::getResult).collect(Collectors.toList());
+
+        assertEquals(List.of("key-1", "key-2", "key-3"), results);
+    }
+
+    @Test
+    public void testBoundsCallsInFlight() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxObserved = new AtomicInteger();
+
+        List<Enriched<Integer, Integer>> results = StreamEnricher.enrich(IntStream.range(0, 100).boxed(), 4, i -> {
+            maxObserved.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return CompletableFuture.supplyAsync(() -> i, CompletableFuture.delayedExecutor(1, TimeUnit.MILLISECONDS));
+        }).peek(e -> inFlight.decrementAndGet()).collect(Collectors.toList());
+
+        assertEquals(100, results.size());
+        assertEquals(4, maxObserved.get());
+        assertEquals(IntStream.range(0, 100).boxed().collect(Collectors.toList()),
+                results.stream().map(Enriched::getResult).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testCapturesFailures() {
+        List<Enriched<String, String>> results = StreamEnricher.<String, String>enrich(Stream.of("ok", "fail", "throw"), 2, s -> {
+            if (s.equals("fail")) {
+                return CompletableFuture.failedFuture(new IOException("failed"));
+            }
+            if (s.equals("throw")) {
+                throw new IllegalArgumentException("invalid");
+            }
+            return CompletableFuture.completedFuture(s.toUpperCase());
+        }).collect(Collectors.toList());
+
+        assertTrue(results.get(0).isSuccess());
+        assertEquals("OK", results.get(0).getResult());
+        assertFalse(results.get(1).isSuccess());
+        assertInstanceOf(IOException.class, results.get(1).getError());
+        assertInstanceOf(IllegalArgumentException.class, results.get(2).getError());
+    }
+
+    @Test
+    public void testCloseCancelsOutstandingCalls() {
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        Stream<Enriched<Integer, String>> enriched = StreamEnricher.enrich(Stream.of(1, 2, 3), 3, i -> {
+            CompletableFuture<String> future = i == 1 ? CompletableFuture.completedFuture("first") : new CompletableFuture<>();
+            futures.add(future);
+            return future;
+        });
+
+        assertEquals("first", enriched.findFirst().map(Enriched::getResult).orElse(null));
+        enriched.close();
+
+        assertTrue(futures.get(1).isCancelled());
+        assertTrue(futures.get(2).isCancelled());
+    }
+
+    @Test
+    public void testRejectsInvalidWindow() {
+        assertThrows(IllegalArgumentException.class,
+                () -> StreamEnricher.enrich(Stream.of(1), 0, i -> CompletableFuture.completedFuture(i)));
+    }
+}
@@ -0,0 +1,42 @@
+package com.interzoid.sdk.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+public class StreamingResponseTest {
+    private static byte[] body(int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+
+    @Test
+    public void readAllBytes_readsBodiesOfTheirContentLength() throws Exception {
+        for (int length : new int[]{0, 1, 8192, StreamingResponse.MAX_PRESIZED_LENGTH, 3 * StreamingResponse.MAX_PRESIZED_LENGTH + 17}) {
+            byte[] body = body(length);
+
+            assertArrayEquals(body, StreamingResponse.readAllBytes(new ByteArrayInputStream(body), length));
+        }
+    }
+
+    @Test
+    public void readAllBytes_readsBodiesShorterOrLongerThanTheirContentLength() throws Exception {
+        byte[] body = body(10_000);
+
+        assertArrayEquals(body, StreamingResponse.readAllBytes(new ByteArrayInputStream(body), 20_000));
+        assertArrayEquals(body, StreamingResponse.readAllBytes(new ByteArrayInputStream(body), 100));
+        assertArrayEquals(body, StreamingResponse.readAllBytes(new ByteArrayInputStream(body), -1));
+    }
+
+    @Test
+    public void readAllBytes_doesNotTrustAHugeContentLength() throws Exception {
+        byte[] body = body(100);
+
+        assertArrayEquals(body, StreamingResponse.readAllBytes(new ByteArrayInputStream(body), Integer.MAX_VALUE));
+        assertArrayEquals(body, StreamingResponse.readAllBytes(new ByteArrayInputStream(body), Long.MAX_VALUE));
+    }
+}
@@ -3,11 +3,19 @@ package com.interzoid.sdk.api;
 import com.interzoid.sdk.model.*;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
+import com.interzoid.sdk.testing.FakeInterzoidServer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.Mockito.when;
 
@@ -43,4 +51,22 @@ public class TextFileMatchKeyReportApiTest {
         CloudDatabaseStringResponse response = (CloudDatabaseStringResponse) textFileMatchKeyReportApi.doRequest(request);
         assertEquals("success", response.getMessage());
     }
+
+    @Test
+    public void testDownloadReport(@TempDir Path directory) throws Exception {
+        try (FakeInterzoidServer server = new FakeInterzoidServer.Builder().withReportSize(200, 3).build().start()) {
+            TextFileMatchKeyReportApi api = new TextFileMatchKeyReportApi.Builder()
+                    .withConnectBaseUrl(server.getConnectBaseUrl())
+                    .build();
+            TextFileMatchRequest request = new TextFileMatchRequest("testApiKey", Source.CSV, Category.COMPANY,
+                    "https://dl.interzoid.com/csv/companies.csv", 1, ResponseType.TXT);
+
+            CloudDatabaseFileResponse response = api.downloadReport(request, directory.resolve("report.txt"));
+
+            List<String> lines = Files.readAllLines(response.getPath(), StandardCharsets.UTF_8);
+            assertEquals(Files.size(response.getPath()), response.getSize());
+            assertEquals(200 * 3, lines.stream().filter(line -> !line.isEmpty()).count());
+            assertTrue(lines.get(0).contains("\t"));
+        }
+    }
 }
@@ -0,0 +1,160 @@
+package com.interzoid.sdk.api;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TransportTest {
+    private static HttpServer server;
+    private static String baseUrl;
+    private static volatile CountDownLatch streamReleased;
+
+    @BeforeAll
+    public static void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/echo", exchange -> {
+            String apiKey = exchange.getRequestHeaders().getFirst("x-api-key");
+            byte[] body = (exchange.getRequestURI().getRawQuery() + "|" + apiKey).getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext("/missing", exchange -> {
+            byte[] body = "not found".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(404, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext("/stream", exchange -> {
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write("first\n".getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                if (streamReleased.await(10, TimeUnit.SECONDS)) {
+                    out.write("second\n".getBytes(StandardCharsets.UTF_8));
+                }
+            } catch (InterruptedException | IOException e) {
+                // the client aborted the exchange
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+
+    @AfterAll
+    public static void stopServer() {
+        server.stop(0);
+        ((ExecutorService) server.getExecutor()).shutdownNow();
+    }
+
+    static Stream<Arguments> transports() {
+        return Stream.of(
+                Arguments.of(new OkHttpTransport()),
+                Arguments.of(new JdkHttpTransport())
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("transports")
+    public void testGet(Transport transport) throws Exception {
+        URI uri = InterzoidApi.buildUri(baseUrl + "echo", Map.of("fullname", "John Smith"));
+
+        TransportResponse response = transport.get(uri, Map.of("x-api-key", "key"));
+
+        assertEquals(200, response.getCode());
+        assertEquals("fullname=John%20Smith|key", response.getBody());
+    }
+
+    @ParameterizedTest
+    @MethodSource("transports")
+    public void testGetAsync(Transport transport) throws Exception {
+        URI uri = InterzoidApi.buildUri(baseUrl + "echo", Map.of("org1", "A&B"));
+
+        TransportResponse response = transport.getAsync(uri, Map.of("x-api-key", "key")).get(10, TimeUnit.SECONDS);
+
+        assertEquals(200, response.getCode());
+        assertEquals("org1=A%26B|key", response.getBody());
+    }
+
+    @ParameterizedTest
+    @MethodSource("transports")
+    public void testUnsuccessfulResponseIsReturned(Transport transport) throws Exception {
+        TransportResponse response = transport.get(URI.create(baseUrl + "missing"), Map.of());
+
+        assertEquals(404, response.getCode());
+        assertEquals("not found", response.getBody());
+    }
+
+    @ParameterizedTest
+    @MethodSource("transports")
+    public void testGetStreamingAsyncReadsBodyAsItArrives(Transport transport) throws Exception {
+        streamReleased = new CountDownLatch(1);
+
+        try (StreamingResponse response = transport.getStreamingAsync(URI.create(baseUrl + "stream"), Map.of(), WorkloadPolicy.DEFAULT)
+                .get(10, TimeUnit.SECONDS)) {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(response.getBody(), response.getCharset()));
+
+            assertEquals(200, response.getCode());
+            assertEquals("first", reader.readLine());
+            streamReleased.countDown();
+            assertEquals("second", reader.readLine());
+            assertNull(reader.readLine());
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("transports")
+    public void testGetStreamingAsyncReadsBodyOfItsContentLength(Transport transport) throws Exception {
+        URI uri = InterzoidApi.buildUri(baseUrl + "echo", Map.of("table", "companies"));
+
+        try (StreamingResponse response = transport.getStreamingAsync(uri, Map.of("x-api-key", "key"), WorkloadPolicy.DEFAULT)
+                .get(10, TimeUnit.SECONDS)) {
+            byte[] body = StreamingResponse.readAllBytes(response.getBody(), response.getContentLength());
+
+            assertEquals(body.length, response.getContentLength());
+            assertEquals("table=companies|key", new String(body, response.getCharset()));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("transports")
+    public void testStreamingResponseAbortFailsPendingRead(Transport transport) throws Exception {
+        streamReleased = new CountDownLatch(1);
+
+        try (StreamingResponse response = transport.getStreamingAsync(URI.create(baseUrl + "stream"), Map.of(), WorkloadPolicy.DEFAULT)
+                .get(10, TimeUnit.SECONDS)) {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(response.getBody(), response.getCharset()));
+            assertEquals("first", reader.readLine());
+            CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS).execute(response::abort);
+
+            assertThrows(IOException.class, reader::readLine);
+        } finally {
+            streamReleased.countDown();
+        }
+    }
+}
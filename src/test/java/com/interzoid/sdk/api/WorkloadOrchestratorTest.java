@@ -0,0 +1,263 @@
+package com.interzoid.sdk.api;
+
+import com.interzoid.sdk.api.exceptions.ClientErrorException;
+import com.interzoid.sdk.api.exceptions.ServerErrorException;
+import com.interzoid.sdk.api.exceptions.UnexpectedResponseException;
+import com.interzoid.sdk.api.exceptions.ValidationException;
+import com.interzoid.sdk.model.Category;
+import com.interzoid.sdk.model.CloudConnectResponse;
+import com.interzoid.sdk.model.CloudDatabaseStringResponse;
+import com.interzoid.sdk.model.CloudWorkloadRequest;
+import com.interzoid.sdk.model.Process;
+import com.interzoid.sdk.model.Source;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.nio.file.NoSuchFileException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.when;
+
+public class WorkloadOrchestratorTest {
+    private final List<Call> calls = new CopyOnWriteArrayList<>();
+    private CloudDatabaseMatchKeyReportApi api;
+
+    /**
+     * A Cloud Connect request made by a workload, completed by the test.
+     */
+    private static final class Call {
+        final Map<String, String> params;
+        final CompletableFuture<StreamingResponse> response = new CompletableFuture<>();
+
+        Call(Map<String, String> params) {
+            this.params = params;
+        }
+
+        void succeed() {
+            response.complete(StreamingResponse.of(new TransportResponse(200, "report of " + params.get("table"))));
+        }
+
+        void fail(Throwable error) {
+            response.completeExceptionally(error);
+        }
+    }
+
+    @BeforeEach
+    public void setUp() {
+        InterzoidApi interzoidApi = Mockito.mock(InterzoidApi.class);
+        when(interzoidApi.doCloudConnectStreamingRequest(anyMap(), any())).thenAnswer(invocation -> {
+            Call call = new Call(invocation.getArgument(0));
+            calls.add(call);
+            return call.response;
+        });
+        api = new CloudDatabaseMatchKeyReportApi.Builder().withInterzoidApi(interzoidApi).build();
+    }
+
+    private static CloudWorkloadRequest request(Source source, String table) {
+        return new CloudWorkloadRequest("key", Process.MATCH_REPORT, source, Category.COMPANY, "connection", table, "name",
+                null, false, false);
+    }
+
+    private long running(Source source) {
+        return calls.stream().filter(call -> !call.response.isDone() && call.params.get("source").equals(source.getValue())).count();
+    }
+
+    private Call call(String table) {
+        return calls.stream().filter(call -> call.params.get("table").equals(table) && !call.response.isDone()).findFirst().orElseThrow();
+    }
+
+    @Test
+    public void run_capsConcurrencyPerSourceAndEmitsResultsAsTheyComplete() {
+        WorkloadOrchestrator orchestrator = new WorkloadOrchestrator.Builder()
+                .withMaxConcurrentWorkloads(Source.SNOWFLAKE, 3)
+                .build();
+        List<CloudWorkloadRequest> requests = List.of(request(Source.CSV, "c1"), request(Source.CSV, "c2"), request(Source.CSV, "c3"),
+                request(Source.SNOWFLAKE, "s1"), request(Source.SNOWFLAKE, "s2"), request(Source.SNOWFLAKE, "s3"),
+                request(Source.SNOWFLAKE, "s4"));
+
+        try (Stream<WorkloadResult<CloudConnectResponse>> results = orchestrator.run(api, requests)) {
+            Iterator<WorkloadResult<CloudConnectResponse>> iterator = results.iterator();
+            assertEquals(2, running(Source.CSV));
+            assertEquals(3, running(Source.SNOWFLAKE));
+
+            call("s2").succeed();
+            WorkloadResult<CloudConnectResponse> first = iterator.next();
+            assertEquals("s2", first.getRequest().getSourceTableName());
+            assertEquals("report of s2", ((CloudDatabaseStringResponse) first.getResult()).getMessage());
+            assertEquals(1, first.getAttempts());
+            assertEquals(3, running(Source.SNOWFLAKE));
+            assertEquals(2, running(Source.CSV));
+
+            call("c1").succeed();
+            assertEquals("c1", iterator.next().getRequest().getSourceTableName());
+            assertEquals(2, running(Source.CSV));
+            assertEquals(7, calls.size());
+
+            for (String table : List.of("c3", "s4", "c2", "s1", "s3")) {
+                call(table).succeed();
+                assertEquals(table, iterator.next().getRequest().getSourceTableName());
+            }
+            assertFalse(iterator.hasNext());
+        }
+    }
+
+    @Test
+    public void run_retriesServerErrorsButNotClientErrors() {
+        List<String> retried = new CopyOnWriteArrayList<>();
+        WorkloadOrchestrator orchestrator = new WorkloadOrchestrator.Builder()
+                .withRetryBackoff(Duration.ZERO)
+                .withListener(new WorkloadListener() {
+                    @Override
+                    public void workloadRetrying(CloudWorkloadRequest request, int attempt, Throwable error, Duration delay) {
+                        retried.add(request.getSourceTableName() + "#" + attempt);
+                    }
+                })
+                .build();
+
+        try (Stream<WorkloadResult<CloudConnectResponse>> results = orchestrator.run(api,
+                List.of(request(Source.CSV, "server"), request(Source.TSV, "client")))) {
+            Iterator<WorkloadResult<CloudConnectResponse>> iterator = results.iterator();
+
+            call("client").fail(new UnexpectedResponseException("Unexpected response", new ClientErrorException("Client error. StatusCode: 400")));
+            WorkloadResult<CloudConnectResponse> client = iterator.next();
+            assertEquals("client", client.getRequest().getSourceTableName());
+            assertTrue(client.getError().getCause() instanceof ClientErrorException);
+            assertEquals(1, client.getAttempts());
+
+            call("server").fail(new ServerErrorException("Server error. StatusCode: 503"));
+            while (running(Source.CSV) == 0) {
+                Thread.onSpinWait();
+            }
+            call("server").succeed();
+            WorkloadResult<CloudConnectResponse> server = iterator.next();
+            assertTrue(server.isSuccess());
+            assertEquals(2, server.getAttempts());
+            assertEquals(List.of("server#1"), retried);
+        }
+    }
+
+    @Test
+    public void run_failsWorkloadsAfterTheirLastAttempt() {
+        WorkloadOrchestrator orchestrator = new WorkloadOrchestrator.Builder()
+                .withMaxAttempts(2)
+                .withRetryBackoff(Duration.ofMillis(10))
+                .build();
+
+        try (Stream<WorkloadResult<CloudConnectResponse>> results = orchestrator.run(api, List.of(request(Source.CSV, "t")))) {
+            Iterator<WorkloadResult<CloudConnectResponse>> iterator = results.iterator();
+            call("t").fail(new ServerErrorException("Server error. StatusCode: 500"));
+            while (running(Source.CSV) == 0) {
+                Thread.onSpinWait();
+            }
+            call("t").fail(new ServerErrorException("Server error. StatusCode: 502"));
+
+            WorkloadResult<CloudConnectResponse> result = iterator.next();
+            assertEquals(2, result.getAttempts());
+            assertEquals("Server error. StatusCode: 502", result.getError().getMessage());
+        }
+    }
+
+    @Test
+    public void run_reportsInvalidRequestsWithoutStartingThem() {
+        WorkloadOrchestrator orchestrator = new WorkloadOrchestrator.Builder().build();
+        CloudWorkloadRequest invalid = new CloudWorkloadRequest("key", Process.MATCH_REPORT, Source.CSV, Category.COMPANY, "",
+                "t", "name", null, false, false);
+
+        List<WorkloadResult<CloudConnectResponse>> results = orchestrator.run(api, List.of(invalid)).collect(Collectors.toList());
+
+        assertEquals(1, results.size());
+        assertTrue(results.get(0).getError() instanceof ValidationException);
+        assertTrue(calls.isEmpty());
+    }
+
+    @Test
+    public void run_startsWorkloadsAfterManyFailingAsTheyStart() {
+        WorkloadOrchestrator orchestrator = new WorkloadOrchestrator.Builder().withMaxConcurrentWorkloads(1).build();
+        List<CloudWorkloadRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            requests.add(new CloudWorkloadRequest("key", Process.MATCH_REPORT, Source.CSV, Category.COMPANY, "",
+                    "t" + i, "name", null, false, false));
+        }
+        requests.add(request(Source.CSV, "valid"));
+
+        try (Stream<WorkloadResult<CloudConnectResponse>> results = orchestrator.run(api, requests)) {
+            Iterator<WorkloadResult<CloudConnectResponse>> iterator = results.iterator();
+            for (int i = 0; i < 50_000; i++) {
+                assertTrue(iterator.next().getError() instanceof ValidationException);
+            }
+            call("valid").succeed();
+            assertTrue(iterator.next().isSuccess());
+        }
+    }
+
+    @Test
+    public void run_failsWorkloadsStillWaitingOrRunningAtTheDeadline() {
+        AtomicInteger started = new AtomicInteger();
+        WorkloadOrchestrator orchestrator = new WorkloadOrchestrator.Builder()
+                .withMaxConcurrentWorkloads(1)
+                .withDeadline(Duration.ofMillis(200))
+                .withListener(new WorkloadListener() {
+                    @Override
+                    public void workloadStarted(CloudWorkloadRequest request, int attempt, CloudWorkload<?> workload) {
+                        started.incrementAndGet();
+                    }
+                })
+                .build();
+
+        List<WorkloadResult<CloudConnectResponse>> results = orchestrator.run(api,
+                List.of(request(Source.CSV, "running"), request(Source.CSV, "waiting"))).collect(Collectors.toList());
+
+        assertEquals(2, results.size());
+        assertTrue(results.stream().allMatch(result -> result.getError() instanceof TimeoutException));
+        assertEquals(1, started.get());
+        assertTrue(calls.get(0).response.isCancelled());
+    }
+
+    @Test
+    public void close_cancelsRunningWorkloads() {
+        WorkloadOrchestrator orchestrator = new WorkloadOrchestrator.Builder().build();
+
+        orchestrator.run(api, List.of(request(Source.CSV, "a"), request(Source.CSV, "b"), request(Source.CSV, "c"))).close();
+
+        assertEquals(2, calls.size());
+        assertTrue(calls.stream().allMatch(call -> call.response.isCancelled()));
+    }
+
+    @Test
+    public void isRetryable_retriesOnlyTransientErrors() {
+        assertTrue(WorkloadOrchestrator.isRetryable(new ServerErrorException("503")));
+        assertTrue(WorkloadOrchestrator.isRetryable(new UnexpectedResponseException("Workload did not complete within PT1H",
+                new TimeoutException())));
+        assertTrue(WorkloadOrchestrator.isRetryable(new SocketTimeoutException("connect timed out")));
+        assertTrue(WorkloadOrchestrator.isRetryable(new ConnectException("Connection refused")));
+        assertTrue(WorkloadOrchestrator.isRetryable(new IOException("Stream closed", new SocketException("Connection reset"))));
+        assertFalse(WorkloadOrchestrator.isRetryable(new InterruptedIOException("interrupted")));
+        assertFalse(WorkloadOrchestrator.isRetryable(new UnexpectedResponseException("Unexpected response",
+                new ClientErrorException("400"))));
+        assertFalse(WorkloadOrchestrator.isRetryable(new UnexpectedResponseException("Unexpected response",
+                new IllegalArgumentException("Expected BEGIN_OBJECT"))));
+        assertFalse(WorkloadOrchestrator.isRetryable(new NoSuchFileException("reports/t.txt")));
+        assertFalse(WorkloadOrchestrator.isRetryable(new IllegalStateException()));
+    }
+}
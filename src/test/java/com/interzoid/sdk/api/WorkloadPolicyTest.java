@@ -0,0 +1,32 @@
+package com.interzoid.sdk.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class WorkloadPolicyTest {
+
+    @Test
+    public void defaults() {
+        assertEquals(Duration.ofHours(1), WorkloadPolicy.DEFAULT.getTimeout());
+        assertEquals(Duration.ofSeconds(30), WorkloadPolicy.DEFAULT.getKeepAliveInterval());
+        assertEquals(WorkloadPolicy.DEFAULT, new WorkloadPolicy.Builder().build());
+    }
+
+    @Test
+    public void builder_setsAndChecksSettings() {
+        WorkloadPolicy policy = new WorkloadPolicy.Builder()
+                .withTimeout(Duration.ofHours(3))
+                .withKeepAliveInterval(Duration.ofSeconds(20))
+                .build();
+
+        assertEquals(Duration.ofHours(3), policy.getTimeout());
+        assertEquals(Duration.ofSeconds(20), policy.getKeepAliveInterval());
+        assertThrows(IllegalArgumentException.class, () -> new WorkloadPolicy.Builder().withTimeout(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new WorkloadPolicy.Builder().withKeepAliveInterval(Duration.ofMillis(500)));
+        assertThrows(NullPointerException.class, () -> new WorkloadPolicy.Builder().withTimeout(null));
+    }
+}
@@ -0,0 +1,50 @@
+package com.interzoid.sdk.metrics;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FlightRecorderEventsTest {
+
+    @Test
+    public void events_areOnlyCommittedWhenEnabled() throws Exception {
+        Path file = Files.createTempFile("interzoid", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.interzoid.sdk.CacheLookup").withThreshold(Duration.ZERO);
+            recording.start();
+
+            CacheLookupEvent lookup = new CacheLookupEvent();
+            lookup.begin();
+            lookup.complete("getcompanymatchadvanced", true);
+            RateLimiterWaitEvent wait = new RateLimiterWaitEvent();
+            wait.begin();
+            wait.complete(1, 50.0);
+
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertEquals(1, events.size());
+            assertEquals("com.interzoid.sdk.CacheLookup", events.get(0).getEventType().getName());
+            assertEquals("getcompanymatchadvanced", events.get(0).getString("resource"));
+            assertTrue(events.get(0).getBoolean("hit"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void flightRecording_isInitializedOnceARecordingExists() {
+        try (Recording recording = new Recording()) {
+            assertTrue(FlightRecording.isInitialized());
+        }
+    }
+}
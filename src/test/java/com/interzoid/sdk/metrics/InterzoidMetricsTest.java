@@ -0,0 +1,31 @@
+package com.interzoid.sdk.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InterzoidMetricsTest {
+
+    @Test
+    public void requestCompleted_countsOutcomesPerResource() {
+        InterzoidMetrics metrics = new InterzoidMetrics();
+
+        metrics.requestStarted("getfullnamematch");
+        metrics.requestStarted("getfullnamematch");
+        metrics.requestStarted("run");
+        metrics.requestCompleted("getfullnamematch", 1_000_000, 120, RequestOutcome.SUCCESS);
+        metrics.requestCompleted("getfullnamematch", 2_000_000, 40, RequestOutcome.CLIENT_ERROR);
+
+        ResourceMetrics fullName = metrics.getResourceMetrics("getfullnamematch");
+        assertEquals(2, fullName.getRequestCount());
+        assertEquals(1, fullName.getErrorCount());
+        assertEquals(1, fullName.getCount(RequestOutcome.CLIENT_ERROR));
+        assertEquals(160, fullName.getBytesReceived());
+        assertEquals(0, fullName.getInFlight());
+        assertEquals(3_000_000, fullName.getLatency().getSum());
+
+        assertEquals(1, metrics.getResourceMetrics("run").getInFlight());
+        assertNull(metrics.getResourceMetrics("getorgmatchscore"));
+        assertEquals(2, metrics.getResourceMetrics().size());
+    }
+}
@@ -0,0 +1,71 @@
+package com.interzoid.sdk.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void bucketIndex_isMonotonicAndMatchesBounds() {
+        long[] values = {0, 1, 15, 16, 17, 31, 32, 33, 1_000, 1_000_000, 123_456_789, Long.MAX_VALUE};
+        int previous = -1;
+        for (long value : values) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertTrue(index >= previous);
+            assertTrue(LatencyHistogram.bucketLowerBound(index) <= value, "lower bound of " + value);
+            assertTrue(LatencyHistogram.bucketUpperBound(index) >= value, "upper bound of " + value);
+            previous = index;
+        }
+    }
+
+    @Test
+    public void bucketWidth_isBoundedRelativeToValue() {
+        for (int i = LatencyHistogram.SUB_BUCKETS; i < new LatencyHistogram().getBucketCount() - 1; i++) {
+            long lower = LatencyHistogram.bucketLowerBound(i);
+            long width = LatencyHistogram.bucketUpperBound(i) - lower + 1;
+            assertTrue(width * LatencyHistogram.SUB_BUCKETS <= lower, "bucket " + i);
+        }
+    }
+
+    @Test
+    public void getValueAtPercentile_estimatesWithinOneBucket() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long millis = 1; millis <= 100; millis++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+
+        assertEquals(100, histogram.getCount());
+        long p50 = histogram.getValueAtPercentile(50);
+        long p99 = histogram.getValueAtPercentile(99);
+        assertTrue(p50 >= 50_000_000 && p50 <= 50_000_000 * 17 / 16, "p50 " + p50);
+        assertTrue(p99 >= 99_000_000 && p99 <= 99_000_000 * 17 / 16, "p99 " + p99);
+        assertEquals(0, new LatencyHistogram().getValueAtPercentile(99));
+    }
+
+    @Test
+    public void record_isThreadSafe() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(i);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(40_000, histogram.getCount());
+        long bucketTotal = 0;
+        for (int i = 0; i < histogram.getBucketCount(); i++) {
+            bucketTotal += histogram.getBucketValueCount(i);
+        }
+        assertEquals(40_000, bucketTotal);
+    }
+}
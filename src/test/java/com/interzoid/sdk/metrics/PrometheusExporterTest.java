@@ -0,0 +1,93 @@
+package com.interzoid.sdk.metrics;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrometheusExporterTest {
+
+    private static InterzoidMetrics sampleMetrics() {
+        InterzoidMetrics metrics = new InterzoidMetrics();
+        metrics.requestStarted("getfullnamematch");
+        metrics.requestCompleted("getfullnamematch", TimeUnit.MILLISECONDS.toNanos(3), 100, RequestOutcome.SUCCESS);
+        metrics.requestStarted("getfullnamematch");
+        metrics.requestCompleted("getfullnamematch", TimeUnit.MILLISECONDS.toNanos(200), 50, RequestOutcome.SERVER_ERROR);
+        metrics.creditsRemaining(4200);
+        return metrics;
+    }
+
+    @Test
+    public void writeTo_rendersHistogramsAndCounters() throws Exception {
+        StringWriter writer = new StringWriter();
+        new PrometheusExporter(sampleMetrics()).writeTo(writer);
+        String text = writer.toString();
+
+        assertTrue(text.contains("# TYPE interzoid_request_duration_seconds histogram\n"));
+        assertTrue(text.contains("interzoid_request_duration_seconds_bucket{resource=\"getfullnamematch\",le=\"0.001\"} 0\n"));
+        assertTrue(text.contains("interzoid_request_duration_seconds_bucket{resource=\"getfullnamematch\",le=\"0.005\"} 1\n"));
+        assertTrue(text.contains("interzoid_request_duration_seconds_bucket{resource=\"getfullnamematch\",le=\"0.25\"} 2\n"));
+        assertTrue(text.contains("interzoid_request_duration_seconds_bucket{resource=\"getfullnamematch\",le=\"+Inf\"} 2\n"));
+        assertTrue(text.contains("interzoid_request_duration_seconds_count{resource=\"getfullnamematch\"} 2\n"));
+        assertTrue(text.contains("interzoid_request_duration_seconds_sum{resource=\"getfullnamematch\"} 0.203\n"));
+        assertTrue(text.contains("interzoid_requests_total{resource=\"getfullnamematch\",outcome=\"server_error\"} 1\n"));
+        assertTrue(text.contains("interzoid_requests_in_flight{resource=\"getfullnamematch\"} 0\n"));
+        assertTrue(text.contains("interzoid_received_bytes_total{resource=\"getfullnamematch\"} 150\n"));
+        assertTrue(text.contains("interzoid_credits_remaining 4200\n"));
+    }
+
+    @Test
+    public void writeTo_rendersRegisteredGaugesAndPoolStats() throws Exception {
+        StringWriter writer = new StringWriter();
+        new PrometheusExporter(new InterzoidMetrics())
+                .registerGauge("interzoid_cache_entries", "Entries in the response cache.", () -> 12)
+                .registerCounter("interzoid_cache_hits_total", "Cache hits.", () -> 7.5)
+                .registerPoolStats("default", () -> new PoolStats(3, 1, 4, 10))
+                .writeTo(writer);
+        String text = writer.toString();
+
+        assertTrue(text.contains("# TYPE interzoid_cache_entries gauge\ninterzoid_cache_entries 12\n"));
+        assertTrue(text.contains("# TYPE interzoid_cache_hits_total counter\ninterzoid_cache_hits_total 7.5\n"));
+        assertTrue(text.contains("interzoid_pool_connections{transport=\"default\",state=\"idle\"} 1\n"));
+        assertTrue(text.contains("interzoid_pool_connections{transport=\"default\",state=\"active\"} 2\n"));
+        assertFalse(text.contains("interzoid_pool_connections{transport=\"default\"}"));
+        assertTrue(text.contains("interzoid_pool_connections_opened_total{transport=\"default\"} 4\n"));
+        assertFalse(text.contains("interzoid_credits_remaining"));
+    }
+
+    @Test
+    public void registerGauge_rejectsInvalidOrDuplicateNames() {
+        PrometheusExporter exporter = new PrometheusExporter(new InterzoidMetrics())
+                .registerGauge("interzoid_limiter_rate", "Rate.", () -> 1);
+
+        assertThrows(IllegalArgumentException.class, () -> exporter.registerGauge("interzoid-limiter", "Rate.", () -> 1));
+        assertThrows(IllegalArgumentException.class, () -> exporter.registerGauge("interzoid_limiter_rate", "Rate.", () -> 1));
+    }
+
+    @Test
+    public void start_servesMetricsOverHttp() throws Exception {
+        PrometheusExporter exporter = new PrometheusExporter(sampleMetrics());
+        HttpServer server = exporter.start(new InetSocketAddress("127.0.0.1", 0));
+        try {
+            HttpClient client = HttpClient.newHttpClient();
+            URI uri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + PrometheusExporter.PATH);
+            for (int i = 0; i < 2; i++) {
+                HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofString());
+
+                assertEquals(200, response.statusCode());
+                assertEquals(PrometheusExporter.CONTENT_TYPE, response.headers().firstValue("Content-Type").orElse(null));
+                assertTrue(response.body().contains("interzoid_credits_remaining 4200\n"));
+            }
+        } finally {
+            server.stop(0);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.interzoid.sdk.report;
+
+import com.interzoid.sdk.api.CloudDatabaseMatchKeyReportApi;
+import com.interzoid.sdk.api.exceptions.UnexpectedResponseException;
+import com.interzoid.sdk.model.Category;
+import com.interzoid.sdk.model.CloudDatabaseJsonResponse;
+import com.interzoid.sdk.model.CloudDatabaseJsonResponse.MatchCluster;
+import com.interzoid.sdk.model.CloudWorkloadRequest;
+import com.interzoid.sdk.model.Process;
+import com.interzoid.sdk.model.Source;
+import com.interzoid.sdk.testing.FakeInterzoidServer;
+import com.squareup.moshi.Moshi;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CompactMatchReportTest {
+
+    @Test
+    public void read_holdsTheRecordsOfTheJsonResponse() throws Exception {
+        String json = "{ \"Status\" : \"success\", \"Extra\": {\"a\": [1, 2.5e3, true, null, {\"b\": \"]}\"}]},\n"
+                + "\"MatchClusters\": [\n"
+                + "  [{\"Data\": \"Caf\\u00e9 \\\"Nord\\\"\", \"Reference\": \"1\", \"SimKey\": \"K1\"},\n"
+                + "   {\"Reference\": \"2\", \"Score\": 99, \"Data\": \"Caf\\u00c9\\tNORD\", \"SimKey\": \"K1\"}],\n"
+                + "  [],\n"
+                + "  [{\"Data\": \"Smile \\ud83d\\ude00 \\\\ \\/\", \"Reference\": null, \"SimKey\": \"K2\"},\n"
+                + "   {\"Data\": \"\u00c5ngstr\u00f6m\", \"SimKey\": \"K1\"}]\n"
+                + "], \"Message\": \"4 records\"}";
+
+        CompactMatchReport report = CompactMatchReport.read(oneByteAtATime(json));
+
+        assertEquals("success", report.getStatus());
+        assertEquals("4 records", report.getMessage());
+        assertEquals(3, report.getClusterCount());
+        assertEquals(4, report.getRecordCount());
+        assertEquals(2, report.getSimKeyCount());
+        assertEquals(0, report.getClusterSize(1));
+        assertEquals(2, report.getClusterOf(2));
+        assertEquals(report.getSimKeyId(0), report.getSimKeyId(3));
+        assertEquals("Caf\u00c9\tNORD", report.getCluster(0).get(1).getData());
+        assertEquals("2", report.getCluster(0).get(1).getReference());
+        assertNull(report.getReference(3));
+        assertEquals(clusters(moshi(json)), clusters(report));
+    }
+
+    @Test
+    public void read_readsReportsWithoutClusters() throws Exception {
+        CompactMatchReport report = CompactMatchReport.read(oneByteAtATime("{\"Status\":\"error\",\"Message\":\"No such table\",\"MatchClusters\":null}"));
+
+        assertEquals("No such table", report.getMessage());
+        assertEquals(0, report.getClusterCount());
+        assertEquals(0, report.getRecordCount());
+        assertTrue(report.getClusters().isEmpty());
+    }
+
+    @Test
+    public void read_rejectsMalformedReports() {
+        UnexpectedResponseException e = assertThrows(UnexpectedResponseException.class,
+                () -> CompactMatchReport.read(oneByteAtATime("{\"MatchClusters\":[[{\"Data\":\"A\",\"SimKey\" \"K\"}]]}")));
+        assertEquals("Expected ':' at byte 40 of the JSON match report", e.getMessage());
+        assertThrows(UnexpectedResponseException.class, () -> CompactMatchReport.read(oneByteAtATime("{\"MatchClusters\":[[{\"Data\":\"A")));
+        assertThrows(UnexpectedResponseException.class, () -> CompactMatchReport.read(oneByteAtATime("{\"Data\":\"\\x\"}")));
+    }
+
+    @Test
+    public void reader_readsTheJsonReportOfAWorkload() throws Exception {
+        try (FakeInterzoidServer server = new FakeInterzoidServer.Builder().withReportSize(500, 6).build().start()) {
+            CloudDatabaseMatchKeyReportApi api = new CloudDatabaseMatchKeyReportApi.Builder()
+                    .withConnectBaseUrl(server.getConnectBaseUrl())
+                    .build();
+            CloudWorkloadRequest request = new CloudWorkloadRequest("key", Process.MATCH_REPORT, Source.CSV, Category.COMPANY,
+                    "https://example.com/companies.csv", "companies", "1", "2", true, false);
+
+            CompactMatchReport report = api.startWorkload(request, CompactMatchReport.reader()).await();
+            CloudDatabaseJsonResponse response = (CloudDatabaseJsonResponse) api.doRequest(request);
+
+            assertEquals(3000, report.getRecordCount());
+            assertEquals(clusters(response), clusters(report));
+            assertEquals(response.getMatchClusters().stream().flatMap(List::stream).map(MatchCluster::getSimKey).distinct().count(),
+                    report.getSimKeyCount());
+        }
+    }
+
+    private static CloudDatabaseJsonResponse moshi(String json) throws IOException {
+        return new Moshi.Builder().build().adapter(CloudDatabaseJsonResponse.class).fromJson(json);
+    }
+
+    private static List<List<String>> clusters(CloudDatabaseJsonResponse response) {
+        return response.getMatchClusters().stream()
+                .map(cluster -> cluster.stream().map(CompactMatchReportTest::fields).collect(Collectors.toList()))
+                .collect(Collectors.toList());
+    }
+
+    private static List<List<String>> clusters(CompactMatchReport report) {
+        return report.getClusters().stream()
+                .map(cluster -> cluster.stream().map(record -> fields(record.toMatchCluster())).collect(Collectors.toList()))
+                .collect(Collectors.toList());
+    }
+
+    private static String fields(MatchCluster record) {
+        return record.getData() + "|" + Objects.toString(record.getReference()) + "|" + record.getSimKey();
+    }
+
+    /**
+     * Returns the UTF-8 bytes of the report one at a time, so that every token straddles a read.
+     */
+    private static InputStream oneByteAtATime(String json) {
+        return new FilterInputStream(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return super.read(b, off, Math.min(len, 1));
+            }
+        };
+    }
+}
@@ -0,0 +1,126 @@
+package com.interzoid.sdk.report;
+
+import com.interzoid.sdk.api.exceptions.UnexpectedResponseException;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GenSqlParserTest {
+
+    @Test
+    public void nextStatement_splitsOnSemicolonsOutsideQuotesAndComments() throws Exception {
+        String report = "INSERT INTO t (data, simkey) VALUES ('A; B', 'K1');\n"
+                + "-- a comment; not a statement\n"
+                + "INSERT INTO t (data, simkey) VALUES ('O''Brien''s; Pub', 'K2');;\n"
+                + "/* block; comment */ UPDATE \"odd;table\" SET simkey = 'K3' WHERE id = 7;\r\n"
+                + "  \n"
+                + "DELETE FROM t WHERE data = 'x'";
+
+        try (GenSqlParser parser = new GenSqlParser(new StringReader(report))) {
+            assertEquals(List.of("INSERT INTO t (data, simkey) VALUES ('A; B', 'K1')",
+                    "INSERT INTO t (data, simkey) VALUES ('O''Brien''s; Pub', 'K2')",
+                    "UPDATE \"odd;table\" SET simkey = 'K3' WHERE id = 7",
+                    "DELETE FROM t WHERE data = 'x'"), statements(parser));
+            assertNull(parser.nextStatement());
+            assertEquals(4, parser.getStatementCount());
+        }
+    }
+
+    @Test
+    public void nextStatement_readsStatementsLongerThanTheBuffer() throws Exception {
+        String longData = "x".repeat(50_000);
+        StringBuilder report = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            report.append("INSERT INTO t (data, simkey) VALUES ('").append(i == 500 ? longData : "record " + i).append("', '")
+                    .append(i).append("');\n");
+        }
+
+        try (GenSqlParser parser = new GenSqlParser(new StringReader(report.toString()))) {
+            List<String> statements = statements(parser);
+
+            assertEquals(1000, statements.size());
+            assertEquals("INSERT INTO t (data, simkey) VALUES ('" + longData + "', '500')", statements.get(500));
+            assertEquals("INSERT INTO t (data, simkey) VALUES ('record 999', '999')", statements.get(999));
+        }
+    }
+
+    @Test
+    public void nextStatement_rejectsReportsEndingInsideAString() throws Exception {
+        try (GenSqlParser parser = new GenSqlParser(new StringReader("INSERT INTO t VALUES ('a');\nINSERT INTO t VALUES ('b);\n"))) {
+            parser.nextStatement();
+            UnexpectedResponseException e = assertThrows(UnexpectedResponseException.class, parser::nextStatement);
+            assertEquals("Statement 2 of the SQL report ends inside a quoted string", e.getMessage());
+        }
+    }
+
+    @Test
+    public void targetKey_isTheTableColumnAndValueOfTheRowWritten() {
+        String insert = GenSqlParser.targetKey("INSERT INTO companies_simkeys (name, simkey) VALUES ('Acme', 'K1')");
+        String update = GenSqlParser.targetKey("update companies_simkeys set simkey = 'K2' where name = 'Acme'");
+        String delete = GenSqlParser.targetKey("DELETE FROM companies_simkeys WHERE name = 'Acme'");
+
+        assertEquals("companies_simkeys\u0000name\u0000acme", insert);
+        assertEquals(insert, update);
+        assertEquals(insert, delete);
+        assertEquals("t\u0000id\u000042", GenSqlParser.targetKey("UPDATE t SET v = 'x' WHERE id = 42"));
+        assertNotEquals(insert, GenSqlParser.targetKey("INSERT INTO other (name, simkey) VALUES ('Acme', 'K1')"));
+    }
+
+    @Test
+    public void targetKey_normalizesIdentifiersAndValues() {
+        String key = GenSqlParser.targetKey("UPDATE t SET simkey = 'k' WHERE id = 5");
+
+        assertEquals(key, GenSqlParser.targetKey("UPDATE \"T\" SET simkey = 'k' WHERE `ID` = '5'"));
+        assertEquals(key, GenSqlParser.targetKey("DELETE FROM db.t WHERE 5.0 = t.id AND simkey <> 'x'"));
+        assertEquals(key, GenSqlParser.targetKey("INSERT INTO T (Id, simkey) VALUES (05, 'k')"));
+        assertEquals(GenSqlParser.targetKey("DELETE FROM t WHERE name = 'Acme'"),
+                GenSqlParser.targetKey("DELETE FROM t WHERE name = 'ACME  '"));
+        assertNotEquals(key, GenSqlParser.targetKey("UPDATE t SET simkey = 'k' WHERE id = -5"));
+    }
+
+    @Test
+    public void targetKey_isNullForStatementsWithoutASingleRowKey() {
+        assertNull(GenSqlParser.targetKey("COMMIT"));
+        assertNull(GenSqlParser.targetKey("CREATE TABLE companies_simkeys (name VARCHAR(100), simkey VARCHAR(100))"));
+        assertNull(GenSqlParser.targetKey("create index simkey_idx on companies_simkeys (simkey)"));
+        assertNull(GenSqlParser.targetKey("INSERT INTO t VALUES (5, 'a')"));
+        assertNull(GenSqlParser.targetKey("INSERT INTO t (id, v) VALUES (5, 'a'), (6, 'b')"));
+        assertNull(GenSqlParser.targetKey("INSERT INTO t (id, v) VALUES (UPPER('a'), 'a')"));
+        assertNull(GenSqlParser.targetKey("INSERT INTO t (id, v) VALUES (5, 'a') ON DUPLICATE KEY UPDATE id = 6"));
+        assertNull(GenSqlParser.targetKey("UPDATE t SET v = 'a'"));
+        assertNull(GenSqlParser.targetKey("UPDATE t SET id = 6 WHERE id = 5"));
+        assertNull(GenSqlParser.targetKey("UPDATE t SET v = 'a' WHERE id = 5 OR id = 6"));
+        assertNull(GenSqlParser.targetKey("DELETE FROM t WHERE id IN (5, 6)"));
+        assertNull(GenSqlParser.targetKey("DELETE FROM t WHERE id = 5 + 1"));
+    }
+
+    @Test
+    public void targetKeys_makesBarriersOfStatementsChangingTheKeyColumnOfATable() {
+        Function<String, String> keys = GenSqlParser.targetKeys();
+
+        assertNotNull(keys.apply("INSERT INTO t (name, id) VALUES ('Apple', 5)"));
+        assertNotNull(keys.apply("INSERT INTO u (id, v) VALUES (5, 'a')"));
+        assertNull(keys.apply("UPDATE t SET simkey = 'k' WHERE id = 5"));
+        assertEquals(GenSqlParser.targetKey("UPDATE t SET simkey = 'j' WHERE id = 6"),
+                keys.apply("UPDATE t SET simkey = 'j' WHERE id = 6"));
+        assertNull(keys.apply("INSERT INTO t (name, id) VALUES ('Pear', 7)"));
+        assertNotNull(keys.apply("UPDATE u SET v = 'b' WHERE id = 5"));
+    }
+
+    private static List<String> statements(GenSqlParser parser) throws Exception {
+        List<String> statements = new ArrayList<>();
+        for (String sql = parser.nextStatement(); sql != null; sql = parser.nextStatement()) {
+            statements.add(sql);
+        }
+        return statements;
+    }
+}
@@ -0,0 +1,135 @@
+package com.interzoid.sdk.report;
+
+import com.interzoid.sdk.model.CloudDatabaseJsonResponse.MatchCluster;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MatchReportIndexTest {
+
+    @Test
+    public void of_findsTheClusterOfEveryReferenceAndSimKey() throws Exception {
+        CompactMatchReport report = CompactMatchReport.read(new ByteArrayInputStream(json(50_000, 3).getBytes(StandardCharsets.UTF_8)));
+
+        MatchReportIndex index = MatchReportIndex.of(report);
+
+        assertEquals(50_000, index.getClusterCount());
+        assertEquals(150_000, index.getReferenceCount());
+        assertEquals(50_000, index.getSimKeyCount());
+        for (int record = 0; record < report.getRecordCount(); record++) {
+            int cluster = report.getClusterOf(record);
+            assertEquals(cluster, index.findClusterByReference(report.getReference(record)));
+            assertEquals(cluster, index.findClusterBySimKey(report.getSimKey(record)));
+        }
+        assertEquals(-1, index.findClusterByReference("150000"));
+        assertEquals(-1, index.findClusterBySimKey("missing"));
+    }
+
+    @Test
+    public void of_indexesTheFirstClusterOfRepeatedKeysAndSkipsMissingOnes() {
+        List<List<MatchCluster>> clusters = List.of(
+                List.of(record("Z\u00fcrich AG", "r\u00e9f-1", "Z\u00dcR"), record("Zurich AG", null, "Z\u00dcR")),
+                List.of(record("Acme", "r\u00e9f-1", "ACM"), record("Acme Inc", "2", null)),
+                List.of(record("Z\u00fcrich", "3", "Z\u00dcR")));
+
+        MatchReportIndex index = MatchReportIndex.of(clusters);
+
+        assertEquals(3, index.getReferenceCount());
+        assertEquals(2, index.getSimKeyCount());
+        assertEquals(0, index.findClusterByReference("r\u00e9f-1"));
+        assertEquals(-1, index.findClusterByReference("ref-1"));
+        assertEquals(1, index.findClusterByReference("2"));
+        assertEquals(0, index.findClusterBySimKey("Z\u00dcR"));
+        assertEquals(1, index.findClusterBySimKey("ACM"));
+        assertEquals(-1, index.findClusterBySimKey("ZUR"));
+    }
+
+    @Test
+    public void writeTo_writesAnIndexThatReadsBackUnchanged(@TempDir Path directory) throws Exception {
+        CompactMatchReport report = CompactMatchReport.read(new ByteArrayInputStream(json(20_000, 2).getBytes(StandardCharsets.UTF_8)));
+        MatchReportIndex index = MatchReportIndex.of(report);
+        Path path = directory.resolve("report.idx");
+
+        index.writeTo(path);
+        MatchReportIndex read = MatchReportIndex.readFrom(path);
+
+        assertEquals(index.toString(), read.toString());
+        for (int record = 0; record < report.getRecordCount(); record++) {
+            assertEquals(index.findClusterByReference(report.getReference(record)), read.findClusterByReference(report.getReference(record)));
+            assertEquals(index.findClusterBySimKey(report.getSimKey(record)), read.findClusterBySimKey(report.getSimKey(record)));
+        }
+        assertEquals(-1, read.findClusterBySimKey("missing"));
+    }
+
+    @Test
+    public void readFrom_rejectsFilesThatAreNotIndexes(@TempDir Path directory) throws Exception {
+        Path path = directory.resolve("report.idx");
+        MatchReportIndex.of(List.of(List.of(record("Acme", "1", "ACM")))).writeTo(path);
+        byte[] bytes = Files.readAllBytes(path);
+
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IOException.class, () -> MatchReportIndex.readFrom(path));
+
+        byte[] corrupted = bytes.clone();
+        corrupted[15] = 127;
+        Files.write(path, corrupted);
+        assertThrows(IOException.class, () -> MatchReportIndex.readFrom(path));
+
+        Files.writeString(path, "Acme\t1\tACM\n");
+        IOException e = assertThrows(IOException.class, () -> MatchReportIndex.readFrom(path));
+        assertEquals(path + " does not hold a match report index", e.getMessage());
+    }
+
+    @Test
+    public void readFrom_rejectsTablesWhoseSlotsDoNotHoldEachEntryOnce(@TempDir Path directory) throws Exception {
+        Path path = directory.resolve("report.idx");
+        MatchReportIndex.of(List.of(List.of(record("Acme", "1", "ACM")))).writeTo(path);
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(path));
+        // magic, version and cluster count, then the size, key bytes and capacity of the reference table
+        int size = bytes.getInt(12);
+        int capacity = bytes.getInt(20);
+        int slots = 24 + bytes.getInt(16) + Integer.BYTES * (3 * size + 1);
+
+        for (int entry : new int[]{1, 0}) {
+            ByteBuffer corrupted = ByteBuffer.wrap(bytes.array().clone());
+            for (int slot = 0; slot < capacity; slot++) {
+                corrupted.putInt(slots + slot * Integer.BYTES, entry);
+            }
+            Files.write(path, corrupted.array());
+            assertThrows(IOException.class, () -> MatchReportIndex.readFrom(path));
+        }
+    }
+
+    private static MatchCluster record(String data, String reference, String simKey) {
+        MatchCluster record = new MatchCluster();
+        record.setData(data);
+        record.setReference(reference);
+        record.setSimKey(simKey);
+        return record;
+    }
+
+    private static String json(int clusters, int recordsPerCluster) {
+        StringBuilder json = new StringBuilder("{\"Status\":\"success\",\"MatchClusters\":[");
+        for (int c = 0; c < clusters; c++) {
+            json.append(c == 0 ? "[" : ",[");
+            for (int r = 0; r < recordsPerCluster; r++) {
+                json.append(r == 0 ? "{" : ",{").append("\"Data\":\"Company ").append(c).append('-').append(r)
+                        .append("\",\"Reference\":\"").append(c * recordsPerCluster + r)
+                        .append("\",\"SimKey\":\"SK").append(Integer.toHexString(c * 31)).append("\"}");
+            }
+            json.append(']');
+        }
+        return json.append("]}").toString();
+    }
+}
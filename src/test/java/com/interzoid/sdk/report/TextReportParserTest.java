@@ -0,0 +1,127 @@
+package com.interzoid.sdk.report;
+
+import com.interzoid.sdk.api.CloudDatabaseMatchKeyReportApi;
+import com.interzoid.sdk.api.CloudWorkload;
+import com.interzoid.sdk.api.exceptions.UnexpectedResponseException;
+import com.interzoid.sdk.model.Category;
+import com.interzoid.sdk.model.CloudDatabaseJsonResponse.MatchCluster;
+import com.interzoid.sdk.model.CloudWorkloadRequest;
+import com.interzoid.sdk.model.Process;
+import com.interzoid.sdk.model.Source;
+import com.interzoid.sdk.testing.FakeInterzoidServer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TextReportParserTest {
+
+    @Test
+    public void nextCluster_readsRecordsWithAndWithoutReference() throws Exception {
+        String report = "Apple Inc.\tAPL1\nApple Computer\tAPL1\n\nIBM\t7\tIBM2\nInternational Business Machines\t8\tIBM2\n";
+
+        try (TextReportParser parser = new TextReportParser(new StringReader(report))) {
+            List<MatchCluster> apple = parser.nextCluster();
+            assertEquals(2, apple.size());
+            assertEquals("Apple Computer", apple.get(1).getData());
+            assertNull(apple.get(1).getReference());
+            assertEquals("APL1", apple.get(1).getSimKey());
+
+            List<MatchCluster> ibm = parser.nextCluster();
+            assertEquals("International Business Machines", ibm.get(1).getData());
+            assertEquals("8", ibm.get(1).getReference());
+            assertEquals("IBM2", ibm.get(1).getSimKey());
+
+            assertNull(parser.nextCluster());
+            assertEquals(5, parser.getLineNumber());
+        }
+    }
+
+    @Test
+    public void nextCluster_acceptsCrlfRepeatedBlankLinesAndNoFinalNewline() throws Exception {
+        String report = "\r\nA\tK1\r\nB\tK1\r\n\r\n\r\nC\tK2";
+
+        try (TextReportParser parser = new TextReportParser(new StringReader(report))) {
+            assertEquals(List.of("A", "B"), data(parser.nextCluster()));
+            assertEquals(List.of("C"), data(parser.nextCluster()));
+            assertNull(parser.nextCluster());
+            assertNull(parser.nextCluster());
+        }
+    }
+
+    @Test
+    public void nextCluster_readsLinesLongerThanTheBuffer() throws Exception {
+        String longData = "x".repeat(50_000);
+        StringBuilder report = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            report.append(i == 500 ? longData : "record " + i).append('\t').append(i / 10).append('\n');
+            if (i % 10 == 9) {
+                report.append('\n');
+            }
+        }
+
+        try (TextReportParser parser = new TextReportParser(new StringReader(report.toString()))) {
+            List<List<MatchCluster>> clusters = parser.clusters().collect(Collectors.toList());
+
+            assertEquals(100, clusters.size());
+            assertEquals(longData, clusters.get(50).get(0).getData());
+            assertEquals("99", clusters.get(99).get(9).getSimKey());
+        }
+    }
+
+    @Test
+    public void nextCluster_rejectsLinesThatAreNotRecords() throws Exception {
+        try (TextReportParser parser = new TextReportParser(new StringReader("A\tK1\nnot a record\n"))) {
+            UnexpectedResponseException e = assertThrows(UnexpectedResponseException.class, parser::nextCluster);
+            assertTrue(e.getMessage().startsWith("Line 2 "));
+        }
+        try (TextReportParser parser = new TextReportParser(new StringReader("A\t1\tK1\textra\n"))) {
+            assertThrows(UnexpectedResponseException.class, parser::nextCluster);
+        }
+    }
+
+    @Test
+    public void open_readsDownloadedReport(@TempDir Path directory) throws Exception {
+        Path path = Files.writeString(directory.resolve("report.txt"), "Z\u00fcrich AG\tZR1\nZuerich AG\tZR1\n");
+
+        try (Stream<List<MatchCluster>> clusters = TextReportParser.open(path).clusters()) {
+            assertEquals(List.of(List.of("Z\u00fcrich AG", "Zuerich AG")), clusters.map(TextReportParserTest::data).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void forEachCluster_readsWorkloadReportAsItArrives() throws Exception {
+        try (FakeInterzoidServer server = new FakeInterzoidServer.Builder().withReportSize(300, 4).build().start()) {
+            CloudDatabaseMatchKeyReportApi api = new CloudDatabaseMatchKeyReportApi.Builder()
+                    .withConnectBaseUrl(server.getConnectBaseUrl())
+                    .build();
+            CloudWorkloadRequest request = new CloudWorkloadRequest("key", Process.MATCH_REPORT, Source.CSV, Category.COMPANY,
+                    "https://example.com/companies.csv", "companies", "1", "2", false, false);
+            List<Integer> sizes = new ArrayList<>();
+
+            CloudWorkload<Long> workload = api.startWorkload(request, TextReportParser.forEachCluster(cluster -> {
+                assertTrue(cluster.stream().allMatch(record -> record.getSimKey().equals(cluster.get(0).getSimKey())));
+                assertTrue(cluster.stream().allMatch(record -> record.getReference() != null));
+                sizes.add(cluster.size());
+            }));
+
+            assertEquals(300, workload.await());
+            assertTrue(sizes.stream().allMatch(size -> size == 4));
+        }
+    }
+
+    private static List<String> data(List<MatchCluster> cluster) {
+        return cluster.stream().map(MatchCluster::getData).collect(Collectors.toList());
+    }
+}
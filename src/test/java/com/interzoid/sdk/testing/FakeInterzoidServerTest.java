@@ -0,0 +1,90 @@
+package com.interzoid.sdk.testing;
+
+import com.interzoid.sdk.api.CloudDatabaseMatchKeyReportApi;
+import com.interzoid.sdk.api.FullNameMatchKeyApi;
+import com.interzoid.sdk.api.JdkHttpTransport;
+import com.interzoid.sdk.api.OrganizationMatchScoreApi;
+import com.interzoid.sdk.api.TransportResponse;
+import com.interzoid.sdk.model.*;
+import com.interzoid.sdk.model.Process;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FakeInterzoidServerTest {
+
+    @Test
+    public void matchKeys_areDeterministicForSimilarValues() throws Exception {
+        try (FakeInterzoidServer server = new FakeInterzoidServer.Builder().withCredits(100).build().start()) {
+            FullNameMatchKeyApi api = new FullNameMatchKeyApi.Builder().withApiBaseUrl(server.getApiBaseUrl()).build();
+
+            MatchKeyResponse first = api.doRequest(new FullNameMatchKeyRequest("key", "John Smith"));
+            MatchKeyResponse second = api.doRequest(new FullNameMatchKeyRequest("key", "smith,  JOHN"));
+            MatchKeyResponse other = api.doRequest(new FullNameMatchKeyRequest("key", "Jane Doe"));
+
+            assertEquals(first.getSimKey(), second.getSimKey());
+            assertNotEquals(first.getSimKey(), other.getSimKey());
+            assertEquals("Success", first.getCode());
+            assertEquals("97", other.getCredits());
+            assertEquals(3, server.getRequestCount("getfullnamematch"));
+        }
+    }
+
+    @Test
+    public void scores_matchNormalizedCompanyNames() throws Exception {
+        try (FakeInterzoidServer server = new FakeInterzoidServer.Builder().build().start()) {
+            OrganizationMatchScoreApi api = new OrganizationMatchScoreApi.Builder().withApiBaseUrl(server.getApiBaseUrl()).build();
+
+            assertEquals("100", api.doRequest(new OrganizationMatchScoreRequest("key", "Acme Inc.", "ACME Corporation")).getScore());
+            int score = Integer.parseInt(api.doRequest(new OrganizationMatchScoreRequest("key", "Acme", "Globex")).getScore());
+            assertTrue(score < 50, "score " + score);
+        }
+    }
+
+    @Test
+    public void errors_latencyAndPayloadSizeAreInjected() throws Exception {
+        try (FakeInterzoidServer failing = new FakeInterzoidServer.Builder().withErrorRate(503, 1).build().start();
+             FakeInterzoidServer resetting = new FakeInterzoidServer.Builder().withConnectionResetRate(1).build().start();
+             FakeInterzoidServer slow = new FakeInterzoidServer.Builder()
+                     .withLatency(LatencyDistribution.fixed(Duration.ofMillis(100)))
+                     .withPayloadSize(4096)
+                     .build().start()) {
+            JdkHttpTransport transport = new JdkHttpTransport();
+            Map<String, String> headers = Map.of("x-api-key", "key");
+
+            assertEquals(503, transport.get(URI.create(failing.getApiBaseUrl() + "getfullnamematch?fullname=a"), headers).getCode());
+            assertThrows(Exception.class, () -> transport.get(URI.create(resetting.getApiBaseUrl() + "getfullnamematch?fullname=a"), headers));
+
+            long start = System.nanoTime();
+            TransportResponse response = transport.get(URI.create(slow.getApiBaseUrl() + "getfullnamematch?fullname=a"), headers);
+            assertTrue(System.nanoTime() - start >= Duration.ofMillis(100).toNanos());
+            assertEquals(200, response.getCode());
+            assertEquals(4096, response.getBytesReceived());
+        }
+    }
+
+    @Test
+    public void connectReports_clusterSimilarRecords() throws Exception {
+        try (FakeInterzoidServer server = new FakeInterzoidServer.Builder().withReportSize(4, 3).build().start()) {
+            CloudDatabaseMatchKeyReportApi api = new CloudDatabaseMatchKeyReportApi.Builder()
+                    .withConnectBaseUrl(server.getConnectBaseUrl())
+                    .build();
+
+            CloudConnectResponse response = api.doRequest(new CloudWorkloadRequest("key", Process.MATCH_REPORT, Source.CSV,
+                    Category.COMPANY, "https://example.com/companies.csv", "companies", "1", null, true, false));
+
+            List<List<CloudDatabaseJsonResponse.MatchCluster>> clusters = ((CloudDatabaseJsonResponse) response).getMatchClusters();
+            assertEquals(4, clusters.size());
+            for (List<CloudDatabaseJsonResponse.MatchCluster> cluster : clusters) {
+                assertEquals(3, cluster.size());
+                assertTrue(cluster.stream().allMatch(record -> record.getSimKey().equals(cluster.get(0).getSimKey())));
+            }
+            assertNotEquals(clusters.get(0).get(0).getSimKey(), clusters.get(1).get(0).getSimKey());
+        }
+    }
+}
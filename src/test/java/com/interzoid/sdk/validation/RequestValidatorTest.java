@@ -0,0 +1,78 @@
+package com.interzoid.sdk.validation;
+
+import com.interzoid.sdk.model.*;
+import com.interzoid.sdk.model.Process;
+import jakarta.validation.ConstraintViolation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequestValidatorTest {
+
+    static Stream<Object> requests() {
+        return Stream.of(
+                new InterzoidRequest("apikey"),
+                new InterzoidRequest(null),
+                new InterzoidRequest(" \t"),
+                new FullNameMatchKeyRequest("apikey", "John Smith"),
+                new FullNameMatchKeyRequest("", ""),
+                new CompanyNameMatchKeyRequest("apikey", null, null),
+                new CompanyNameMatchKeyRequest("apikey", "Apple", CompanyNameMatchKeyRequest.MatchAlgorithm.WIDE),
+                new AddressMatchKeyRequest(null, " ", null),
+                new FullNameMatchScoreRequest("apikey", "John Smith", null),
+                new OrganizationMatchScoreRequest("apikey", "", "IBM"),
+                new CloudWorkloadRequest("apikey", Process.CREATE_TABLE, Source.MYSQL, Category.COMPANY,
+                        "user:pass@tcp(localhost)/db", "companies", "name", "id", null),
+                new CloudWorkloadRequest("apikey", Process.KEYS_ONLY, null, null, "", null, "name", null, true, false),
+                new CloudWorkloadRequest("apikey", Process.MATCH_REPORT, Source.MYSQL, Category.COMPANY,
+                        "user:pass@tcp(localhost)/db", "companies", "name", "id", true, false),
+                new TextFileMatchRequest("apikey", Source.CSV, Category.COMPANY, "https://example.com/file.csv", 0, -1, null),
+                new TextFileMatchRequest("apikey", null, null, null, 1, ResponseType.JSON)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("requests")
+    public void builtIn_reportsTheSameViolationsAsBeanValidation(Object request) {
+        assertEquals(describe(RequestValidator.beanValidation().validate(request)),
+                describe(RequestValidator.builtIn().validate(request)));
+    }
+
+    @Test
+    public void builtIn_reportsPropertyAndInvalidValue() {
+        FullNameMatchKeyRequest request = new FullNameMatchKeyRequest("apikey", " ");
+
+        Set<ConstraintViolation<FullNameMatchKeyRequest>> violations = RequestValidator.builtIn().validate(request);
+
+        assertEquals(1, violations.size());
+        ConstraintViolation<FullNameMatchKeyRequest> violation = violations.iterator().next();
+        assertEquals("fullName", violation.getPropertyPath().toString());
+        assertEquals(" ", violation.getInvalidValue());
+        assertSame(request, violation.getRootBean());
+        assertEquals(FullNameMatchKeyRequest.class, violation.getRootBeanClass());
+    }
+
+    @Test
+    public void builtIn_ignoresOtherTypes() {
+        assertTrue(RequestValidator.builtIn().validate("not a request").isEmpty());
+    }
+
+    @Test
+    public void defaultValidator_isBuiltInWithoutRegisteredProvider() {
+        assertSame(RequestValidator.builtIn(), RequestValidator.defaultValidator());
+    }
+
+    private static Set<String> describe(Set<? extends ConstraintViolation<?>> violations) {
+        Set<String> descriptions = new TreeSet<>();
+        for (ConstraintViolation<?> violation : violations) {
+            descriptions.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        return descriptions;
+    }
+}
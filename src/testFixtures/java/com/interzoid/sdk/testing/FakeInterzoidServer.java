@@ -0,0 +1,538 @@
+package com.interzoid.sdk.testing;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <h2>Fake Interzoid Server</h2>
+ *
+ * <p>An embedded stand-in for the Interzoid APIs, for functional, load and soak tests that must not consume credits.
+ * It serves {@code getfullnamematch}, {@code getcompanymatchadvanced}, {@code getaddressmatchadvanced}, {@code getorgmatchscore},
+ * {@code getfullnamematchscore} and {@code getremainingcredits} at {@link #getApiBaseUrl()}, and Cloud Data Connect {@code run}
+ * at {@link #getConnectBaseUrl()}; point the API builders at them with {@code withApiBaseUrl} and {@code withConnectBaseUrl}.</p>
+ *
+ * <p>Similarity keys and scores are deterministic: values differing only in case, punctuation, spacing, token order or common
+ * company suffixes and address abbreviations get the same key. Server time follows a {@link LatencyDistribution};
+ * responses are delayed without holding a thread, so thousands of concurrent requests can be in flight.
+ * Errors (HTTP status codes or connection resets) are injected at configurable rates, and JSON responses can be padded to a
+ * payload size.</p>
+ *
+ * <p>Cloud Data Connect reports are generated from a synthetic dataset of clusters of similar values. Text reports list one record
+ * per line as {@code Data<TAB>SimKey}, or {@code Data<TAB>Reference<TAB>SimKey} when a reference column is requested, with clusters
+ * separated by an empty line. The {@code gensql} process returns one {@code INSERT} statement per line.</p>
+ *
+ * <h3>Example</h3>
+ * <pre>{@code
+ * try (FakeInterzoidServer server = new FakeInterzoidServer.Builder()
+ *         .withLatency(LatencyDistribution.logNormal(Duration.ofMillis(40), 0.5))
+ *         .withErrorRate(503, 0.01)
+ *         .build()
+ *         .start()) {
+ *     FullNameMatchKeyApi api = new FullNameMatchKeyApi.Builder()
+ *             .withApiBaseUrl(server.getApiBaseUrl())
+ *             .build();
+ *     // ...
+ * }
+ * }</pre>
+ */
+public final class FakeInterzoidServer implements AutoCloseable {
+    private static final String CONNECT_PATH = "/connect/";
+
+    private final LatencyDistribution latency;
+    private final Map<Integer, Double> errorRates;
+    private final double connectionResetRate;
+    private final int payloadSize;
+    private final int reportClusters;
+    private final int recordsPerCluster;
+    private final SplittableRandom random;
+    private final AtomicLong credits;
+    private final ConcurrentMap<String, LongAdder> requestCounts = new ConcurrentHashMap<>();
+
+    private HttpServer server;
+    private ScheduledExecutorService scheduler;
+    private ExecutorService handlers;
+
+    /**
+     * The builder class for {@link FakeInterzoidServer}.
+     */
+    public static class Builder {
+        private LatencyDistribution latency = LatencyDistribution.NONE;
+        private final Map<Integer, Double> errorRates = new LinkedHashMap<>();
+        private double connectionResetRate;
+        private int payloadSize;
+        private int reportClusters = 5;
+        private int recordsPerCluster = 3;
+        private long seed = 42;
+        private long credits = 1_000_000;
+
+        /**
+         * Default constructor for the {@link FakeInterzoidServer.Builder} class.
+         */
+        public Builder() {
+        }
+
+        /**
+         * Specifies the distribution of the server time of each request. There is no added latency by default.
+         *
+         * @param latency the latency distribution
+         * @return the current builder instance, allowing for method chaining
+         */
+        public Builder withLatency(LatencyDistribution latency) {
+            this.latency = Objects.requireNonNull(latency, "latency");
+            return this;
+        }
+
+        /**
+         * Makes a fraction of requests fail with an HTTP status code, such as 429, 500 or 503.
+         * Rates of several status codes add up.
+         *
+         * @param statusCode  the status code
+         * @param probability the fraction of requests failing with the status code, between 0 and 1
+         * @return the current builder instance, allowing for method chaining
+         */
+        public Builder withErrorRate(int statusCode, double probability) {
+            errorRates.put(statusCode, checkProbability(probability));
+            return this;
+        }
+
+        /**
+         * Makes a fraction of requests fail by closing the connection without a response.
+         *
+         * @param probability the fraction of requests reset, between 0 and 1
+         * @return the current builder instance, allowing for method chaining
+         */
+        public Builder withConnectionResetRate(double probability) {
+            this.connectionResetRate = checkProbability(probability);
+            return this;
+        }
+
+        /**
+         * Pads JSON responses of the data matching API with an ignored field, so they are at least the given size.
+         *
+         * @param bytes the minimum response size in bytes
+         * @return the current builder instance, allowing for method chaining
+         */
+        public Builder withPayloadSize(int bytes) {
+            this.payloadSize = bytes;
+            return this;
+        }
+
+        /**
+         * Specifies the size of the synthetic dataset Cloud Data Connect reports are generated from.
+         *
+         * @param clusters          the number of clusters
+         * @param recordsPerCluster the number of records in each cluster
+         * @return the current builder instance, allowing for method chaining
+         */
+        public Builder withReportSize(int clusters, int recordsPerCluster) {
+            if (clusters < 0 || recordsPerCluster < 1) {
+                throw new IllegalArgumentException("clusters must not be negative and recordsPerCluster must be greater than 0");
+            }
+            this.reportClusters = clusters;
+            this.recordsPerCluster = recordsPerCluster;
+            return this;
+        }
+
+        /**
+         * Specifies the seed of the latency and error injection draws.
+         *
+         * @param seed the seed
+         * @return the current builder instance, allowing for method chaining
+         */
+        public Builder withSeed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Specifies the initial number of credits, decremented by each successful data matching request.
+         *
+         * @param credits the initial number of credits
+         * @return the current builder instance, allowing for method chaining
+         */
+        public Builder withCredits(long credits) {
+            this.credits = credits;
+            return this;
+        }
+
+        /**
+         * Constructs a new {@code FakeInterzoidServer}, which must then be started.
+         *
+         * @return a new {@code FakeInterzoidServer} instance
+         */
+        public FakeInterzoidServer build() {
+            return new FakeInterzoidServer(this);
+        }
+
+        private static double checkProbability(double probability) {
+            if (probability < 0 || probability > 1) {
+                throw new IllegalArgumentException("probability must be between 0 and 1");
+            }
+            return probability;
+        }
+    }
+
+    private FakeInterzoidServer(Builder builder) {
+        this.latency = builder.latency;
+        this.errorRates = new LinkedHashMap<>(builder.errorRates);
+        this.connectionResetRate = builder.connectionResetRate;
+        this.payloadSize = builder.payloadSize;
+        this.reportClusters = builder.reportClusters;
+        this.recordsPerCluster = builder.recordsPerCluster;
+        this.random = new SplittableRandom(builder.seed);
+        this.credits = new AtomicLong(builder.credits);
+    }
+
+    /**
+     * Starts the server on an ephemeral port of the loopback interface.
+     *
+     * @return this server
+     * @throws IOException if the server cannot be started
+     */
+    public FakeInterzoidServer start() throws IOException {
+        return start(new InetSocketAddress("127.0.0.1", 0));
+    }
+
+    /**
+     * Starts the server.
+     *
+     * @param address the address to listen on
+     * @return this server
+     * @throws IOException if the server cannot be started
+     */
+    public FakeInterzoidServer start(InetSocketAddress address) throws IOException {
+        server = HttpServer.create(address, 1024);
+        server.createContext("/", this::handle);
+        handlers = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()), daemonThreads("Fake Interzoid Handler"));
+        scheduler = Executors.newScheduledThreadPool(2, daemonThreads("Fake Interzoid Latency"));
+        server.setExecutor(handlers);
+        server.start();
+        return this;
+    }
+
+    /**
+     * Gets the base URL of the fake data matching API, for {@code withApiBaseUrl}.
+     *
+     * @return the base URL
+     */
+    public String getApiBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/";
+    }
+
+    /**
+     * Gets the base URL of the fake Cloud Data Connect API, for {@code withConnectBaseUrl}.
+     *
+     * @return the base URL
+     */
+    public String getConnectBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + CONNECT_PATH;
+    }
+
+    /**
+     * Gets the number of requests received for a resource, including failed ones.
+     *
+     * @param resource the resource name, or {@code run} for Cloud Data Connect
+     * @return the number of requests
+     */
+    public long getRequestCount(String resource) {
+        LongAdder count = requestCounts.get(resource);
+        return count != null ? count.sum() : 0;
+    }
+
+    /**
+     * Gets the number of credits remaining.
+     *
+     * @return the number of credits
+     */
+    public long getCreditsRemaining() {
+        return credits.get();
+    }
+
+    /**
+     * Stops the server, closing open connections.
+     */
+    @Override
+    public void close() {
+        if (server != null) {
+            server.stop(0);
+            scheduler.shutdownNow();
+            handlers.shutdownNow();
+        }
+    }
+
+    private void handle(HttpExchange exchange) {
+        String path = exchange.getRequestURI().getPath();
+        boolean connect = path.startsWith(CONNECT_PATH);
+        String resource = connect ? path.substring(CONNECT_PATH.length()) : path.substring(1);
+        requestCounts.computeIfAbsent(resource, r -> new LongAdder()).increment();
+
+        long delayNanos;
+        double draw;
+        synchronized (random) {
+            delayNanos = latency.sampleNanos(random);
+            draw = random.nextDouble();
+        }
+
+        Response response = draw < connectionResetRate ? null : respond(exchange, connect, resource, draw - connectionResetRate);
+
+        if (delayNanos <= 0) {
+            send(exchange, response);
+        } else {
+            scheduler.schedule(() -> handlers.execute(() -> send(exchange, response)), delayNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Response respond(HttpExchange exchange, boolean connect, String resource, double draw) {
+        Response error = injectedError(draw);
+        if (error != null) {
+            return error;
+        }
+        Map<String, String> params = parseQuery(exchange.getRequestURI().getRawQuery());
+        return connect ? connect(resource, params) : api(resource, exchange.getRequestHeaders().getFirst("x-api-key"), params);
+    }
+
+    private Response injectedError(double draw) {
+        double cumulative = 0;
+        for (Map.Entry<Integer, Double> entry : errorRates.entrySet()) {
+            cumulative += entry.getValue();
+            if (draw < cumulative) {
+                int code = entry.getKey();
+                return new Response(code, "text/plain", code == 429 ? "Too many requests" : "Injected error " + code);
+            }
+        }
+        return null;
+    }
+
+    private Response api(String resource, String apiKey, Map<String, String> params) {
+        if ((apiKey == null || apiKey.isEmpty()) && !params.containsKey("license")) {
+            return new Response(401, "text/plain", "Missing apikey");
+        }
+        String result;
+        switch (resource) {
+            case "getfullnamematch":
+                result = simKeyJson("individual", "", params.get("fullname"));
+                break;
+            case "getcompanymatchadvanced":
+                result = simKeyJson("company", params.getOrDefault("algorithm", "wide"), params.get("company"));
+                break;
+            case "getaddressmatchadvanced":
+                result = simKeyJson("address", params.getOrDefault("algorithm", "medium"), params.get("address"));
+                break;
+            case "getorgmatchscore":
+                result = scoreJson("company", params.get("org1"), params.get("org2"));
+                break;
+            case "getfullnamematchscore":
+                result = scoreJson("individual", params.get("fullname1"), params.get("fullname2"));
+                break;
+            case "getremainingcredits":
+                return json("{\"Code\":\"Success\",\"Credits\":\"" + credits.get() + "\"");
+            default:
+                return new Response(404, "text/plain", "Unknown resource " + resource);
+        }
+        if (result == null) {
+            return new Response(400, "text/plain", "Missing parameter");
+        }
+        return json(result + ",\"Code\":\"Success\",\"Credits\":\"" + credits.decrementAndGet() + "\"");
+    }
+
+    private static String simKeyJson(String category, String algorithm, String value) {
+        return value == null ? null : "{\"SimKey\":\"" + FakeResponses.simKey(category, algorithm, value) + "\"";
+    }
+
+    private static String scoreJson(String category, String value1, String value2) {
+        return value1 == null || value2 == null ? null : "{\"Score\":\"" + FakeResponses.score(category, value1, value2) + "\"";
+    }
+
+    private Response json(String unterminated) {
+        StringBuilder body = new StringBuilder(Math.max(payloadSize, unterminated.length() + 1)).append(unterminated);
+        int padding = payloadSize - body.length() - ",\"Padding\":\"\"}".length();
+        if (padding > 0) {
+            body.append(",\"Padding\":\"");
+            for (int i = 0; i < padding; i++) {
+                body.append('x');
+            }
+            body.append('"');
+        }
+        return new Response(200, "application/json", body.append('}').toString());
+    }
+
+    private Response connect(String resource, Map<String, String> params) {
+        if (!"run".equals(resource)) {
+            return new Response(404, "text/plain", "Unknown resource " + resource);
+        }
+        if (params.getOrDefault("apikey", "").isEmpty()) {
+            return new Response(401, "text/plain", "Missing apikey");
+        }
+        String category = params.getOrDefault("category", "company");
+        String process = params.getOrDefault("process", "matchreport");
+        boolean reference = params.containsKey("reference");
+        if ("gensql".equals(process)) {
+            return new Response(200, "text/plain", sqlReport(category, params));
+        } else if (!"matchreport".equals(process)) {
+            return "true".equals(params.get("json"))
+                    ? new Response(200, "application/json", "{\"Status\":\"success\",\"Message\":\"" + process + " completed\"}")
+                    : new Response(200, "text/plain", process + " completed");
+        } else if ("true".equals(params.get("json"))) {
+            return new Response(200, "application/json", jsonReport(category, reference));
+        } else if ("true".equals(params.get("html"))) {
+            return new Response(200, "text/html", htmlReport(category, reference));
+        }
+        return new Response(200, "text/plain", textReport(category, reference));
+    }
+
+    /**
+     * Generates the value of a record of the synthetic dataset: variations of the same value within a cluster.
+     */
+    private static String record(String category, int cluster, int record) {
+        String base;
+        switch (category) {
+            case "individual":
+                base = record % 2 == 0 ? "Jane Doe" + cluster : "Doe" + cluster + ", Jane";
+                break;
+            case "address":
+                base = (100 + cluster) + (record % 2 == 0 ? " Main Street" : " Main St.");
+                break;
+            default:
+                base = "Acme Holdings " + cluster + (record % 2 == 0 ? " Inc" : ", Corp.");
+        }
+        return record % 3 == 2 ? base.toUpperCase(Locale.ROOT) : base;
+    }
+
+    private String jsonReport(String category, boolean reference) {
+        StringBuilder json = new StringBuilder("{\"Status\":\"success\",\"Message\":\"\",\"MatchClusters\":[");
+        for (int c = 0; c < reportClusters; c++) {
+            json.append(c == 0 ? "[" : ",[");
+            for (int r = 0; r < recordsPerCluster; r++) {
+                String data = record(category, c, r);
+                json.append(r == 0 ? "{" : ",{").append("\"Data\":\"").append(data).append('"');
+                if (reference) {
+                    json.append(",\"Reference\":\"").append(c * recordsPerCluster + r).append('"');
+                }
+                json.append(",\"SimKey\":\"").append(FakeResponses.simKey(category, "", data)).append("\"}");
+            }
+            json.append(']');
+        }
+        return json.append("]}").toString();
+    }
+
+    private String textReport(String category, boolean reference) {
+        StringBuilder text = new StringBuilder();
+        for (int c = 0; c < reportClusters; c++) {
+            if (c > 0) {
+                text.append('\n');
+            }
+            for (int r = 0; r < recordsPerCluster; r++) {
+                String data = record(category, c, r);
+                text.append(data).append('\t');
+                if (reference) {
+                    text.append(c * recordsPerCluster + r).append('\t');
+                }
+                text.append(FakeResponses.simKey(category, "", data)).append('\n');
+            }
+        }
+        return text.toString();
+    }
+
+    private String htmlReport(String category, boolean reference) {
+        StringBuilder html = new StringBuilder("<html><body><table>\n<tr><th>Data</th>")
+                .append(reference ? "<th>Reference</th>" : "").append("<th>SimKey</th></tr>\n");
+        for (int c = 0; c < reportClusters; c++) {
+            for (int r = 0; r < recordsPerCluster; r++) {
+                String data = record(category, c, r);
+                html.append("<tr><td>").append(data).append("</td>");
+                if (reference) {
+                    html.append("<td>").append(c * recordsPerCluster + r).append("</td>");
+                }
+                html.append("<td>").append(FakeResponses.simKey(category, "", data)).append("</td></tr>\n");
+            }
+            html.append("<tr><td colspan=\"3\"></td></tr>\n");
+        }
+        return html.append("</table></body></html>\n").toString();
+    }
+
+    private String sqlReport(String category, Map<String, String> params) {
+        String table = params.getOrDefault("newtable", params.getOrDefault("table", "source") + "_simkeys");
+        String column = params.getOrDefault("column", "data");
+        StringBuilder sql = new StringBuilder();
+        for (int c = 0; c < reportClusters; c++) {
+            for (int r = 0; r < recordsPerCluster; r++) {
+                String data = record(category, c, r);
+                sql.append("INSERT INTO ").append(table).append(" (").append(column).append(", simkey) VALUES ('")
+                        .append(data.replace("'", "''")).append("', '")
+                        .append(FakeResponses.simKey(category, "", data)).append("');\n");
+            }
+        }
+        return sql.toString();
+    }
+
+    private static void send(HttpExchange exchange, Response response) {
+        try {
+            if (response == null) {
+                // closing the exchange before sending headers drops the connection
+                exchange.close();
+                return;
+            }
+            byte[] body = response.body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", response.contentType + "; charset=utf-8");
+            if (response.code == 429) {
+                exchange.getResponseHeaders().set("Retry-After", "1");
+            }
+            exchange.sendResponseHeaders(response.code, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (IOException e) {
+            // the client went away
+            exchange.close();
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String key = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            params.put(decode(key), decode(value));
+        }
+        return params;
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicLong counter = new AtomicLong();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + " " + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class Response {
+        private final int code;
+        private final String contentType;
+        private final String body;
+
+        private Response(int code, String contentType, String body) {
+            this.code = code;
+            this.contentType = contentType;
+            this.body = body;
+        }
+    }
+}
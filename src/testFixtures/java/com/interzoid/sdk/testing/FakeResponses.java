@@ -0,0 +1,115 @@
+package com.interzoid.sdk.testing;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * Deterministic similarity keys and scores. Values that only differ in case, punctuation, spacing, token order
+ * or, for companies and addresses, common suffixes and abbreviations share a key and score 100.
+ */
+final class FakeResponses {
+    private static final Set<String> COMPANY_SUFFIXES = new HashSet<>(Arrays.asList(
+            "inc", "incorporated", "corp", "corporation", "co", "company", "llc", "ltd", "limited", "plc", "the"));
+    private static final Map<String, String> ADDRESS_ABBREVIATIONS = new HashMap<>();
+
+    static {
+        ADDRESS_ABBREVIATIONS.put("street", "st");
+        ADDRESS_ABBREVIATIONS.put("avenue", "ave");
+        ADDRESS_ABBREVIATIONS.put("road", "rd");
+        ADDRESS_ABBREVIATIONS.put("boulevard", "blvd");
+        ADDRESS_ABBREVIATIONS.put("drive", "dr");
+        ADDRESS_ABBREVIATIONS.put("suite", "ste");
+        ADDRESS_ABBREVIATIONS.put("north", "n");
+        ADDRESS_ABBREVIATIONS.put("south", "s");
+        ADDRESS_ABBREVIATIONS.put("east", "e");
+        ADDRESS_ABBREVIATIONS.put("west", "w");
+    }
+
+    private FakeResponses() {
+    }
+
+    /**
+     * Normalizes a value of a category: lower case, without punctuation, with common suffixes and abbreviations normalized
+     * and, for names, tokens sorted.
+     *
+     * @param category  company, individual or address
+     * @param algorithm the matching algorithm; "wide" also drops digits from company names
+     * @param value     the value
+     * @return the normalized value
+     */
+    static String normalize(String category, String algorithm, String value) {
+        String[] tokens = value.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{Nd}\\s]", " ").trim().split("\\s+");
+        List<String> kept = new ArrayList<>(tokens.length);
+        for (String token : tokens) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            if ("company".equals(category)) {
+                if (COMPANY_SUFFIXES.contains(token) || ("wide".equals(algorithm) && token.chars().allMatch(Character::isDigit))) {
+                    continue;
+                }
+            } else if ("address".equals(category)) {
+                token = ADDRESS_ABBREVIATIONS.getOrDefault(token, token);
+            }
+            kept.add(token);
+        }
+        if (!"address".equals(category)) {
+            Collections.sort(kept);
+        }
+        return String.join(" ", kept);
+    }
+
+    /**
+     * Computes the similarity key of a value: a SHA-256 digest of the normalized value, encoded like Interzoid keys.
+     *
+     * @param category  company, individual or address
+     * @param algorithm the matching algorithm
+     * @param value     the value
+     * @return the similarity key
+     */
+    static String simKey(String category, String algorithm, String value) {
+        String normalized = normalize(category, algorithm, value);
+        if (normalized.isEmpty()) {
+            return "";
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest((category + ':' + normalized).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Scores the similarity of two values from 0 to 100: 100 if their normalized forms are equal,
+     * otherwise the Dice coefficient of their character bigrams, at most 99.
+     *
+     * @param category company, individual or address
+     * @param value1   the first value
+     * @param value2   the second value
+     * @return the score
+     */
+    static int score(String category, String value1, String value2) {
+        String a = normalize(category, "", value1);
+        String b = normalize(category, "", value2);
+        if (a.equals(b)) {
+            return a.isEmpty() ? 0 : 100;
+        }
+        Map<String, Integer> bigrams = new HashMap<>();
+        for (int i = 0; i + 1 < a.length(); i++) {
+            bigrams.merge(a.substring(i, i + 2), 1, Integer::sum);
+        }
+        int shared = 0;
+        for (int i = 0; i + 1 < b.length(); i++) {
+            Integer count = bigrams.get(b.substring(i, i + 2));
+            if (count != null && count > 0) {
+                shared++;
+                bigrams.put(b.substring(i, i + 2), count - 1);
+            }
+        }
+        int total = Math.max(0, a.length() - 1) + Math.max(0, b.length() - 1);
+        return total == 0 ? 0 : Math.min(99, (int) Math.round(200.0 * shared / total));
+    }
+}
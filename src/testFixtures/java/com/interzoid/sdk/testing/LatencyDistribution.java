@@ -0,0 +1,69 @@
+package com.interzoid.sdk.testing;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+
+/**
+ * The distribution of the simulated server time of a {@link FakeInterzoidServer}.
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    /**
+     * No added latency.
+     */
+    LatencyDistribution NONE = random -> 0;
+
+    /**
+     * Draws a latency.
+     *
+     * @param random the source of randomness, seeded by the server
+     * @return the latency in nanoseconds
+     */
+    long sampleNanos(SplittableRandom random);
+
+    /**
+     * A constant latency.
+     *
+     * @param latency the latency
+     * @return the distribution
+     */
+    static LatencyDistribution fixed(Duration latency) {
+        long nanos = latency.toNanos();
+        return random -> nanos;
+    }
+
+    /**
+     * A latency uniformly distributed between two bounds.
+     *
+     * @param min the minimum latency
+     * @param max the maximum latency
+     * @return the distribution
+     */
+    static LatencyDistribution uniform(Duration min, Duration max) {
+        long minNanos = min.toNanos();
+        long maxNanos = max.toNanos();
+        if (maxNanos < minNanos) {
+            throw new IllegalArgumentException("max must be greater than or equal to min");
+        }
+        return random -> minNanos + (maxNanos == minNanos ? 0 : random.nextLong(maxNanos - minNanos + 1));
+    }
+
+    /**
+     * A log-normal latency, the usual shape of server response times: most requests close to the median and a long tail.
+     *
+     * @param median the median latency
+     * @param sigma  the standard deviation of the logarithm of the latency; 0.5 gives a p99 about 3.2 times the median
+     * @return the distribution
+     */
+    static LatencyDistribution logNormal(Duration median, double sigma) {
+        double mu = Math.log(median.toNanos());
+        return random -> {
+            // Box-Muller transform
+            double u1 = 1.0 - random.nextDouble();
+            double u2 = random.nextDouble();
+            double gaussian = Math.sqrt(-2 * Math.log(u1)) * Math.cos(2 * Math.PI * u2);
+            return (long) Math.exp(mu + sigma * gaussian);
+        };
+    }
+}